@@ -77,6 +77,8 @@ public class IntAuthResponse implements ApiCallReactive
 
         final boolean success = msgAuthResponse.getSuccess();
         final Long expectedFullSyncId;
+        final long resumableFullSyncId;
+        final long resumableUpdateId;
         final Integer linstorVersionMajor;
         final Integer linstorVersionMinor;
         final Integer linstorVersionPatch;
@@ -89,6 +91,8 @@ public class IntAuthResponse implements ApiCallReactive
         if (success)
         {
             expectedFullSyncId = msgAuthResponse.getExpectedFullSyncId();
+            resumableFullSyncId = msgAuthResponse.getResumableFullSyncId();
+            resumableUpdateId = msgAuthResponse.getResumableUpdateId();
             nodeUname = msgAuthResponse.getNodeUname();
             platform = msgAuthResponse.getPlatform() == MsgIntAuthResponse.Platform.WINDOWS ? ApiConsts.Platform.WINDOWS : ApiConsts.Platform.LINUX;
             String tmp = msgAuthResponse.getOsVariant();
@@ -107,6 +111,8 @@ public class IntAuthResponse implements ApiCallReactive
         else
         {
             expectedFullSyncId = null;
+            resumableFullSyncId = 0;
+            resumableUpdateId = 0;
             nodeUname = null;
             platform = null;
             osVariant = null;
@@ -122,6 +128,8 @@ public class IntAuthResponse implements ApiCallReactive
             success,
             apiCallResponse,
             expectedFullSyncId,
+            resumableFullSyncId,
+            resumableUpdateId,
             nodeUname,
             platform,
             osVariant,
@@ -0,0 +1,54 @@
+package com.linbit.linstor.api.protobuf.internal;
+
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.LinstorParsingUtils;
+import com.linbit.linstor.api.ApiCall;
+import com.linbit.linstor.api.protobuf.ProtobufApiCall;
+import com.linbit.linstor.core.apicallhandler.controller.internal.NodeInternalCallHandler;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.VlmAllocated;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.TreeMap;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_NOTIFY_VLM_ALLOCATED_CHANGED,
+    description = "Called by the satellite after a dev mgr run to report the changed allocated sizes of its volumes",
+    transactional = true
+)
+@Singleton
+public class NotifyVlmAllocatedChanged implements ApiCall
+{
+    private final NodeInternalCallHandler nodeInternalCallHandler;
+
+    @Inject
+    public NotifyVlmAllocatedChanged(
+        NodeInternalCallHandler nodeInternalCallHandlerRef
+    )
+    {
+        nodeInternalCallHandler = nodeInternalCallHandlerRef;
+    }
+
+    @Override
+    public void execute(InputStream msgDataInRef) throws IOException
+    {
+        Map<ResourceName, Map<VolumeNumber, Long>> changedVlmAllocations = new TreeMap<>();
+        MsgIntVlmAllocated msgVlmAllocated = MsgIntVlmAllocated.parseDelimitedFrom(msgDataInRef);
+        for (VlmAllocated vlmAllocated : msgVlmAllocated.getAllocatedCapacitiesList())
+        {
+            changedVlmAllocations.computeIfAbsent(
+                LinstorParsingUtils.asRscName(vlmAllocated.getRscName()),
+                ignored -> new TreeMap<>()
+            )
+                .put(LinstorParsingUtils.asVlmNr(vlmAllocated.getVlmNr()), vlmAllocated.getAllocated());
+        }
+        nodeInternalCallHandler.handleVlmAllocatedChanged(changedVlmAllocations);
+    }
+}
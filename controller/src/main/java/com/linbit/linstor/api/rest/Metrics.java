@@ -1,5 +1,7 @@
 package com.linbit.linstor.api.rest;
 
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.annotation.PeerContext;
 import com.linbit.linstor.api.rest.v1.RequestHelper;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlErrorListApiCallHandler;
@@ -14,8 +16,11 @@ import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.PeerClosingConnectionException;
 import com.linbit.linstor.netcom.PeerNotConnectedException;
 import com.linbit.linstor.prometheus.PrometheusBuilder;
+import com.linbit.linstor.prometheus.PrometheusSampleCache;
+import com.linbit.linstor.security.AccessContext;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
@@ -28,6 +33,7 @@ import javax.ws.rs.core.Response;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -45,6 +51,8 @@ public class Metrics
     private final CtrlStorPoolListApiCallHandler ctrlStorPoolListApiCallHandler;
     private final CtrlErrorListApiCallHandler ctrlErrorListApiCallHandler;
     private final PrometheusBuilder prometheusBuilder;
+    private final PrometheusSampleCache sampleCache;
+    private final Provider<AccessContext> peerAccCtx;
 
     private static final int BLOCK_TIMEOUT = 10;
     private static final AtomicLong SCRAPE_REQUESTS = new AtomicLong();
@@ -57,7 +65,9 @@ public class Metrics
         CtrlVlmListApiCallHandler ctrlVlmListApiCallHandlerRef,
         CtrlStorPoolListApiCallHandler ctrlStorPoolListApiCallHandlerRef,
         CtrlErrorListApiCallHandler ctrlErrorListApiCallHandlerRef,
-        PrometheusBuilder prometheusBuilderRef)
+        PrometheusBuilder prometheusBuilderRef,
+        PrometheusSampleCache sampleCacheRef,
+        @PeerContext Provider<AccessContext> peerAccCtxRef)
     {
         errorReporter = errorReporterRef;
         requestHelper = requestHelperRef;
@@ -66,6 +76,8 @@ public class Metrics
         ctrlStorPoolListApiCallHandler = ctrlStorPoolListApiCallHandlerRef;
         ctrlErrorListApiCallHandler = ctrlErrorListApiCallHandlerRef;
         prometheusBuilder = prometheusBuilderRef;
+        sampleCache = sampleCacheRef;
+        peerAccCtx = peerAccCtxRef;
     }
 
     @GET
@@ -81,67 +93,28 @@ public class Metrics
         SCRAPE_REQUESTS.incrementAndGet();
         long scrapeStart = System.currentTimeMillis();
 
-        ErrorReportResult errorReportsTmp = null;
-        if (withErrorReports)
+        if (withErrorReports && sampleCache.startErrorReportRefresh())
         {
-            Flux<ErrorReportResult> fluxErrorReports = ctrlErrorListApiCallHandler.listErrorReports(
-                Collections.emptySet(), false, null, null, Collections.emptySet(), 1L, 0L)
-                .onErrorResume(
-                    PeerNotConnectedException.class,
-                    ignored -> Flux.empty()
-                )
-                .onErrorResume(
-                    PeerClosingConnectionException.class,
-                    ignored -> Flux.empty()
-                )
-                .contextWrite(requestHelper.createContext("metrics", request));
-
-            try
-            {
-                long start = System.currentTimeMillis();
-                errorReportsTmp = fluxErrorReports
-                    .timeout(Duration.ofSeconds(BLOCK_TIMEOUT)).next().block();
-                errorReporter.logTrace("Metric/ListErrorReports: %dms", System.currentTimeMillis() - start);
-            }
-            catch (RuntimeException runtimeExc)
-            {
-                if (runtimeExc.getCause() instanceof TimeoutException)
-                {
-                    errorReporter.logWarning(
-                        String.format("Timeout: Gathering error reports took longer than %d seconds: %s",
-                            BLOCK_TIMEOUT,
-                            runtimeExc));
-                }
-                else
-                {
-                    errorReporter.reportError(runtimeExc);
-                }
-            }
+            refreshErrorReportCounts(request);
         }
+        // only waits if the error report counts were never refreshed yet
+        final @Nullable ErrorReportResult errorReports = withErrorReports ?
+            sampleCache.awaitErrorReportCounts(TimeUnit.SECONDS.toMillis(BLOCK_TIMEOUT)) :
+            null;
 
-        final ErrorReportResult errorReports = errorReportsTmp;
         return requestHelper.doInScope("metrics", request, () ->
             {
-                final ResourceList rl = resources ? ctrlVlmListApiCallHandler.listVlmsCached(
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    Collections.emptyList(),
-                    Collections.emptyList()) : null;
-
-                final List<StorPoolApi> storagePoolList = storagePools ?
-                    ctrlStorPoolListApiCallHandler.listStorPoolsCached(
-                        Collections.emptyList(),
-                        Collections.emptyList(),
-                        Collections.emptyList()) : null;
+                final String objectSamples = sampleCache.getSamples(
+                    peerAccCtx.get(),
+                    "resources=" + resources + ",storage_pools=" + storagePools,
+                    () -> buildObjectSamples(resources, storagePools)
+                );
 
                 final List<NodeApi> nodeApiList = ctrlApiCallHandler.listNodes(
                     Collections.emptyList(), Collections.emptyList());
-                final List<ResourceDefinitionApi> rscDfns = ctrlApiCallHandler.listResourceDefinitions();
                 final String promText = prometheusBuilder.build(
                     nodeApiList,
-                    rscDfns,
-                    rl,
-                    storagePoolList,
+                    objectSamples,
                     errorReports,
                     SCRAPE_REQUESTS.getAndIncrement(),
                     scrapeStart
@@ -151,4 +124,68 @@ public class Metrics
             },
             false);
     }
+
+    private String buildObjectSamples(boolean resources, boolean storagePools)
+    {
+        final @Nullable ResourceList rl = resources ? ctrlVlmListApiCallHandler.listVlmsCached(
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList()) : null;
+
+        final @Nullable List<StorPoolApi> storagePoolList = storagePools ?
+            ctrlStorPoolListApiCallHandler.listStorPoolsCached(
+                Collections.emptyList(),
+                Collections.emptyList(),
+                Collections.emptyList()) : null;
+
+        final List<ResourceDefinitionApi> rscDfns = ctrlApiCallHandler.listResourceDefinitions();
+        return prometheusBuilder.buildObjectSamples(rscDfns, rl, storagePoolList);
+    }
+
+    /**
+     * Queries the error report counts of all nodes in the background. The scrape that triggered the refresh (and
+     * all following scrapes until the refresh is done) use the last known counts, unless there are no known counts
+     * yet.
+     */
+    private void refreshErrorReportCounts(Request request)
+    {
+        long start = System.currentTimeMillis();
+        ctrlErrorListApiCallHandler.listErrorReports(
+            Collections.emptySet(), false, null, null, Collections.emptySet(), 1L, 0L)
+            .onErrorResume(
+                PeerNotConnectedException.class,
+                ignored -> Flux.empty()
+            )
+            .onErrorResume(
+                PeerClosingConnectionException.class,
+                ignored -> Flux.empty()
+            )
+            .timeout(Duration.ofSeconds(BLOCK_TIMEOUT))
+            .next()
+            .contextWrite(requestHelper.createContext("metrics", request))
+            .subscribe(
+                errorReports ->
+                {
+                    errorReporter.logTrace("Metric/ListErrorReports: %dms", System.currentTimeMillis() - start);
+                    sampleCache.errorReportRefreshFinished(errorReports);
+                },
+                exc ->
+                {
+                    if (exc instanceof TimeoutException)
+                    {
+                        errorReporter.logWarning(
+                            String.format("Timeout: Gathering error reports took longer than %d seconds: %s",
+                                BLOCK_TIMEOUT,
+                                exc));
+                    }
+                    else
+                    {
+                        errorReporter.reportError(exc);
+                    }
+                    sampleCache.errorReportRefreshFinished(null);
+                },
+                () -> sampleCache.errorReportRefreshFinished(null)
+            );
+    }
 }
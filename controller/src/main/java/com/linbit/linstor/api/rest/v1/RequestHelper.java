@@ -14,8 +14,11 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.ApiModule;
 import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.api.rest.v1.utils.ApiCallRcRestUtils;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.response.CtrlResponseUtils;
+import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
@@ -36,13 +39,17 @@ import javax.inject.Inject;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -59,6 +66,9 @@ import reactor.util.function.Tuples;
 
 public class RequestHelper
 {
+    /** Response header containing the cursor of the next page, only set if the current page is full */
+    public static final String HEADER_NEXT_CURSOR = "X-Linstor-Next-Cursor";
+
     protected final ErrorReporter errorReporter;
     private final LinStorScope apiCallScope;
     private final AccessContext sysContext;
@@ -416,6 +426,54 @@ public class RequestHelper
     }
 
 
+    /**
+     * Writes the given elements as a JSON array directly into the response stream instead of building the complete
+     * JSON string in memory first. Every element is converted right before it is written.
+     */
+    public static <T> StreamingOutput streamJsonArray(
+        ObjectMapper objectMapper,
+        Collection<T> elements,
+        Function<T, ?> converter
+    )
+    {
+        return output ->
+        {
+            try (JsonGenerator jsonGen = objectMapper.getFactory().createGenerator(output))
+            {
+                // the response stream is closed by the container
+                jsonGen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGen.writeStartArray();
+                for (T element : elements)
+                {
+                    jsonGen.writeObject(converter.apply(element));
+                }
+                jsonGen.writeEndArray();
+            }
+        };
+    }
+
+    /**
+     * Streams the given page of resources as JSON array. If the page is full, the cursor of the next page is added as
+     * {@link #HEADER_NEXT_CURSOR} header.
+     */
+    public static Response resourceListResponse(
+        ObjectMapper objectMapper,
+        ResourceList resourceList,
+        ResourceListPaging paging,
+        Function<ResourceApi, ?> converter
+    )
+    {
+        List<ResourceApi> rscs = resourceList.getResources();
+        Response.ResponseBuilder builder = Response
+            .status(Response.Status.OK)
+            .entity(streamJsonArray(objectMapper, rscs, converter));
+        if (paging.isPageFull(rscs.size()))
+        {
+            builder.header(HEADER_NEXT_CURSOR, ResourceListPaging.getCursor(rscs.get(rscs.size() - 1)));
+        }
+        return builder.build();
+    }
+
     static Response queryRequestResponse(
         ObjectMapper objectMapper,
         long retCode,
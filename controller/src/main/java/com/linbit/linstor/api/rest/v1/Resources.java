@@ -17,6 +17,7 @@ import com.linbit.linstor.core.apicallhandler.controller.CtrlRscMakeAvailableApi
 import com.linbit.linstor.core.apicallhandler.controller.CtrlRscToggleDiskApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlRscToggleDiskApiCallHandler.ToggleOp;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
 import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.apis.ResourceWithPayloadApi;
 import com.linbit.linstor.core.objects.Resource;
@@ -46,7 +47,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.glassfish.grizzly.http.server.Request;
@@ -96,10 +96,22 @@ public class Resources
         @Context Request request,
         @PathParam("rscName") String rscName,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @QueryParam("cursor") @Nullable String cursor
     )
     {
-        return listResources(request, rscName, null, limit, offset);
+        return requestHelper.doInScope(ApiConsts.API_LST_RSC, request, () ->
+        {
+            ResourceListPaging paging = ResourceListPaging.create(cursor, offset, limit);
+            ResourceList resourceList = ctrlApiCallHandler.listResource(rscName, new ArrayList<>(), paging);
+
+            return RequestHelper.resourceListResponse(
+                objectMapper,
+                resourceList,
+                paging,
+                rscApi -> Json.apiToResource(rscApi, resourceList.getSatelliteStates())
+            );
+        }, false);
     }
 
 
@@ -108,7 +120,7 @@ public class Resources
     public Response listResources(
         @Context Request request,
         @PathParam("rscName") String rscName,
-        @PathParam("nodeName") @Nullable String nodeName,
+        @PathParam("nodeName") String nodeName,
         @DefaultValue("0") @QueryParam("limit") int limit,
         @DefaultValue("0") @QueryParam("offset") int offset
     )
@@ -116,18 +128,14 @@ public class Resources
         return requestHelper.doInScope(ApiConsts.API_LST_RSC, request, () ->
         {
             ArrayList<String> nodes = new ArrayList<>();
-            if (nodeName != null && !nodeName.isEmpty())
-            {
-                nodes.add(nodeName);
-            }
-            ResourceList resourceList = ctrlApiCallHandler.listResource(rscName, nodes);
-            Stream<ResourceApi> rscApiStream = resourceList.getResources().stream();
-            if (limit > 0)
-            {
-                rscApiStream = rscApiStream.skip(offset).limit(limit);
-            }
+            nodes.add(nodeName);
+            ResourceList resourceList = ctrlApiCallHandler.listResource(
+                rscName,
+                nodes,
+                ResourceListPaging.create(null, offset, limit)
+            );
 
-            final List<JsonGenTypes.Resource> rscs = rscApiStream
+            final List<JsonGenTypes.Resource> rscs = resourceList.getResources().stream()
                 .map(rscApi -> Json.apiToResource(rscApi, resourceList.getSatelliteStates()))
                 .collect(Collectors.toList());
 
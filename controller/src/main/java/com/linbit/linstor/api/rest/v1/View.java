@@ -13,8 +13,8 @@ import com.linbit.linstor.core.apicallhandler.controller.CtrlScheduleApiCallHand
 import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmListApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlBackupQueueInternalCallHandler;
-import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.apis.SnapshotDefinitionListItemApi;
 import com.linbit.linstor.core.apis.StorPoolApi;
 import com.linbit.linstor.logging.ErrorReporter;
@@ -87,7 +87,8 @@ public class View
         @QueryParam("storage_pools") List<String> storagePools,
         @QueryParam("props") List<String> propFilters,
         @DefaultValue("0") @QueryParam("limit") int limit,
-        @DefaultValue("0") @QueryParam("offset") int offset
+        @DefaultValue("0") @QueryParam("offset") int offset,
+        @QueryParam("cursor") @Nullable String cursor
     )
     {
         List<String> nodesFilter = nodes != null ? nodes : Collections.emptyList();
@@ -97,54 +98,32 @@ public class View
         RequestHelper.safeAsyncResponse(asyncResponse, () ->
         {
             MDC.put(ErrorReporter.LOGID, ErrorReporter.getNewLogId());
+            ResourceListPaging paging = ResourceListPaging.create(cursor, offset, limit);
             Flux<ResourceList> flux = ctrlVlmListApiCallHandler.listVlms(
-                nodesFilter, storagePoolsFilter, resourcesFilter, propFilters);
+                nodesFilter, storagePoolsFilter, resourcesFilter, propFilters, paging);
 
             requestHelper.doFlux(
                 ApiConsts.API_LST_VLM,
                 request,
                 asyncResponse,
-                listVolumesApiCallRcWithToResponse(flux, limit, offset)
+                listVolumesApiCallRcWithToResponse(flux, paging)
             );
         });
     }
 
     private Mono<Response> listVolumesApiCallRcWithToResponse(
         Flux<ResourceList> resourceListFlux,
-        int limit,
-        int offset
+        ResourceListPaging paging
     )
     {
-        return resourceListFlux.flatMap(resourceList ->
-        {
-            Response resp;
-
-            Stream<ResourceApi> rscApiStream = resourceList.getResources().stream();
-
-            if (limit > 0)
-            {
-                rscApiStream = rscApiStream.skip(offset).limit(limit);
-            }
-
-            final List<JsonGenTypes.Resource> rscs = rscApiStream
-                .map(rscApi -> Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true))
-                .collect(Collectors.toList());
-
-            try
-            {
-                resp = Response
-                    .status(Response.Status.OK)
-                    .entity(objectMapper.writeValueAsString(rscs))
-                    .build();
-            }
-            catch (JsonProcessingException exc)
-            {
-                exc.printStackTrace();
-                resp = Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
-            }
-
-            return Mono.just(resp);
-        }).next();
+        return resourceListFlux.map(resourceList ->
+            RequestHelper.resourceListResponse(
+                objectMapper,
+                resourceList,
+                paging,
+                rscApi -> Json.apiToResourceWithVolumes(rscApi, resourceList.getSatelliteStates(), true)
+            )
+        ).next();
     }
 
     @GET
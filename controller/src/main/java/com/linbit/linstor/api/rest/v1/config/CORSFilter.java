@@ -19,5 +19,6 @@ public class CORSFilter implements ContainerResponseFilter
         response.getHeaders().add("Access-Control-Allow-Credentials", "true");
         response.getHeaders().add("Access-Control-Allow-Methods",
             "GET, POST, PUT, DELETE, OPTIONS, HEAD");
+        response.getHeaders().add("Access-Control-Expose-Headers", "X-Linstor-Next-Cursor");
     }
 }
@@ -1,5 +1,6 @@
 package com.linbit.linstor.core;
 
+import com.linbit.BlockingThreads;
 import com.linbit.GuiceConfigModule;
 import com.linbit.ImplementationError;
 import com.linbit.ServiceName;
@@ -462,6 +463,7 @@ public final class Controller
         LinStor.printStartupInfo();
 
         CtrlConfig cfg = new CtrlConfig(args);
+        BlockingThreads.setVirtualThreadsEnabled(cfg.isVirtualThreadsEnabled());
 
         System.setProperty("log.module", LinStor.CONTROLLER_MODULE);
         System.setProperty("log.directory", cfg.getLogDirectory());
@@ -572,7 +574,7 @@ public final class Controller
                     new MetaDataModule(),
                     new ControllerLinstorModule(),
                     new LinStorModule(),
-                    new CoreModule(),
+                    new CoreModule(cfg.getRscDfnLockStripes()),
                     new ControllerCoreModule(),
                     new ControllerSatelliteCommunicationModule(),
                     new ControllerDbModule(dbType),
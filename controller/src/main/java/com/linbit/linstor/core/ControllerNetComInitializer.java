@@ -18,6 +18,7 @@ import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.modularcrypto.ModularCryptoProvider;
 import com.linbit.linstor.netcom.ConnectionObserver;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
 import com.linbit.linstor.netcom.MessageProcessor;
 import com.linbit.linstor.netcom.NetComContainer;
 import com.linbit.linstor.netcom.TcpConnector;
@@ -78,6 +79,7 @@ public final class ControllerNetComInitializer implements StartupInitializer
 
     private final ErrorReporter errorReporter;
     private final CommonSerializer commonSerializer;
+    private final DirectByteBufferPool bufferPool;
     private final AccessContext sysCtx;
     private final AccessContext publicCtx;
     private final Props ctrlConf;
@@ -96,6 +98,7 @@ public final class ControllerNetComInitializer implements StartupInitializer
     public ControllerNetComInitializer(
         ErrorReporter errorReporterRef,
         CommonSerializer commonSerializerRef,
+        DirectByteBufferPool bufferPoolRef,
         @SystemContext AccessContext sysCtxRef,
         @PublicContext AccessContext publicCtxRef,
         @Named(LinStor.CONTROLLER_PROPS) Props ctrlConfRef,
@@ -111,6 +114,7 @@ public final class ControllerNetComInitializer implements StartupInitializer
     {
         errorReporter = errorReporterRef;
         commonSerializer = commonSerializerRef;
+        bufferPool = bufferPoolRef;
         sysCtx = sysCtxRef;
         publicCtx = publicCtxRef;
         ctrlConf = ctrlConfRef;
@@ -290,11 +294,13 @@ public final class ControllerNetComInitializer implements StartupInitializer
             netComSvc = new TcpConnectorService(
                 errorReporter,
                 commonSerializer,
+                bufferPool,
                 msgProc,
                 bindAddress,
                 publicCtx,
                 initCtx,
-                ctrlConnTracker
+                ctrlConnTracker,
+                ctrlCfg.getNetComWorkerThreads()
             );
             try
             {
@@ -420,11 +426,13 @@ public final class ControllerNetComInitializer implements StartupInitializer
                     netComSvc = new SslTcpConnectorService(
                         errorReporter,
                         commonSerializer,
+                        bufferPool,
                         msgProc,
                         bindAddress,
                         publicCtx,
                         initCtx,
                         ctrlConnTracker,
+                        ctrlCfg.getNetComWorkerThreads(),
                         cryptoProvider,
                         sslProtocol,
                         keyStoreFilePath.toString(),
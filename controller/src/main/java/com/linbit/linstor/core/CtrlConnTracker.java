@@ -2,6 +2,7 @@ package com.linbit.linstor.core;
 
 import com.linbit.linstor.ControllerPeerCtx;
 import com.linbit.linstor.core.apicallhandler.controller.backup.CtrlBackupCreateApiCallHandler;
+import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlFullSyncResumeTracker;
 import com.linbit.linstor.core.apicallhandler.controller.internal.NodeInternalCallHandler;
 import com.linbit.linstor.event.EventBroker;
 import com.linbit.linstor.event.EventProcessor;
@@ -27,6 +28,7 @@ class CtrlConnTracker implements ConnectionObserver
     private final NodeInternalCallHandler nodeInternalCallHandler;
     private final SharedStorPoolManager sharedSpMgr;
     private final CtrlBackupCreateApiCallHandler backupCrtApiCallHandler;
+    private final CtrlFullSyncResumeTracker fullSyncResumeTracker;
 
     @Inject
     CtrlConnTracker(
@@ -37,7 +39,8 @@ class CtrlConnTracker implements ConnectionObserver
         TaskScheduleService taskSchedulerRef,
         NodeInternalCallHandler nodeInternalCallHandlerRef,
         SharedStorPoolManager sharedSpMgrRef,
-        CtrlBackupCreateApiCallHandler backupCrtApiCallHandlerRef
+        CtrlBackupCreateApiCallHandler backupCrtApiCallHandlerRef,
+        CtrlFullSyncResumeTracker fullSyncResumeTrackerRef
     )
     {
         peerMap = peerMapRef;
@@ -48,6 +51,7 @@ class CtrlConnTracker implements ConnectionObserver
         nodeInternalCallHandler = nodeInternalCallHandlerRef;
         sharedSpMgr = sharedSpMgrRef;
         backupCrtApiCallHandler = backupCrtApiCallHandlerRef;
+        fullSyncResumeTracker = fullSyncResumeTrackerRef;
     }
 
     @Override
@@ -115,11 +119,13 @@ class CtrlConnTracker implements ConnectionObserver
                     reconnectorTask.removePeer(connPeer);
                 }
             }
-            if (
-                connPeer.isConnected(false) &&
-                    connPeer.getNode() != null &&
-                    sharedSpMgr.hasNodeActiveLocks(connPeer.getNode())
-            )
+            boolean hasActiveLocks = connPeer.getNode() != null &&
+                sharedSpMgr.hasNodeActiveLocks(connPeer.getNode());
+            if (!shuttingDown)
+            {
+                fullSyncResumeTracker.connectionClosed(connPeer, hasActiveLocks);
+            }
+            if (connPeer.isConnected(false) && hasActiveLocks)
             {
                 taskScheduler.addTask(
                     new ForceReleaseSharedLocksTask(
@@ -15,9 +15,12 @@ import com.linbit.linstor.dbcp.DbInitializer;
 import com.linbit.linstor.dbcp.k8s.crd.DbK8sCrd;
 import com.linbit.linstor.dbcp.k8s.crd.DbK8sCrdInitializer;
 import com.linbit.linstor.dbcp.migration.AbsMigration;
+import com.linbit.linstor.dbcp.migration.MigrationUtils;
 import com.linbit.linstor.dbdrivers.DatabaseDriverInfo;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
 import com.linbit.linstor.dbdrivers.SQLUtils;
 import com.linbit.linstor.dbdrivers.k8s.crd.GenCrdCurrent;
+import com.linbit.linstor.dbdrivers.sql.SQLStartupSnapshot;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.logging.LoggingModule;
 import com.linbit.linstor.logging.StderrErrorReporter;
@@ -134,6 +137,8 @@ public class LinstorConfigTool
                     # request_retries = 5
                     ## how many rollack retries
                     # rollback_retires = 5
+                    ## how many CRD changes of one transaction are sent to k8s in parallel
+                    # max_concurrent_requests = 8
 
                 [encrypt]
                 ## provide passphrase here to auto unlock Linstor encryption master passphrase
@@ -194,6 +199,16 @@ public class LinstorConfigTool
                 [webUi]
                 ## path to the web ui directory
                 # directory = "./ui"
+
+                [locking]
+                ## number of lock stripes for resource definitions. With stripes, operations on different resource
+                ## definitions can run in parallel. 0 (default) locks all resource definitions with a single lock
+                # rsc_dfn_stripes = 0
+
+                [threading]
+                ## run the threads that mostly block on external processes or sockets (command output readers,
+                ## daemons, main worker scheduler) as virtual threads
+                # virtual_threads = false
                 """
                 .replaceFirst("# connection_url = \".*\"", "connection_url = \"" + dbInfo.jdbcUrl(dbpath) + "\"");
             os.write(ctrlToml.getBytes(StandardCharsets.UTF_8));
@@ -222,6 +237,8 @@ public class LinstorConfigTool
                     "UPDATE PROPS_CONTAINERS SET PROP_VALUE='%d' " +
                         "WHERE PROPS_INSTANCE='/CTRL' AND PROP_KEY='netcom/PlainConnector/port'",
                     controllerPort));
+                // the startup snapshot of the controller would otherwise still contain the old value
+                SQLStartupSnapshot.deleteMarker(con);
                 con.commit();
                 System.out.println("Controller plain port set to " + controllerPort);
             }
@@ -250,6 +267,7 @@ public class LinstorConfigTool
                     "UPDATE PROPS_CONTAINERS SET PROP_VALUE='%s' " +
                         "WHERE PROPS_INSTANCE='/CTRL' AND PROP_KEY='netcom/PlainConnector/bindaddress'",
                     listenAddress));
+                SQLStartupSnapshot.deleteMarker(con);
                 con.commit();
 
                 System.out.println("Controller plain listen address set to " + listenAddress);
@@ -282,6 +300,12 @@ public class LinstorConfigTool
                 try
                 {
                     SQLUtils.runSql(con, new BufferedReader(input));
+                    // the script might also be used to create the database
+                    if (MigrationUtils.tableExists(con, GeneratedDatabaseTables.PROPS_CONTAINERS.getName()))
+                    {
+                        con.setSchema(DATABASE_SCHEMA_NAME);
+                        SQLStartupSnapshot.deleteMarker(con);
+                    }
                     con.commit();
                 }
                 catch (IOException ioExc)
@@ -491,6 +515,7 @@ public class LinstorConfigTool
             SQLUtils.executeStatement(con,
                 "DELETE FROM PROPS_CONTAINERS " +
                     "WHERE PROPS_INSTANCE='/CTRL' AND PROP_KEY='Auth/TokenAuthenticationEnabled'");
+            SQLStartupSnapshot.deleteMarker(con);
             con.commit();
         }
     }
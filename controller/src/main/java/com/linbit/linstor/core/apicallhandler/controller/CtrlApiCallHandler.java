@@ -11,6 +11,7 @@ import com.linbit.linstor.api.interfaces.RscLayerDataApi;
 import com.linbit.linstor.api.pojo.DrbdRscPojo;
 import com.linbit.linstor.api.pojo.RscGrpPojo;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
 import com.linbit.linstor.core.apicallhandler.controller.utils.ResourceDefinitionUtils;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.apicallhandler.response.ApiDatabaseException;
@@ -409,6 +410,11 @@ public class CtrlApiCallHandler
     }
 
     public ResourceList listResource(String rscNameStr, List<String> filterNodes)
+    {
+        return listResource(rscNameStr, filterNodes, ResourceListPaging.UNPAGED);
+    }
+
+    public ResourceList listResource(String rscNameStr, List<String> filterNodes, ResourceListPaging paging)
     {
         ResourceList resourceList;
         try (
@@ -417,7 +423,8 @@ public class CtrlApiCallHandler
         {
             resourceList = rscApiCallHandler.listResources(
                 rscNameStr,
-                filterNodes
+                filterNodes,
+                paging
             );
         }
         return resourceList;
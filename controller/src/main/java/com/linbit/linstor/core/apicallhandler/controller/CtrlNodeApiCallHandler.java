@@ -1398,6 +1398,9 @@ public class CtrlNodeApiCallHandler
                     }
                     else
                     {
+                        // all resources are restored within this transaction, so the satellites get a single
+                        // batched update for all of them instead of one update per resource
+                        Set<ResourceDefinition> rscDfnsToUpdate = new LinkedHashSet<>();
                         while (rscIt.hasNext())
                         {
                             Resource rsc = rscIt.next();
@@ -1425,22 +1428,27 @@ public class CtrlNodeApiCallHandler
 
                             if (updateSatellite)
                             {
-                                flux = flux.concatWith(
-                                    ctrlSatelliteUpdateCaller.updateSatellites(
-                                            rsc.getResourceDefinition(),
-                                            CtrlSatelliteUpdateCaller.notConnectedIgnoreIf(node.getName()),
-                                            Flux.empty())
-                                        .transform(
-                                            responses -> CtrlResponseUtils.combineResponses(
-                                                errorReporter,
-                                                responses,
-                                                rsc.getResourceDefinition().getName(),
-                                                "Resource restored on {0}"
-                                            )
-                                        )
-                                );
+                                rscDfnsToUpdate.add(rsc.getResourceDefinition());
                             }
                         }
+                        if (!rscDfnsToUpdate.isEmpty())
+                        {
+                            flux = flux.concatWith(
+                                ctrlSatelliteUpdateCaller.updateSatellites(
+                                        rscDfnsToUpdate,
+                                        CtrlSatelliteUpdateCaller.notConnectedIgnoreIf(node.getName()),
+                                        Flux.empty()
+                                    )
+                                    .transform(
+                                        responses -> CtrlResponseUtils.combineResponses(
+                                            errorReporter,
+                                            responses,
+                                            nodeName,
+                                            "Resources restored on {0}"
+                                        )
+                                    )
+                            );
+                        }
                     }
 
                     if (deleteSnapshots)
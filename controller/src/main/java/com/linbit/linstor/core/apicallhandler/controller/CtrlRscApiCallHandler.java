@@ -17,6 +17,7 @@ import com.linbit.linstor.core.apicallhandler.controller.CtrlRscAutoHelper.AutoH
 import com.linbit.linstor.core.apicallhandler.controller.CtrlRscAutoHelper.AutoHelperResult;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.PropsChangedListenerBuilder;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
 import com.linbit.linstor.core.apicallhandler.controller.internal.CtrlSatelliteUpdateCaller;
 import com.linbit.linstor.core.apicallhandler.response.ApiAccessDeniedException;
 import com.linbit.linstor.core.apicallhandler.response.ApiOperation;
@@ -298,7 +299,8 @@ public class CtrlRscApiCallHandler
 
     ResourceList listResources(
         String rscNameStr,
-        List<String> filterNodes
+        List<String> filterNodes,
+        ResourceListPaging paging
     )
     {
         // fake load and fail if not exists
@@ -306,13 +308,26 @@ public class CtrlRscApiCallHandler
 
         List<String> rscList = new ArrayList<>();
         rscList.add(rscNameStr);
-        return listResources(filterNodes, rscList);
+        return listResources(filterNodes, rscList, paging);
     }
 
     ResourceList listResources(
         List<String> filterNodes,
         List<String> filterResources
     )
+    {
+        return listResources(filterNodes, filterResources, ResourceListPaging.UNPAGED);
+    }
+
+    /**
+     * Only the resources of the requested page are assembled. The resource definitions are iterated in the order of
+     * their names, the resources of each resource definition in the order of their node names.
+     */
+    ResourceList listResources(
+        List<String> filterNodes,
+        List<String> filterResources,
+        ResourceListPaging paging
+    )
     {
         final ResourceList rscList = new ResourceList();
         try
@@ -321,27 +336,44 @@ public class CtrlRscApiCallHandler
             final List<String> upperFilterResources =
                 filterResources.stream().map(String::toUpperCase).collect(toList());
 
-            resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
-                .filter(rscDfn -> upperFilterResources.isEmpty() ||
-                    upperFilterResources.contains(rscDfn.getName().value))
-                .forEach(rscDfn ->
+            int toSkip = paging.getOffset();
+            Iterator<ResourceDefinition> rscDfnIt = resourceDefinitionRepository.getMapForView(peerAccCtx.get())
+                .values()
+                .iterator();
+            while (rscDfnIt.hasNext() && !paging.isPageFull(rscList.getResources().size()))
+            {
+                ResourceDefinition rscDfn = rscDfnIt.next();
+                if ((upperFilterResources.isEmpty() || upperFilterResources.contains(rscDfn.getName().value)) &&
+                    paging.isAfterCursor(rscDfn.getName()))
                 {
                     try
                     {
-                        for (Resource rsc : rscDfn.streamResource(peerAccCtx.get())
+                        Iterator<Resource> rscIt = rscDfn.streamResource(peerAccCtx.get())
                             .filter(rsc -> upperFilterNodes.isEmpty() ||
                                 upperFilterNodes.contains(rsc.getNode().getName().value))
-                            .collect(toList()))
+                            .filter(rsc -> paging.isAfterCursor(rscDfn.getName(), rsc.getNode().getName()))
+                            .sorted(ResourceListPaging.NODE_ORDER)
+                            .collect(toList())
+                            .iterator();
+                        while (rscIt.hasNext() && !paging.isPageFull(rscList.getResources().size()))
                         {
-                            rscList.addResource(
-                                rsc.getApiData(
-                                    peerAccCtx.get(),
-                                    null,
-                                    null,
-                                    rsc.getEffectiveProps(apiCtx, stltCfgAccessor)
-                                )
-                            );
-                            // fullSyncId and updateId null, as they are not going to be serialized anyways
+                            Resource rsc = rscIt.next();
+                            if (toSkip > 0)
+                            {
+                                --toSkip;
+                            }
+                            else
+                            {
+                                rscList.addResource(
+                                    rsc.getApiData(
+                                        peerAccCtx.get(),
+                                        null,
+                                        null,
+                                        rsc.getEffectiveProps(apiCtx, stltCfgAccessor)
+                                    )
+                                );
+                                // fullSyncId and updateId null, as they are not going to be serialized anyways
+                            }
                         }
                     }
                     catch (AccessDeniedException accDeniedExc)
@@ -349,7 +381,7 @@ public class CtrlRscApiCallHandler
                         // don't add storpooldfn without access
                     }
                 }
-                );
+            }
 
             // get resource states of all nodes
             for (final Node node : nodeRepository.getMapForView(peerAccCtx.get()).values())
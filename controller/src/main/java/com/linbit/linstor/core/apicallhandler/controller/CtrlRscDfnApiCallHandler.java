@@ -1083,7 +1083,7 @@ public class CtrlRscDfnApiCallHandler
                 "Set clone snapshot property",
                 lockGuardFactory.create()
                     .read(LockObj.NODES_MAP)
-                    .write(LockObj.RSC_DFN_MAP)
+                    .rscDfn(WRITE, rscDfn.getName())
                     .buildDeferred(),
                 () -> setCloneSnapshotPropertyInTrans(rscDfn, cloneRscName)
             );
@@ -1186,7 +1186,7 @@ public class CtrlRscDfnApiCallHandler
                 "Resume resource",
                 lockGuardFactory.create()
                     .read(LockObj.NODES_MAP)
-                    .write(LockObj.RSC_DFN_MAP)
+                    .rscDfn(WRITE, rscDfn.getName())
                     .buildDeferred(),
                 () -> resumeIOAndClearClonePropInTransaction(rscDfn, cloneName)
             );
@@ -2043,7 +2043,7 @@ public class CtrlRscDfnApiCallHandler
         return scopeRunner
             .fluxInTransactionalScope(
                 "Update DRBD Props",
-                lockGuardFactory.buildDeferred(WRITE, RSC_DFN_MAP),
+                lockGuardFactory.create().rscDfn(WRITE, rscDfn.getName()).buildDeferred(),
                 () -> updatePropsInTransaction(
                     rscDfn
                 )
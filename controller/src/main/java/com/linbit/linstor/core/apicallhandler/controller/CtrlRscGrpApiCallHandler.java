@@ -656,25 +656,21 @@ public class CtrlRscGrpApiCallHandler
 
             if (notifyStlts)
             {
-                // TODO: instead of this loop, we should introduce an updateSatellites(rscGrp) method
-                // since there is no need to update every single resource(-definition) when we know that only the RG
-                // changed.
-                List<Flux<ApiCallRc>> updateStltFluxList = new ArrayList<>();
-                for (ResourceDefinition rscDfn : rscGrpData.getRscDfns(peerCtx))
-                {
-                    updateStltFluxList.add(
-                        ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, Flux.empty())
-                            .transform(
-                                updateResponses -> CtrlResponseUtils.combineResponses(
-                                    errorReporter,
-                                    updateResponses,
-                                    rscDfn.getName(),
-                                    "Updated Resource definition {1} on {0}"
-                                )
+                // TODO: we should introduce an updateSatellites(rscGrp) method since there is no need to update
+                // every single resource(-definition) when we know that only the RG changed.
+                // Until then, each satellite at least only receives a single batch for all of its resources.
+                List<ResourceDefinition> rscDfnsToUpdate = new ArrayList<>(rscGrpData.getRscDfns(peerCtx));
+                updateStlts = updateStlts.concatWith(
+                    ctrlSatelliteUpdateCaller.updateSatellites(rscDfnsToUpdate, Flux.empty())
+                        .transform(
+                            updateResponses -> CtrlResponseUtils.combineResponses(
+                                errorReporter,
+                                updateResponses,
+                                rscGrpData.getName().displayValue,
+                                "Updated Resource definitions of resource group {1} on {0}"
                             )
-                    );
-                }
-                updateStlts = updateStlts.concatWith(Flux.merge(updateStltFluxList));
+                        )
+                );
             }
         }
         catch (Exception | ImplementationError exc)
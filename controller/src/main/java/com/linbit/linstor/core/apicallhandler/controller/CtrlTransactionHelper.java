@@ -1,6 +1,7 @@
 package com.linbit.linstor.core.apicallhandler.controller;
 
 import com.linbit.linstor.core.apicallhandler.response.ApiTransactionException;
+import com.linbit.linstor.prometheus.PrometheusSampleCache;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 
@@ -12,11 +13,16 @@ import javax.inject.Singleton;
 public class CtrlTransactionHelper
 {
     private final Provider<TransactionMgr> transMgrProvider;
+    private final PrometheusSampleCache prometheusSampleCache;
 
     @Inject
-    public CtrlTransactionHelper(Provider<TransactionMgr> transMgrProviderRef)
+    public CtrlTransactionHelper(
+        Provider<TransactionMgr> transMgrProviderRef,
+        PrometheusSampleCache prometheusSampleCacheRef
+    )
     {
         transMgrProvider = transMgrProviderRef;
+        prometheusSampleCache = prometheusSampleCacheRef;
     }
 
     public void commit()
@@ -24,6 +30,7 @@ public class CtrlTransactionHelper
         try
         {
             transMgrProvider.get().commit();
+            prometheusSampleCache.markChanged();
         }
         catch (TransactionException sqlExc)
         {
@@ -0,0 +1,122 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.annotation.SystemContext;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.locks.LockGuard;
+import com.linbit.locks.LockGuardFactory;
+
+import static com.linbit.locks.LockGuardFactory.LockType.WRITE;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Applies allocated sizes reported by the satellites to the volumes.
+ * <br/>
+ * The resource definitions are grouped by the stripe of the rscDfnMapLock guarding them. Each group is write-locked
+ * and committed once, so other operations are only blocked by the stripe currently being updated. If the
+ * rscDfnMapLock is not striped, there is only a single group, i.e. the whole resource definition map is write-locked
+ * and all changes are committed at once.
+ * <br/>
+ * Must be called within a transactional scope and without holding any resource definition locks.
+ */
+@Singleton
+public class CtrlVlmAllocatedUpdater
+{
+    private final AccessContext sysCtx;
+    private final LockGuardFactory lockGuardFactory;
+    private final ResourceDefinitionRepository rscDfnRepo;
+    private final CtrlTransactionHelper ctrlTransactionHelper;
+
+    @Inject
+    public CtrlVlmAllocatedUpdater(
+        @SystemContext AccessContext sysCtxRef,
+        LockGuardFactory lockGuardFactoryRef,
+        ResourceDefinitionRepository rscDfnRepoRef,
+        CtrlTransactionHelper ctrlTransactionHelperRef
+    )
+    {
+        sysCtx = sysCtxRef;
+        lockGuardFactory = lockGuardFactoryRef;
+        rscDfnRepo = rscDfnRepoRef;
+        ctrlTransactionHelper = ctrlTransactionHelperRef;
+    }
+
+    public void updateAllocatedSizes(Map<Volume.Key, Long> vlmAllocationsRef)
+    {
+        Map<ResourceName, Map<Volume.Key, Long>> allocationsPerRscDfn = new TreeMap<>();
+        for (Entry<Volume.Key, Long> entry : vlmAllocationsRef.entrySet())
+        {
+            allocationsPerRscDfn.computeIfAbsent(entry.getKey().getResourceName(), ignored -> new HashMap<>())
+                .put(entry.getKey(), entry.getValue());
+        }
+
+        Map<Integer, Map<ResourceName, Map<Volume.Key, Long>>> allocationsPerStripe = new TreeMap<>();
+        for (Entry<ResourceName, Map<Volume.Key, Long>> entry : allocationsPerRscDfn.entrySet())
+        {
+            allocationsPerStripe.computeIfAbsent(
+                lockGuardFactory.getRscDfnStripeIdx(entry.getKey()),
+                ignored -> new TreeMap<>()
+            ).put(entry.getKey(), entry.getValue());
+        }
+
+        for (Map<ResourceName, Map<Volume.Key, Long>> stripeAllocations : allocationsPerStripe.values())
+        {
+            ResourceName[] rscNames = stripeAllocations.keySet().toArray(new ResourceName[0]);
+            try (LockGuard ignored = lockGuardFactory.create().rscDfn(WRITE, rscNames).build())
+            {
+                boolean changed = false;
+                for (Entry<ResourceName, Map<Volume.Key, Long>> entry : stripeAllocations.entrySet())
+                {
+                    @Nullable ResourceDefinition rscDfn = rscDfnRepo.get(sysCtx, entry.getKey());
+                    if (rscDfn != null)
+                    {
+                        changed |= updateAllocatedSizes(rscDfn, entry.getValue());
+                    }
+                }
+                if (changed)
+                {
+                    ctrlTransactionHelper.commit();
+                }
+            }
+            catch (AccessDeniedException exc)
+            {
+                throw new ImplementationError(exc);
+            }
+        }
+    }
+
+    private boolean updateAllocatedSizes(ResourceDefinition rscDfn, Map<Volume.Key, Long> vlmAllocations)
+        throws AccessDeniedException
+    {
+        boolean changed = false;
+        for (Entry<Volume.Key, Long> entry : vlmAllocations.entrySet())
+        {
+            Volume.Key vlmKey = entry.getKey();
+            long allocatedSize = entry.getValue();
+            @Nullable Resource rsc = rscDfn.getResource(sysCtx, vlmKey.getNodeName());
+            @Nullable Volume vlm = rsc == null ? null : rsc.getVolume(vlmKey.getVolumeNumber());
+            // isAllocatedSizeSet avoids an unboxing NPE, and skipping equal sizes saves some cpu cycles for noops
+            if (vlm != null &&
+                (!vlm.isAllocatedSizeSet(sysCtx) || vlm.getAllocatedSize(sysCtx) != allocatedSize))
+            {
+                vlm.setAllocatedSize(sysCtx, allocatedSize);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+}
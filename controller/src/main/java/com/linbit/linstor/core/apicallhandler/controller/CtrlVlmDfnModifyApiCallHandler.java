@@ -57,6 +57,8 @@ import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.utils.layer.LayerRscUtils;
 import com.linbit.linstor.utils.layer.LayerVlmUtils;
 import com.linbit.locks.LockGuard;
+import com.linbit.locks.LockGuardFactory;
+import com.linbit.locks.LockGuardFactory.LockType;
 import com.linbit.utils.Base64;
 import com.linbit.utils.PairNonNull;
 import com.linbit.utils.TimeUtils;
@@ -106,6 +108,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
     private final CtrlSatelliteUpdateCaller ctrlSatelliteUpdateCaller;
     private final ResponseConverter responseConverter;
     private final ReadWriteLock rscDfnMapLock;
+    private final LockGuardFactory lockGuardFactory;
     private final Provider<AccessContext> peerAccCtx;
     private final BackupInfoManager backupInfoMgr;
     private final EbsStatusManagerService ebsStatusMgr;
@@ -123,6 +126,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
         CtrlSatelliteUpdateCaller ctrlSatelliteUpdateCallerRef,
         ResponseConverter responseConverterRef,
         @Named(CoreModule.RSC_DFN_MAP_LOCK) ReadWriteLock rscDfnMapLockRef,
+        LockGuardFactory lockGuardFactoryRef,
         @PeerContext Provider<AccessContext> peerAccCtxRef,
         BackupInfoManager backupInfoMgrRef,
         EbsStatusManagerService ebsStatusMgrRef,
@@ -140,6 +144,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
         ctrlSatelliteUpdateCaller = ctrlSatelliteUpdateCallerRef;
         responseConverter = responseConverterRef;
         rscDfnMapLock = rscDfnMapLockRef;
+        lockGuardFactory = lockGuardFactoryRef;
         peerAccCtx = peerAccCtxRef;
         backupInfoMgr = backupInfoMgrRef;
         ebsStatusMgr = ebsStatusMgrRef;
@@ -770,7 +775,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
         return scopeRunner
             .fluxInTransactionalScope(
                 "Update for volume definition modification",
-                LockGuard.createDeferred(rscDfnMapLock.writeLock()),
+                lockGuardFactory.create().rscDfn(LockType.WRITE, rscName).buildDeferred(),
                 () -> updateSatellitesInScope(rscName, vlmNr)
             );
     }
@@ -889,7 +894,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
         return scopeRunner
             .fluxInTransactionalScope(
                 "Resize DRBD",
-                LockGuard.createDeferred(rscDfnMapLock.writeLock()),
+                lockGuardFactory.create().rscDfn(LockType.WRITE, rscName).buildDeferred(),
                 () -> resizeDrbdInTransaction(rscName, vlmNr)
             );
     }
@@ -934,7 +939,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
         return scopeRunner
             .fluxInTransactionalScope(
                 "Resize Non DRBD",
-                LockGuard.createDeferred(rscDfnMapLock.writeLock()),
+                lockGuardFactory.create().rscDfn(LockType.WRITE, rscName).buildDeferred(),
                 () -> resizeNonDrbdInTransaction(rscName, vlmNr)
             );
     }
@@ -998,7 +1003,7 @@ public class CtrlVlmDfnModifyApiCallHandler implements CtrlSatelliteConnectionLi
         return scopeRunner
             .fluxInTransactionalScope(
                 "Clean up after resize",
-                LockGuard.createDeferred(rscDfnMapLock.writeLock()),
+                lockGuardFactory.create().rscDfn(LockType.WRITE, rscName).buildDeferred(),
                 () -> finishResizeInTransaction(rscName, vlmNr)
             );
     }
@@ -347,15 +347,13 @@ public class CtrlVlmGrpApiCallHandler
 
             if (notifyStlts)
             {
-                for (ResourceDefinition rscDfn : rscGrp.getRscDfns(peerAccCtx.get()))
-                {
-                    fluxes.add(
-                        Flux.just(
-                            ctrlSatelliteUpdateCaller.updateSatellites(rscDfn, Flux.empty())
-                                .flatMap(updateTuple -> updateTuple == null ? Flux.empty() : updateTuple.getT2())
-                        )
-                    );
-                }
+                List<ResourceDefinition> rscDfnsToUpdate = new ArrayList<>(rscGrp.getRscDfns(peerAccCtx.get()));
+                fluxes.add(
+                    Flux.just(
+                        ctrlSatelliteUpdateCaller.updateSatellites(rscDfnsToUpdate, Flux.empty())
+                            .flatMap(updateTuple -> updateTuple == null ? Flux.empty() : updateTuple.getT2())
+                    )
+                );
             }
         }
         catch (AccessDeniedException accDeniedExc)
@@ -8,6 +8,7 @@ import com.linbit.linstor.api.pojo.RscPojo;
 import com.linbit.linstor.core.StltConfigAccessor;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
 import com.linbit.linstor.core.apis.ResourceConnectionApi;
 import com.linbit.linstor.core.apis.VolumeApi;
 import com.linbit.linstor.core.identifier.NodeName;
@@ -17,6 +18,7 @@ import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.ResourceConnection;
+import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.VolumeDefinition;
 import com.linbit.linstor.core.repository.NodeRepository;
@@ -94,6 +96,21 @@ public class CtrlVlmListApiCallHandler
         List<String> resources,
         List<String> propFilters
     )
+    {
+        return listVlms(nodeNames, storPools, resources, propFilters, ResourceListPaging.UNPAGED);
+    }
+
+    /**
+     * If a page is requested, the page is first selected based on the already known allocated sizes so that only the
+     * allocated sizes of the resources of that page need to be fetched from the satellites.
+     */
+    public Flux<ResourceList> listVlms(
+        List<String> nodeNames,
+        List<String> storPools,
+        List<String> resources,
+        List<String> propFilters,
+        ResourceListPaging paging
+    )
     {
         final Set<NodeName> nodesFilter =
             nodeNames.stream().map(LinstorParsingUtils::asNodeName).collect(Collectors.toSet());
@@ -102,13 +119,87 @@ public class CtrlVlmListApiCallHandler
         final Set<ResourceName> resourceFilter =
             resources.stream().map(LinstorParsingUtils::asRscName).collect(Collectors.toSet());
 
+        Flux<ResourceList> ret;
+        if (paging.isPaged())
+        {
+            ret = scopeRunner.fluxInTransactionlessScope(
+                "Select volume list page",
+                lockGuardFactory.buildDeferred(READ, NODES_MAP, RSC_DFN_MAP),
+                () -> Flux.just(
+                    assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, null, null, paging)),
+                MDC.getCopyOfContextMap()
+            )
+                .flatMap(page ->
+                {
+                    Flux<ResourceList> pageFlux;
+                    if (page.isEmpty())
+                    {
+                        pageFlux = Flux.just(page);
+                    }
+                    else
+                    {
+                        // the second pass must only assemble the resources selected by the first pass, even if
+                        // resources were created or deleted in between
+                        Set<Resource.ResourceKey> pageRscKeys = page.getResources().stream()
+                            .map(rscApi -> new Resource.ResourceKey(
+                                LinstorParsingUtils.asNodeName(rscApi.getNodeName()),
+                                LinstorParsingUtils.asRscName(rscApi.getName())
+                            ))
+                            .collect(Collectors.toSet());
+                        Set<ResourceName> pageRscNames = pageRscKeys.stream()
+                            .map(Resource.ResourceKey::getResourceName)
+                            .collect(Collectors.toSet());
+                        pageFlux = fetchAndAssembleList(
+                            nodesFilter,
+                            storPoolsFilter,
+                            pageRscNames,
+                            propFilters,
+                            pageRscKeys
+                        );
+                    }
+                    return pageFlux;
+                });
+        }
+        else
+        {
+            ret = fetchAndAssembleList(
+                nodesFilter,
+                storPoolsFilter,
+                resourceFilter,
+                propFilters,
+                null
+            );
+        }
+        return ret;
+    }
+
+    /**
+     * @param pageRscKeys if not null, only these resources are assembled
+     */
+    private Flux<ResourceList> fetchAndAssembleList(
+        Set<NodeName> nodesFilter,
+        Set<StorPoolName> storPoolsFilter,
+        Set<ResourceName> resourceFilter,
+        List<String> propFilters,
+        @Nullable Set<Resource.ResourceKey> pageRscKeys
+    )
+    {
         return vlmAllocatedFetcher.fetchVlmAllocated(nodesFilter, storPoolsFilter, resourceFilter)
             .flatMapMany(vlmAllocatedAnswers ->
                 scopeRunner.fluxInTransactionlessScope(
                     "Assemble volume list",
                     lockGuardFactory.buildDeferred(READ, NODES_MAP, RSC_DFN_MAP),
                     () -> Flux.just(
-                        assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, vlmAllocatedAnswers)),
+                        assembleList(
+                            nodesFilter,
+                            storPoolsFilter,
+                            resourceFilter,
+                            propFilters,
+                            vlmAllocatedAnswers,
+                            pageRscKeys,
+                            ResourceListPaging.UNPAGED
+                        )
+                    ),
                     MDC.getCopyOfContextMap()
                 )
             );
@@ -117,6 +208,8 @@ public class CtrlVlmListApiCallHandler
     /**
      *
      * @param vlmAllocatedAnswers if null an cached result will be returned
+     * @param pageRscKeys if not null, only these resources are assembled
+     * @param paging only the resources of this page are assembled
      * @return Filtered ResourceList result
      */
     private ResourceList assembleList(
@@ -124,23 +217,37 @@ public class CtrlVlmListApiCallHandler
         Set<StorPoolName> storPoolsFilter,
         Set<ResourceName> resourceFilter,
         List<String> propFilters,
-        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers
+        final @Nullable Map<Volume.Key, VlmAllocatedResult> vlmAllocatedAnswers,
+        final @Nullable Set<Resource.ResourceKey> pageRscKeys,
+        ResourceListPaging paging
     )
     {
         ResourceList rscList = new ResourceList();
         try
         {
-            resourceDefinitionRepository.getMapForView(peerAccCtx.get()).values().stream()
-                .filter(rscDfn -> resourceFilter.isEmpty() || resourceFilter.contains(rscDfn.getName()))
-                .forEach(rscDfn ->
+            int toSkip = paging.getOffset();
+            Iterator<ResourceDefinition> rscDfnIt = resourceDefinitionRepository.getMapForView(peerAccCtx.get())
+                .values()
+                .iterator();
+            while (rscDfnIt.hasNext() && !paging.isPageFull(rscList.getResources().size()))
+            {
+                ResourceDefinition rscDfn = rscDfnIt.next();
+                if ((resourceFilter.isEmpty() || resourceFilter.contains(rscDfn.getName())) &&
+                    paging.isAfterCursor(rscDfn.getName()))
                 {
                     try
                     {
-                        for (Resource rsc : rscDfn.streamResource(peerAccCtx.get())
+                        Iterator<Resource> rscIt = rscDfn.streamResource(peerAccCtx.get())
                             .filter(rsc -> nodesFilter.isEmpty() ||
                                 nodesFilter.contains(rsc.getNode().getName()))
-                            .collect(toList()))
+                            .filter(rsc -> pageRscKeys == null || pageRscKeys.contains(rsc.getKey()))
+                            .filter(rsc -> paging.isAfterCursor(rscDfn.getName(), rsc.getNode().getName()))
+                            .sorted(ResourceListPaging.NODE_ORDER)
+                            .collect(toList())
+                            .iterator();
+                        while (rscIt.hasNext() && !paging.isPageFull(rscList.getResources().size()))
                         {
+                            Resource rsc = rscIt.next();
                             // prop filter
                             final ReadOnlyProps props = rsc.getProps(peerAccCtx.get());
                             if (props.contains(propFilters))
@@ -223,7 +330,14 @@ public class CtrlVlmListApiCallHandler
                                         rsc.getCreateTimestamp().orElse(null),
                                         propsPojo
                                     );
-                                    rscList.addResource(filteredRscVlms);
+                                    if (toSkip > 0)
+                                    {
+                                        --toSkip;
+                                    }
+                                    else
+                                    {
+                                        rscList.addResource(filteredRscVlms);
+                                    }
                                 }
                             }
                         }
@@ -233,7 +347,7 @@ public class CtrlVlmListApiCallHandler
                         // don't add rsc without access
                     }
                 }
-                );
+            }
 
             // get resource states of all nodes
             for (final Node node : nodeRepository.getMapForView(peerAccCtx.get()).values())
@@ -355,7 +469,15 @@ public class CtrlVlmListApiCallHandler
 
         try (LockGuard ignored = lockGuardFactory.build(READ, NODES_MAP, RSC_DFN_MAP))
         {
-            return assembleList(nodesFilter, storPoolsFilter, resourceFilter, propFilters, null);
+            return assembleList(
+                nodesFilter,
+                storPoolsFilter,
+                resourceFilter,
+                propFilters,
+                null,
+                null,
+                ResourceListPaging.UNPAGED
+            );
         }
     }
 
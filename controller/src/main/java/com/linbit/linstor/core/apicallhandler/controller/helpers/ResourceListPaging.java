@@ -0,0 +1,149 @@
+package com.linbit.linstor.core.apicallhandler.controller.helpers;
+
+import com.linbit.linstor.LinstorParsingUtils;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.api.ApiCallRcImpl;
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
+import com.linbit.linstor.core.apis.ResourceApi;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Resource;
+
+import java.util.Comparator;
+
+/**
+ * Describes which page of a resource listing should be assembled.
+ * <br/>
+ * Resources are listed ordered by their resource name and node name. A cursor is the position of the last resource
+ * of the previous page, so that the next page can be found without assembling all the previous pages again and stays
+ * stable even if resources are added or deleted in between. The offset is applied after the cursor. A limit of 0
+ * means no limit, in which case the offset is ignored.
+ */
+public class ResourceListPaging
+{
+    public static final ResourceListPaging UNPAGED = new ResourceListPaging(null, null, 0, 0);
+
+    /** Order of the resources within a resource definition */
+    public static final Comparator<Resource> NODE_ORDER = Comparator.comparing(rsc -> rsc.getNode().getName());
+
+    /**
+     * Return code of an invalid cursor. Invalid cursors are reported as invalid requests instead of e.g. invalid
+     * resource names, as the client did not specify any of the names itself.
+     */
+    public static final long FAIL_INVLD_CURSOR = ApiConsts.FAIL_INVLD_REQUEST;
+
+    private static final char CURSOR_SEPARATOR = ':';
+
+    private final @Nullable ResourceName cursorRscName;
+    private final @Nullable NodeName cursorNodeName;
+    private final int offset;
+    private final int limit;
+
+    private ResourceListPaging(
+        @Nullable ResourceName cursorRscNameRef,
+        @Nullable NodeName cursorNodeNameRef,
+        int offsetRef,
+        int limitRef
+    )
+    {
+        cursorRscName = cursorRscNameRef;
+        cursorNodeName = cursorNodeNameRef;
+        offset = limitRef > 0 ? Math.max(offsetRef, 0) : 0;
+        limit = Math.max(limitRef, 0);
+    }
+
+    /**
+     * @param cursorRef a cursor as returned by {@link #getCursor(ResourceApi)} or null to start at the first resource
+     */
+    public static ResourceListPaging create(@Nullable String cursorRef, int offsetRef, int limitRef)
+    {
+        @Nullable ResourceName rscName = null;
+        @Nullable NodeName nodeName = null;
+        if (cursorRef != null && !cursorRef.isEmpty())
+        {
+            int sepIdx = cursorRef.indexOf(CURSOR_SEPARATOR);
+            if (sepIdx < 0)
+            {
+                throw invalidCursor(cursorRef, null);
+            }
+            try
+            {
+                rscName = LinstorParsingUtils.asRscName(cursorRef.substring(0, sepIdx));
+                nodeName = LinstorParsingUtils.asNodeName(cursorRef.substring(sepIdx + 1));
+            }
+            catch (ApiRcException exc)
+            {
+                throw invalidCursor(cursorRef, exc);
+            }
+        }
+        return new ResourceListPaging(rscName, nodeName, offsetRef, limitRef);
+    }
+
+    private static ApiRcException invalidCursor(String cursorRef, @Nullable ApiRcException causeRef)
+    {
+        return new ApiRcException(
+            ApiCallRcImpl.entryBuilder(FAIL_INVLD_CURSOR, "The specified cursor '" + cursorRef + "' is invalid.")
+                .setCorrection("Use the cursor returned with the previous page or omit the cursor.")
+                .build(),
+            causeRef
+        );
+    }
+
+    /**
+     * Returns the cursor pointing behind the given resource
+     */
+    public static String getCursor(ResourceApi rscApiRef)
+    {
+        return rscApiRef.getName() + CURSOR_SEPARATOR + rscApiRef.getNodeName();
+    }
+
+    public boolean isPaged()
+    {
+        return limit > 0;
+    }
+
+    /**
+     * Returns whether a page that already contains the given number of resources is complete
+     */
+    public boolean isPageFull(int rscCountRef)
+    {
+        return limit > 0 && rscCountRef >= limit;
+    }
+
+    public int getOffset()
+    {
+        return offset;
+    }
+
+    public int getLimit()
+    {
+        return limit;
+    }
+
+    /**
+     * Returns whether resources of the given resource definition might be located after the cursor
+     */
+    public boolean isAfterCursor(ResourceName rscNameRef)
+    {
+        return cursorRscName == null || rscNameRef.compareTo(cursorRscName) >= 0;
+    }
+
+    /**
+     * Returns whether the given resource is located after the cursor
+     */
+    public boolean isAfterCursor(ResourceName rscNameRef, NodeName nodeNameRef)
+    {
+        boolean ret;
+        if (cursorRscName == null || cursorNodeName == null)
+        {
+            ret = true;
+        }
+        else
+        {
+            int cmp = rscNameRef.compareTo(cursorRscName);
+            ret = cmp > 0 || cmp == 0 && nodeNameRef.compareTo(cursorNodeName) > 0;
+        }
+        return ret;
+    }
+}
@@ -86,6 +86,8 @@ public class CtrlAuthResponseApiCallHandler
         boolean success,
         ApiCallRcImpl apiCallResponse,
         @Nullable Long expectedFullSyncId,
+        long resumableFullSyncId,
+        long resumableUpdateId,
         @Nullable String nodeUname,
         @Nullable ApiConsts.Platform platform,
         @Nullable String osVariant,
@@ -110,6 +112,8 @@ public class CtrlAuthResponseApiCallHandler
                 success,
                 apiCallResponse,
                 expectedFullSyncId,
+                resumableFullSyncId,
+                resumableUpdateId,
                 nodeUname,
                 platform,
                 osVariant,
@@ -177,6 +181,8 @@ public class CtrlAuthResponseApiCallHandler
         boolean successRef,
         ApiCallRcImpl apiCallResponse,
         @Nullable Long expectedFullSyncId,
+        long resumableFullSyncId,
+        long resumableUpdateId,
         @Nullable String nodeUname,
         @Nullable ApiConsts.Platform platform,
         @Nullable String osVariant,
@@ -289,6 +295,8 @@ public class CtrlAuthResponseApiCallHandler
                 flux = ctrlFullSyncApiCallHandler.sendFullSync(
                     node,
                     expectedFullSyncId,
+                    resumableFullSyncId,
+                    resumableUpdateId,
                     waitForFullSyncAnswerRef
                 );
 
@@ -3,6 +3,7 @@ package com.linbit.linstor.core.apicallhandler.controller.internal;
 import com.linbit.ImplementationError;
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.annotation.ApiContext;
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiConsts;
@@ -21,6 +22,7 @@ import com.linbit.linstor.core.repository.ExternalFileRepository;
 import com.linbit.linstor.core.repository.RemoteRepository;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.netcom.PooledBufferOutputStream;
 import com.linbit.linstor.netcom.TcpConnectorPeer;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -67,6 +69,7 @@ public class CtrlFullSyncApiCallHandler
     private final RemoteRepository remoteRepo;
     private final IntFullSyncResponse fullSyncResponse;
     private final ExternalFileRepository externalFilesRepo;
+    private final CtrlFullSyncResumeTracker fullSyncResumeTracker;
 
     @Inject
     CtrlFullSyncApiCallHandler(
@@ -81,7 +84,8 @@ public class CtrlFullSyncApiCallHandler
         @Named(CoreModule.REMOTE_MAP_LOCK) ReadWriteLock remoteMapLockRef,
         IntFullSyncResponse fullSyncResponseRef,
         ExternalFileRepository externalFilesRepoRef,
-        RemoteRepository remoteRepoRef
+        RemoteRepository remoteRepoRef,
+        CtrlFullSyncResumeTracker fullSyncResumeTrackerRef
     )
     {
         errorReporter = errorReporterRef;
@@ -96,6 +100,7 @@ public class CtrlFullSyncApiCallHandler
         remoteRepo = remoteRepoRef;
         fullSyncResponse = fullSyncResponseRef;
         externalFilesRepo = externalFilesRepoRef;
+        fullSyncResumeTracker = fullSyncResumeTrackerRef;
     }
 
     public Flux<?> sendFullSync(Node satelliteNode, long expectedFullSyncId)
@@ -104,6 +109,22 @@ public class CtrlFullSyncApiCallHandler
     }
 
     public Flux<ApiCallRc> sendFullSync(Node satelliteNode, long expectedFullSyncId, boolean waitForAnswer)
+    {
+        return sendFullSync(satelliteNode, expectedFullSyncId, 0, 0, waitForAnswer);
+    }
+
+    /**
+     * Sends a full sync to the given satellite, unless the satellite still holds the data of its previous
+     * connection and the {@link CtrlFullSyncResumeTracker} confirms that nothing could have changed since. In the
+     * latter case the satellite is only told to resume with its current data.
+     */
+    public Flux<ApiCallRc> sendFullSync(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        long resumableFullSyncId,
+        long resumableUpdateId,
+        boolean waitForAnswer
+    )
     {
         Peer peer;
         try
@@ -124,73 +145,57 @@ public class CtrlFullSyncApiCallHandler
                 remoteMapLock.readLock(),
                 peer.getSerializerLock().writeLock()
             ),
-            () -> sendFullSyncInScope(satelliteNode, expectedFullSyncId, waitForAnswer),
+            () -> sendFullSyncInScope(
+                satelliteNode,
+                expectedFullSyncId,
+                resumableFullSyncId,
+                resumableUpdateId,
+                waitForAnswer
+            ),
             MDC.getCopyOfContextMap()
         );
     }
 
-    private Flux<ApiCallRc> sendFullSyncInScope(Node satelliteNode, long expectedFullSyncId, boolean waitForAnswer)
+    private Flux<ApiCallRc> sendFullSyncInScope(
+        Node satelliteNode,
+        long expectedFullSyncId,
+        long resumableFullSyncId,
+        long resumableUpdateId,
+        boolean waitForAnswer
+    )
     {
         Flux<ApiCallRc> flux = Flux.empty();
+        @Nullable CtrlStltSerializerBuilder builder = null;
+        boolean dataHandedOver = false;
         try
         {
-            Set<Node> nodes = new LinkedHashSet<>();
-            Set<StorPool> storPools = new LinkedHashSet<>();
-            Set<Resource> rscs = new LinkedHashSet<>();
-            Set<Snapshot> snapshots = new LinkedHashSet<>();
-            Set<ExternalFile> externalFiles = new LinkedHashSet<>();
-            Set<AbsRemote> remotes = new LinkedHashSet<>();
-
-            nodes.add(satelliteNode); // always add the localNode
-
-            // some storPools might have been created on the satellite, but are not used by resources / volumes
-            // however, when a rsc / vlm is created, they already assume the referenced storPool already exists
-            storPools.addAll(satelliteNode.streamStorPools(apiCtx).collect(toList()));
-
-            for (Resource rsc : satelliteNode.streamResources(apiCtx).collect(toList()))
-            {
-                rscs.add(rsc);
-                Iterator<Resource> otherRscIterator = rsc.getResourceDefinition().iterateResource(apiCtx);
-                while (otherRscIterator.hasNext())
-                {
-                    Resource otherRsc = otherRscIterator.next();
-                    if (!otherRsc.equals(rsc))
-                    {
-                        nodes.add(otherRsc.getNode());
-                        storPools.addAll(LayerVlmUtils.getStorPools(otherRsc, apiCtx));
-                    }
-                }
-            }
-
-            // we need to send all snaps, since the stlt might need them for e.g. incremental backup shipping
-            snapshots.addAll(satelliteNode.getSnapshots(apiCtx));
-
-            externalFiles.addAll(externalFilesRepo.getMapForView(apiCtx).values());
-            remotes.addAll(remoteRepo.getMapForView(apiCtx).values());
-
             Peer satellitePeer = satelliteNode.getPeer(apiCtx);
             satellitePeer.setFullSyncId(expectedFullSyncId);
 
-            errorReporter.logInfo("Sending full sync to " + satelliteNode + ".");
-
-            CtrlStltSerializerBuilder builder;
+            // the full sync can be large, serialize it directly into pooled buffers instead of a growing byte[]
             if (waitForAnswer)
             {
-                builder = interComSerializer.headerlessBuilder();
+                builder = interComSerializer.pooledHeaderlessBuilder();
             }
             else
             {
-                builder = interComSerializer.apiCallBuilder(
+                builder = interComSerializer.pooledApiCallBuilder(
                     InternalApiConsts.API_FULL_SYNC_DATA,
                     FULL_SYNC_RPC_ID
                 );
             }
 
-            byte[] data = builder
-                .fullSync(
-                    nodes, storPools, rscs, snapshots, externalFiles, remotes, expectedFullSyncId, FULL_SYNC_RPC_ID
-                )
-                .build();
+            if (fullSyncResumeTracker.canResume(satelliteNode, resumableFullSyncId, resumableUpdateId))
+            {
+                errorReporter.logInfo("Resuming synchronization with " + satelliteNode + ".");
+                builder.resumeFullSync(expectedFullSyncId);
+            }
+            else
+            {
+                errorReporter.logInfo("Sending full sync to " + satelliteNode + ".");
+                appendFullSync(builder, satelliteNode, expectedFullSyncId);
+            }
+            PooledBufferOutputStream data = builder.buildPooled();
 
             if (waitForAnswer)
             {
@@ -215,6 +220,12 @@ public class CtrlFullSyncApiCallHandler
                         true,
                         false
                     )
+                    // send the full sync right away instead of on subscription. The pooled data is handed over to
+                    // the sent message this way, even if the returned flux is dropped without being subscribed.
+                    // Also, the full sync is sent while the serializer lock is still held, so no update that was
+                    // serialized after it can overtake it. The answers are replayed to the actual subscriber.
+                    .replay()
+                    .autoConnect(0)
                     .concatMap(inputStream -> handleFullSyncResponse(satellitePeer, inputStream))
                     .thenMany(
                         Flux.just(
@@ -227,9 +238,12 @@ public class CtrlFullSyncApiCallHandler
                             )
                         )
                     );
+                // the sent message releases the data, or the API call did if it failed before sending it
+                dataHandedOver = true;
             }
             else
             {
+                dataHandedOver = true;
                 satellitePeer.sendMessage(data);
             }
         }
@@ -243,10 +257,60 @@ public class CtrlFullSyncApiCallHandler
                 )
             );
         }
+        finally
+        {
+            if (builder != null && !dataHandedOver)
+            {
+                // serializing the full sync failed, return the already acquired buffers to the pool
+                builder.buildPooled().release();
+            }
+        }
 
         return flux;
     }
 
+    private void appendFullSync(CtrlStltSerializerBuilder builder, Node satelliteNode, long expectedFullSyncId)
+        throws AccessDeniedException
+    {
+        Set<Node> nodes = new LinkedHashSet<>();
+        Set<StorPool> storPools = new LinkedHashSet<>();
+        Set<Resource> rscs = new LinkedHashSet<>();
+        Set<Snapshot> snapshots = new LinkedHashSet<>();
+        Set<ExternalFile> externalFiles = new LinkedHashSet<>();
+        Set<AbsRemote> remotes = new LinkedHashSet<>();
+
+        nodes.add(satelliteNode); // always add the localNode
+
+        // some storPools might have been created on the satellite, but are not used by resources / volumes
+        // however, when a rsc / vlm is created, they already assume the referenced storPool already exists
+        storPools.addAll(satelliteNode.streamStorPools(apiCtx).collect(toList()));
+
+        for (Resource rsc : satelliteNode.streamResources(apiCtx).collect(toList()))
+        {
+            rscs.add(rsc);
+            Iterator<Resource> otherRscIterator = rsc.getResourceDefinition().iterateResource(apiCtx);
+            while (otherRscIterator.hasNext())
+            {
+                Resource otherRsc = otherRscIterator.next();
+                if (!otherRsc.equals(rsc))
+                {
+                    nodes.add(otherRsc.getNode());
+                    storPools.addAll(LayerVlmUtils.getStorPools(otherRsc, apiCtx));
+                }
+            }
+        }
+
+        // we need to send all snaps, since the stlt might need them for e.g. incremental backup shipping
+        snapshots.addAll(satelliteNode.getSnapshots(apiCtx));
+
+        externalFiles.addAll(externalFilesRepo.getMapForView(apiCtx).values());
+        remotes.addAll(remoteRepo.getMapForView(apiCtx).values());
+
+        builder.fullSync(
+            nodes, storPools, rscs, snapshots, externalFiles, remotes, expectedFullSyncId, FULL_SYNC_RPC_ID
+        );
+    }
+
     private Flux<byte[]> handleFullSyncResponse(Peer satellitePeerRef, InputStream inputStream)
     {
         Flux<byte[]> flux;
@@ -0,0 +1,144 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.CtrlSecurityObjects;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.transaction.manager.TransactionCommitTracker;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Remembers the synchronization state of satellites that lost their connection to the controller.
+ *
+ * When such a satellite reconnects and reports that it still holds all data of its previous connection, the
+ * controller only needs to send a new full sync if anything could have changed in the meantime. Since the core
+ * objects are not versioned, this is decided conservatively: the satellite must have applied every update that
+ * was serialized for it, no api call must have been pending when the connection was lost, and no transaction must
+ * have committed any change since shortly before the connection was lost.
+ *
+ * The records only live in memory, a restarted controller therefore always sends full syncs.
+ */
+@Singleton
+public class CtrlFullSyncResumeTracker
+{
+    /**
+     * Changes committed shortly before the connection was lost might not have been sent to the satellite yet.
+     */
+    private static final long CHANGE_GRACE_PERIOD_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ErrorReporter errorReporter;
+    private final TransactionCommitTracker commitTracker;
+    private final CtrlSecurityObjects secObjs;
+    private final boolean enabled;
+
+    private final Map<NodeName, SyncRecord> records = new ConcurrentHashMap<>();
+
+    @Inject
+    public CtrlFullSyncResumeTracker(
+        ErrorReporter errorReporterRef,
+        TransactionCommitTracker commitTrackerRef,
+        CtrlSecurityObjects secObjsRef,
+        CtrlConfig ctrlCfgRef
+    )
+    {
+        errorReporter = errorReporterRef;
+        commitTracker = commitTrackerRef;
+        secObjs = secObjsRef;
+        enabled = ctrlCfgRef.isSyncResumeOnReconnect();
+    }
+
+    /**
+     * Records the synchronization state of the given peer. Must be called when the connection was closed.
+     *
+     * @param hasActiveLocks true if the node still holds shared locks, which will be force-released and
+     *     therefore change the cluster state
+     */
+    public void connectionClosed(Peer peer, boolean hasActiveLocks)
+    {
+        @Nullable Node node = peer.getNode();
+        if (enabled && node != null)
+        {
+            if (!hasActiveLocks && peer.isFullSyncApplied() && !peer.hasFullSyncFailed() && !peer.hasLostOpenRpcs())
+            {
+                records.put(
+                    node.getName(),
+                    new SyncRecord(
+                        peer.getFullSyncId(),
+                        peer.peekNextSerializerId(),
+                        commitTracker.getGeneration(),
+                        commitTracker.getNanosSinceLastChange() >= CHANGE_GRACE_PERIOD_NANOS,
+                        secObjs.areAllSet()
+                    )
+                );
+            }
+            else
+            {
+                records.remove(node.getName());
+            }
+        }
+    }
+
+    /**
+     * Returns true if the satellite of the given node does not need a new full sync. The record of the node is
+     * consumed by this call.
+     *
+     * The caller must hold at least the read locks that are also required for sending a full sync, so that no
+     * change can be committed between this check and the response to the satellite.
+     *
+     * @param resumableFullSyncId the fullSyncId of the previous connection, as reported by the satellite
+     * @param resumableUpdateId the number of updates the satellite applied during its previous connection
+     */
+    public boolean canResume(Node node, long resumableFullSyncId, long resumableUpdateId)
+    {
+        @Nullable SyncRecord record = records.remove(node.getName());
+        boolean canResume = enabled &&
+            record != null &&
+            resumableFullSyncId != 0 &&
+            record.fullSyncId == resumableFullSyncId &&
+            record.serializedUpdateCount == resumableUpdateId &&
+            record.quietBeforeClose &&
+            record.commitGeneration == commitTracker.getGeneration() &&
+            record.cryptKeySet == secObjs.areAllSet();
+        if (record != null && !canResume)
+        {
+            errorReporter.logDebug(
+                "Satellite '%s' cannot resume its previous synchronization, sending full sync",
+                node.getName().displayValue
+            );
+        }
+        return canResume;
+    }
+
+    private static class SyncRecord
+    {
+        private final long fullSyncId;
+        private final long serializedUpdateCount;
+        private final long commitGeneration;
+        private final boolean quietBeforeClose;
+        private final boolean cryptKeySet;
+
+        SyncRecord(
+            long fullSyncIdRef,
+            long serializedUpdateCountRef,
+            long commitGenerationRef,
+            boolean quietBeforeCloseRef,
+            boolean cryptKeySetRef
+        )
+        {
+            fullSyncId = fullSyncIdRef;
+            serializedUpdateCount = serializedUpdateCountRef;
+            commitGeneration = commitGenerationRef;
+            quietBeforeClose = quietBeforeCloseRef;
+            cryptKeySet = cryptKeySetRef;
+        }
+    }
+}
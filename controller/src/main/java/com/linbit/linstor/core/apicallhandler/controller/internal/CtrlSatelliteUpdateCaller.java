@@ -14,6 +14,7 @@ import com.linbit.linstor.core.apicallhandler.controller.internal.helpers.Atomic
 import com.linbit.linstor.core.apicallhandler.controller.req.CreateMultiSnapRequest;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apicallhandler.response.ResponseUtils;
+import com.linbit.linstor.core.cfg.CtrlConfig;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.core.objects.ExternalFile;
@@ -32,6 +33,9 @@ import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.tasks.RetryResourcesTask;
+import com.linbit.locks.LockGuard;
+import com.linbit.locks.LockGuardFactory;
+import com.linbit.locks.LockGuardFactory.LockObj;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -45,8 +49,11 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -66,6 +73,8 @@ public class CtrlSatelliteUpdateCaller
     private final SatelliteConnectorImpl stltConnector;
     private final NodeRepository nodeRepo;
     private final SatelliteRetcodeDispatcher retcodeDispatcher;
+    private final LockGuardFactory lockGuardFactory;
+    private final boolean pushRscData;
 
     @Inject
     private CtrlSatelliteUpdateCaller(
@@ -74,7 +83,9 @@ public class CtrlSatelliteUpdateCaller
         Provider<RetryResourcesTask> retryResourceTaskProviderRef,
         SatelliteConnectorImpl stltConnectorRef,
         NodeRepository nodeRepoRef,
-        SatelliteRetcodeDispatcher retcodeDispatcherRef
+        SatelliteRetcodeDispatcher retcodeDispatcherRef,
+        LockGuardFactory lockGuardFactoryRef,
+        CtrlConfig ctrlCfgRef
     )
     {
         apiCtx = apiCtxRef;
@@ -83,6 +94,8 @@ public class CtrlSatelliteUpdateCaller
         stltConnector = stltConnectorRef;
         nodeRepo = nodeRepoRef;
         retcodeDispatcher = retcodeDispatcherRef;
+        lockGuardFactory = lockGuardFactoryRef;
+        pushRscData = ctrlCfgRef.isSyncPushRscData();
     }
 
     /**
@@ -186,6 +199,11 @@ public class CtrlSatelliteUpdateCaller
         @Nullable Publisher<ApiCallRc> nextStepRef,
         ContextView cv
     )
+    {
+        return updateSatellites(rscDfn, getDfltNotConnectedHandler(cv), nextStepRef);
+    }
+
+    private NotConnectedHandler getDfltNotConnectedHandler(ContextView cv)
     {
         NotConnectedHandler dfltNotConnectedHandler;
         // TODO move this into context class
@@ -198,8 +216,7 @@ public class CtrlSatelliteUpdateCaller
         {
             dfltNotConnectedHandler = notConnectedWarn();
         }
-
-        return updateSatellites(rscDfn, dfltNotConnectedHandler, nextStepRef);
+        return dfltNotConnectedHandler;
     }
 
     /**
@@ -236,6 +253,81 @@ public class CtrlSatelliteUpdateCaller
         return Flux.fromIterable(responses);
     }
 
+    /**
+     * Like {@link #updateSatellites(ResourceDefinition, Publisher)} for multiple resource definitions, but each
+     * satellite only receives a single message for all of its changed resources.
+     */
+    public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellites(
+        Collection<ResourceDefinition> rscDfns,
+        @Nullable Publisher<ApiCallRc> nextStepRef
+    )
+    {
+        return Flux.deferContextual(
+            cv -> updateSatellites(rscDfns, getDfltNotConnectedHandler(cv), nextStepRef)
+        );
+    }
+
+    /**
+     * Like {@link #updateSatellites(ResourceDefinition, NotConnectedHandler, Publisher)} for multiple resource
+     * definitions, but the changes are coalesced into a single {@link InternalApiConsts#API_CHANGED_RSC_BATCH}
+     * message per satellite. The satellite applies the whole batch within one run of its device manager.
+     *
+     * Only useful for resource definitions that were changed within the same transaction. A resource group spawn
+     * creates a single resource definition, whose resources already result in one message per satellite. Node
+     * evacuations and the BalanceResourcesTask run the autoplacer for one resource definition at a time, each in its
+     * own transaction, and wait for the satellites to deploy the new resources (including their retcode and cleanup
+     * handling) before the next resource definition is processed. As there is no point in time at which the changes
+     * of several resource definitions could be sent together, these flows keep using the per resource definition
+     * updates.
+     */
+    public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellites(
+        Collection<ResourceDefinition> rscDfns,
+        NotConnectedHandler notConnectedHandler,
+        @Nullable Publisher<ApiCallRc> nextStep
+    )
+    {
+        List<Tuple2<NodeName, Flux<ApiCallRc>>> responses = new ArrayList<>();
+
+        try
+        {
+            Map<NodeName, List<Resource>> rscsPerNode = new TreeMap<>();
+            for (ResourceDefinition rscDfn : rscDfns)
+            {
+                Iterator<Resource> rscIterator = rscDfn.iterateResource(apiCtx);
+                while (rscIterator.hasNext())
+                {
+                    Resource currentRsc = rscIterator.next();
+                    if (!currentRsc.getNode().isEvicted(apiCtx))
+                    {
+                        rscsPerNode.computeIfAbsent(currentRsc.getNode().getName(), ignored -> new ArrayList<>())
+                            .add(currentRsc);
+                    }
+                }
+            }
+
+            for (Map.Entry<NodeName, List<Resource>> entry : rscsPerNode.entrySet())
+            {
+                List<Resource> rscs = entry.getValue();
+                Flux<ApiCallRc> response;
+                if (rscs.size() == 1)
+                {
+                    response = updateResource(rscs.get(0), notConnectedHandler, nextStep);
+                }
+                else
+                {
+                    response = updateResources(rscs, notConnectedHandler, nextStep);
+                }
+                responses.add(Tuples.of(entry.getKey(), response));
+            }
+        }
+        catch (AccessDeniedException implError)
+        {
+            throw new ImplementationError(implError);
+        }
+
+        return Flux.fromIterable(responses);
+    }
+
     public Flux<Tuple2<NodeName, Flux<ApiCallRc>>> updateSatellite(final StorPool storPool)
     {
         // figure out which nodes to update
@@ -381,18 +473,19 @@ public class CtrlSatelliteUpdateCaller
         }
         else
         {
-            response = currentPeer
-                .apiCall(
-                    InternalApiConsts.API_CHANGED_RSC,
-                    internalComSerializer
-                        .headerlessBuilder()
-                        .changedResource(
-                            currentRsc.getUuid(),
-                            currentRsc.getResourceDefinition().getName().displayValue
-                        )
-                        .build()
-                )
-
+            UUID rscUuid = currentRsc.getUuid();
+            String rscName = currentRsc.getResourceDefinition().getName().displayValue;
+            Flux<ByteArrayInputStream> stltResponse;
+            if (pushRscData)
+            {
+                // (re-)serialized for every subscription, since the dispatcher's retries re-subscribe
+                stltResponse = Flux.defer(() -> pushResourceData(currentPeer, currentRsc, rscUuid, rscName));
+            }
+            else
+            {
+                stltResponse = changedResource(currentPeer, rscUuid, rscName);
+            }
+            response = stltResponse
                 .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
 
                 .transform(retcodeDispatcher.forResource(currentRsc))
@@ -426,6 +519,172 @@ public class CtrlSatelliteUpdateCaller
         return response;
     }
 
+    /**
+     * Sends a batch notification for the given resources, which must all be located on the same node.
+     *
+     * The retcode handlers of the {@link SatelliteRetcodeDispatcher} work on single resources. If the response of
+     * the batch contains such a retcode, the resources are updated individually again, this time including the
+     * per-resource retry handling.
+     */
+    private Flux<ApiCallRc> updateResources(
+        List<Resource> rscs,
+        NotConnectedHandler notConnectedHandler,
+        @Nullable Publisher<ApiCallRc> nextStepRef
+    )
+        throws AccessDeniedException
+    {
+        Node node = rscs.get(0).getNode();
+        NodeName nodeName = node.getName();
+
+        Flux<ApiCallRc> response;
+        Peer currentPeer = node.getPeer(apiCtx);
+
+        if (currentPeer.isOnline() && currentPeer.hasFullSyncFailed())
+        {
+            response = Flux.error(new ApiRcException(ResponseUtils.makeFullSyncFailedResponse(currentPeer)));
+        }
+        else if (!currentPeer.isOnline())
+        {
+            response = notConnectedHandler.handleNotConnected(nodeName);
+        }
+        else
+        {
+            AtomicBoolean updateIndividually = new AtomicBoolean();
+            response = currentPeer
+                .apiCall(
+                    InternalApiConsts.API_CHANGED_RSC_BATCH,
+                    internalComSerializer
+                        .headerlessBuilder()
+                        .changedResources(rscs)
+                        .build()
+                )
+
+                .map(inputStream -> deserializeApiCallRc(nodeName, inputStream))
+
+                .onErrorResume(
+                    ApiRcException.class,
+                    apiRcExc -> retcodeDispatcher.hasHandler(apiRcExc.getApiCallRc()) ?
+                        Flux.just(apiRcExc.getApiCallRc()) :
+                        Flux.error(apiRcExc)
+                )
+                .filter(apiCallRc ->
+                {
+                    boolean handled = retcodeDispatcher.hasHandler(apiCallRc);
+                    if (handled)
+                    {
+                        updateIndividually.set(true);
+                    }
+                    return !handled;
+                })
+                .concatWith(Flux.defer(() ->
+                    updateIndividually.get() ?
+                        updateResourcesIndividually(rscs, notConnectedHandler, nextStepRef) :
+                        Flux.empty()
+                ))
+
+                .onErrorResume(
+                    PeerNotConnectedException.class,
+                    ignored ->
+                    {
+                        // see updateResource
+                        for (Resource rsc : rscs)
+                        {
+                            retryResourceTaskProvider.get().add(rsc, nextStepRef);
+                        }
+                        return notConnectedHandler.handleNotConnected(nodeName);
+                    }
+                )
+                .doOnError(err ->
+                {
+                    if (!retcodeDispatcher.isDispatcherError(err))
+                    {
+                        for (Resource rsc : rscs)
+                        {
+                            retryResourceTaskProvider.get().add(rsc, nextStepRef);
+                        }
+                    }
+                });
+        }
+
+        return response;
+    }
+
+    private Flux<ApiCallRc> updateResourcesIndividually(
+        List<Resource> rscs,
+        NotConnectedHandler notConnectedHandler,
+        @Nullable Publisher<ApiCallRc> nextStepRef
+    )
+    {
+        List<Flux<ApiCallRc>> responses = new ArrayList<>();
+        try
+        {
+            for (Resource rsc : rscs)
+            {
+                if (!rsc.isDeleted())
+                {
+                    responses.add(updateResource(rsc, notConnectedHandler, nextStepRef));
+                }
+            }
+        }
+        catch (AccessDeniedException exc)
+        {
+            throw new ImplementationError(exc);
+        }
+        return Flux.merge(responses);
+    }
+
+    private Flux<ByteArrayInputStream> changedResource(Peer peer, UUID rscUuid, String rscName)
+    {
+        return peer.apiCall(
+            InternalApiConsts.API_CHANGED_RSC,
+            internalComSerializer
+                .headerlessBuilder()
+                .changedResource(rscUuid, rscName)
+                .build()
+        );
+    }
+
+    /**
+     * Sends the change notification together with the data of the resource, which saves the satellite the
+     * round trip of requesting the data.
+     *
+     * The data gets the next update id of the peer, just like the answer to a data request. The satellite therefore
+     * applies it in order with all other updates and ignores it if it belongs to an outdated full sync.
+     */
+    private Flux<ByteArrayInputStream> pushResourceData(Peer peer, Resource rsc, UUID rscUuid, String rscName)
+    {
+        Flux<ByteArrayInputStream> stltResponse;
+        try (
+            LockGuard lg = lockGuardFactory.create()
+                .read(LockObj.NODES_MAP, LockObj.RSC_DFN_MAP, LockObj.STOR_POOL_DFN_MAP)
+                .postLinstorLocks(peer.getSerializerLock().readLock())
+                .build()
+        )
+        {
+            if (rsc.isDeleted() || rsc.getNode().isDeleted())
+            {
+                // let the satellite request the resource, it will receive the deletion
+                stltResponse = changedResource(peer, rscUuid, rscName);
+            }
+            else
+            {
+                stltResponse = peer.apiCall(
+                        InternalApiConsts.API_CHANGED_RSC_DATA,
+                        internalComSerializer
+                            .headerlessBuilder()
+                            .resource(rsc, peer.getFullSyncId(), peer.getNextSerializerId())
+                            .build()
+                    )
+                    // the API call only sends its message when subscribed. Send it right away while the serializer
+                    // lock is still held, just like the answer to a data request, so that no message with a higher
+                    // update id can overtake it. The answers are replayed to the actual subscriber.
+                    .replay()
+                    .autoConnect(0);
+            }
+        }
+        return stltResponse;
+    }
+
     private Flux<ApiCallRc> updateSnapshot(Snapshot snapshot, NotConnectedHandler notConnectedHandler)
         throws AccessDeniedException
     {
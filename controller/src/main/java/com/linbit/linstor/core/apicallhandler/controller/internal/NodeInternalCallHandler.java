@@ -10,12 +10,16 @@ import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.SharedStorPoolManager;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlApiDataLoader;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlTransactionHelper;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmAllocatedUpdater;
 import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
 import com.linbit.linstor.core.identifier.SharedStorPoolName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.objects.NodeConnection;
 import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.Peer;
@@ -32,6 +36,7 @@ import javax.inject.Provider;
 import javax.inject.Singleton;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -58,6 +63,7 @@ public class NodeInternalCallHandler
     private final SharedStorPoolManager sharedStorPoolManager;
     private final CtrlSatelliteUpdater stltUpdater;
     private final CtrlTransactionHelper ctrlTransactionHelper;
+    private final CtrlVlmAllocatedUpdater vlmAllocatedUpdater;
 
     @Inject
     public NodeInternalCallHandler(
@@ -69,7 +75,8 @@ public class NodeInternalCallHandler
         CtrlApiDataLoader ctrlApiDataLoaderRef,
         SharedStorPoolManager sharedStorPoolManagerRef,
         CtrlSatelliteUpdater stltUpdaterRef,
-        CtrlTransactionHelper ctrlTransactionHelperRef
+        CtrlTransactionHelper ctrlTransactionHelperRef,
+        CtrlVlmAllocatedUpdater vlmAllocatedUpdaterRef
     )
     {
         errorReporter = errorReporterRef;
@@ -81,6 +88,7 @@ public class NodeInternalCallHandler
         sharedStorPoolManager = sharedStorPoolManagerRef;
         stltUpdater = stltUpdaterRef;
         ctrlTransactionHelper = ctrlTransactionHelperRef;
+        vlmAllocatedUpdater = vlmAllocatedUpdaterRef;
     }
 
     public void handleNodeRequest(UUID nodeUuid, String nodeNameStr)
@@ -211,6 +219,33 @@ public class NodeInternalCallHandler
         }
     }
 
+    /**
+     * @param changedVlmAllocationsRef allocated sizes that changed since the satellite last reported them, grouped by
+     *     resource name and volume number
+     */
+    public void handleVlmAllocatedChanged(Map<ResourceName, Map<VolumeNumber, Long>> changedVlmAllocationsRef)
+    {
+        Node node = peerProvider.get().getNode();
+
+        // node is null if the peer calling this API was not a satellite...
+        if (node != null && !changedVlmAllocationsRef.isEmpty())
+        {
+            NodeName nodeName = node.getName();
+            Map<Volume.Key, Long> vlmAllocations = new HashMap<>();
+            for (Entry<ResourceName, Map<VolumeNumber, Long>> rscEntry : changedVlmAllocationsRef.entrySet())
+            {
+                for (Entry<VolumeNumber, Long> vlmEntry : rscEntry.getValue().entrySet())
+                {
+                    vlmAllocations.put(
+                        new Volume.Key(nodeName, rscEntry.getKey(), vlmEntry.getKey()),
+                        vlmEntry.getValue()
+                    );
+                }
+            }
+            vlmAllocatedUpdater.updateAllocatedSizes(vlmAllocations);
+        }
+    }
+
     public void releaseLocks(Node node)
     {
         Map<Node, Set<SharedStorPoolName>> nodesToUpdate = sharedStorPoolManager.releaseLocks(node);
@@ -214,6 +214,16 @@ public class SatelliteRetcodeDispatcher
         return throwable instanceof SatelliteSignalException;
     }
 
+    /**
+     * Returns {@code true} if a handler is registered for any retcode of the given {@link ApiCallRc}. Used by
+     * callers that cannot apply {@link #forResource(Resource)}, since their response is not bound to a single
+     * resource.
+     */
+    public boolean hasHandler(ApiCallRc rc)
+    {
+        return match(rc) != null;
+    }
+
     private @Nullable SatelliteRetcodeHandler<?> match(ApiCallRc rc)
     {
         @Nullable SatelliteRetcodeHandler<?> ret = null;
@@ -29,6 +29,7 @@ public class CtrlConfig extends LinstorConfig
 
     private @Nullable String dbInMemory;
     private boolean dbDisableVersionCheck;
+    private @Nullable String dbStartupSnapshot;
 
     /*
      * Database.k8s
@@ -37,6 +38,8 @@ public class CtrlConfig extends LinstorConfig
 
     private int k8sMaxRollbackEntries = 100;
 
+    private int k8sMaxConcurrentRequests = 8;
+
     /*
      * Logging
      */
@@ -81,6 +84,17 @@ public class CtrlConfig extends LinstorConfig
      */
     private @Nullable String webUiDirectory;
 
+    /*
+     * Locking
+     */
+    private int rscDfnLockStripes = 0;
+
+    /*
+     * Satellite synchronization
+     */
+    private boolean syncResumeOnReconnect = false;
+    private boolean syncPushRscData = false;
+
     public CtrlConfig(@Nullable String[] args)
     {
         super(args);
@@ -221,6 +235,14 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setDbStartupSnapshot(@Nullable String dbStartupSnapshotRef)
+    {
+        if (dbStartupSnapshotRef != null)
+        {
+            dbStartupSnapshot = dbStartupSnapshotRef;
+        }
+    }
+
     public void setK8sRequestRetries(final @Nullable Integer k8sRequestRetriesRef)
     {
         if (k8sRequestRetriesRef != null)
@@ -237,6 +259,14 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setK8sMaxConcurrentRequests(final @Nullable Integer k8sMaxConcurrentRequestsRef)
+    {
+        if (k8sMaxConcurrentRequestsRef != null)
+        {
+            k8sMaxConcurrentRequests = k8sMaxConcurrentRequestsRef;
+        }
+    }
+
     public void setLogRestAccessLogPath(@Nullable String logRestAccessLogPathRef)
     {
         if (logRestAccessLogPathRef != null)
@@ -397,6 +427,30 @@ public class CtrlConfig extends LinstorConfig
         }
     }
 
+    public void setRscDfnLockStripes(@Nullable Integer rscDfnLockStripesRef)
+    {
+        if (rscDfnLockStripesRef != null)
+        {
+            rscDfnLockStripes = rscDfnLockStripesRef;
+        }
+    }
+
+    public void setSyncResumeOnReconnect(@Nullable Boolean syncResumeOnReconnectRef)
+    {
+        if (syncResumeOnReconnectRef != null)
+        {
+            syncResumeOnReconnect = syncResumeOnReconnectRef;
+        }
+    }
+
+    public void setSyncPushRscData(@Nullable Boolean syncPushRscDataRef)
+    {
+        if (syncPushRscDataRef != null)
+        {
+            syncPushRscData = syncPushRscDataRef;
+        }
+    }
+
     public @Nullable String getDbUser()
     {
         return dbUser;
@@ -442,6 +496,14 @@ public class CtrlConfig extends LinstorConfig
         return dbDisableVersionCheck;
     }
 
+    /**
+     * Returns the path of the startup snapshot file, or null if no startup snapshot should be used
+     */
+    public @Nullable String getDbStartupSnapshot()
+    {
+        return dbStartupSnapshot;
+    }
+
     public int getK8sRequestRetries()
     {
         return k8sRequestRetries;
@@ -452,6 +514,11 @@ public class CtrlConfig extends LinstorConfig
         return k8sMaxRollbackEntries;
     }
 
+    public int getK8sMaxConcurrentRequests()
+    {
+        return k8sMaxConcurrentRequests;
+    }
+
     public @Nullable String getLogRestAccessLogPath()
     {
         return logRestAccessLogPath;
@@ -583,4 +650,19 @@ public class CtrlConfig extends LinstorConfig
     {
         return webUiDirectory;
     }
+
+    public int getRscDfnLockStripes()
+    {
+        return rscDfnLockStripes;
+    }
+
+    public boolean isSyncResumeOnReconnect()
+    {
+        return syncResumeOnReconnect;
+    }
+
+    public boolean isSyncPushRscData()
+    {
+        return syncPushRscData;
+    }
 }
@@ -77,6 +77,10 @@ public class CtrlTomlConfig
         private @Nullable String client_key_pcks8_pem;
         private @Nullable String client_key_pkcs8_pem;
         private @Nullable String client_key_password;
+        /**
+         * Path of the file that caches the loaded tables to speed up the next startup
+         */
+        private @Nullable String startup_snapshot;
 
         private @Nullable K8s k8s = new K8s();
 
@@ -89,6 +93,7 @@ public class CtrlTomlConfig
             cfg.setDbClientCertificate(client_certificate);
             cfg.setDbClientKeyPkcs8Pem(client_key_pkcs8_pem != null ? client_key_pkcs8_pem : client_key_pcks8_pem);
             cfg.setDbClientKeyPassword(client_key_password);
+            cfg.setDbStartupSnapshot(startup_snapshot);
 
             k8s.applyTo(cfg);
         }
@@ -148,11 +153,13 @@ public class CtrlTomlConfig
     {
         private @Nullable Integer request_retries;
         private @Nullable Integer max_rollback_entries;
+        private @Nullable Integer max_concurrent_requests;
 
         public void applyTo(CtrlConfig cfg)
         {
             cfg.setK8sRequestRetries(request_retries);
             cfg.setK8sMaxRollbackEntries(max_rollback_entries);
+            cfg.setK8sMaxConcurrentRequests(max_concurrent_requests);
         }
     }
 
@@ -166,6 +173,48 @@ public class CtrlTomlConfig
         }
     }
 
+    static class Locking
+    {
+        private @Nullable Integer rsc_dfn_stripes;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setRscDfnLockStripes(rsc_dfn_stripes);
+        }
+    }
+
+    static class Sync
+    {
+        private @Nullable Boolean resume_on_reconnect;
+        private @Nullable Boolean push_rsc_data;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setSyncResumeOnReconnect(resume_on_reconnect);
+            cfg.setSyncPushRscData(push_rsc_data);
+        }
+    }
+
+    static class NetCom
+    {
+        private @Nullable Integer worker_threads;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setNetComWorkerThreads(worker_threads);
+        }
+    }
+
+    static class Threading
+    {
+        private @Nullable Boolean virtual_threads;
+
+        public void applyTo(CtrlConfig cfg)
+        {
+            cfg.setVirtualThreads(virtual_threads);
+        }
+    }
+
     private HTTP http = new HTTP();
     private HTTPS https = new HTTPS();
     private LDAP ldap = new LDAP();
@@ -173,6 +222,10 @@ public class CtrlTomlConfig
     private Logging logging = new Logging();
     private Encrypt encrypt = new Encrypt();
     private WebUi webUi = new WebUi();
+    private Locking locking = new Locking();
+    private Sync sync = new Sync();
+    private NetCom netcom = new NetCom();
+    private Threading threading = new Threading();
 
     /**
      * Getter needed by {@link LinstorConfigTool}
@@ -191,5 +244,9 @@ public class CtrlTomlConfig
         logging.applyTo(cfg);
         encrypt.applyTo(cfg);
         webUi.applyTo(cfg);
+        locking.applyTo(cfg);
+        sync.applyTo(cfg);
+        netcom.applyTo(cfg);
+        threading.applyTo(cfg);
     }
 }
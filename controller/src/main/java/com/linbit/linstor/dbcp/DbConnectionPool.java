@@ -384,6 +384,8 @@ public class DbConnectionPool implements ControllerSQLDatabase
 
             poolConnFactory.setPool(connPool);
             poolConnFactory.setValidationQueryTimeout(dbTimeout);
+            // keep prepared statements per connection, the SQL engine prepares the same statements over and over again
+            poolConnFactory.setPoolStatements(true);
             poolConnFactory.setMaxOpenPreparedStatements(dbMaxOpen);
             poolConnFactory.setMaxConnLifetimeMillis(DEFAULT_IDLE_TIMEOUT);
             poolConnFactory.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
@@ -34,7 +34,10 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -55,6 +58,7 @@ public class DbK8sCrd implements ControllerK8sCrdDatabase
     private static final ServiceName SERVICE_NAME;
     private static final String SERVICE_INFO = "K8s CRD handler";
     private static final String K8S_SCHEME = "k8s";
+    private static final String REQUEST_THREAD_NAME_PREFIX = "K8sCrdRequest-";
 
     /**
      * <p>This map stores the database versions that the current version of LINSTOR can no longer migrate from
@@ -99,6 +103,7 @@ public class DbK8sCrd implements ControllerK8sCrdDatabase
     private @Nullable KubernetesClient k8sClient;
 
     private @Nullable HashMap<Class<? extends LinstorCrd<? extends LinstorSpec<?, ?>>>, K8sResourceClient<?>> k8sCachingClient;
+    private @Nullable ExecutorService requestExecutor;
 
     static
     {
@@ -397,6 +402,11 @@ public class DbK8sCrd implements ControllerK8sCrdDatabase
         {
             if (atomicStarted.compareAndSet(true, false))
             {
+                if (requestExecutor != null)
+                {
+                    requestExecutor.shutdown();
+                    requestExecutor = null;
+                }
                 k8sClient.close();
             }
         }
@@ -437,6 +447,20 @@ public class DbK8sCrd implements ControllerK8sCrdDatabase
         // https://github.com/fabric8io/kubernetes-client/pull/5962
         customMapper.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         k8sCachingClient = new HashMap<>();
+        int maxConcurrentRequests = ctrlCfg.getK8sMaxConcurrentRequests();
+        if (maxConcurrentRequests > 1)
+        {
+            AtomicInteger threadCount = new AtomicInteger();
+            requestExecutor = Executors.newFixedThreadPool(
+                maxConcurrentRequests,
+                runnable ->
+                {
+                    Thread thread = new Thread(runnable, REQUEST_THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        }
         atomicStarted.set(true);
     }
 
@@ -488,6 +512,12 @@ public class DbK8sCrd implements ControllerK8sCrdDatabase
         return ctrlCfg.getK8sMaxRollbackEntries();
     }
 
+    @Override
+    public @Nullable ExecutorService getRequestExecutor()
+    {
+        return requestExecutor;
+    }
+
     @Override
     public void clearCache()
     {
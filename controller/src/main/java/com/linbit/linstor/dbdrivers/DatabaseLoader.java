@@ -87,6 +87,8 @@ import com.linbit.linstor.dbdrivers.interfaces.remotes.S3RemoteCtrlDatabaseDrive
 import com.linbit.linstor.layer.LayerPayload;
 import com.linbit.linstor.layer.resource.AbsRscLayerHelper;
 import com.linbit.linstor.layer.resource.CtrlRscLayerDataFactory;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.prometheus.LinstorControllerMetrics;
 import com.linbit.linstor.propscon.InvalidKeyException;
 import com.linbit.linstor.propscon.Props;
 import com.linbit.linstor.security.AccessContext;
@@ -117,6 +119,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -146,6 +149,43 @@ public class DatabaseLoader implements DatabaseDriver
         }
     }
 
+    /**
+     * All tables read by {@link #loadCoreObjects()}, in the order they are needed
+     */
+    private static final List<DatabaseTable> CORE_TABLES = List.of(
+        GeneratedDatabaseTables.PROPS_CONTAINERS,
+        GeneratedDatabaseTables.RESOURCE_GROUPS,
+        GeneratedDatabaseTables.VOLUME_GROUPS,
+        GeneratedDatabaseTables.NODES,
+        GeneratedDatabaseTables.RESOURCE_DEFINITIONS,
+        GeneratedDatabaseTables.STOR_POOL_DEFINITIONS,
+        GeneratedDatabaseTables.FILES,
+        GeneratedDatabaseTables.S3_REMOTES,
+        GeneratedDatabaseTables.LINSTOR_REMOTES,
+        GeneratedDatabaseTables.EBS_REMOTES,
+        GeneratedDatabaseTables.SCHEDULES,
+        GeneratedDatabaseTables.NODE_NET_INTERFACES,
+        GeneratedDatabaseTables.NODE_CONNECTIONS,
+        GeneratedDatabaseTables.NODE_STOR_POOL,
+        GeneratedDatabaseTables.RESOURCES,
+        GeneratedDatabaseTables.RESOURCE_CONNECTIONS,
+        GeneratedDatabaseTables.VOLUME_DEFINITIONS,
+        GeneratedDatabaseTables.VOLUMES,
+        GeneratedDatabaseTables.VOLUME_CONNECTIONS,
+        GeneratedDatabaseTables.KEY_VALUE_STORE,
+        GeneratedDatabaseTables.LAYER_RESOURCE_IDS,
+        GeneratedDatabaseTables.LAYER_DRBD_RESOURCE_DEFINITIONS,
+        GeneratedDatabaseTables.LAYER_DRBD_VOLUME_DEFINITIONS,
+        GeneratedDatabaseTables.LAYER_DRBD_RESOURCES,
+        GeneratedDatabaseTables.LAYER_DRBD_VOLUMES,
+        GeneratedDatabaseTables.LAYER_LUKS_VOLUMES,
+        GeneratedDatabaseTables.LAYER_STORAGE_VOLUMES,
+        GeneratedDatabaseTables.LAYER_WRITECACHE_VOLUMES,
+        GeneratedDatabaseTables.LAYER_CACHE_VOLUMES,
+        GeneratedDatabaseTables.LAYER_BCACHE_VOLUMES,
+        GeneratedDatabaseTables.AUTH_TOKENS
+    );
+
     private final AccessContext dbCtx;
     private final SecDatabaseLoader securityDbLoader;
     private final DbCoreObjProtInitializer dbCoreObjProtInitializer;
@@ -192,6 +232,8 @@ public class DatabaseLoader implements DatabaseDriver
     private final CtrlStorPoolResolveHelper storPoolResolveHelper;
     private final RemoteMap remoteMap;
     private final ScheduleMap scheduleMap;
+    private final DbEngine dbEngine;
+    private final ErrorReporter errorReporter;
 
     @Inject
     public DatabaseLoader(
@@ -239,7 +281,9 @@ public class DatabaseLoader implements DatabaseDriver
         CoreModule.ExternalFileMap extFileMapRef,
         CtrlStorPoolResolveHelper storPoolResolveHelperRef,
         CoreModule.RemoteMap remoteMapRef,
-        CoreModule.ScheduleMap scheduleMapRef
+        CoreModule.ScheduleMap scheduleMapRef,
+        DbEngine dbEngineRef,
+        ErrorReporter errorReporterRef
     )
     {
         dbCtx = privCtx;
@@ -288,6 +332,8 @@ public class DatabaseLoader implements DatabaseDriver
         remoteMap = remoteMapRef;
         scheduleMap = scheduleMapRef;
         authTokenMap = authTokenMapRef;
+        dbEngine = dbEngineRef;
+        errorReporter = errorReporterRef;
 
         ArrayList<DeviceLayerKind> layerKindsWithoutDriver = new ArrayList<>();
         for (DeviceLayerKind kind : DeviceLayerKind.values())
@@ -326,11 +372,16 @@ public class DatabaseLoader implements DatabaseDriver
              */
             storPoolResolveHelper.setEnableChecks(false);
 
+            // the rows are fetched in the background, the objects are still restored in the order below
+            dbEngine.prefetch(CORE_TABLES);
+            LoadPhaseTimer timer = new LoadPhaseTimer();
+
             propsDriver.loadAll(null); // will load into cache
 
             // depends on loaded (cached) props
             ctrlConf.loadAll();
             stltConf.loadAll();
+            timer.phaseFinished("props");
 
             // load the resource groups
             Map<ResourceGroup, ResourceGroup.InitMaps> loadedRscGroupsMap =
@@ -349,6 +400,7 @@ public class DatabaseLoader implements DatabaseDriver
                     vlmGrp
                 );
             }
+            timer.phaseFinished("resource_groups");
 
             // load the main objects (nodes, rscDfns, storPoolDfns, extFiles, remotes, schedules)
             Map<Node, Node.InitMaps> loadedNodesMap =
@@ -388,6 +440,7 @@ public class DatabaseLoader implements DatabaseDriver
             tmpRemoteMap.putAll(mapByName(loadedLinstorRemotesMap, LinstorRemote::getName));
             tmpRemoteMap.putAll(mapByName(loadedEbsRemotesMap, EbsRemote::getName));
             Map<ScheduleName, Schedule> tmpScheduleMap = mapByName(loadedSchedulesMap, Schedule::getName);
+            timer.phaseFinished("definitions");
 
 
             // loading net interfaces
@@ -413,6 +466,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedNodesMap.get(sourceNode).getNodeConnMap().put(targetNode.getName(), nodeConn);
                 loadedNodesMap.get(targetNode).getNodeConnMap().put(sourceNode.getName(), nodeConn);
             }
+            timer.phaseFinished("nodes");
 
 
             // loading storage pools
@@ -433,6 +487,7 @@ public class DatabaseLoader implements DatabaseDriver
             }
             // loading free space managers
             Map<SharedStorPoolName, FreeSpaceMgr> tmpFreeSpaceMgrMap = storPoolDriver.getAllLoadedFreeSpaceMgrs();
+            timer.phaseFinished("storage_pools");
 
             // loading resources
             Map<AbsResource<Resource>, Resource.InitMaps> loadedAbsResources =
@@ -466,6 +521,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedResources.get(sourceResource).getRscConnMap().put(targetResource.getKey(), rscConn);
                 loadedResources.get(targetResource).getRscConnMap().put(sourceResource.getKey(), rscConn);
             }
+            timer.phaseFinished("resources");
 
             // loading volume definitions
             Map<VolumeDefinition, VolumeDefinition.InitMaps> loadedVlmDfnMap =
@@ -517,6 +573,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedVolumes.get(sourceVolume).getVolumeConnections().put(targetVolume.getKey(), vlmConn);
                 loadedVolumes.get(targetVolume).getVolumeConnections().put(sourceVolume.getKey(), vlmConn);
             }
+            timer.phaseFinished("volumes");
 
             // loading snapshot definitions
             Map<SnapshotDefinition, SnapshotDefinition.InitMaps> loadedSnapshotDfns = snapshotDefinitionDriver.loadAll(
@@ -595,6 +652,7 @@ public class DatabaseLoader implements DatabaseDriver
                 loadedSnapshotVolumeDefinitions.get(snapshotVolume.getSnapshotVolumeDefinition()).getSnapshotVlmMap()
                     .put(snapshotVolume.getNodeName(), snapshotVolume);
             }
+            timer.phaseFinished("snapshots");
 
             // load and put key value store map
             Map<KeyValueStore, KeyValueStore.InitMaps> loadedKeyValueStoreMap =
@@ -602,6 +660,7 @@ public class DatabaseLoader implements DatabaseDriver
             Map<KeyValueStoreName, KeyValueStore> tmpKeyValueStoreMap =
                 mapByName(loadedKeyValueStoreMap, KeyValueStore::getName);
             keyValueStoreMap.putAll(tmpKeyValueStoreMap);
+            timer.phaseFinished("key_value_stores");
 
             // temporary storPool map
             Map<PairNonNull<NodeName, StorPoolName>, PairNonNull<StorPool, StorPool.InitMaps>> tmpStorPoolMapForLayers =
@@ -639,6 +698,7 @@ public class DatabaseLoader implements DatabaseDriver
                 tmpSnapshotMap,
                 tmpStorPoolMapForLayers
             );
+            timer.phaseFinished("layers");
 
             // load external names
             for (ResourceDefinition rscDfn : tmpRscDfnMap.values())
@@ -666,6 +726,11 @@ public class DatabaseLoader implements DatabaseDriver
             AbsRscLayerHelper.databaseLoadingFinished();
 
             propsDriver.clearCache();
+            timer.phaseFinished("auth_tokens");
+
+            dbEngine.loadingFinished();
+
+            errorReporter.logInfo("Loaded all objects from the database (%s)", timer.finish());
         }
         catch (AccessDeniedException exc)
         {
@@ -685,6 +750,7 @@ public class DatabaseLoader implements DatabaseDriver
         }
         finally
         {
+            dbEngine.clearPrefetched();
             storPoolResolveHelper.setEnableChecks(true);
         }
     }
@@ -1007,4 +1073,42 @@ public class DatabaseLoader implements DatabaseDriver
             null
         );
     }
+
+    /**
+     * Measures the consecutive phases of {@link DatabaseLoader#loadCoreObjects()} and exports their durations as
+     * metrics
+     */
+    private static class LoadPhaseTimer
+    {
+        private final long startNanos = System.nanoTime();
+        private final StringBuilder summary = new StringBuilder();
+        private long phaseStartNanos = startNanos;
+
+        void phaseFinished(String phaseName)
+        {
+            long now = System.nanoTime();
+            record(phaseName, now - phaseStartNanos);
+            phaseStartNanos = now;
+        }
+
+        /**
+         * Returns a summary of all phase durations, including the total duration
+         */
+        String finish()
+        {
+            record("total", System.nanoTime() - startNanos);
+            return summary.toString();
+        }
+
+        private void record(String phaseName, long durationNanos)
+        {
+            LinstorControllerMetrics.databaseLoadDurationGauge.labels(phaseName)
+                .set(durationNanos / (double) TimeUnit.SECONDS.toNanos(1));
+            if (summary.length() > 0)
+            {
+                summary.append(", ");
+            }
+            summary.append(phaseName).append(": ").append(TimeUnit.NANOSECONDS.toMillis(durationNanos)).append("ms");
+        }
+    }
 }
@@ -338,6 +338,38 @@ public interface DbEngine
         throws DatabaseException, AccessDeniedException, InvalidNameException, InvalidIpAddressException,
         ValueOutOfRangeException, MdException, ValueInUseException, ExhaustedPoolException, AccessDeniedException;
 
+    /**
+     * Hint that {@link #loadAll(DatabaseTable, Object, DataLoader)} will be called for the given tables soon.
+     * Implementations may start fetching the rows of these tables in the background, i.e. while the objects of other
+     * tables are still being restored. The objects themselves are still only restored by
+     * {@link #loadAll(DatabaseTable, Object, DataLoader)}, in the order the caller requires.
+     * <br/>
+     * Must only be called before the current transaction modifies any of the given tables.
+     * {@link #clearPrefetched()} has to be called once loading is finished.
+     * <br/>
+     * The default implementation does nothing.
+     */
+    default void prefetch(Collection<DatabaseTable> tablesRef)
+    {
+    }
+
+    /**
+     * Called once all tables given to {@link #prefetch(Collection)} were loaded successfully, before
+     * {@link #clearPrefetched()}
+     * <br/>
+     * The default implementation does nothing.
+     */
+    default void loadingFinished()
+    {
+    }
+
+    /**
+     * Drops all rows fetched by {@link #prefetch(Collection)} that are not needed anymore
+     */
+    default void clearPrefetched()
+    {
+    }
+
     String getDbDump() throws DatabaseException;
 
     @Deprecated(since = "v1.34.0")
@@ -6,6 +6,10 @@ import com.linbit.InvalidNameException;
 import com.linbit.ValueInUseException;
 import com.linbit.ValueOutOfRangeException;
 import com.linbit.drbd.md.MdException;
+import com.linbit.linstor.ControllerDatabase;
+import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.DatabaseInfo;
+import com.linbit.linstor.DatabaseInfo.DbProduct;
 import com.linbit.linstor.LinStorDBRuntimeException;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
@@ -30,6 +34,7 @@ import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
+import com.linbit.linstor.transaction.manager.SQLStatementBatch;
 import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.Pair;
@@ -38,7 +43,10 @@ import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 
+import java.nio.file.Paths;
+import java.sql.BatchUpdateException;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -47,11 +55,22 @@ import java.sql.Timestamp;
 import java.sql.Types;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -65,6 +84,10 @@ public class SQLEngine implements DbEngine
     private static final String DELIMITER_LIST = ", ";
     private static final String DELIMITER_VALUES = "?" + DELIMITER_LIST;
 
+    private static final int IMPORT_BATCH_SIZE = 1000;
+    /** Has to stay well below the maximum number of connections of the connection pool */
+    private static final int PREFETCH_THREAD_COUNT = 4;
+
     private final ErrorReporter errorReporter;
     private final Provider<TransactionMgrSQL> transMgrProvider;
     private final HashMap<DatabaseTable, String> selectAllStatements;
@@ -73,18 +96,29 @@ public class SQLEngine implements DbEngine
     private final HashMap<DatabaseTable, String> updateSingleStatements;
     private final HashMap<DatabaseTable, String> deleteStatements;
     private final HashMap<DatabaseTable, String> truncateStatements;
+    private final HashMap<DatabaseTable, Optional<String>> nativeUpsertStatements;
     private final CtrlConfig ctrlCfg;
+    private final ControllerDatabase controllerDatabase;
+    private final Map<DatabaseTable, Future<List<RawParameters>>> prefetchedTables;
+
+    private volatile @Nullable DbProduct dbProduct;
+    private volatile @Nullable SQLStartupSnapshot startupSnapshot;
+    private boolean loadedFromSnapshot;
+    private volatile boolean writtenDuringLoad;
 
     @Inject
     public SQLEngine(
         ErrorReporter errorReporterRef,
         Provider<TransactionMgrSQL> transMgrProviderRef,
-        CtrlConfig ctrlCfgRef
+        CtrlConfig ctrlCfgRef,
+        ControllerDatabase controllerDatabaseRef
     )
     {
         errorReporter = errorReporterRef;
         transMgrProvider = transMgrProviderRef;
         ctrlCfg = ctrlCfgRef;
+        controllerDatabase = controllerDatabaseRef;
+        prefetchedTables = new ConcurrentHashMap<>();
 
         selectAllStatements = new HashMap<>();
         selectSingleStatements = new HashMap<>();
@@ -92,6 +126,7 @@ public class SQLEngine implements DbEngine
         updateSingleStatements = new HashMap<>();
         deleteStatements = new HashMap<>();
         truncateStatements = new HashMap<>();
+        nativeUpsertStatements = new HashMap<>();
     }
 
     @Override
@@ -162,11 +197,13 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException, AccessDeniedException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getInsertStatement(table)))
+        try
         {
+            SQLStatementBatch batch = getStatementBatch(table);
+            PreparedStatement stmt = batch.getStatement(getInsertStatement(table));
             setValues(setters, stmt, 1, table, ignored -> true, data);
 
-            stmt.executeUpdate();
+            batch.add();
         }
         catch (SQLException sqlExc)
         {
@@ -179,21 +216,26 @@ public class SQLEngine implements DbEngine
         String sql = selectAllStatements.get(table);
         if (sql == null)
         {
-            StringBuilder sqlBuilder = new StringBuilder();
-            sqlBuilder.append("SELECT ");
-            for (Column col : table.values())
-            {
-                sqlBuilder.append(col.getName()).append(DELIMITER_LIST);
-            }
-            sqlBuilder.setLength(sqlBuilder.length() - DELIMITER_LIST.length());
-            sqlBuilder.append(" FROM ").append(table.getName());
-
-            sql = sqlBuilder.toString();
+            // the marker of the startup snapshot must neither be loaded as props container nor exported
+            sql = getSelectColumnsStatement(table) + SQLStartupSnapshot.excludeMarker(table);
             selectAllStatements.put(table, sql);
         }
         return sql;
     }
 
+    private String getSelectColumnsStatement(DatabaseTable table)
+    {
+        StringBuilder sqlBuilder = new StringBuilder();
+        sqlBuilder.append("SELECT ");
+        for (Column col : table.values())
+        {
+            sqlBuilder.append(col.getName()).append(DELIMITER_LIST);
+        }
+        sqlBuilder.setLength(sqlBuilder.length() - DELIMITER_LIST.length());
+        sqlBuilder.append(" FROM ").append(table.getName());
+        return sqlBuilder.toString();
+    }
+
     private String getInsertStatement(DatabaseTable table)
     {
         String sql = insertStatements.get(table);
@@ -250,6 +292,48 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException, AccessDeniedException
     {
+        try
+        {
+            @Nullable String nativeUpsertSql = getNativeUpsertStatement(tableRef);
+            if (nativeUpsertSql != null)
+            {
+                errorReporter.logTrace("Upserting %s %s", tableRef.getName(), dataToStringRef.toString(dataRef));
+
+                SQLStatementBatch batch = getStatementBatch(tableRef);
+                PreparedStatement stmt = batch.getStatement(nativeUpsertSql);
+                setValues(settersRef, stmt, 1, tableRef, ignored -> true, dataRef);
+                batch.add();
+
+                errorReporter.logTrace("%s upserted %s", tableRef.getName(), dataToStringRef.toString(dataRef));
+            }
+            else
+            {
+                selectAndUpsert(settersRef, dataRef, tableRef, dataToStringRef);
+            }
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
+        catch (AccessDeniedException exc)
+        {
+            DatabaseLoader.handleAccessDeniedException(exc);
+        }
+    }
+
+    /**
+     * Fallback for databases without a native upsert statement: queries whether the entry exists and updates or
+     * inserts it accordingly.
+     */
+    private <DATA> void selectAndUpsert(
+        Map<Column, ExceptionThrowingFunction<DATA, Object, AccessDeniedException>> settersRef,
+        DATA dataRef,
+        DatabaseTable tableRef,
+        DataToString<DATA> dataToStringRef
+    )
+        throws SQLException, DatabaseException, AccessDeniedException
+    {
+        invalidatePrefetched(tableRef);
         try (PreparedStatement upsertStmt = getConnection().prepareStatement(getSelectSingleStatement(tableRef)))
         {
             errorReporter.logTrace("Upserting %s %s", tableRef.getName(), dataToStringRef.toString(dataRef));
@@ -286,14 +370,112 @@ public class SQLEngine implements DbEngine
             }
             errorReporter.logTrace("%s upserted %s", tableRef.getName(), dataToStringRef.toString(dataRef));
         }
-        catch (SQLException sqlExc)
+    }
+
+    /**
+     * Returns the dialect specific single statement upsert of the given table, or null if the database does not
+     * support one. The parameters of the statement are all columns of the table, in the same order as the insert
+     * statement.
+     */
+    private @Nullable String getNativeUpsertStatement(DatabaseTable table) throws SQLException
+    {
+        Optional<String> sql = nativeUpsertStatements.get(table);
+        if (sql == null)
         {
-            throw new DatabaseException(sqlExc);
+            List<String> allClmNames = new ArrayList<>();
+            List<String> pkClmNames = new ArrayList<>();
+            List<String> nonPkClmNames = new ArrayList<>();
+            for (Column col : table.values())
+            {
+                allClmNames.add(col.getName());
+                if (col.isPk())
+                {
+                    pkClmNames.add(col.getName());
+                }
+                else
+                {
+                    nonPkClmNames.add(col.getName());
+                }
+            }
+
+            StringBuilder sqlBuilder = new StringBuilder();
+            switch (getDbProduct())
+            {
+                case H2:
+                    /*
+                     * MERGE INTO <table> (...) KEY ($PK1, ...) VALUES (...)
+                     */
+                    sqlBuilder.append("MERGE INTO ").append(table.getName())
+                        .append(" (").append(String.join(DELIMITER_LIST, allClmNames)).append(")")
+                        .append(" KEY (").append(String.join(DELIMITER_LIST, pkClmNames)).append(")")
+                        .append(" VALUES(")
+                        .append(String.join(DELIMITER_LIST, Collections.nCopies(allClmNames.size(), "?")))
+                        .append(")");
+                    break;
+                case POSTGRESQL:
+                    /*
+                     * INSERT INTO <table> (...) VALUES (...)
+                     * ON CONFLICT ($PK1, ...) DO UPDATE SET $NON-PK1 = EXCLUDED.$NON-PK1, ...
+                     */
+                    sqlBuilder.append(getInsertStatement(table))
+                        .append(" ON CONFLICT (").append(String.join(DELIMITER_LIST, pkClmNames)).append(")");
+                    if (nonPkClmNames.isEmpty())
+                    {
+                        sqlBuilder.append(" DO NOTHING");
+                    }
+                    else
+                    {
+                        sqlBuilder.append(" DO UPDATE SET ");
+                        for (String clmName : nonPkClmNames)
+                        {
+                            sqlBuilder.append(clmName).append(" = EXCLUDED.").append(clmName).append(DELIMITER_COMMA);
+                        }
+                        sqlBuilder.setLength(sqlBuilder.length() - DELIMITER_COMMA.length());
+                    }
+                    break;
+                case MYSQL: // fall-through
+                case MARIADB:
+                    /*
+                     * INSERT INTO <table> (...) VALUES (...)
+                     * ON DUPLICATE KEY UPDATE $NON-PK1 = VALUES($NON-PK1), ...
+                     */
+                    sqlBuilder.append(getInsertStatement(table)).append(" ON DUPLICATE KEY UPDATE ");
+                    if (nonPkClmNames.isEmpty())
+                    {
+                        // nothing to update, but the statement requires at least one assignment
+                        sqlBuilder.append(pkClmNames.get(0)).append(" = ").append(pkClmNames.get(0));
+                    }
+                    else
+                    {
+                        for (String clmName : nonPkClmNames)
+                        {
+                            sqlBuilder.append(clmName).append(" = VALUES(").append(clmName).append(")")
+                                .append(DELIMITER_COMMA);
+                        }
+                        sqlBuilder.setLength(sqlBuilder.length() - DELIMITER_COMMA.length());
+                    }
+                    break;
+                default:
+                    // select + update / insert
+                    break;
+            }
+
+            sql = sqlBuilder.length() == 0 ? Optional.empty() : Optional.of(sqlBuilder.toString());
+            nativeUpsertStatements.put(table, sql);
         }
-        catch (AccessDeniedException exc)
+        return sql.orElse(null);
+    }
+
+    private DbProduct getDbProduct() throws SQLException
+    {
+        @Nullable DbProduct ret = dbProduct;
+        if (ret == null)
         {
-            DatabaseLoader.handleAccessDeniedException(exc);
+            DatabaseMetaData metaData = transMgrProvider.get().getConnection().getMetaData();
+            ret = DatabaseInfo.getDbProduct(metaData.getDatabaseProductName(), metaData.getDatabaseProductVersion());
+            dbProduct = ret;
         }
+        return ret;
     }
 
     private String getSelectSingleStatement(DatabaseTable table)
@@ -302,7 +484,7 @@ public class SQLEngine implements DbEngine
         if (sql == null)
         {
             StringBuilder sqlBuilder = new StringBuilder();
-            sqlBuilder.append(getSelectAllStatement(table));
+            sqlBuilder.append(getSelectColumnsStatement(table));
             sqlBuilder.append(" WHERE ");
 
             for (Column col : table.values())
@@ -362,13 +544,15 @@ public class SQLEngine implements DbEngine
     )
         throws DatabaseException
     {
-        try (PreparedStatement stmt = getConnection().prepareStatement(getDeleteStatement(table)))
+        try
         {
             errorReporter.logTrace("Deleting %s %s", table.getName(), dataToString.toString(data));
 
+            SQLStatementBatch batch = getStatementBatch(table);
+            PreparedStatement stmt = batch.getStatement(getDeleteStatement(table));
             setPrimaryValues(setters, stmt, 1, table, data);
 
-            stmt.executeUpdate();
+            batch.add();
 
             errorReporter.logTrace("%s deleted %s", table.getName(), dataToString.toString(data));
         }
@@ -407,6 +591,7 @@ public class SQLEngine implements DbEngine
     @Override
     public void truncate(DatabaseTable table) throws DatabaseException
     {
+        invalidatePrefetched(table);
         try (PreparedStatement stmt = getConnection().prepareStatement(getTruncateStatement(table)))
         {
             errorReporter.logTrace("Truncating table %s", table.getName());
@@ -504,22 +689,75 @@ public class SQLEngine implements DbEngine
         throws DatabaseException, AccessDeniedException, MdException
     {
         Map<DATA, INIT_MAPS> loadedObjectsMap = new TreeMap<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(table)))
+        for (RawParameters rawParams : getAllRawParams(table))
+        {
+            Pair<DATA, INIT_MAPS> pair = restoreData(table, rawParams, parentsRef, dataLoaderRef);
+            // pair might be null when loading objects sharing the same table.
+            // For example SnapshotDbDriver will return null when finding a Resource entry
+            // and vice versa.
+            if (pair != null)
+            {
+                loadedObjectsMap.put(pair.objA, pair.objB);
+            }
+        }
+        return loadedObjectsMap;
+    }
+
+    /**
+     * Returns the prefetched rows of the given table if available, otherwise the rows are selected using the
+     * connection of the current transaction
+     */
+    private List<RawParameters> getAllRawParams(DatabaseTable table) throws DatabaseException
+    {
+        @Nullable Future<List<RawParameters>> prefetched = prefetchedTables.get(table);
+        List<RawParameters> ret;
+        if (prefetched != null)
+        {
+            try
+            {
+                ret = prefetched.get();
+            }
+            catch (InterruptedException exc)
+            {
+                Thread.currentThread().interrupt();
+                throw new DatabaseException("Interrupted while waiting for table " + table.getName(), exc);
+            }
+            catch (ExecutionException exc)
+            {
+                Throwable cause = exc.getCause();
+                if (cause instanceof DatabaseException)
+                {
+                    throw (DatabaseException) cause;
+                }
+                throw new DatabaseException("Failed to prefetch table " + table.getName(), cause);
+            }
+        }
+        else
+        {
+            try
+            {
+                ret = selectAll(getConnection(), table, getSelectAllStatement(table));
+            }
+            catch (SQLException exc)
+            {
+                throw new DatabaseException(exc);
+            }
+        }
+        return ret;
+    }
+
+    private List<RawParameters> selectAll(Connection dbCon, DatabaseTable table, String selectAllSql)
+        throws DatabaseException
+    {
+        List<RawParameters> ret = new ArrayList<>();
+        Column[] columns = table.values();
+        try (PreparedStatement stmt = dbCon.prepareStatement(selectAllSql))
         {
             try (ResultSet resultSet = stmt.executeQuery())
             {
                 while (resultSet.next())
                 {
-                    Pair<DATA, INIT_MAPS> pair = restoreData(
-                        table, resultSet, parentsRef, dataLoaderRef
-                    );
-                    // pair might be null when loading objects sharing the same table.
-                    // For example SnapshotDbDriver will return null when finding a Resource entry
-                    // and vice versa.
-                    if (pair != null)
-                    {
-                        loadedObjectsMap.put(pair.objA, pair.objB);
-                    }
+                    ret.add(buildRawParams(table, resultSet, columns, new TreeMap<>()));
                 }
             }
         }
@@ -527,21 +765,202 @@ public class SQLEngine implements DbEngine
         {
             throw new DatabaseException(exc);
         }
-        return loadedObjectsMap;
+        return ret;
+    }
+
+    /**
+     * Selects the rows of the given tables concurrently, each table using its own pooled connection, so that
+     * {@link #loadAll(DatabaseTable, Object, DataLoader)} only has to restore the objects from the already fetched
+     * rows. If a startup snapshot is configured and still up to date, the rows are read from the snapshot file
+     * instead.
+     * <br/>
+     * Does nothing if the database is not accessed through a connection pool.
+     */
+    @Override
+    public void prefetch(Collection<DatabaseTable> tablesRef)
+    {
+        if (controllerDatabase instanceof ControllerSQLDatabase)
+        {
+            ControllerSQLDatabase sqlDatabase = (ControllerSQLDatabase) controllerDatabase;
+            writtenDuringLoad = false;
+            @Nullable Map<DatabaseTable, List<RawParameters>> snapshotRows = loadStartupSnapshot(
+                sqlDatabase,
+                tablesRef
+            );
+            loadedFromSnapshot = snapshotRows != null;
+            if (snapshotRows != null)
+            {
+                errorReporter.logInfo("Loading %d tables from startup snapshot", snapshotRows.size());
+                for (Entry<DatabaseTable, List<RawParameters>> entry : snapshotRows.entrySet())
+                {
+                    prefetchedTables.put(entry.getKey(), CompletableFuture.completedFuture(entry.getValue()));
+                }
+            }
+            else
+            {
+                prefetchConcurrently(sqlDatabase, tablesRef);
+            }
+        }
+    }
+
+    private @Nullable Map<DatabaseTable, List<RawParameters>> loadStartupSnapshot(
+        ControllerSQLDatabase sqlDatabaseRef,
+        Collection<DatabaseTable> tablesRef
+    )
+    {
+        @Nullable Map<DatabaseTable, List<RawParameters>> ret = null;
+        @Nullable String snapshotPath = ctrlCfg.getDbStartupSnapshot();
+        if (snapshotPath != null)
+        {
+            SQLStartupSnapshot snapshot = new SQLStartupSnapshot(
+                Paths.get(snapshotPath),
+                sqlDatabaseRef,
+                errorReporter
+            );
+            startupSnapshot = snapshot;
+            try
+            {
+                ret = snapshot.load(getConnection(), tablesRef);
+            }
+            catch (SQLException exc)
+            {
+                errorReporter.logWarning("Failed to check startup snapshot %s: %s", snapshotPath, exc.getMessage());
+            }
+        }
+        return ret;
+    }
+
+    private void prefetchConcurrently(ControllerSQLDatabase sqlDatabaseRef, Collection<DatabaseTable> tablesRef)
+    {
+        AtomicInteger threadIdx = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(PREFETCH_THREAD_COUNT, Math.max(tablesRef.size(), 1)),
+            runnable ->
+            {
+                Thread thread = new Thread(runnable, "DbPrefetch-" + threadIdx.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        for (DatabaseTable table : tablesRef)
+        {
+            // the statement caches are not thread safe, so the statement is built by the calling thread
+            String selectAllSql = getSelectAllStatement(table);
+            prefetchedTables.put(
+                table,
+                executor.submit(() -> prefetchTable(sqlDatabaseRef, table, selectAllSql))
+            );
+        }
+        executor.shutdown();
+    }
+
+    private List<RawParameters> prefetchTable(
+        ControllerSQLDatabase sqlDatabaseRef,
+        DatabaseTable table,
+        String selectAllSql
+    )
+        throws DatabaseException
+    {
+        long start = System.currentTimeMillis();
+        @Nullable Connection dbCon = null;
+        List<RawParameters> ret;
+        try
+        {
+            dbCon = sqlDatabaseRef.getConnection();
+            ret = selectAll(dbCon, table, selectAllSql);
+            // nothing to commit, only end the transaction of the pooled connection
+            dbCon.rollback();
+        }
+        catch (SQLException exc)
+        {
+            throw new DatabaseException(exc);
+        }
+        finally
+        {
+            sqlDatabaseRef.returnConnection(dbCon);
+        }
+        errorReporter.logTrace(
+            "Prefetched %d entries of table %s in %d ms",
+            ret.size(),
+            table.getName(),
+            System.currentTimeMillis() - start
+        );
+        return ret;
+    }
+
+    /**
+     * Writes the rows loaded from the database into a new startup snapshot, if a snapshot is configured and the
+     * loaded tables were not modified while loading
+     */
+    @Override
+    public void loadingFinished()
+    {
+        @Nullable SQLStartupSnapshot snapshot = startupSnapshot;
+        if (snapshot != null && !loadedFromSnapshot && !writtenDuringLoad)
+        {
+            Map<DatabaseTable, List<RawParameters>> rows = new LinkedHashMap<>();
+            try
+            {
+                for (Entry<DatabaseTable, Future<List<RawParameters>>> entry : prefetchedTables.entrySet())
+                {
+                    rows.put(entry.getKey(), entry.getValue().get());
+                }
+                snapshot.store(rows);
+            }
+            catch (InterruptedException exc)
+            {
+                Thread.currentThread().interrupt();
+            }
+            catch (ExecutionException exc)
+            {
+                errorReporter.logWarning("Startup snapshot not written: %s", exc.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void clearPrefetched()
+    {
+        for (Future<List<RawParameters>> future : prefetchedTables.values())
+        {
+            // do not interrupt running queries, interrupting file I/O can close the file of an embedded database.
+            // A running query finishes and returns its connection to the pool, its result is simply discarded
+            future.cancel(false);
+        }
+        prefetchedTables.clear();
+    }
+
+    /**
+     * Prefetched rows of the given table (as well as the startup snapshot) are outdated once the current transaction
+     * writes to that table
+     */
+    private void invalidatePrefetched(DatabaseTable table)
+    {
+        @Nullable SQLStartupSnapshot snapshot = startupSnapshot;
+        if (snapshot != null)
+        {
+            snapshot.invalidate(table);
+        }
+        if (!prefetchedTables.isEmpty())
+        {
+            writtenDuringLoad = true;
+            @Nullable Future<List<RawParameters>> future = prefetchedTables.remove(table);
+            if (future != null)
+            {
+                // see clearPrefetched for why running queries are not interrupted
+                future.cancel(false);
+            }
+        }
     }
 
     private <DATA, INIT_MAPS, LOAD_ALL> Pair<DATA, INIT_MAPS> restoreData(
         DatabaseTable table,
-        ResultSet resultSet,
+        RawParameters rawParams,
         LOAD_ALL parents,
         DataLoader<DATA, INIT_MAPS, LOAD_ALL> dataLoader
     )
         throws DatabaseException, MdException
     {
-        Column[] columns = table.values();
-        Map<String, Object> objects = new TreeMap<>();
-        RawParameters rawParams = buildRawParams(table, resultSet, columns, objects);
-
         Pair<DATA, INIT_MAPS> pair;
         try
         {
@@ -555,11 +974,11 @@ public class SQLEngine implements DbEngine
             AccessDeniedException | ValueInUseException | ExhaustedPoolException exc)
         {
             StringBuilder pk = new StringBuilder("Primary key: ");
-            for (Column col : columns)
+            for (Column col : table.values())
             {
                 if (col.isPk())
                 {
-                    pk.append(col.getName()).append(" = '").append(objects.get(col.getName())).append("', ");
+                    pk.append(col.getName()).append(" = '").append(rawParams.<Object>get(col)).append("', ");
                 }
             }
             pk.setLength(pk.length() - 2);
@@ -637,21 +1056,10 @@ public class SQLEngine implements DbEngine
     @Override
     public List<RawParameters> export(DatabaseTable tableRef) throws DatabaseException
     {
-        List<RawParameters> ret = new ArrayList<>();
-        try (PreparedStatement stmt = getConnection().prepareStatement(getSelectAllStatement(tableRef)))
+        List<RawParameters> ret;
+        try
         {
-            try (ResultSet resultSet = stmt.executeQuery())
-            {
-                while (resultSet.next())
-                {
-                    ret.add(buildRawParams(
-                        tableRef,
-                        resultSet,
-                        tableRef.values(),
-                        new TreeMap<>()
-                    ));
-                }
-            }
+            ret = selectAll(getConnection(), tableRef, getSelectAllStatement(tableRef));
         }
         catch (SQLException exc)
         {
@@ -682,31 +1090,80 @@ public class SQLEngine implements DbEngine
     @Override
     public void importData(DbExportPojoData.Table tableRef) throws DatabaseException
     {
-        LinstorSpec<?, ?> currentSpec = null;
+        List<LinstorSpec<?, ?>> batchedSpecs = new ArrayList<>();
 
         try (PreparedStatement stmt = getConnection().prepareStatement(getInsertStatement(tableRef)))
         {
             for (LinstorSpec<?, ?> linstorSpec : tableRef.data)
             {
-                currentSpec = linstorSpec;
+                batchedSpecs.add(linstorSpec);
                 setValuesFromSpec(stmt, tableRef, linstorSpec);
-                stmt.executeUpdate();
+                stmt.addBatch();
+                if (batchedSpecs.size() >= IMPORT_BATCH_SIZE)
+                {
+                    stmt.executeBatch();
+                    batchedSpecs.clear();
+                }
+            }
+            if (!batchedSpecs.isEmpty())
+            {
+                stmt.executeBatch();
             }
         }
         catch (SQLException sqlExc)
         {
             throw new DatabaseException(
-                "Table: " + tableRef.name + ", entry: " + (currentSpec == null ?
-                    "<null>" :
-                    currentSpec.getLinstorKey()),
+                "Table: " + tableRef.name + ", entry: " + getFailedImportEntry(batchedSpecs, sqlExc),
                 sqlExc
             );
         }
     }
 
-    Connection getConnection()
+    /**
+     * Returns the key of the entry that most likely caused the given exception. If the JDBC driver stopped executing
+     * the batch at the first failed entry, the update counts tell which entry that was.
+     */
+    private static String getFailedImportEntry(List<LinstorSpec<?, ?>> batchedSpecsRef, SQLException sqlExcRef)
     {
-        return transMgrProvider.get().getConnection();
+        String ret;
+        if (batchedSpecsRef.isEmpty())
+        {
+            ret = "<null>";
+        }
+        else
+        {
+            int failedIdx = batchedSpecsRef.size() - 1;
+            if (sqlExcRef instanceof BatchUpdateException batchExc && batchExc.getUpdateCounts() != null &&
+                batchExc.getUpdateCounts().length < batchedSpecsRef.size())
+            {
+                failedIdx = batchExc.getUpdateCounts().length;
+            }
+            ret = batchedSpecsRef.get(failedIdx).getLinstorKey();
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the connection of the current transaction, after executing all statements pending in its
+     * {@link SQLStatementBatch}. Errors of those statements are thrown by the commit of the transaction.
+     */
+    Connection getConnection() throws SQLException
+    {
+        TransactionMgrSQL transMgr = transMgrProvider.get();
+        transMgr.getStatementBatch().executePending();
+        return transMgr.getConnection();
+    }
+
+    /**
+     * Returns the batch that collects the write statements of the current transaction. Statements that write data
+     * should be added to this batch instead of being executed right away.
+     *
+     * @param table the table the statements will write to
+     */
+    SQLStatementBatch getStatementBatch(DatabaseTable table)
+    {
+        invalidatePrefetched(table);
+        return transMgrProvider.get().getStatementBatch();
     }
 
     String generateUpdateStatement(Column colToUpdate)
@@ -893,7 +1350,15 @@ public class SQLEngine implements DbEngine
     @Override
     public String getDbDump() throws DatabaseException
     {
-        DbDump dump = SqlDump.getDump(getConnection());
+        DbDump dump;
+        try
+        {
+            dump = SqlDump.getDump(getConnection());
+        }
+        catch (SQLException sqlExc)
+        {
+            throw new DatabaseException(sqlExc);
+        }
         return dump.serializeHuman();
     }
 }
@@ -10,6 +10,7 @@ import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.stateflags.Flags;
 import com.linbit.linstor.stateflags.FlagsHelper;
 import com.linbit.linstor.stateflags.StateFlagsPersistence;
+import com.linbit.linstor.transaction.manager.SQLStatementBatch;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.StringUtils;
 
@@ -50,8 +51,10 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
     @Override
     public void persist(DATA data, long oldFlagBits, long newFlagBits) throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
+            SQLStatementBatch batch = sqlEngine.getStatementBatch(table);
+            PreparedStatement stmt = batch.getStatement(updateStatement);
             String fromFlags = StringUtils.join(
                 FlagsHelper.toStringList(flagsClass, oldFlagBits),
                 ", "
@@ -73,7 +76,7 @@ class SQLFlagsDriver<DATA, FLAG extends Enum<FLAG> & Flags> implements StateFlag
             stmt.setLong(1, newFlagBits);
             sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
 
-            stmt.executeUpdate();
+            batch.add();
 
             errorReporter
                 .logTrace(
@@ -8,6 +8,7 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.CollectionDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLStatementBatch;
 import com.linbit.utils.ExceptionThrowingFunction;
 
 import java.sql.PreparedStatement;
@@ -63,8 +64,10 @@ class SQLListToJsonArrayDriver<DATA, LIST_TYPE> implements CollectionDatabaseDri
     private void update(DATA data, Collection<LIST_TYPE> backingCollection)
         throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
+            SQLStatementBatch batch = sqlEngine.getStatementBatch(table);
+            PreparedStatement stmt = batch.getStatement(updateStatement);
             String inlineId = dataToString.toString(data);
             errorReporter.logTrace(
                 "Updating %s's %s to %s of %s",
@@ -77,7 +80,7 @@ class SQLListToJsonArrayDriver<DATA, LIST_TYPE> implements CollectionDatabaseDri
             stmt.setObject(1, columnSetter.accept(data));
             sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
 
-            stmt.executeUpdate();
+            batch.add();
             errorReporter.logTrace(
                 "%s's %s updated to %s %s",
                 table.getName(),
@@ -8,6 +8,7 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.MapDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLStatementBatch;
 import com.linbit.utils.ExceptionThrowingFunction;
 
 import java.sql.PreparedStatement;
@@ -69,8 +70,10 @@ class SQLMapToJsonDriver<DATA, KEY, VALUE> implements MapDatabaseDriver<DATA, KE
     private void update(DATA data, Map<KEY, VALUE> backingMapRef)
         throws DatabaseException
     {
-        try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
+        try
         {
+            SQLStatementBatch batch = sqlEngine.getStatementBatch(table);
+            PreparedStatement stmt = batch.getStatement(updateStatement);
             String inlineId = dataToString.toString(data);
             errorReporter.logTrace(
                 "Updating %s's %s to %s of %s",
@@ -83,7 +86,7 @@ class SQLMapToJsonDriver<DATA, KEY, VALUE> implements MapDatabaseDriver<DATA, KE
             stmt.setObject(1, columnSetter.accept(data));
             sqlEngine.setPrimaryValues(setters, stmt, 2, table, data);
 
-            stmt.executeUpdate();
+            batch.add();
             errorReporter.logTrace(
                 "%s's %s updated to %s %s",
                 table.getName(),
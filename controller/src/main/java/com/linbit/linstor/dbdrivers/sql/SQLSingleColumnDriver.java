@@ -9,6 +9,7 @@ import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
 import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.transaction.manager.SQLStatementBatch;
 import com.linbit.utils.ExceptionThrowingFunction;
 
 import java.sql.PreparedStatement;
@@ -81,13 +82,13 @@ class SQLSingleColumnDriver<DATA, INPUT_TYPE, DB_TYPE> implements SingleColumnDa
                     dataToString.toString(parentRef)
                 );
             }
-            try (PreparedStatement stmt = sqlEngine.getConnection().prepareStatement(updateStatement))
-            {
-                int idx = fillSetter(stmt, 1, (DB_TYPE) setters.get(colToUpdate).accept(parentRef));
-                sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
+            SQLStatementBatch batch = sqlEngine.getStatementBatch(table);
+            PreparedStatement stmt = batch.getStatement(updateStatement);
+            int idx = fillSetter(stmt, 1, (DB_TYPE) setters.get(colToUpdate).accept(parentRef));
+            sqlEngine.setPrimaryValues(setters, stmt, idx, table, parentRef);
+
+            batch.add();
 
-                stmt.executeUpdate();
-            }
             if (oldElementRef instanceof byte[])
             {
                 errorReporter.logTrace(
@@ -0,0 +1,545 @@
+package com.linbit.linstor.dbdrivers.sql;
+
+import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.dbdrivers.DatabaseTable;
+import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.RawParameters;
+import com.linbit.linstor.logging.ErrorReporter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32C;
+
+/**
+ * Binary copy of the rows of all tables that are read while loading the objects during the startup of the
+ * controller.
+ * <br/>
+ * The snapshot file is stamped with a random marker, which is also stored in the database. The first write to any of
+ * the tables contained in the snapshot deletes the marker from the database, so a snapshot is only used if the marker
+ * stored in the database still matches, i.e. if the tables were not modified since the snapshot was written.
+ * Tools writing to the database without the controller (i.e. linstor-config) have to delete the marker using
+ * {@link #deleteMarker(Connection)}. For changes made without any LINSTOR tool, the row count of every table also has
+ * to match the snapshot. Additionally the snapshot is only used by the same LINSTOR version that wrote it, since
+ * database migrations do not delete the marker.
+ * <br/>
+ * The marker row is not a props container and therefore never selected as one, see {@link #excludeMarker}.
+ * <br/>
+ * File layout: magic, format version, payload length, CRC32C of the payload, followed by the payload containing the
+ * marker, the version stamp and all tables with their column names and rows.
+ */
+public class SQLStartupSnapshot
+{
+    private static final String MARKER_PROPS_INSTANCE = "/STARTUPSNAPSHOT";
+    private static final String MARKER_PROP_KEY = "Marker";
+
+    private static final int MAGIC = 0x4C534E50; // "LSNP"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BYTES = 2;
+    private static final byte TYPE_SHORT = 3;
+    private static final byte TYPE_INT = 4;
+    private static final byte TYPE_LONG = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+    private static final byte TYPE_INSTANT = 7;
+
+    private final Path file;
+    private final ControllerSQLDatabase sqlDatabase;
+    private final ErrorReporter errorReporter;
+    private final String versionStamp;
+
+    /** Whether the database (might) contain a marker that has to be deleted on the next write */
+    private final AtomicBoolean markerInDb = new AtomicBoolean();
+    /** The tables contained in the current snapshot */
+    private final Set<DatabaseTable> snapshotTables = ConcurrentHashMap.newKeySet();
+
+    SQLStartupSnapshot(Path fileRef, ControllerSQLDatabase sqlDatabaseRef, ErrorReporter errorReporterRef)
+    {
+        file = fileRef;
+        sqlDatabase = sqlDatabaseRef;
+        errorReporter = errorReporterRef;
+        versionStamp = LinStor.VERSION_INFO_PROVIDER.getVersion() + "/" +
+            LinStor.VERSION_INFO_PROVIDER.getGitCommitId();
+    }
+
+    /**
+     * Returns the rows of the given tables from the snapshot file, or null if the snapshot cannot be used, i.e. the
+     * file does not exist, is corrupt, outdated or does not contain all given tables.
+     *
+     * @param dbConRef connection used to read the marker from the database
+     */
+    @Nullable Map<DatabaseTable, List<RawParameters>> load(Connection dbConRef, Collection<DatabaseTable> tablesRef)
+        throws SQLException
+    {
+        @Nullable String dbMarker = readMarker(dbConRef);
+        markerInDb.set(dbMarker != null);
+        // even if the snapshot is not used, a stored marker has to be deleted as soon as any of these tables change
+        snapshotTables.addAll(tablesRef);
+
+        @Nullable Map<DatabaseTable, List<RawParameters>> ret = null;
+        if (dbMarker != null && Files.exists(file))
+        {
+            try
+            {
+                ret = readFile(dbConRef, dbMarker, tablesRef);
+            }
+            catch (IOException | RuntimeException exc)
+            {
+                errorReporter.logWarning(
+                    "Ignoring corrupt startup snapshot %s: %s",
+                    file,
+                    exc.getMessage()
+                );
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Writes the given rows into a new snapshot file and stores its marker in the database. Failures are only logged,
+     * the next startup will load from the database instead.
+     */
+    void store(Map<DatabaseTable, List<RawParameters>> rowsRef)
+    {
+        String marker = UUID.randomUUID().toString();
+        try
+        {
+            Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(
+                tmpFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            ))
+            {
+                channel.write(serialize(marker, rowsRef));
+                channel.force(true);
+            }
+            Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            snapshotTables.clear();
+            snapshotTables.addAll(rowsRef.keySet());
+            writeMarker(marker);
+            markerInDb.set(true);
+            errorReporter.logInfo("Startup snapshot written to %s", file);
+        }
+        catch (IOException | SQLException exc)
+        {
+            errorReporter.logWarning("Failed to write startup snapshot %s: %s", file, exc.getMessage());
+        }
+    }
+
+    /**
+     * Has to be called before the given table is modified
+     */
+    void invalidate(DatabaseTable tableRef)
+    {
+        if (snapshotTables.contains(tableRef) && markerInDb.compareAndSet(true, false))
+        {
+            try
+            {
+                writeMarker(null);
+            }
+            catch (SQLException exc)
+            {
+                errorReporter.reportError(exc);
+                // without the marker in the database, at least make sure that this controller does not use the file
+                try
+                {
+                    Files.deleteIfExists(file);
+                }
+                catch (IOException ioExc)
+                {
+                    errorReporter.reportError(ioExc);
+                }
+            }
+        }
+    }
+
+    private @Nullable String readMarker(Connection dbConRef) throws SQLException
+    {
+        @Nullable String marker = null;
+        try (PreparedStatement stmt = dbConRef.prepareStatement(
+            "SELECT " + GeneratedDatabaseTables.PropsContainers.PROP_VALUE.getName() +
+                " FROM " + GeneratedDatabaseTables.PROPS_CONTAINERS.getName() +
+                " WHERE " + GeneratedDatabaseTables.PropsContainers.PROPS_INSTANCE.getName() + " = ? AND " +
+                GeneratedDatabaseTables.PropsContainers.PROP_KEY.getName() + " = ?"
+        ))
+        {
+            stmt.setString(1, MARKER_PROPS_INSTANCE);
+            stmt.setString(2, MARKER_PROP_KEY);
+            try (ResultSet resultSet = stmt.executeQuery())
+            {
+                if (resultSet.next())
+                {
+                    marker = resultSet.getString(1);
+                }
+            }
+        }
+        return marker;
+    }
+
+    /**
+     * Replaces the marker in the database using a separate connection, so that the change is committed immediately.
+     *
+     * @param markerRef the new marker, or null to only delete the current one
+     */
+    private void writeMarker(@Nullable String markerRef) throws SQLException
+    {
+        @Nullable Connection dbCon = null;
+        try
+        {
+            dbCon = sqlDatabase.getConnection();
+            deleteMarker(dbCon);
+            if (markerRef != null)
+            {
+                try (PreparedStatement stmt = dbCon.prepareStatement(
+                    "INSERT INTO " + GeneratedDatabaseTables.PROPS_CONTAINERS.getName() + " (" +
+                        GeneratedDatabaseTables.PropsContainers.PROPS_INSTANCE.getName() + ", " +
+                        GeneratedDatabaseTables.PropsContainers.PROP_KEY.getName() + ", " +
+                        GeneratedDatabaseTables.PropsContainers.PROP_VALUE.getName() + ") VALUES (?, ?, ?)"
+                ))
+                {
+                    stmt.setString(1, MARKER_PROPS_INSTANCE);
+                    stmt.setString(2, MARKER_PROP_KEY);
+                    stmt.setString(3, markerRef);
+                    stmt.executeUpdate();
+                }
+            }
+            dbCon.commit();
+        }
+        finally
+        {
+            sqlDatabase.returnConnection(dbCon);
+        }
+    }
+
+    /**
+     * Deletes the marker using the given connection, which makes every existing snapshot unusable. Does not commit,
+     * the deletion is supposed to be part of the transaction that modifies the database.
+     */
+    public static void deleteMarker(Connection dbConRef) throws SQLException
+    {
+        try (PreparedStatement stmt = dbConRef.prepareStatement(
+            "DELETE FROM " + GeneratedDatabaseTables.PROPS_CONTAINERS.getName() +
+                " WHERE " + GeneratedDatabaseTables.PropsContainers.PROPS_INSTANCE.getName() + " = ?"
+        ))
+        {
+            stmt.setString(1, MARKER_PROPS_INSTANCE);
+            stmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Returns the condition that excludes the marker row from a select of all rows of the given table, or an empty
+     * string if the table does not contain the marker
+     */
+    static String excludeMarker(DatabaseTable tableRef)
+    {
+        String ret = "";
+        if (tableRef == GeneratedDatabaseTables.PROPS_CONTAINERS)
+        {
+            ret = " WHERE " + GeneratedDatabaseTables.PropsContainers.PROPS_INSTANCE.getName() + " <> '" +
+                MARKER_PROPS_INSTANCE + "'";
+        }
+        return ret;
+    }
+
+    private static long countRows(Connection dbConRef, DatabaseTable tableRef) throws SQLException
+    {
+        long count = 0;
+        try (
+            PreparedStatement stmt = dbConRef.prepareStatement(
+                "SELECT COUNT(*) FROM " + tableRef.getName() + excludeMarker(tableRef)
+            );
+            ResultSet resultSet = stmt.executeQuery()
+        )
+        {
+            if (resultSet.next())
+            {
+                count = resultSet.getLong(1);
+            }
+        }
+        return count;
+    }
+
+    private ByteBuffer serialize(String markerRef, Map<DatabaseTable, List<RawParameters>> rowsRef)
+        throws IOException
+    {
+        ByteArrayOutputStream payloadStream = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payloadStream);
+        writeString(out, markerRef);
+        writeString(out, versionStamp);
+        out.writeInt(rowsRef.size());
+        for (Map.Entry<DatabaseTable, List<RawParameters>> entry : rowsRef.entrySet())
+        {
+            DatabaseTable table = entry.getKey();
+            Column[] columns = table.values();
+            writeString(out, table.getName());
+            out.writeInt(columns.length);
+            for (Column col : columns)
+            {
+                writeString(out, col.getName());
+            }
+            out.writeInt(entry.getValue().size());
+            for (RawParameters rawParams : entry.getValue())
+            {
+                for (Column col : columns)
+                {
+                    writeValue(out, rawParams.get(col));
+                }
+            }
+        }
+        out.flush();
+        byte[] payload = payloadStream.toByteArray();
+
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.putInt(MAGIC);
+        buffer.putInt(FORMAT_VERSION);
+        buffer.putLong(payload.length);
+        buffer.putLong(crc.getValue());
+        buffer.put(payload);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * @param dbConRef connection used to compare the row counts of the snapshot with the database
+     */
+    private @Nullable Map<DatabaseTable, List<RawParameters>> readFile(
+        Connection dbConRef,
+        String expectedMarkerRef,
+        Collection<DatabaseTable> tablesRef
+    )
+        throws IOException, SQLException
+    {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+        {
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+        {
+            throw new IOException("Unknown file format");
+        }
+        long payloadLength = buffer.getLong();
+        long expectedCrc = buffer.getLong();
+        if (payloadLength != buffer.remaining())
+        {
+            throw new IOException("Unexpected file size");
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.duplicate());
+        if (crc.getValue() != expectedCrc)
+        {
+            throw new IOException("Checksum mismatch");
+        }
+
+        @Nullable Map<DatabaseTable, List<RawParameters>> ret = null;
+        String marker = readString(buffer);
+        String fileVersionStamp = readString(buffer);
+        if (!marker.equals(expectedMarkerRef))
+        {
+            errorReporter.logInfo("Startup snapshot %s is outdated", file);
+        }
+        else
+        if (!fileVersionStamp.equals(versionStamp))
+        {
+            errorReporter.logInfo("Startup snapshot %s was written by LINSTOR %s", file, fileVersionStamp);
+        }
+        else
+        {
+            Map<String, DatabaseTable> tablesByName = new HashMap<>();
+            for (DatabaseTable table : tablesRef)
+            {
+                tablesByName.put(table.getName(), table);
+            }
+            Map<DatabaseTable, List<RawParameters>> rows = new LinkedHashMap<>();
+            @Nullable DatabaseTable modifiedTable = null;
+            int tableCount = buffer.getInt();
+            for (int tableIdx = 0; tableIdx < tableCount; tableIdx++)
+            {
+                @Nullable DatabaseTable table = tablesByName.get(readString(buffer));
+                if (table == null)
+                {
+                    throw new IOException("Unknown table");
+                }
+                Column[] columns = table.values();
+                int columnCount = buffer.getInt();
+                if (columnCount != columns.length)
+                {
+                    throw new IOException("Unexpected columns of table " + table.getName());
+                }
+                for (Column col : columns)
+                {
+                    if (!col.getName().equals(readString(buffer)))
+                    {
+                        throw new IOException("Unexpected columns of table " + table.getName());
+                    }
+                }
+                int rowCount = buffer.getInt();
+                if (rowCount != countRows(dbConRef, table))
+                {
+                    // modified without any LINSTOR tool
+                    modifiedTable = table;
+                    break;
+                }
+                List<RawParameters> tableRows = new ArrayList<>(rowCount);
+                for (int rowIdx = 0; rowIdx < rowCount; rowIdx++)
+                {
+                    Map<String, Object> rawData = new TreeMap<>();
+                    for (Column col : columns)
+                    {
+                        rawData.put(col.getName(), readValue(buffer));
+                    }
+                    tableRows.add(new RawParameters(table, rawData));
+                }
+                rows.put(table, tableRows);
+            }
+            if (modifiedTable != null)
+            {
+                errorReporter.logInfo(
+                    "Startup snapshot %s is outdated, table %s was modified",
+                    file,
+                    modifiedTable.getName()
+                );
+            }
+            else
+            if (rows.keySet().containsAll(tablesRef))
+            {
+                ret = rows;
+            }
+            else
+            {
+                errorReporter.logInfo("Startup snapshot %s does not contain all required tables", file);
+            }
+        }
+        return ret;
+    }
+
+    private static void writeString(DataOutputStream out, String str) throws IOException
+    {
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeValue(DataOutputStream out, @Nullable Object value) throws IOException
+    {
+        if (value == null)
+        {
+            out.writeByte(TYPE_NULL);
+        }
+        else
+        if (value instanceof String)
+        {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        }
+        else
+        if (value instanceof byte[])
+        {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(TYPE_BYTES);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        else
+        if (value instanceof Short)
+        {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        }
+        else
+        if (value instanceof Integer)
+        {
+            out.writeByte(TYPE_INT);
+            out.writeInt((Integer) value);
+        }
+        else
+        if (value instanceof Long)
+        {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        }
+        else
+        if (value instanceof Boolean)
+        {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        }
+        else
+        if (value instanceof Instant)
+        {
+            out.writeByte(TYPE_INSTANT);
+            out.writeLong(((Instant) value).toEpochMilli());
+        }
+        else
+        {
+            throw new IOException("Unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    private static @Nullable Object readValue(ByteBuffer buffer) throws IOException
+    {
+        byte type = buffer.get();
+        return switch (type)
+        {
+            case TYPE_NULL -> null;
+            case TYPE_STRING -> readString(buffer);
+            case TYPE_BYTES ->
+            {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                yield bytes;
+            }
+            case TYPE_SHORT -> buffer.getShort();
+            case TYPE_INT -> buffer.getInt();
+            case TYPE_LONG -> buffer.getLong();
+            case TYPE_BOOLEAN -> buffer.get() != 0;
+            case TYPE_INSTANT -> Instant.ofEpochMilli(buffer.getLong());
+            default -> throw new IOException("Unknown value type " + type);
+        };
+    }
+}
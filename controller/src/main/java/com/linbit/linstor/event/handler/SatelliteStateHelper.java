@@ -7,6 +7,7 @@ import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.prometheus.PrometheusSampleCache;
 import com.linbit.linstor.satellitestate.SatelliteState;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
@@ -26,17 +27,20 @@ public class SatelliteStateHelper
     private final AccessContext accCtx;
     private final CoreModule.NodesMap nodesMap;
     private final ReadWriteLock nodesMapLock;
+    private final PrometheusSampleCache prometheusSampleCache;
 
     @Inject
     public SatelliteStateHelper(
         @ApiContext AccessContext accCtxRef,
         CoreModule.NodesMap nodesMapRef,
-        @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef
+        @Named(CoreModule.NODES_MAP_LOCK) ReadWriteLock nodesMapLockRef,
+        PrometheusSampleCache prometheusSampleCacheRef
     )
     {
         accCtx = accCtxRef;
         nodesMap = nodesMapRef;
         nodesMapLock = nodesMapLockRef;
+        prometheusSampleCache = prometheusSampleCacheRef;
     }
 
     public <T> @Nullable T withSatelliteState(
@@ -90,6 +94,8 @@ public class SatelliteStateHelper
             satelliteState -> acceptAndReturnNull(consumer, satelliteState),
             null
         );
+        // the satellite state is part of the resource metrics
+        prometheusSampleCache.markChanged();
     }
 
     private <T> @Nullable Void acceptAndReturnNull(Consumer<T> consumer, T value)
@@ -1,5 +1,6 @@
 package com.linbit.linstor.prometheus;
 
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LinstorControllerMetrics
@@ -14,4 +15,14 @@ public class LinstorControllerMetrics
         .buckets(LinstorServerMetrics.DEFAULT_BUCKETS)
         .labelNames("apicall")
         .register();
+
+    /**
+     * Duration of the phases of loading all objects from the database during controller startup.
+     */
+    public static final Gauge databaseLoadDurationGauge = Gauge.build()
+        .name("linstor_database_load_duration_seconds")
+        .help("Duration of loading the objects from the database during startup in seconds")
+        .unit("seconds")
+        .labelNames("phase")
+        .register();
 }
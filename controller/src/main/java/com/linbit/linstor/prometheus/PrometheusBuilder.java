@@ -126,6 +126,7 @@ public class PrometheusBuilder
     {
         errorReporter = errorReporterRef;
         DefaultExports.initialize();
+        LinstorThreadExports.initialize();
     }
 
     public static Map<String, String> nodeExport(final NodeApi nodeApi)
@@ -283,6 +284,27 @@ public class PrometheusBuilder
         @Nullable final ErrorReportResult errorReports,
         final long scrapeRequestCount,
         final long scrapeStartMillis) throws IOException
+    {
+        return build(
+            nodeApiList,
+            buildObjectSamples(rscDfns, rl, storagePoolList),
+            errorReports,
+            scrapeRequestCount,
+            scrapeStartMillis
+        );
+    }
+
+    /**
+     * Same as {@link #build(List, List, ResourceList, List, ErrorReportResult, long, long)}, but with the samples of
+     * the resource definitions, resources, volumes and storage pools already rendered by
+     * {@link #buildObjectSamples(List, ResourceList, List)}, which allows callers to cache them.
+     */
+    public String build(
+        @Nullable final List<NodeApi> nodeApiList,
+        final String objectSamples,
+        @Nullable final ErrorReportResult errorReports,
+        final long scrapeRequestCount,
+        final long scrapeStartMillis) throws IOException
     {
         TextFormat tf = new TextFormat();
 
@@ -314,6 +336,50 @@ public class PrometheusBuilder
             }
         }
 
+        TextFormat tfTail = new TextFormat();
+        if (errorReports != null)
+        {
+            tfTail.startGauge("linstor_error_reports_count");
+            tfTail.writeSample(null, (double) errorReports.getTotalCount());
+            for (Map.Entry<Pair<String, String>, Long> entry : errorReports.getNodeCounts().entrySet())
+            {
+                HashMap<String, String> errMap = new HashMap<>();
+                errMap.put("hostname", entry.getKey().objA);
+                errMap.put("module", entry.getKey().objB);
+                tfTail.writeSample(errMap, entry.getValue());
+            }
+        }
+
+        StringWriter sw = new StringWriter();
+        io.prometheus.client.exporter.common.TextFormat.write004(
+            sw, CollectorRegistry.defaultRegistry.metricFamilySamples()
+        );
+
+        tfTail.startCounter("linstor_scrape_requests_count");
+        tfTail.writeSample((double) scrapeRequestCount);
+
+        tfTail.startGauge("linstor_scrape_duration_seconds");
+        tfTail.writeSample((System.currentTimeMillis() - scrapeStartMillis) / 1000.0);
+
+        return tf.toString() + objectSamples + tfTail.toString() + sw.toString();
+    }
+
+    /**
+     * Renders the samples of the resource definitions, resources, volumes and storage pools, which are by far the
+     * most expensive part of a scrape.
+     *
+     * @param rscDfns resource definition included in the report
+     * @param rl resource list included in the report
+     * @param storagePoolList storage pool list included in the report
+     * @return the samples in the prometheus text format
+     */
+    public String buildObjectSamples(
+        @Nullable final List<ResourceDefinitionApi> rscDfns,
+        @Nullable final ResourceList rl,
+        @Nullable final List<StorPoolApi> storagePoolList)
+    {
+        TextFormat tf = new TextFormat();
+
         if (rscDfns != null)
         {
             tf.startGauge("linstor_resource_definition_count");
@@ -321,11 +387,12 @@ public class PrometheusBuilder
 
             if (rl != null)
             {
+                Map<String, Long> rscCounts = rl.getResources().stream()
+                    .collect(Collectors.groupingBy(rscApi -> rscApi.getName().toUpperCase(), Collectors.counting()));
                 tf.startGauge("linstor_resource_definition_resource_count");
                 for (var rscDfn : rscDfns)
                 {
-                    double count = rl.getResources().stream()
-                        .filter(r -> r.getName().equalsIgnoreCase(rscDfn.getResourceName())).count();
+                    double count = rscCounts.getOrDefault(rscDfn.getResourceName().toUpperCase(), 0L);
                     tf.writeSample(resourceDfnLabels(rscDfn), count);
                 }
             }
@@ -402,30 +469,6 @@ public class PrometheusBuilder
             }
         }
 
-        if (errorReports != null)
-        {
-            tf.startGauge("linstor_error_reports_count");
-            tf.writeSample(null, (double) errorReports.getTotalCount());
-            for (Map.Entry<Pair<String, String>, Long> entry : errorReports.getNodeCounts().entrySet())
-            {
-                HashMap<String, String> errMap = new HashMap<>();
-                errMap.put("hostname", entry.getKey().objA);
-                errMap.put("module", entry.getKey().objB);
-                tf.writeSample(errMap, entry.getValue());
-            }
-        }
-
-        StringWriter sw = new StringWriter();
-        io.prometheus.client.exporter.common.TextFormat.write004(
-            sw, CollectorRegistry.defaultRegistry.metricFamilySamples()
-        );
-
-        tf.startCounter("linstor_scrape_requests_count");
-        tf.writeSample((double) scrapeRequestCount);
-
-        tf.startGauge("linstor_scrape_duration_seconds");
-        tf.writeSample((System.currentTimeMillis() - scrapeStartMillis) / 1000.0);
-
-        return tf.toString() + sw.toString();
+        return tf.toString();
     }
 }
@@ -0,0 +1,169 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.logging.ErrorReportResult;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.Privilege;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the rendered samples of the /metrics endpoint that are expensive to assemble, so that a scrape usually only
+ * has to concatenate cached text.
+ * <br/>
+ * Committed transactions, satellite state updates and free space updates call {@link #markChanged()}, which causes
+ * the next scrape to render the cached samples again. Since not every change that is visible in the metrics (e.g.
+ * a lost satellite connection) is reported this way, cached samples are also rendered again once they are older than
+ * {@link #MAX_SAMPLE_AGE_MS}.
+ * <br/>
+ * The samples only contain the objects visible to the access context of the scrape, so they are cached per access
+ * context.
+ * <br/>
+ * The error report counts are refreshed in the background instead of querying all satellites on every scrape. Only
+ * the very first refresh is waited for, so that the first scrape does not lack the error report counts.
+ */
+@Singleton
+public class PrometheusSampleCache
+{
+    static final long MAX_SAMPLE_AGE_MS = 60_000;
+    static final long ERROR_REPORT_REFRESH_INTERVAL_MS = 60_000;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, CachedSamples> cachedSamples = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean errorReportRefreshRunning = new AtomicBoolean();
+    private final CountDownLatch firstErrorReportRefresh = new CountDownLatch(1);
+    private volatile @Nullable ErrorReportResult errorReportCounts;
+    private volatile long errorReportCountsTimestamp;
+
+    @Inject
+    public PrometheusSampleCache()
+    {
+    }
+
+    /**
+     * Marks all cached samples as outdated
+     */
+    public void markChanged()
+    {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the cached samples for the given access context and key, or renders (and caches) them if they are
+     * outdated.
+     */
+    public String getSamples(AccessContext accCtx, String key, Supplier<String> rendererRef)
+    {
+        // read the generation before rendering, so that changes during rendering outdate the new samples
+        long currentGeneration = generation.get();
+        long now = System.currentTimeMillis();
+        String cacheKey = getAccCtxKey(accCtx) + ";" + key;
+        @Nullable CachedSamples cached = cachedSamples.get(cacheKey);
+
+        String samples;
+        if (cached != null && cached.generation == currentGeneration && cached.timestamp + MAX_SAMPLE_AGE_MS > now)
+        {
+            samples = cached.samples;
+        }
+        else
+        {
+            samples = rendererRef.get();
+            cachedSamples.put(cacheKey, new CachedSamples(currentGeneration, now, samples));
+        }
+        return samples;
+    }
+
+    /**
+     * Returns the last known error report counts, or null if they were not queried yet
+     */
+    public @Nullable ErrorReportResult getErrorReportCounts()
+    {
+        return errorReportCounts;
+    }
+
+    /**
+     * Returns the last known error report counts. If the error report counts were never refreshed yet, this waits
+     * up to the given timeout for the first refresh to finish.
+     */
+    public @Nullable ErrorReportResult awaitErrorReportCounts(long timeoutMs)
+    {
+        @Nullable ErrorReportResult ret = errorReportCounts;
+        if (ret == null)
+        {
+            try
+            {
+                firstErrorReportRefresh.await(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+            catch (InterruptedException ignored)
+            {
+                Thread.currentThread().interrupt();
+            }
+            ret = errorReportCounts;
+        }
+        return ret;
+    }
+
+    /**
+     * Returns true if the error report counts should be refreshed and no other refresh is running. In that case the
+     * caller has to call {@link #errorReportRefreshFinished(ErrorReportResult)} once the refresh is done.
+     */
+    public boolean startErrorReportRefresh()
+    {
+        return errorReportCountsTimestamp + ERROR_REPORT_REFRESH_INTERVAL_MS <= System.currentTimeMillis() &&
+            errorReportRefreshRunning.compareAndSet(false, true);
+    }
+
+    /**
+     * @param errorReportCountsRef the refreshed counts, null if the refresh failed (the old counts will be kept)
+     */
+    public void errorReportRefreshFinished(@Nullable ErrorReportResult errorReportCountsRef)
+    {
+        if (errorReportCountsRef != null)
+        {
+            errorReportCounts = errorReportCountsRef;
+        }
+        errorReportCountsTimestamp = System.currentTimeMillis();
+        errorReportRefreshRunning.set(false);
+        firstErrorReportRefresh.countDown();
+    }
+
+    /**
+     * The visible objects depend on the identity, role and security domain as well as on the privileges
+     */
+    private static String getAccCtxKey(AccessContext accCtx)
+    {
+        StringBuilder key = new StringBuilder()
+            .append(accCtx.subjectId.name.value).append('/')
+            .append(accCtx.subjectRole.name.value).append('/')
+            .append(accCtx.subjectDomain.name.value);
+        for (Privilege priv : accCtx.getEffectivePrivs().getEnabledPrivileges())
+        {
+            key.append('/').append(priv.name);
+        }
+        return key.toString();
+    }
+
+    private static class CachedSamples
+    {
+        private final long generation;
+        private final long timestamp;
+        private final String samples;
+
+        CachedSamples(long generationRef, long timestampRef, String samplesRef)
+        {
+            generation = generationRef;
+            timestamp = timestampRef;
+            samples = samplesRef;
+        }
+    }
+}
@@ -5,13 +5,10 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.ApiModule;
 import com.linbit.linstor.core.apicallhandler.ScopeRunner;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlStorPoolListApiCallHandler;
-import com.linbit.linstor.core.apicallhandler.controller.CtrlTransactionHelper;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlVlmAllocatedUpdater;
 import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedFetcher;
 import com.linbit.linstor.core.apicallhandler.controller.VlmAllocatedResult;
-import com.linbit.linstor.core.objects.Resource;
-import com.linbit.linstor.core.objects.ResourceDefinition;
 import com.linbit.linstor.core.objects.Volume;
-import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
 import com.linbit.linstor.core.repository.SystemConfRepository;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.security.AccessContext;
@@ -20,13 +17,12 @@ import com.linbit.locks.LockGuard;
 import com.linbit.locks.LockGuardFactory;
 
 import static com.linbit.locks.LockGuardFactory.LockObj.CTRL_CONFIG;
-import static com.linbit.locks.LockGuardFactory.LockObj.RSC_DFN_MAP;
 import static com.linbit.locks.LockGuardFactory.LockType.READ;
-import static com.linbit.locks.LockGuardFactory.LockType.WRITE;
 
 import javax.inject.Inject;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -37,35 +33,32 @@ public class UpdateSpaceInfoTask implements TaskScheduleService.Task
 
     private static final String DEFAULT_UPDATE_SLEEP = "180";
     private final ErrorReporter errRep;
-    private final ResourceDefinitionRepository rscDefRepo;
     private final VlmAllocatedFetcher vlmAllocatedFetcher;
     private final SystemConfRepository systemConfRepository;
     private final CtrlStorPoolListApiCallHandler ctrlStorPoolListApiCallHandler;
     private final LockGuardFactory lockGuardFactory;
     private final AccessContext sysCtx;
     private final ScopeRunner scopeRunner;
-    private final CtrlTransactionHelper ctrlTransactionHelper;
+    private final CtrlVlmAllocatedUpdater vlmAllocatedUpdater;
 
     @Inject
     public UpdateSpaceInfoTask(
         ErrorReporter errorReporterRef,
         LockGuardFactory lockGuardFactoryRef,
-        ResourceDefinitionRepository resourceDefinitionRepositoryRef,
         VlmAllocatedFetcher vlmAllocatedFetcherRef,
         ScopeRunner scopeRunnerRef,
         SystemConfRepository systemConfRepositoryRef,
         CtrlStorPoolListApiCallHandler ctrlStorPoolListApiCallHandlerRef,
-        CtrlTransactionHelper ctrlTransactionHelperRef,
+        CtrlVlmAllocatedUpdater vlmAllocatedUpdaterRef,
         @SystemContext AccessContext sysCtxRef)
     {
         errRep = errorReporterRef;
         lockGuardFactory = lockGuardFactoryRef;
-        rscDefRepo = resourceDefinitionRepositoryRef;
         vlmAllocatedFetcher = vlmAllocatedFetcherRef;
         systemConfRepository = systemConfRepositoryRef;
         ctrlStorPoolListApiCallHandler = ctrlStorPoolListApiCallHandlerRef;
         scopeRunner = scopeRunnerRef;
-        ctrlTransactionHelper = ctrlTransactionHelperRef;
+        vlmAllocatedUpdater = vlmAllocatedUpdaterRef;
         sysCtx = sysCtxRef;
     }
 
@@ -74,6 +67,8 @@ public class UpdateSpaceInfoTask implements TaskScheduleService.Task
     {
         // TODO instead of doing 2 independent update calls to the satellites
         // we should merge both requests to a single proto request/response
+        // Satellites already report changed allocated sizes after every device manager run, this periodic query mostly
+        // catches thinly provisioned volumes growing due to writes in between such runs
 
         final long start = System.currentTimeMillis();
         vlmAllocatedFetcher.fetchVlmAllocated(
@@ -83,45 +78,19 @@ public class UpdateSpaceInfoTask implements TaskScheduleService.Task
             .flatMapMany(vlmAllocations ->
                 scopeRunner.fluxInTransactionalScope(
                     "Update volume allocations",
-                    lockGuardFactory.buildDeferred(WRITE, RSC_DFN_MAP),
+                    // CtrlVlmAllocatedUpdater locks the resource definitions one by one
+                    LockGuard.createDeferred(),
                     () ->
                     {
+                        Map<Volume.Key, Long> allocatedSizes = new HashMap<>();
                         for (Map.Entry<Volume.Key, VlmAllocatedResult> entry : vlmAllocations.entrySet())
                         {
-                            try
-                            {
-                                Volume.Key vlmKey = entry.getKey();
-                                ResourceDefinition rscDfn = rscDefRepo.get(sysCtx, vlmKey.getResourceName());
-                                if (rscDfn != null)
-                                {
-                                    Resource rsc = rscDfn.getResource(sysCtx, vlmKey.getNodeName());
-                                    if (rsc != null)
-                                    {
-                                        Volume vlm = rsc.getVolume(vlmKey.getVolumeNumber());
-                                        if (vlm != null && !entry.getValue().hasErrors())
-                                        {
-                                            if (vlm.isAllocatedSizeSet(sysCtx)) // avoid unboxing NPE
-                                            {
-                                                // safe some cpu cycles for noops
-                                                if (vlm.getAllocatedSize(sysCtx) != entry.getValue().getAllocatedSize())
-                                                {
-                                                    vlm.setAllocatedSize(sysCtx, entry.getValue().getAllocatedSize());
-                                                }
-                                            }
-                                            else
-                                            {
-                                                // set always if currently null
-                                                vlm.setAllocatedSize(sysCtx, entry.getValue().getAllocatedSize());
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                            catch (AccessDeniedException ignored)
+                            if (!entry.getValue().hasErrors())
                             {
+                                allocatedSizes.put(entry.getKey(), entry.getValue().getAllocatedSize());
                             }
                         }
-                        ctrlTransactionHelper.commit();
+                        vlmAllocatedUpdater.updateAllocatedSizes(allocatedSizes);
                         errRep.logTrace("UpdateVolumeAllocationsTask: Fetched and set volume allocations in %dms",
                             System.currentTimeMillis() - start);
                         return Flux.empty();
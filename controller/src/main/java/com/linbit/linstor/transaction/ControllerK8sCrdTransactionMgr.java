@@ -11,13 +11,19 @@ import com.linbit.linstor.dbdrivers.k8s.crd.LinstorCrd;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorVersionCrd;
 import com.linbit.linstor.dbdrivers.k8s.crd.RollbackCrd;
+import com.linbit.linstor.transaction.manager.TransactionCommitTracker;
 import com.linbit.linstor.transaction.manager.TransactionMgrK8sCrd;
 
 import java.net.HttpURLConnection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -36,6 +42,7 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
 
     private final TransactionObjectCollection transactionObjectCollection;
     private final ControllerK8sCrdDatabase controllerK8sCrdDatabase;
+    private final @Nullable TransactionCommitTracker commitTracker;
 
     private K8sCrdTransaction currentTransaction;
 
@@ -46,6 +53,14 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
     private final String crdVersion;
 
     public ControllerK8sCrdTransactionMgr(ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef)
+    {
+        this(controllerK8sCrdDatabaseRef, (TransactionCommitTracker) null);
+    }
+
+    public ControllerK8sCrdTransactionMgr(
+        ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef,
+        @Nullable TransactionCommitTracker commitTrackerRef
+    )
     {
         this(
             controllerK8sCrdDatabaseRef,
@@ -53,7 +68,8 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
                 GenCrdCurrent::databaseTableToCustomResourceClass,
                 GeneratedDatabaseTables.ALL_TABLES,
                 GenCrdCurrent.VERSION
-            )
+            ),
+            commitTrackerRef
         );
     }
 
@@ -61,8 +77,18 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
         ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef,
         BaseControllerK8sCrdTransactionMgrContext ctx
     )
+    {
+        this(controllerK8sCrdDatabaseRef, ctx, null);
+    }
+
+    public ControllerK8sCrdTransactionMgr(
+        ControllerK8sCrdDatabase controllerK8sCrdDatabaseRef,
+        BaseControllerK8sCrdTransactionMgrContext ctx,
+        @Nullable TransactionCommitTracker commitTrackerRef
+    )
     {
         controllerK8sCrdDatabase = controllerK8sCrdDatabaseRef;
+        commitTracker = commitTrackerRef;
         transactionObjectCollection = new TransactionObjectCollection();
 
         k8sClient = controllerK8sCrdDatabaseRef.getClient();
@@ -148,32 +174,31 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
              * We need to synchronize to prevent other threads to also start a new rollback entry but also to prevent
              * other to rollback a transaction
              */
+            boolean dirty = commitTracker != null && transactionObjectCollection.areAnyDirty();
             try
             {
-                ControllerK8sCrdRollbackMgr.createRollbackEntry(
-                    currentTransaction, controllerK8sCrdDatabase.getMaxRollbackEntries());
+                transactionObjectCollection.flushAll();
             }
             catch (DatabaseException exc)
             {
-                throw new TransactionException("Error creating rollback entry", exc);
-            }
-
-            for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : currentTransaction.rscsToCreate
-                .entrySet())
-            {
-                create(entry.getKey(), entry.getValue());
+                throw new TransactionException("Error writing deferred changes", exc);
             }
-            for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : currentTransaction.rscsToReplace
-                .entrySet())
+            try
             {
-                replace(entry.getKey(), entry.getValue());
+                ControllerK8sCrdRollbackMgr.createRollbackEntry(
+                    currentTransaction, controllerK8sCrdDatabase.getMaxRollbackEntries());
             }
-            for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : currentTransaction.rscsToDelete
-                .entrySet())
+            catch (DatabaseException exc)
             {
-                delete(entry.getKey(), entry.getValue());
+                throw new TransactionException("Error creating rollback entry", exc);
             }
 
+            List<Runnable> requests = new ArrayList<>();
+            collectRequests(requests, currentTransaction.rscsToCreate, K8sResourceClient::create);
+            collectRequests(requests, currentTransaction.rscsToReplace, K8sResourceClient::replace);
+            collectRequests(requests, currentTransaction.rscsToDelete, K8sResourceClient::delete);
+            sendRequests(requests);
+
             transactionObjectCollection.commitAll();
 
             clearTransactionObjects();
@@ -182,47 +207,105 @@ public class ControllerK8sCrdTransactionMgr implements TransactionMgrK8sCrd
             currentTransaction = createNewTx();
 
             ControllerK8sCrdRollbackMgr.cleanup(transactionToClean);
+
+            if (dirty)
+            {
+                commitTracker.changesCommitted();
+            }
         }
     }
 
+    /**
+     * Adds one request per changed CRD. The clients are looked up here, as the lookup is not thread safe, only the
+     * requests themselves are sent in parallel.
+     */
     @SuppressWarnings("unchecked")
-    private <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void create(
-        DatabaseTable dbTableRef,
-        HashMap<String, LinstorCrd<?>> changedCrds
+    private void collectRequests(
+        List<Runnable> requestsRef,
+        HashMap<DatabaseTable, HashMap<String, LinstorCrd<?>>> changedCrdsRef,
+        BiConsumer<K8sResourceClient<LinstorCrd<?>>, LinstorCrd<?>> requestRef
     )
     {
-        K8sResourceClient<CRD> client = currentTransaction.getClient(dbTableRef);
-        for (LinstorCrd<?> linstorCrd : changedCrds.values())
+        for (Entry<DatabaseTable, HashMap<String, LinstorCrd<?>>> entry : changedCrdsRef.entrySet())
         {
-            client.create((CRD) linstorCrd);
+            K8sResourceClient<LinstorCrd<?>> client = (K8sResourceClient<LinstorCrd<?>>) crdClientLut
+                .get(entry.getKey())
+                .get();
+            for (LinstorCrd<?> linstorCrd : entry.getValue().values())
+            {
+                requestsRef.add(() -> requestRef.accept(client, linstorCrd));
+            }
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void replace(
-        DatabaseTable dbTableRef,
-        HashMap<String, LinstorCrd<?>> changedCrds
-    )
+    /**
+     * Sends all requests to k8s, in parallel if the database provides an executor. The changes of a transaction are
+     * already coalesced to at most one request per CRD, so the requests are independent of each other.
+     * <br/>
+     * Waits until all requests are finished, even if one of them failed, so that no request is still running while
+     * the transaction is rolled back. The first failure is rethrown, all further failures are added as suppressed.
+     */
+    private void sendRequests(List<Runnable> requestsRef) throws TransactionException
     {
-        K8sResourceClient<CRD> client = currentTransaction
-            .getClient(dbTableRef);
-        for (LinstorCrd<?> linstorCrd : changedCrds.values())
+        ExecutorService executor = controllerK8sCrdDatabase.getRequestExecutor();
+        if (executor == null || requestsRef.size() <= 1)
         {
-            client.replace((CRD) linstorCrd);
+            for (Runnable request : requestsRef)
+            {
+                request.run();
+            }
         }
-    }
-
-    @SuppressWarnings("unchecked")
-    private <CRD extends LinstorCrd<SPEC>, SPEC extends LinstorSpec<CRD, SPEC>> void delete(
-        DatabaseTable dbTableRef,
-        HashMap<String, LinstorCrd<?>> createdCrds
-    )
-    {
-        K8sResourceClient<CRD> client = currentTransaction
-            .getClient(dbTableRef);
-        for (LinstorCrd<?> linstorCrd : createdCrds.values())
+        else
         {
-            client.delete((CRD) linstorCrd);
+            List<Future<?>> futures = new ArrayList<>(requestsRef.size());
+            for (Runnable request : requestsRef)
+            {
+                futures.add(executor.submit(request));
+            }
+
+            @Nullable RuntimeException failure = null;
+            boolean interrupted = false;
+            for (Future<?> future : futures)
+            {
+                boolean done = false;
+                while (!done)
+                {
+                    try
+                    {
+                        future.get();
+                        done = true;
+                    }
+                    catch (InterruptedException ignored)
+                    {
+                        // the requests are already sent, we have to wait for them anyways
+                        interrupted = true;
+                    }
+                    catch (ExecutionException exc)
+                    {
+                        done = true;
+                        Throwable cause = exc.getCause();
+                        RuntimeException runtimeExc = cause instanceof RuntimeException ?
+                            (RuntimeException) cause :
+                            new TransactionException("Error sending CRD changes to k8s", cause);
+                        if (failure == null)
+                        {
+                            failure = runtimeExc;
+                        }
+                        else
+                        {
+                            failure.addSuppressed(runtimeExc);
+                        }
+                    }
+                }
+            }
+            if (interrupted)
+            {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null)
+            {
+                throw failure;
+            }
         }
     }
 
@@ -1,6 +1,8 @@
 package com.linbit.linstor.transaction;
 
 import com.linbit.linstor.ControllerK8sCrdDatabase;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.transaction.manager.TransactionCommitTracker;
 import com.linbit.linstor.transaction.manager.TransactionMgrGenerator;
 
 import javax.inject.Inject;
@@ -10,18 +12,28 @@ import com.google.inject.Provider;
 public class ControllerK8sCrdTransactionMgrGenerator implements TransactionMgrGenerator
 {
     private final Provider<ControllerK8sCrdDatabase> controllerDatabase;
+    private final @Nullable TransactionCommitTracker commitTracker;
 
-    @Inject
     public ControllerK8sCrdTransactionMgrGenerator(
         Provider<ControllerK8sCrdDatabase> controllerDatabaseRef
     )
+    {
+        this(controllerDatabaseRef, null);
+    }
+
+    @Inject
+    public ControllerK8sCrdTransactionMgrGenerator(
+        Provider<ControllerK8sCrdDatabase> controllerDatabaseRef,
+        @Nullable TransactionCommitTracker commitTrackerRef
+    )
     {
         controllerDatabase = controllerDatabaseRef;
+        commitTracker = commitTrackerRef;
     }
 
     @Override
     public ControllerK8sCrdTransactionMgr startTransaction()
     {
-        return new ControllerK8sCrdTransactionMgr(controllerDatabase.get());
+        return new ControllerK8sCrdTransactionMgr(controllerDatabase.get(), commitTracker);
     }
 }
@@ -0,0 +1,82 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.DeviceManager;
+import com.linbit.linstor.core.StltUpdateTrackerImpl;
+import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntChangedDataOuterClass;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntChangedDataOuterClass.MsgIntChangedData;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_CHANGED_RSC_BATCH,
+    description = "Called by the controller to indicate that multiple resources were modified"
+)
+@Singleton
+public class ChangedRscBatch implements ApiCallReactive
+{
+    private final DeviceManager deviceManager;
+    private final ControllerPeerConnector controllerPeerConnector;
+    private final ResponseSerializer responseSerializer;
+
+    @Inject
+    public ChangedRscBatch(
+        DeviceManager deviceManagerRef,
+        ControllerPeerConnector controllerPeerConnectorRef,
+        ResponseSerializer responseSerializerRef
+    )
+    {
+        deviceManager = deviceManagerRef;
+        controllerPeerConnector = controllerPeerConnectorRef;
+        responseSerializer = responseSerializerRef;
+    }
+
+    @Override
+    public Flux<byte[]> executeReactive(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntChangedData protoData = MsgIntChangedData.parseDelimitedFrom(msgDataIn);
+
+        // all notifications of the batch are queued at once, so that the device manager collects them in one run
+        StltUpdateTrackerImpl.AtomicUpdateHolder updateHolder = new StltUpdateTrackerImpl.AtomicUpdateHolder();
+        NodeName localNodeName = controllerPeerConnector.getLocalNodeName();
+        try
+        {
+            for (MsgIntChangedDataOuterClass.ChangedResource protoRsc : protoData.getRscsList())
+            {
+                updateHolder.putRsc(
+                    ProtoUuidUtils.deserialize(protoRsc.getUuid()),
+                    localNodeName,
+                    new ResourceName(protoRsc.getName())
+                );
+            }
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(
+                "Controller sent an illegal resource name.",
+                invalidNameExc
+            );
+        }
+
+        return Flux.fromIterable(
+            deviceManager.getUpdateTracker().updateData(updateHolder)
+        )
+            .flatMap(Function.identity())
+            .transform(responseSerializer::transform);
+    }
+}
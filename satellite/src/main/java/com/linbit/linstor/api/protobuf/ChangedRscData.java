@@ -0,0 +1,81 @@
+package com.linbit.linstor.api.protobuf;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.ApiCallReactive;
+import com.linbit.linstor.api.pojo.RscPojo;
+import com.linbit.linstor.core.DeviceManager;
+import com.linbit.linstor.core.apicallhandler.ResponseSerializer;
+import com.linbit.linstor.core.apicallhandler.StltApiCallHandler;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.proto.javainternal.c2s.MsgIntApplyRscOuterClass.MsgIntApplyRsc;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import reactor.core.publisher.Flux;
+
+@ProtobufApiCall(
+    name = InternalApiConsts.API_CHANGED_RSC_DATA,
+    description = "Called by the controller to indicate that a resource was modified, including the resource data"
+)
+@Singleton
+public class ChangedRscData implements ApiCallReactive
+{
+    private final DeviceManager deviceManager;
+    private final StltApiCallHandler apiCallHandler;
+    private final ResponseSerializer responseSerializer;
+
+    @Inject
+    public ChangedRscData(
+        DeviceManager deviceManagerRef,
+        StltApiCallHandler apiCallHandlerRef,
+        ResponseSerializer responseSerializerRef
+    )
+    {
+        deviceManager = deviceManagerRef;
+        apiCallHandler = apiCallHandlerRef;
+        responseSerializer = responseSerializerRef;
+    }
+
+    @Override
+    public Flux<byte[]> executeReactive(InputStream msgDataIn)
+        throws IOException
+    {
+        MsgIntApplyRsc applyMsg = MsgIntApplyRsc.parseDelimitedFrom(msgDataIn);
+
+        RscPojo rscRawData = ApplyRsc.asRscPojo(
+            applyMsg.getRsc(),
+            applyMsg.getFullSyncId(),
+            applyMsg.getUpdateId()
+        );
+
+        ResourceName rscName;
+        try
+        {
+            rscName = new ResourceName(rscRawData.getName());
+        }
+        catch (InvalidNameException invalidNameExc)
+        {
+            throw new ImplementationError(
+                "Controller sent an illegal resource name: " + rscRawData.getName() + ".",
+                invalidNameExc
+            );
+        }
+
+        return deviceManager.getUpdateTracker()
+            .updateResourceWithData(
+                rscRawData.getUuid(),
+                updateNotification -> apiCallHandler.applyPushedResourceChanges(
+                    rscRawData,
+                    rscName,
+                    updateNotification
+                )
+            )
+            .transform(responseSerializer::transform);
+    }
+}
@@ -77,6 +77,8 @@ public class CtrlAuth implements ApiCall
         String nodeUname = LinStor.getHostName();
 
         AuthenticationResult authResult;
+        long prevFullSyncId = 0;
+        long prevAppliedUpdateCount = 0;
         @Nullable ApiConsts.Platform platform = detectPlatform();
         @Nullable String osVariant = detectOsVariant();
         try
@@ -89,6 +91,10 @@ public class CtrlAuth implements ApiCall
             Peer controllerPeer = controllerPeerProvider.get();
             UUID ctrlUuid = ProtoUuidUtils.deserialize(auth.getCtrlUuid());
 
+            // needs to be queried before authenticating, as both will be reset for the next full sync
+            prevFullSyncId = updateMonitor.getCurrentFullSyncId();
+            prevAppliedUpdateCount = updateMonitor.getCurrentAwaitedUpdateId();
+
             authResult = apiCallHandler.authenticate(nodeUuid, nodeName, controllerPeer, ctrlUuid);
         }
         catch (Exception exc)
@@ -114,10 +120,15 @@ public class CtrlAuth implements ApiCall
         {
             // all ok, send the new fullSyncId with the AUTH_ACCEPT msg
             // additionally we also send information which layers are supported by the current satellite
+            // if we still have the data of the previous connection, the controller might not need to send
+            // a full sync
 
+            boolean dataRetained = authResult.isDataRetained();
             replyBytes = commonSerializer.headerlessBuilder()
                 .authSuccess(
                     updateMonitor.getNextFullSyncId(),
+                    dataRetained ? prevFullSyncId : 0,
+                    dataRetained ? prevAppliedUpdateCount : 0,
                     LinStor.VERSION_INFO_PROVIDER.getSemanticVersion(),
                     nodeUname,
                     platform,
@@ -83,46 +83,16 @@ public class FullSync implements ApiCall
     {
         MsgIntApplyFullSync applyFullSync = MsgIntApplyFullSync.parseDelimitedFrom(msgDataIn);
         long fullSyncId = applyFullSync.getFullSyncTimestamp();
-        long updateId = 0;
 
-        IntController msgIntControllerData = applyFullSync.getCtrl();
-        Set<NodePojo> nodes = new TreeSet<>(asNodes(applyFullSync.getNodesList(), fullSyncId, updateId));
-        Set<StorPoolPojo> storPools = new TreeSet<>(asStorPool(applyFullSync.getStorPoolsList(), fullSyncId, updateId));
-        Set<RscPojo> resources = new TreeSet<>(asResources(applyFullSync.getRscsList(), fullSyncId, updateId));
-        Set<SnapshotPojo> snapshots = new TreeSet<>(
-            asSnapshots(
-                applyFullSync.getSnapshotsList(),
-                fullSyncId,
-                updateId
-            )
-        );
-        Set<ExternalFilePojo> extFiles = new TreeSet<>(
-            asExternalFiles(
-                applyFullSync.getExternalFilesList(),
-                fullSyncId,
-                updateId
-            )
-        );
-        Set<S3RemotePojo> s3remotes = new TreeSet<>(asS3Remote(applyFullSync.getS3RemotesList(), fullSyncId, updateId));
-        Set<EbsRemotePojo> ebsRemotes = new TreeSet<>(
-            asEbsRemote(applyFullSync.getEbsRemotesList(), fullSyncId, updateId)
-        );
-
-        FullSyncResult fullSyncResult = apiCallHandler.applyFullSync(
-            msgIntControllerData.getPropsMap(),
-            nodes,
-            storPools,
-            resources,
-            snapshots,
-            extFiles,
-            s3remotes,
-            ebsRemotes,
-            applyFullSync.getFullSyncTimestamp(),
-            Base64.decode(applyFullSync.getMasterKey()),
-            applyFullSync.getCryptHash().toByteArray(),
-            applyFullSync.getCryptSalt().toByteArray(),
-            applyFullSync.getEncCryptKey().toByteArray()
-        );
+        FullSyncResult fullSyncResult;
+        if (applyFullSync.getResume())
+        {
+            fullSyncResult = apiCallHandler.resumeFullSync(fullSyncId);
+        }
+        else
+        {
+            fullSyncResult = applyReceivedFullSync(applyFullSync, fullSyncId);
+        }
 
         MsgIntFullSyncResponse.Builder builder = MsgIntFullSyncResponse.newBuilder()
             .putAllNodePropsToSet(fullSyncResult.stltPropsToAdd)
@@ -179,6 +149,50 @@ public class FullSync implements ApiCall
         System.gc();
     }
 
+    private FullSyncResult applyReceivedFullSync(MsgIntApplyFullSync applyFullSync, long fullSyncId)
+    {
+        long updateId = 0;
+
+        IntController msgIntControllerData = applyFullSync.getCtrl();
+        Set<NodePojo> nodes = new TreeSet<>(asNodes(applyFullSync.getNodesList(), fullSyncId, updateId));
+        Set<StorPoolPojo> storPools = new TreeSet<>(asStorPool(applyFullSync.getStorPoolsList(), fullSyncId, updateId));
+        Set<RscPojo> resources = new TreeSet<>(asResources(applyFullSync.getRscsList(), fullSyncId, updateId));
+        Set<SnapshotPojo> snapshots = new TreeSet<>(
+            asSnapshots(
+                applyFullSync.getSnapshotsList(),
+                fullSyncId,
+                updateId
+            )
+        );
+        Set<ExternalFilePojo> extFiles = new TreeSet<>(
+            asExternalFiles(
+                applyFullSync.getExternalFilesList(),
+                fullSyncId,
+                updateId
+            )
+        );
+        Set<S3RemotePojo> s3remotes = new TreeSet<>(asS3Remote(applyFullSync.getS3RemotesList(), fullSyncId, updateId));
+        Set<EbsRemotePojo> ebsRemotes = new TreeSet<>(
+            asEbsRemote(applyFullSync.getEbsRemotesList(), fullSyncId, updateId)
+        );
+
+        return apiCallHandler.applyFullSync(
+            msgIntControllerData.getPropsMap(),
+            nodes,
+            storPools,
+            resources,
+            snapshots,
+            extFiles,
+            s3remotes,
+            ebsRemotes,
+            fullSyncId,
+            Base64.decode(applyFullSync.getMasterKey()),
+            applyFullSync.getCryptHash().toByteArray(),
+            applyFullSync.getCryptSalt().toByteArray(),
+            applyFullSync.getEncCryptKey().toByteArray()
+        );
+    }
+
     private ArrayList<NodePojo> asNodes(
         List<IntNode> nodesList,
         long fullSyncId,
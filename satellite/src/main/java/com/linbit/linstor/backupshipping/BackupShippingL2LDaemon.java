@@ -1,5 +1,6 @@
 package com.linbit.linstor.backupshipping;
 
+import com.linbit.BlockingThreads;
 import com.linbit.ImplementationError;
 import com.linbit.SystemServiceStartException;
 import com.linbit.extproc.DaemonHandler;
@@ -67,7 +68,7 @@ public class BackupShippingL2LDaemon implements Runnable, BackupShippingDaemon
 
         port = portRef;
 
-        thread = new Thread(threadGroupRef, this, threadName);
+        thread = BlockingThreads.newThread(threadGroupRef, this, threadName);
         timeoutInMs = timeoutInMsRef;
         if (timeoutInMsRef != null)
         {
@@ -136,7 +137,7 @@ public class BackupShippingL2LDaemon implements Runnable, BackupShippingDaemon
             thread.start();
             if (timeoutInMs != null)
             {
-                new Thread(thread.getThreadGroup(), this::waitForConn, "waitForConn_" + thread.getName())
+                BlockingThreads.newThread(thread.getThreadGroup(), this::waitForConn, "waitForConn_" + thread.getName())
                     .start();
             }
             try
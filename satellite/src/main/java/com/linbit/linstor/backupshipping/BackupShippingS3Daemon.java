@@ -1,5 +1,6 @@
 package com.linbit.linstor.backupshipping;
 
+import com.linbit.BlockingThreads;
 import com.linbit.ImplementationError;
 import com.linbit.SystemServiceStartException;
 import com.linbit.extproc.DaemonHandler;
@@ -85,12 +86,12 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
         deque = new LinkedBlockingDeque<>(DFLT_DEQUE_CAPACITY);
         handler = new DaemonHandler(deque, command);
 
-        cmdThread = new Thread(threadGroupRef, this, threadName);
+        cmdThread = BlockingThreads.newThread(threadGroupRef, this, threadName);
         restore = restoreRef;
 
         if (restore)
         {
-            s3Thread = new Thread(threadGroupRef, this::runRestoring, "backup_" + threadName);
+            s3Thread = BlockingThreads.newThread(threadGroupRef, this::runRestoring, "backup_" + threadName);
         }
         else
         {
@@ -99,7 +100,7 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
                 throw new ImplementationError("Creating a backup must have a positive size, but was: " + size);
             }
             handler.setStdOutListener(false);
-            s3Thread = new Thread(threadGroupRef, this::runShipping, "backup_" + threadName);
+            s3Thread = BlockingThreads.newThread(threadGroupRef, this::runShipping, "backup_" + threadName);
         }
     }
 
@@ -401,7 +402,7 @@ public class BackupShippingS3Daemon implements Runnable, BackupShippingDaemon
         if (needsExtraThread)
         {
             // needed to prevent deadlock with deviceManager-thread
-            new Thread(threadGroup, run, "shutdown_" + backupName).start();
+            BlockingThreads.newThread(threadGroup, run, "shutdown_" + backupName).start();
         }
         else
         {
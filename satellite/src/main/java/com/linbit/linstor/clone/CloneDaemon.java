@@ -1,5 +1,6 @@
 package com.linbit.linstor.clone;
 
+import com.linbit.BlockingThreads;
 import com.linbit.ImplementationError;
 import com.linbit.SystemServiceStartException;
 import com.linbit.extproc.DaemonHandler;
@@ -52,7 +53,7 @@ public class CloneDaemon implements Runnable
         }
 
 
-        thread = new Thread(threadGroupRef, this, threadName);
+        thread = BlockingThreads.newThread(threadGroupRef, this, threadName);
     }
 
     public void start()
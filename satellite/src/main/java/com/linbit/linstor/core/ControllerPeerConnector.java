@@ -17,12 +17,17 @@ public interface ControllerPeerConnector
     /**
      * Sets the controller peer object used later for replies to the controller.
      *
+     * If <code>retainDataIfPossible</code> is true and the same controller reconnects for the same local node,
+     * the data received during the previous connection is kept until the next full sync arrives.
+     *
+     * @return true if the data of the previous connection was kept
      */
-    void setControllerPeer(
+    boolean setControllerPeer(
         @Nullable UUID ctrlUuidRef,
         Peer controllerPeerRef,
         UUID nodeUuid,
-        String nodeName
+        String nodeName,
+        boolean retainDataIfPossible
     );
 
     void setControllerPeerToCurrentLocalNode();
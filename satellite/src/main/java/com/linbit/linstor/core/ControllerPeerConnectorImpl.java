@@ -123,13 +123,15 @@ public class ControllerPeerConnectorImpl implements ControllerPeerConnector
     }
 
     @Override
-    public void setControllerPeer(
+    public boolean setControllerPeer(
         @Nullable UUID ctrlUuidRef,
         Peer controllerPeerRef,
         UUID nodeUuid,
-        String nodeName
+        String nodeName,
+        boolean retainDataIfPossible
     )
     {
+        boolean dataRetained = false;
         try
         {
             reconfigurationLock.writeLock().lock();
@@ -157,6 +159,7 @@ public class ControllerPeerConnectorImpl implements ControllerPeerConnector
             // to close it and the garbage collector starting freeing the objects
             controllerPeer.closeConnection();
 
+            @Nullable UUID prevCtrlUuid = ctrlUuid;
             ctrlUuid = ctrlUuidRef;
             controllerPeer = controllerPeerRef;
 
@@ -166,24 +169,42 @@ public class ControllerPeerConnectorImpl implements ControllerPeerConnector
             Node localNode;
             try
             {
-                localNodeName = new NodeName(nodeName);
-
-                StltApiCallHandlerUtils stltUtils = stltApiCallHandlerUtils.get();
-                stltUtils.clearCoreMaps();
-                stltUtils.clearCaches();
-
-                localNode = nodeFactory.getInstanceSatellite(
-                    sysCtx,
-                    nodeUuid,
-                    localNodeName,
-                    Node.Type.SATELLITE,
-                    new Node.Flags[] {}
-                );
+                NodeName newLocalNodeName = new NodeName(nodeName);
+                @Nullable Node prevLocalNode = getLocalNode();
+                dataRetained = retainDataIfPossible &&
+                    ctrlUuidRef != null &&
+                    ctrlUuidRef.equals(prevCtrlUuid) &&
+                    newLocalNodeName.equals(localNodeName) &&
+                    prevLocalNode != null &&
+                    prevLocalNode.getUuid().equals(nodeUuid);
+                localNodeName = newLocalNodeName;
+
+                if (dataRetained)
+                {
+                    // the controller will either tell us to resume with our current data, or send a full sync
+                    // which replaces everything anyways
+                    errorReporter.logDebug("Same controller reconnected, keeping data of previous connection");
+                    setControllerPeerToCurrentLocalNode();
+                }
+                else
+                {
+                    StltApiCallHandlerUtils stltUtils = stltApiCallHandlerUtils.get();
+                    stltUtils.clearCoreMaps();
+                    stltUtils.clearCaches();
+
+                    localNode = nodeFactory.getInstanceSatellite(
+                        sysCtx,
+                        nodeUuid,
+                        localNodeName,
+                        Node.Type.SATELLITE,
+                        new Node.Flags[] {}
+                    );
 
-                nodesMap.put(localNode.getName(), localNode);
-                setControllerPeerToCurrentLocalNode();
+                    nodesMap.put(localNode.getName(), localNode);
+                    setControllerPeerToCurrentLocalNode();
 
-                transMgrProvider.get().commit();
+                    transMgrProvider.get().commit();
+                }
             }
             catch (ImplementationError | TransactionException | InvalidNameException exc)
             {
@@ -204,6 +225,7 @@ public class ControllerPeerConnectorImpl implements ControllerPeerConnector
             nodesMapLock.writeLock().unlock();
             reconfigurationLock.writeLock().unlock();
         }
+        return dataRetained;
     }
 
     @Override
@@ -3,6 +3,7 @@ package com.linbit.linstor.core;
 import com.linbit.extproc.ExtCmdFactoryStlt;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.api.SpaceInfo;
+import com.linbit.linstor.core.StltUpdateTrackerImpl.UpdateNotification;
 import com.linbit.linstor.core.devmgr.StltReadOnlyInfo;
 import com.linbit.linstor.core.identifier.ExternalFileName;
 import com.linbit.linstor.core.identifier.NodeName;
@@ -27,6 +28,7 @@ public interface DeviceManager extends DrbdStateChange, DeviceLayer.Notification
     void nodeUpdateApplied(Set<NodeName> nodeSet, Set<ResourceName> rscSet);
     void storPoolUpdateApplied(Set<StorPool.Key> storPoolSet, Set<ResourceName> rscSet, ApiCallRc responses);
     void rscUpdateApplied(Set<Resource.ResourceKey> rscSet);
+    void pushedRscUpdateApplied(ResourceName rscName, UpdateNotification updateNotification);
     void snapshotUpdateApplied(Set<SnapshotDefinition.Key> snapshotKeySet);
     void externalFileUpdateApplied(ExternalFileName extFile, NodeName nodeName, Set<ResourceName> rscNameSet);
 
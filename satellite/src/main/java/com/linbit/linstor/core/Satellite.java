@@ -1,5 +1,6 @@
 package com.linbit.linstor.core;
 
+import com.linbit.BlockingThreads;
 import com.linbit.GuiceConfigModule;
 import com.linbit.ImplementationError;
 import com.linbit.PlatformStlt;
@@ -377,6 +378,7 @@ public final class Satellite
         LinStor.printStartupInfo();
 
         StltConfig cfg = new StltConfig(args);
+        BlockingThreads.setVirtualThreadsEnabled(cfg.isVirtualThreadsEnabled());
 
         System.setProperty("log.module", LinStor.SATELLITE_MODULE);
         System.setProperty("log.directory", cfg.getLogDirectory());
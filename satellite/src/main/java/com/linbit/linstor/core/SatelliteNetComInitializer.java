@@ -11,6 +11,7 @@ import com.linbit.linstor.api.interfaces.serializer.CommonSerializer;
 import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.modularcrypto.ModularCryptoProvider;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
 import com.linbit.linstor.netcom.MessageProcessor;
 import com.linbit.linstor.netcom.TcpConnector;
 import com.linbit.linstor.netcom.TcpConnectorService;
@@ -38,6 +39,7 @@ public final class SatelliteNetComInitializer
 
     private final ErrorReporter errorReporter;
     private final CommonSerializer commonSerializer;
+    private final DirectByteBufferPool bufferPool;
     private final AccessContext publicCtx;
     private final MessageProcessor msgProc;
     private final StltConnTracker stltConnTracker;
@@ -51,6 +53,7 @@ public final class SatelliteNetComInitializer
     public SatelliteNetComInitializer(
         ErrorReporter errorReporterRef,
         CommonSerializer commonSerializerRef,
+        DirectByteBufferPool bufferPoolRef,
         @PublicContext AccessContext publicCtxRef,
         CommonMessageProcessor msgProcRef,
         StltConnTracker stltConnTrackerRef,
@@ -61,6 +64,7 @@ public final class SatelliteNetComInitializer
     {
         errorReporter = errorReporterRef;
         commonSerializer = commonSerializerRef;
+        bufferPool = bufferPoolRef;
         publicCtx = publicCtxRef;
         msgProc = msgProcRef;
         stltConnTracker = stltConnTrackerRef;
@@ -102,11 +106,13 @@ public final class SatelliteNetComInitializer
                 netComSvc = new TcpConnectorService(
                     errorReporter,
                     commonSerializer,
+                    bufferPool,
                     msgProc,
                     bindAddress,
                     publicCtx,
                     initCtx,
-                    stltConnTracker
+                    stltConnTracker,
+                    stltCfg.getNetComWorkerThreads()
                 );
             }
             else
@@ -144,11 +150,13 @@ public final class SatelliteNetComInitializer
                     netComSvc = new SslTcpConnectorService(
                         errorReporter,
                         commonSerializer,
+                        bufferPool,
                         msgProc,
                         bindAddress,
                         publicCtx,
                         initCtx,
                         stltConnTracker,
+                        stltCfg.getNetComWorkerThreads(),
                         cryptoProvider,
                         sslProtocol,
                         serverCertificate,
@@ -1,7 +1,9 @@
 package com.linbit.linstor.core;
 
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRc;
 import com.linbit.linstor.core.StltUpdateTrackerImpl.AtomicUpdateHolder;
+import com.linbit.linstor.core.StltUpdateTrackerImpl.UpdateNotification;
 import com.linbit.linstor.core.identifier.ExternalFileName;
 import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.identifier.RemoteName;
@@ -11,6 +13,7 @@ import com.linbit.linstor.core.identifier.StorPoolName;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import reactor.core.publisher.Flux;
 
@@ -21,6 +24,13 @@ public interface StltUpdateTracker
     Flux<ApiCallRc> updateController();
     Flux<ApiCallRc> updateNode(UUID nodeUuid, NodeName name);
     Flux<ApiCallRc> updateResource(UUID rscUuid, ResourceName resourceName, NodeName nodeName);
+
+    /**
+     * For resource updates whose data was sent along with the notification. The notification is not queued for
+     * requesting the data, instead it is passed to the given consumer, which has to hand it over to the
+     * {@link DeviceManager} once the data is applied.
+     */
+    Flux<ApiCallRc> updateResourceWithData(@Nullable UUID rscUuid, Consumer<UpdateNotification> applyDataFunc);
     Flux<ApiCallRc> updateStorPool(UUID storPoolUuid, NodeName nodeNameRef, StorPoolName storPoolName);
     Flux<ApiCallRc> updateSnapshot(UUID snapshotUuid, ResourceName resourceName, SnapshotName snapshotName);
     Flux<ApiCallRc> updateExternalFile(UUID externalFileUuidRef, ExternalFileName externalFileNameRef);
@@ -21,6 +21,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
@@ -125,6 +126,24 @@ public class StltUpdateTrackerImpl implements StltUpdateTracker
         return update(updateNotification);
     }
 
+    @Override
+    public Flux<ApiCallRc> updateResourceWithData(@Nullable UUID rscUuid, Consumer<UpdateNotification> applyDataFunc)
+    {
+        UpdateNotification updateNotification = new UpdateNotification(rscUuid);
+        return Flux
+            .<ApiCallRc>create(fluxSink ->
+                {
+                    synchronized (sched)
+                    {
+                        updateNotification.addResponseSink(fluxSink);
+                    }
+                    applyDataFunc.accept(updateNotification);
+                }
+            )
+            // Handle dispatch responses asynchronously on the main thread pool
+            .publishOn(scheduler);
+    }
+
     @Override
     public Flux<ApiCallRc> updateStorPool(UUID storPoolUuid, NodeName nodeNameRef, StorPoolName storPoolName)
     {
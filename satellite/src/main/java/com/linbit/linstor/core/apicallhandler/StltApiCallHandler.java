@@ -30,6 +30,7 @@ import com.linbit.linstor.core.CoreModule;
 import com.linbit.linstor.core.DeviceManager;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.StltSecurityObjects;
+import com.linbit.linstor.core.StltUpdateTrackerImpl.UpdateNotification;
 import com.linbit.linstor.core.UpdateMonitor;
 import com.linbit.linstor.core.apicallhandler.StltStorPoolApiCallHandler.ChangedData;
 import com.linbit.linstor.core.apicallhandler.satellite.authentication.AuthenticationResult;
@@ -81,12 +82,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -96,6 +99,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.event.Level;
+import reactor.core.publisher.FluxSink;
 
 @Singleton
 public class StltApiCallHandler
@@ -244,18 +248,30 @@ public class StltApiCallHandler
 
         synchronized (dataToApply)
         {
+            dataToApply.values().forEach(ApplyData::discard);
             dataToApply.clear(); // controller should not have sent us anything before the authentication.
             // that means, everything in this map is out-dated data + we should receive a full sync next.
         }
 
+        // the data of the previous connection can only be reused if it was complete and the external tools
+        // did not change in the meantime (i.e. kernel upgrade with unintentional DRBD downgrade)
+        boolean retainDataIfPossible = updateMonitor.isCurrentFullSyncApplied();
+        @Nullable Map<ExtTools, ExtToolsInfo> prevExtTools = retainDataIfPossible ?
+            stltExtToolsChecker.getExternalTools(false) :
+            null;
+
         // re-cache external tools before calling "setControllerPeer", since that also initializes the peer's
         // ExtToosManager with the cached values of the stltExtToolChecker
-        Collection<ExtToolsInfo> extToolsInfoList = stltExtToolsChecker.getExternalTools(true).values();
-        controllerPeerConnector.setControllerPeer(
+        Map<ExtTools, ExtToolsInfo> extTools = stltExtToolsChecker.getExternalTools(true);
+        Collection<ExtToolsInfo> extToolsInfoList = extTools.values();
+        retainDataIfPossible &= prevExtTools != null && isSameExtTools(prevExtTools, extTools);
+
+        boolean dataRetained = controllerPeerConnector.setControllerPeer(
             ctrlUuid,
             controllerPeer,
             nodeUuid,
-            nodeName
+            nodeName,
+            retainDataIfPossible
         );
 
         // FIXME In the absence of any means of identification, assume the identity of the privileged API context
@@ -288,6 +304,7 @@ public class StltApiCallHandler
 
             authResult = new AuthenticationResult(
                 extToolsInfoList,
+                dataRetained,
                 ApiCallRcImpl.singletonApiCallRc(
                     ApiCallRcImpl.simpleEntry(
                         ApiConsts.CREATED | ApiConsts.MASK_NODE,
@@ -305,6 +322,26 @@ public class StltApiCallHandler
         return authResult;
     }
 
+    private static boolean isSameExtTools(Map<ExtTools, ExtToolsInfo> prevRef, Map<ExtTools, ExtToolsInfo> curRef)
+    {
+        boolean same = prevRef.keySet().equals(curRef.keySet());
+        if (same)
+        {
+            for (Entry<ExtTools, ExtToolsInfo> entry : prevRef.entrySet())
+            {
+                ExtToolsInfo prevInfo = entry.getValue();
+                ExtToolsInfo curInfo = curRef.get(entry.getKey());
+                if (prevInfo.isSupported() != curInfo.isSupported() ||
+                    !Objects.equals(prevInfo.getVersion(), curInfo.getVersion()))
+                {
+                    same = false;
+                    break;
+                }
+            }
+        }
+        return same;
+    }
+
     public FullSync.FullSyncResult applyFullSync(
         Map<String, String> satelliteProps,
         Set<NodePojo> nodes,
@@ -536,6 +573,73 @@ public class StltApiCallHandler
         return new FullSyncResult(success, stltPropsToAdd, stltPropKeysToDelete, stltPropNamespacesToDelete);
     }
 
+    /**
+     * Called instead of {@link #applyFullSync} if the controller decided that the data we kept from our previous
+     * connection is still up to date. Only the steps of a full sync that do not depend on the received data are
+     * executed.
+     */
+    public FullSync.FullSyncResult resumeFullSync(long fullSyncId)
+    {
+        FullSync.FullSyncStatus success;
+        try (
+            LockGuard ls = LockGuard.createLocked(
+                reconfigurationLock.writeLock(),
+                nodesMapLock.writeLock(),
+                rscDfnMapLock.writeLock(),
+                storPoolDfnMapLock.writeLock(),
+                remoteMapLock.writeLock()
+            )
+        )
+        {
+            if (updateMonitor.getCurrentFullSyncId() == fullSyncId)
+            {
+                @Nullable Node localNode = controllerPeerConnector.getLocalNode();
+                if (localNode != null)
+                {
+                    controllerPeerConnector.setControllerPeerToCurrentLocalNode();
+
+                    // Atomically notify the DeviceManager to check all resources
+                    deviceManager.fullSyncApplied(localNode);
+
+                    updateMonitor.setFullSyncApplied();
+
+                    errorReporter.logTrace("Resumed FullSync registered");
+
+                    createWatchForPeer();
+
+                    success = FullSync.FullSyncStatus.SUCCESS;
+                }
+                else
+                {
+                    // should not happen, as the controller only resumes if we told it that we kept our data
+                    errorReporter.logError("Controller requested to resume, but no local node is known");
+                    success = FullSync.FullSyncStatus.FAIL_UNKNOWN;
+                }
+            }
+            else
+            {
+                errorReporter.logWarning(
+                    "Ignored an incoming but outdated fullsync (%d, expected: %d)",
+                    fullSyncId,
+                    updateMonitor.getCurrentFullSyncId()
+                );
+                success = FullSync.FullSyncStatus.SUCCESS;
+            }
+        }
+        catch (Exception | ImplementationError exc)
+        {
+            success = FullSync.FullSyncStatus.FAIL_UNKNOWN;
+            errorReporter.reportError(exc);
+        }
+
+        if (success != FullSync.FullSyncStatus.SUCCESS)
+        {
+            // same as for a failed applyFullSync, ignore everything the controller might still send us
+            updateMonitor.getNextFullSyncId();
+        }
+        return new FullSyncResult(success, Collections.emptyMap(), Collections.emptySet(), Collections.emptySet());
+    }
+
     private void checkForAlreadyKnownResources(RscPojo rsc, boolean forceEventTrigger)
     {
         /*
@@ -743,6 +847,19 @@ public class StltApiCallHandler
         applyChangedData(new ApplyRscData(rscRawData));
     }
 
+    /**
+     * Applies resource data that the controller sent along with the update notification. Once applied, the
+     * notification is handed over to the {@link DeviceManager} for dispatching the resource.
+     */
+    public void applyPushedResourceChanges(
+        RscPojo rscRawData,
+        ResourceName rscName,
+        UpdateNotification updateNotification
+    )
+    {
+        applyChangedData(new ApplyRscData(rscRawData, rscName, updateNotification));
+    }
+
     public void applyDeletedResourceChange(
         String rscNameStr,
         long fullSyncId,
@@ -883,6 +1000,7 @@ public class StltApiCallHandler
             else
             {
                 errorReporter.logWarning("Ignoring received outdated update. ");
+                data.discard();
             }
         }
     }
@@ -1008,6 +1126,13 @@ public class StltApiCallHandler
         }
 
         void applyChange();
+
+        /**
+         * Called instead of {@link #applyChange()} if the data is outdated and will never be applied
+         */
+        default void discard()
+        {
+        }
     }
 
     private class ApplyControllerData implements ApplyData
@@ -1104,6 +1229,8 @@ public class StltApiCallHandler
     {
         private @Nullable RscPojo rscPojo;
         private @Nullable String deletedRscName;
+        private @Nullable ResourceName pushedRscName;
+        private @Nullable UpdateNotification pushedUpdate;
         private final long fullSyncId;
         private final long updateId;
 
@@ -1114,6 +1241,13 @@ public class StltApiCallHandler
             updateId = rscPojo.getUpdateId();
         }
 
+        ApplyRscData(RscPojo rscPojoRef, ResourceName pushedRscNameRef, UpdateNotification pushedUpdateRef)
+        {
+            this(rscPojoRef);
+            pushedRscName = pushedRscNameRef;
+            pushedUpdate = pushedUpdateRef;
+        }
+
         ApplyRscData(
             String rscNameRef,
             long fullSyncIdRef,
@@ -1157,6 +1291,20 @@ public class StltApiCallHandler
                     rscHandler.applyDeletedRsc(deletedRscName);
                 }
             }
+            if (pushedUpdate != null)
+            {
+                deviceManager.pushedRscUpdateApplied(pushedRscName, pushedUpdate);
+            }
+        }
+
+        @Override
+        public void discard()
+        {
+            if (pushedUpdate != null)
+            {
+                // nothing will be dispatched for this update
+                pushedUpdate.getResponseSinks().forEach(FluxSink::complete);
+            }
         }
     }
 
@@ -12,14 +12,18 @@ public class AuthenticationResult
 
     private final boolean authenticated;
 
+    private final boolean dataRetained;
+
     private final ApiCallRcImpl apiCallRcImpl;
 
     public AuthenticationResult(
         Collection<ExtToolsInfo> extToolsInfoListRef,
+        boolean dataRetainedRef,
         ApiCallRcImpl apiCallRcImplRef
     )
     {
         extToolsInfoList = extToolsInfoListRef;
+        dataRetained = dataRetainedRef;
         apiCallRcImpl = apiCallRcImplRef;
         authenticated = true;
     }
@@ -27,6 +31,7 @@ public class AuthenticationResult
     public AuthenticationResult(ApiCallRcImpl failedApiCallRcImplRef)
     {
         extToolsInfoList = null;
+        dataRetained = false;
         apiCallRcImpl = failedApiCallRcImplRef;
         authenticated = false;
     }
@@ -41,6 +46,14 @@ public class AuthenticationResult
         return extToolsInfoList;
     }
 
+    /**
+     * Returns true if the satellite kept the data it received during its previous connection to the controller
+     */
+    public boolean isDataRetained()
+    {
+        return dataRetained;
+    }
+
     public ApiCallRcImpl getApiCallRc()
     {
         return apiCallRcImpl;
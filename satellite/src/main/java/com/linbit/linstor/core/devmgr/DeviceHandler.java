@@ -57,6 +57,14 @@ public interface DeviceHandler
     {
     }
 
+    /**
+     * Called when the DeviceManager's service thread stopped, i.e. no resources are dispatched anymore until the
+     * DeviceManager is started again
+     */
+    default void shutdown()
+    {
+    }
+
     enum CloneStrategy
     {
         LVM_THIN_CLONE(0, false), // lvm snapshot, rename and pretend it is a volume
@@ -3,6 +3,7 @@ package com.linbit.linstor.core.devmgr;
 import com.linbit.ImplementationError;
 import com.linbit.InvalidNameException;
 import com.linbit.Platform;
+import com.linbit.WorkerPool;
 import com.linbit.exceptions.InvalidSizeException;
 import com.linbit.extproc.ExtCmdFactory;
 import com.linbit.linstor.InternalApiConsts;
@@ -12,6 +13,7 @@ import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.ApiCallRcImpl;
 import com.linbit.linstor.api.ApiCallRcImpl.EntryBuilder;
 import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.api.LinStorScope;
 import com.linbit.linstor.api.SpaceInfo;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.backupshipping.BackupShippingMgr;
@@ -21,6 +23,7 @@ import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.StltExternalFileHandler;
 import com.linbit.linstor.core.SysFsHandler;
 import com.linbit.linstor.core.UdevHandler;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.devmgr.exceptions.ResourceException;
 import com.linbit.linstor.core.devmgr.exceptions.VolumeException;
 import com.linbit.linstor.core.identifier.ResourceName;
@@ -65,7 +68,10 @@ import com.linbit.linstor.storage.interfaces.categories.resource.AbsRscLayerObje
 import com.linbit.linstor.storage.interfaces.categories.resource.VlmProviderObject;
 import com.linbit.linstor.storage.kinds.DeviceLayerKind;
 import com.linbit.linstor.storage.utils.MkfsUtils;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.linstor.transaction.manager.TransactionMgrUtil;
 import com.linbit.linstor.utils.SetUtils;
+import com.linbit.linstor.utils.layer.LayerVlmUtils;
 import com.linbit.utils.StringUtils;
 
 import javax.inject.Inject;
@@ -85,7 +91,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -95,6 +104,7 @@ public class DeviceHandlerImpl implements DeviceHandler
 
     private static final int LSBLK_DISC_GRAN_RETRY_COUNT = 10;
     private static final long LSBLK_DISC_GRAN_RETRY_TIMEOUT_IN_MS = 100;
+    private static final int RSC_WORKER_QUEUE_FACTOR = 2;
 
     private final AccessContext wrkCtx;
     private final ErrorReporter errorReporter;
@@ -118,6 +128,12 @@ public class DeviceHandlerImpl implements DeviceHandler
     private final BackupShippingMgr backupShippingManager;
     private final SuspendManager suspendMgr;
     private final LayerSizeHelper layerSizeHelper;
+    private final StltConfig stltCfg;
+    private final LinStorScope deviceMgrScope;
+    private final Provider<TransactionMgr> transMgrProvider;
+
+    // only created if parallel resource processing is enabled
+    private @Nullable WorkerPool rscWorkerPool;
 
     @Inject
     public DeviceHandlerImpl(
@@ -136,7 +152,10 @@ public class DeviceHandlerImpl implements DeviceHandler
         BackupShippingMgr backupShippingManagerRef,
         SuspendManager suspendMgrRef,
         LayerSizeHelper layerSizeHelperRef,
-        CloneService cloneServiceRef
+        CloneService cloneServiceRef,
+        StltConfig stltCfgRef,
+        LinStorScope deviceMgrScopeRef,
+        Provider<TransactionMgr> transMgrProviderRef
     )
     {
         wrkCtx = wrkCtxRef;
@@ -156,6 +175,9 @@ public class DeviceHandlerImpl implements DeviceHandler
         suspendMgr = suspendMgrRef;
         layerSizeHelper = layerSizeHelperRef;
         cloneService = cloneServiceRef;
+        stltCfg = stltCfgRef;
+        deviceMgrScope = deviceMgrScopeRef;
+        transMgrProvider = transMgrProviderRef;
 
         suspendMgrRef.setExceptionHandler(this::handleException);
 
@@ -379,122 +401,441 @@ public class DeviceHandlerImpl implements DeviceHandler
         failedRscs.putAll(suspendMgr.manageSuspendIo(resourceList, false));
 
         final NotificationListener notificationListener = notificationListenerProvider.get();
-        for (Resource rsc : resourceList)
+        final int parallelWorkers = stltCfg.getDevMgrParallelWorkers();
+        if (parallelWorkers > 1 && resourceList.size() > 1)
         {
-            ResourceName rscName = rsc.getResourceDefinition().getName();
-            ApiCallRcImpl apiCallRc = failedRscs.get(rsc);
-            if (apiCallRc == null)
+            Map<Resource, RscDispatchResult> results = processResourcesParallel(
+                resourceList,
+                failedRscs,
+                notificationListener,
+                parallelWorkers
+            );
+            // merge in the original order, so that the notifications are the same as in the sequential mode
+            for (Resource rsc : resourceList)
             {
-                apiCallRc = new ApiCallRcImpl();
-                try
-                {
-
-                    AbsRscLayerObject<Resource> rscLayerObject = rsc.getLayerData(wrkCtx);
-                    processResource(rscLayerObject, apiCallRc);
+                mergeDispatchResult(
+                    results.get(rsc),
+                    rscListNotifyApplied,
+                    rscListNotifyDelete,
+                    vlmListNotifyDelete,
+                    notificationListener
+                );
+            }
+        }
+        else
+        {
+            for (Resource rsc : resourceList)
+            {
+                mergeDispatchResult(
+                    dispatchResource(rsc, failedRscs.get(rsc), notificationListener),
+                    rscListNotifyApplied,
+                    rscListNotifyDelete,
+                    vlmListNotifyDelete,
+                    notificationListener
+                );
+            }
+        }
+    }
 
-                    StateFlags<Flags> rscFlags = rsc.getStateFlags();
-                    if (rscFlags.isUnset(wrkCtx, Flags.DELETE) &&
-                        rscFlags.isUnset(wrkCtx, Flags.DRBD_DELETE) &&
-                        rscFlags.isUnset(wrkCtx, Flags.INACTIVE) &&
-                        rsc.getResourceDefinition().getFlags().isUnset(wrkCtx, ResourceDefinition.Flags.CLONING))
+    /**
+     * Processes resources that do not share any dependencies concurrently using the device manager's
+     * resource worker pool. Resources of the same resource definition are processed sequentially within the
+     * same task, resources involved in cloning are processed sequentially by the calling thread after all
+     * other resources were processed.
+     *
+     * If a storage pool limit is configured, each task holds a permit of every storage pool used by its
+     * resources. The permits are always acquired in the same (sorted) order to avoid deadlocks.
+     */
+    private Map<Resource, RscDispatchResult> processResourcesParallel(
+        Collection<Resource> resourceList,
+        Map<Resource, ApiCallRcImpl> failedRscs,
+        NotificationListener notificationListener,
+        int parallelWorkers
+    )
+    {
+        final Map<Resource, RscDispatchResult> results = new ConcurrentHashMap<>();
+        final List<Resource> sequentialRscs = new ArrayList<>();
+        final Map<ResourceName, List<Resource>> rscsByRscDfn = new TreeMap<>();
+        final Map<ResourceName, TreeSet<StorPool>> storPoolsByRscDfn = new TreeMap<>();
+        final Map<StorPool, Semaphore> storPoolPermits = new HashMap<>();
+        final int storPoolLimit = stltCfg.getDevMgrStorPoolParallelLimit();
+        try
+        {
+            Set<ResourceName> cloneRscNames = getCloneRelatedRscNames(resourceList);
+            for (Resource rsc : resourceList)
+            {
+                ResourceName rscName = rsc.getResourceDefinition().getName();
+                if (cloneRscNames.contains(rscName))
+                {
+                    sequentialRscs.add(rsc);
+                }
+                else
+                {
+                    rscsByRscDfn.computeIfAbsent(rscName, ignored -> new ArrayList<>()).add(rsc);
+                    TreeSet<StorPool> storPools = storPoolsByRscDfn.computeIfAbsent(
+                        rscName,
+                        ignored -> new TreeSet<>()
+                    );
+                    storPools.addAll(LayerVlmUtils.getStorPools(rsc, wrkCtx));
+                    if (storPoolLimit > 0)
                     {
-                        if (rscLayerObject.getLayerKind().isLocalOnly())
+                        for (StorPool storPool : storPools)
                         {
-                            MkfsUtils.makeFileSystemOnMarked(errorReporter, extCmdFactory, wrkCtx, rsc);
+                            storPoolPermits.computeIfAbsent(storPool, ignored -> new Semaphore(storPoolLimit, true));
                         }
-                        updateDiscGran(rscLayerObject);
                     }
+                }
+            }
+        }
+        catch (AccessDeniedException exc)
+        {
+            throw new ImplementationError(exc);
+        }
 
-                    /*
-                     * old device manager reported changes of free space after every
-                     * resource operation. As this could require to query the same
-                     * VG or zpool multiple times within the same device manager run,
-                     * we only query the free space after the whole run.
-                     * This also means that we only send the resourceApplied messages
-                     * at the very end
-                     */
-                    if (rscFlags.isSet(wrkCtx, Resource.Flags.DELETE))
-                    {
-                        rscListNotifyDelete.add(rsc);
-                        Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
-                        while (iterateVolumes.hasNext())
-                        {
-                            Volume vlm = iterateVolumes.next();
-                            // verify if all VlmProviderObject were deleted correctly
-                            ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
-                            vlmListNotifyDelete.add(vlm);
-                        }
-                        notificationListener.notifyResourceDeleted(rsc);
-                        // rsc.delete is done by the deviceManager
-                    }
-                    else
+        // the workers share the transaction of the device manager run (which is always committed at the end of
+        // the run), the SatelliteTransactionMgr is thread-safe
+        final TransactionMgr transMgr = transMgrProvider.get();
+        final WorkerPool workerPool = getRscWorkerPool(parallelWorkers);
+        final AtomicReference<ImplementationError> implErrorRef = new AtomicReference<>();
+        for (Map.Entry<ResourceName, List<Resource>> entry : rscsByRscDfn.entrySet())
+        {
+            List<Semaphore> permits = new ArrayList<>();
+            for (StorPool storPool : storPoolsByRscDfn.get(entry.getKey()))
+            {
+                Semaphore permit = storPoolPermits.get(storPool);
+                if (permit != null)
+                {
+                    permits.add(permit);
+                }
+            }
+            List<Resource> rscs = entry.getValue();
+            workerPool.submit(
+                inDeviceMgrScope(
+                    deviceMgrScope,
+                    transMgr,
+                    notificationListener,
+                    () ->
                     {
-                        Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
-                        while (iterateVolumes.hasNext())
+                        int acquired = 0;
+                        try
                         {
-                            Volume vlm = iterateVolumes.next();
-                            if (vlm.getFlags().isSet(wrkCtx, Volume.Flags.DELETE))
+                            for (Semaphore permit : permits)
                             {
-                                // verify if all VlmProviderObject were deleted correctly
-                                ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
-                                vlmListNotifyDelete.add(vlm);
+                                permit.acquireUninterruptibly();
+                                ++acquired;
+                            }
+                            for (Resource rsc : rscs)
+                            {
+                                RscDispatchResult result;
+                                try
+                                {
+                                    result = dispatchResource(rsc, failedRscs.get(rsc), notificationListener);
+                                }
+                                catch (ImplementationError implErr)
+                                {
+                                    // rethrown by the device manager thread, just like in the sequential mode
+                                    throw implErr;
+                                }
+                                catch (Throwable exc)
+                                {
+                                    // do not let the worker swallow it, report it as the resource's failure
+                                    result = new RscDispatchResult(rsc);
+                                    result.apiCallRc = handleException(rsc, exc);
+                                }
+                                results.put(rsc, result);
                             }
-                            else
+                        }
+                        catch (ImplementationError implErr)
+                        {
+                            implErrorRef.compareAndSet(null, implErr);
+                        }
+                        finally
+                        {
+                            for (int idx = acquired - 1; idx >= 0; --idx)
                             {
-                                updateDeviceSymlinks(vlm);
+                                permits.get(idx).release();
                             }
                         }
-                        rscListNotifyApplied.add(rsc);
                     }
+                )
+            );
+        }
+        workerPool.finish();
 
-                    extFileHandler.handle(rsc);
+        @Nullable ImplementationError implError = implErrorRef.get();
+        if (implError != null)
+        {
+            throw implError;
+        }
 
-                    // give the layer the opportunity to send a "resource ready" event
-                    @Nullable AbsRscLayerObject<Resource> firstNonIgnoredRscData = getFirstRscDataToExecuteForDataPath(
-                        rsc.getLayerData(wrkCtx)
-                    );
-                    if (firstNonIgnoredRscData == null)
+        for (Resource rsc : sequentialRscs)
+        {
+            results.put(rsc, dispatchResource(rsc, failedRscs.get(rsc), notificationListener));
+        }
+        return results;
+    }
+
+    /**
+     * Wraps the given task so that it runs within its own device manager scope, seeded with the transaction
+     * manager and notification listener of the current device manager run. The layers access both through
+     * providers, which only work within an entered scope, and the scope is thread local.
+     */
+    static Runnable inDeviceMgrScope(
+        LinStorScope deviceMgrScopeRef,
+        TransactionMgr transMgrRef,
+        NotificationListener notificationListenerRef,
+        Runnable taskRef
+    )
+    {
+        return () ->
+        {
+            try (LinStorScope.ScopeAutoCloseable ignored = deviceMgrScopeRef.enter())
+            {
+                TransactionMgrUtil.seedTransactionMgr(deviceMgrScopeRef, transMgrRef);
+                deviceMgrScopeRef.seed(NotificationListener.class, notificationListenerRef);
+                taskRef.run();
+            }
+        };
+    }
+
+    /**
+     * Returns the names of the resources that are either the target or the source of a currently running
+     * clone operation.
+     */
+    private Set<ResourceName> getCloneRelatedRscNames(Collection<Resource> resourceList)
+        throws AccessDeniedException
+    {
+        Set<ResourceName> ret = new TreeSet<>();
+        for (Resource rsc : resourceList)
+        {
+            ResourceDefinition rscDfn = rsc.getResourceDefinition();
+            if (rscDfn.getFlags().isSet(wrkCtx, ResourceDefinition.Flags.CLONING) || anyVlmInCloningState(rsc))
+            {
+                ret.add(rscDfn.getName());
+                @Nullable String srcRscName = rscDfn.getProps(wrkCtx).getProp(InternalApiConsts.KEY_CLONED_FROM);
+                if (srcRscName != null)
+                {
+                    try
                     {
-                        Set<LayerIgnoreReason> ignoreReasons = rsc.getLayerData(wrkCtx).getIgnoreReasons();
-                        errorReporter.logDebug(
-                            "Not calling resourceFinished for any layer as the resource '%s' is completely ignored. " +
-                                "Topmost reason%s: %s",
-                            rsc.getLayerData(wrkCtx).getSuffixedResourceName(),
-                            ignoreReasons.size() > 1 ? "s" : "",
-                            LayerIgnoreReason.getDescriptions(ignoreReasons)
-                        );
+                        ret.add(new ResourceName(srcRscName));
                     }
-                    else
+                    catch (InvalidNameException exc)
                     {
-                        resourceFinished(firstNonIgnoredRscData);
+                        throw new ImplementationError("Couldn't create resource name from: " + srcRscName, exc);
                     }
+                }
+            }
+        }
+        return ret;
+    }
+
+    @Override
+    public synchronized void shutdown()
+    {
+        WorkerPool pool = rscWorkerPool;
+        if (pool != null)
+        {
+            // recreated by getRscWorkerPool if the device manager is started again
+            pool.shutdown();
+            rscWorkerPool = null;
+        }
+    }
+
+    private synchronized WorkerPool getRscWorkerPool(int parallelWorkers)
+    {
+        WorkerPool pool = rscWorkerPool;
+        if (pool == null)
+        {
+            pool = WorkerPool.initialize(
+                parallelWorkers,
+                parallelWorkers * RSC_WORKER_QUEUE_FACTOR,
+                true,
+                "DevMgrRscWorker",
+                errorReporter,
+                null
+            );
+            rscWorkerPool = pool;
+        }
+        return pool;
+    }
 
-                    if (Platform.isLinux())
+    private void mergeDispatchResult(
+        RscDispatchResult result,
+        List<Resource> rscListNotifyApplied,
+        List<Resource> rscListNotifyDelete,
+        List<Volume> vlmListNotifyDelete,
+        NotificationListener notificationListener
+    )
+    {
+        finishDispatch(result);
+        if (result.notifyDelete)
+        {
+            rscListNotifyDelete.add(result.rsc);
+        }
+        vlmListNotifyDelete.addAll(result.vlmsNotifyDelete);
+        if (result.notifyApplied)
+        {
+            rscListNotifyApplied.add(result.rsc);
+        }
+        notificationListener.notifyResourceDispatchResponse(
+            result.rsc.getResourceDefinition().getName(),
+            result.apiCallRc
+        );
+    }
+
+    private RscDispatchResult dispatchResource(
+        Resource rsc,
+        @Nullable ApiCallRcImpl failedApiCallRc,
+        NotificationListener notificationListener
+    )
+        throws ImplementationError
+    {
+        RscDispatchResult result = new RscDispatchResult(rsc);
+        if (failedApiCallRc != null)
+        {
+            result.apiCallRc = failedApiCallRc;
+        }
+        else
+        {
+            ApiCallRcImpl apiCallRc = new ApiCallRcImpl();
+            try
+            {
+
+                AbsRscLayerObject<Resource> rscLayerObject = rsc.getLayerData(wrkCtx);
+                processResource(rscLayerObject, apiCallRc);
+
+                StateFlags<Flags> rscFlags = rsc.getStateFlags();
+                if (rscFlags.isUnset(wrkCtx, Flags.DELETE) &&
+                    rscFlags.isUnset(wrkCtx, Flags.DRBD_DELETE) &&
+                    rscFlags.isUnset(wrkCtx, Flags.INACTIVE) &&
+                    rsc.getResourceDefinition().getFlags().isUnset(wrkCtx, ResourceDefinition.Flags.CLONING))
+                {
+                    if (rscLayerObject.getLayerKind().isLocalOnly())
                     {
-                        if (rscFlags.isUnset(wrkCtx, Resource.Flags.DELETE, Flags.DRBD_DELETE))
+                        MkfsUtils.makeFileSystemOnMarked(errorReporter, extCmdFactory, wrkCtx, rsc);
+                    }
+                    updateDiscGran(rscLayerObject);
+                }
+
+                /*
+                 * old device manager reported changes of free space after every
+                 * resource operation. As this could require to query the same
+                 * VG or zpool multiple times within the same device manager run,
+                 * we only query the free space after the whole run.
+                 * This also means that we only send the resourceApplied messages
+                 * at the very end
+                 */
+                if (rscFlags.isSet(wrkCtx, Resource.Flags.DELETE))
+                {
+                    result.notifyDelete = true;
+                    Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
+                    while (iterateVolumes.hasNext())
+                    {
+                        Volume vlm = iterateVolumes.next();
+                        // verify if all VlmProviderObject were deleted correctly
+                        ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
+                        result.vlmsNotifyDelete.add(vlm);
+                    }
+                    notificationListener.notifyResourceDeleted(rsc);
+                    // rsc.delete is done by the deviceManager
+                }
+                else
+                {
+                    Iterator<Volume> iterateVolumes = rsc.iterateVolumes();
+                    while (iterateVolumes.hasNext())
+                    {
+                        Volume vlm = iterateVolumes.next();
+                        if (vlm.getFlags().isSet(wrkCtx, Volume.Flags.DELETE))
                         {
-                            sysFsHandler.update(rsc, apiCallRc);
+                            // verify if all VlmProviderObject were deleted correctly
+                            ensureAllVlmDataDeleted(rscLayerObject, vlm.getVolumeDefinition().getVolumeNumber());
+                            result.vlmsNotifyDelete.add(vlm);
                         }
                         else
                         {
-                            sysFsHandler.cleanup(rsc);
+                            updateDeviceSymlinks(vlm);
                         }
                     }
+                    result.notifyApplied = true;
                 }
-                catch (AccessDeniedException | DatabaseException exc)
+
+                // the remaining steps are done by finishDispatch on the device manager thread
+                result.finishPending = true;
+            }
+            catch (AccessDeniedException | DatabaseException exc)
+            {
+                throw new ImplementationError(exc);
+            }
+            catch (DeviceLayer.BlockedPortsException blockedPortsExc)
+            {
+                apiCallRc = buildBlockedPortsResponse(rsc, blockedPortsExc);
+            }
+            catch (Exception | ImplementationError exc)
+            {
+                apiCallRc = handleException(rsc, exc);
+            }
+            result.apiCallRc = apiCallRc;
+        }
+        return result;
+    }
+
+    /**
+     * Second part of dispatching a resource, which is only executed if the layers processed the resource
+     * successfully. Always runs on the device manager thread, also if the resources were processed by the
+     * resource workers, since neither the external file handler nor the sysfs handler are thread-safe.
+     */
+    private void finishDispatch(RscDispatchResult result)
+    {
+        if (result.finishPending)
+        {
+            result.finishPending = false;
+            Resource rsc = result.rsc;
+            try
+            {
+                StateFlags<Flags> rscFlags = rsc.getStateFlags();
+                ApiCallRcImpl apiCallRc = result.apiCallRc;
+                extFileHandler.handle(rsc);
+
+                // give the layer the opportunity to send a "resource ready" event
+                @Nullable AbsRscLayerObject<Resource> firstNonIgnoredRscData = getFirstRscDataToExecuteForDataPath(
+                    rsc.getLayerData(wrkCtx)
+                );
+                if (firstNonIgnoredRscData == null)
                 {
-                    throw new ImplementationError(exc);
+                    Set<LayerIgnoreReason> ignoreReasons = rsc.getLayerData(wrkCtx).getIgnoreReasons();
+                    errorReporter.logDebug(
+                        "Not calling resourceFinished for any layer as the resource '%s' is completely ignored. " +
+                            "Topmost reason%s: %s",
+                        rsc.getLayerData(wrkCtx).getSuffixedResourceName(),
+                        ignoreReasons.size() > 1 ? "s" : "",
+                        LayerIgnoreReason.getDescriptions(ignoreReasons)
+                    );
                 }
-                catch (DeviceLayer.BlockedPortsException blockedPortsExc)
+                else
                 {
-                    apiCallRc = buildBlockedPortsResponse(rsc, blockedPortsExc);
+                    resourceFinished(firstNonIgnoredRscData);
                 }
-                catch (Exception | ImplementationError exc)
+
+                if (Platform.isLinux())
                 {
-                    apiCallRc = handleException(rsc, exc);
+                    if (rscFlags.isUnset(wrkCtx, Resource.Flags.DELETE, Flags.DRBD_DELETE))
+                    {
+                        sysFsHandler.update(rsc, apiCallRc);
+                    }
+                    else
+                    {
+                        sysFsHandler.cleanup(rsc);
+                    }
                 }
             }
-            notificationListener.notifyResourceDispatchResponse(rscName, apiCallRc);
+            catch (AccessDeniedException exc)
+            {
+                throw new ImplementationError(exc);
+            }
+            catch (Exception | ImplementationError exc)
+            {
+                result.apiCallRc = handleException(rsc, exc);
+            }
         }
     }
 
@@ -1863,4 +2204,21 @@ public class DeviceHandlerImpl implements DeviceHandler
             processAfterClone(vlmSrcData, childVlmData, clonedDevPath);
         }
     }
+
+    private static class RscDispatchResult
+    {
+        private final Resource rsc;
+        private final List<Volume> vlmsNotifyDelete = new ArrayList<>();
+        private ApiCallRcImpl apiCallRc;
+        private boolean notifyApplied;
+        private boolean notifyDelete;
+        // set if the layers processed the resource, but finishDispatch still needs to be called
+        private boolean finishPending;
+
+        RscDispatchResult(Resource rscRef)
+        {
+            rsc = rscRef;
+            apiCallRc = new ApiCallRcImpl();
+        }
+    }
 }
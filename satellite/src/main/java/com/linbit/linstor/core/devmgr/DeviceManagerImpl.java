@@ -209,6 +209,10 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
 
     private final StltApiCallHandlerUtils apiCallHandlerUtils;
 
+    private final VlmAllocatedTracker vlmAllocatedTracker = new VlmAllocatedTracker();
+    // resources dispatched during the current cycle, used to report their changed allocated sizes
+    private final Set<ResourceName> cycleDispatchedRscNames = new TreeSet<>();
+
     private final DeviceHandler devHandler;
     private boolean devHandlerInitialized = false;
     private ResourceStateEvent resourceStateEvent;
@@ -476,6 +480,21 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         }
     }
 
+    /**
+     * Called once the data that the controller sent along with a resource update notification is applied.
+     * Such notifications never enter the update bundles, so the resource is dispatched in the next cycle.
+     */
+    @Override
+    public void pushedRscUpdateApplied(ResourceName rscName, UpdateNotification updateNotification)
+    {
+        synchronized (sched)
+        {
+            markPendingRscDispatch(updateNotification, Collections.singleton(rscName));
+            collectUpdateNotificationForceWakeFlag.set(true);
+            sched.notify();
+        }
+    }
+
     @Override
     public void snapshotUpdateApplied(Set<SnapshotDefinition.Key> snapshotKeySet)
     {
@@ -665,6 +684,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
         }
         finally
         {
+            devHandler.shutdown();
             runningFlag.set(false);
             errLog.logDebug("DeviceManager service stopped");
         }
@@ -731,6 +751,8 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
                         pendingDispatchRscs.putAll(dispatchRscs);
                     }
                     devHandler.fullSyncApplied(controllerPeerConnector.getLocalNode());
+                    // the controller might have lost or reverted the reported allocations, report all of them again
+                    vlmAllocatedTracker.clear();
                 }
                 else
                 {
@@ -850,11 +872,67 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
                     requiredLocks = null;
                 }
 
+                // querying the allocated sizes runs external commands, therefore this is only done after the
+                // controller was told to release the shared storage pool locks of this run
+                pushChangedVlmAllocations(ctrlPeer);
+
                 ++cycleNr;
             }
         }
     }
 
+    /**
+     * Sends the allocated sizes of the volumes of the resources dispatched during this cycle to the controller, as far
+     * as they changed since they were last reported.
+     */
+    private void pushChangedVlmAllocations(Peer ctrlPeer)
+    {
+        Map<Volume.Key, Long> changedVlmAllocations = collectChangedVlmAllocations();
+        if (!changedVlmAllocations.isEmpty())
+        {
+            boolean sent = ctrlPeer.sendMessage(
+                interComSerializer
+                    .onewayBuilder(InternalApiConsts.API_NOTIFY_VLM_ALLOCATED_CHANGED)
+                    .notifyVlmAllocatedChanged(changedVlmAllocations)
+                    .build()
+            );
+            if (sent)
+            {
+                vlmAllocatedTracker.reported(changedVlmAllocations);
+            }
+        }
+    }
+
+    /**
+     * Queries the allocated sizes of the (thinly provisioned) volumes of the resources dispatched during this cycle and
+     * returns the ones that changed since they were last reported to the controller.
+     */
+    private Map<Volume.Key, Long> collectChangedVlmAllocations()
+    {
+        Map<Volume.Key, Long> changedVlmAllocations = Collections.emptyMap();
+        // an empty resource filter would query all resources
+        if (!cycleDispatchedRscNames.isEmpty())
+        {
+            try
+            {
+                changedVlmAllocations = vlmAllocatedTracker.getChangedAllocations(
+                    cycleDispatchedRscNames,
+                    apiCallHandlerUtils.getVlmAllocatedCapacities(
+                        Collections.emptySet(),
+                        cycleDispatchedRscNames
+                    )
+                );
+            }
+            catch (Exception | ImplementationError exc)
+            {
+                // the controller still gets the allocated sizes by its periodic space info query
+                errLog.reportError(Level.WARN, exc);
+            }
+            cycleDispatchedRscNames.clear();
+        }
+        return changedVlmAllocations;
+    }
+
     private void phaseCollectUpdateNotifications()
         throws SvcCondException
     {
@@ -981,6 +1059,7 @@ class DeviceManagerImpl implements Runnable, SystemService, DeviceManager, Devic
 
             Node localNode = controllerPeerConnector.getLocalNode();
             copyReadOnlyData(localNode);
+            cycleDispatchedRscNames.addAll(dispatchRscs.keySet());
 
             SatelliteTransactionMgr transMgr = new SatelliteTransactionMgr();
 
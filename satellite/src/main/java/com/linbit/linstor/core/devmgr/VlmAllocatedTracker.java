@@ -0,0 +1,75 @@
+package com.linbit.linstor.core.devmgr;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.utils.Either;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Remembers the allocated sizes that were last reported to the controller, so that after a device manager run only
+ * the allocated sizes that actually changed need to be sent.
+ * <br/>
+ * Only used by the device manager thread, therefore not thread safe.
+ */
+class VlmAllocatedTracker
+{
+    private final Map<Volume.Key, Long> reportedAllocations = new HashMap<>();
+
+    /**
+     * Compares the given allocated sizes of the processed resources with the last reported ones.
+     * Volumes that failed to report their allocated size are skipped, volumes of the processed resources that no longer
+     * exist are forgotten.
+     *
+     * @return the allocated sizes that differ from the last reported ones
+     */
+    Map<Volume.Key, Long> getChangedAllocations(
+        Set<ResourceName> processedRscNamesRef,
+        Map<Volume.Key, Either<Long, ApiRcException>> currentAllocationsRef
+    )
+    {
+        Iterator<Volume.Key> reportedIt = reportedAllocations.keySet().iterator();
+        while (reportedIt.hasNext())
+        {
+            Volume.Key vlmKey = reportedIt.next();
+            if (processedRscNamesRef.contains(vlmKey.getResourceName()) &&
+                !currentAllocationsRef.containsKey(vlmKey))
+            {
+                reportedIt.remove();
+            }
+        }
+
+        Map<Volume.Key, Long> changedAllocations = new HashMap<>();
+        for (Entry<Volume.Key, Either<Long, ApiRcException>> entry : currentAllocationsRef.entrySet())
+        {
+            @Nullable Long allocated = entry.getValue().map(size -> size, ignored -> null);
+            if (allocated != null && !allocated.equals(reportedAllocations.get(entry.getKey())))
+            {
+                changedAllocations.put(entry.getKey(), allocated);
+            }
+        }
+        return changedAllocations;
+    }
+
+    /**
+     * Records the given allocated sizes as reported, should be called once they were sent to the controller
+     */
+    void reported(Map<Volume.Key, Long> allocationsRef)
+    {
+        reportedAllocations.putAll(allocationsRef);
+    }
+
+    /**
+     * Forgets all reported allocated sizes, i.e. all allocated sizes will be reported again after the next run
+     */
+    void clear()
+    {
+        reportedAllocations.clear();
+    }
+}
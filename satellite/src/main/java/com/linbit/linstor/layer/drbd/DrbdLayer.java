@@ -18,6 +18,7 @@ import com.linbit.linstor.api.ApiConsts;
 import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.core.ControllerPeerConnector;
 import com.linbit.linstor.core.StltConfigAccessor;
+import com.linbit.linstor.core.cfg.StltConfig;
 import com.linbit.linstor.core.SysBlockUtils;
 import com.linbit.linstor.core.devmgr.DeviceHandler;
 import com.linbit.linstor.core.devmgr.exceptions.ResourceException;
@@ -83,6 +84,7 @@ import javax.inject.Singleton;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -90,6 +92,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -115,15 +118,22 @@ public class DrbdLayer implements DeviceLayer
     private final StltConfigAccessor stltCfgAccessor;
     private final DrbdVersion drbdVersion;
     private final WindowsFirewall windowsFirewall;
+    private final StltConfig stltCfg;
 
     @Nullable private static String drbdSetupStatusOutput;
 
     /**
-     * This is a list of resource names (lowercase) that needs to be adjusted, in the devmanager run
+     * This is a set of resource names (lowercase) that needs to be adjusted, in the devmanager run
      * If null, adjust all resources as before this command was available
+     * The set is concurrent, since parallel device manager workers update it while processing their resources
      */
-    @Nullable private static List<String> adjustResourcesList;
+    @Nullable private static Set<String> adjustResourcesList;
 
+    /**
+     * Backing devices (data and external meta data) of every volume, keyed by {@link DrbdVlmData#getIdentifier()}, as
+     * they were when its resource was last adjusted successfully. See {@link #isBatchAdjustable} why this is needed.
+     */
+    private final Map<String, List<@Nullable String>> adjustedBackingDevices = new ConcurrentHashMap<>();
 
     @Inject
     public DrbdLayer(
@@ -139,7 +149,8 @@ public class DrbdLayer implements DeviceLayer
         ExtCmdFactory extCmdFactoryRef,
         StltConfigAccessor stltCfgAccessorRef,
         DrbdVersion drbdVersionRef,
-        WindowsFirewall windowsFirewallRef
+        WindowsFirewall windowsFirewallRef,
+        StltConfig stltCfgRef
     )
     {
         workerCtx = workerCtxRef;
@@ -155,6 +166,7 @@ public class DrbdLayer implements DeviceLayer
         stltCfgAccessor = stltCfgAccessorRef;
         drbdVersion = drbdVersionRef;
         windowsFirewall = windowsFirewallRef;
+        stltCfg = stltCfgRef;
     }
 
     @Override
@@ -181,10 +193,18 @@ public class DrbdLayer implements DeviceLayer
         {
             try
             {
-                adjustResourcesList = drbdUtils.listAdjustable();
-                if (adjustResourcesList != null)
+                @Nullable List<String> adjustableRscs = drbdUtils.listAdjustable();
+                if (adjustableRscs != null)
+                {
+                    Set<String> adjustRscSet = ConcurrentHashMap.newKeySet();
+                    adjustRscSet.addAll(adjustableRscs);
+                    adjustRscSet.addAll(notGeneratedResFiles);
+                    adjustResourcesList = adjustRscSet;
+                    adjustInBatches(rscDataList, adjustRscSet);
+                }
+                else
                 {
-                    adjustResourcesList.addAll(notGeneratedResFiles);
+                    adjustResourcesList = null;
                 }
             }
             catch (ExtCmdFailedException extCmdExc)
@@ -378,6 +398,7 @@ public class DrbdLayer implements DeviceLayer
                         drbdResFileUtils.regenerateResFile(drbdRscData);
 
                         drbdUtils.adjust(drbdRscData, false, false, false);
+                        rememberBackingDevices(drbdRscData);
 
                         errorReporter.logDebug(
                             "DrbdLayer processResource: DRBD resource \"%s\", reset property, %s = %b",
@@ -563,6 +584,7 @@ public class DrbdLayer implements DeviceLayer
                 addDeletedMsg(drbdRscData, apiCallRc);
             }
             drbdResFileUtils.deleteResFile(drbdRscData);
+            forgetBackingDevices(drbdRscData);
 
             drbdRscData.setExists(false);
             for (DrbdVlmData<Resource> drbdVlmData : drbdRscData.getVlmLayerObjects().values())
@@ -908,9 +930,11 @@ public class DrbdLayer implements DeviceLayer
                             skipDisk,
                             false
                         );
+                        rememberBackingDevices(drbdRscData);
                     }
                     catch (ExtCmdFailedException extCmdExc)
                     {
+                        forgetBackingDevices(drbdRscData);
                         drbdResFileUtils.restoreBackupResFile(drbdRscData);
                         throw extCmdExc;
                     }
@@ -1159,6 +1183,7 @@ public class DrbdLayer implements DeviceLayer
                 false,
                 false
             );
+            rememberBackingDevices(drbdRscData);
         }
     }
 
@@ -1238,6 +1263,159 @@ public class DrbdLayer implements DeviceLayer
         return String.format(DRBD_DEVICE_PATH_FORMAT, drbdVlmData.getVlmDfnLayerObject().getMinorNr().value);
     }
 
+    /**
+     * Adjusts the resources that only need their changed configuration applied with as few drbdadm calls as
+     * possible, instead of one call per resource later in {@link #processResource}.
+     *
+     * Resources adjusted here are removed from the given set (i.e. {@link #adjustResourcesList}), so that
+     * processResource does not adjust them again. If a batch fails, its resources stay in the set and are adjusted one
+     * by one by processResource, which also reports the failure of the affected resource.
+     */
+    void adjustInBatches(Set<AbsRscLayerObject<Resource>> rscDataList, Set<String> adjustRscSet)
+        throws AccessDeniedException
+    {
+        final int batchSize = stltCfg.getDevMgrDrbdAdjustBatchSize();
+        if (batchSize > 1 && !Platform.isWindows())
+        {
+            List<DrbdRscData<Resource>> batchableList = new ArrayList<>();
+            for (AbsRscLayerObject<Resource> rscLayerObject : rscDataList)
+            {
+                DrbdRscData<Resource> drbdRscData = (DrbdRscData<Resource>) rscLayerObject;
+                if (isBatchAdjustable(drbdRscData, adjustRscSet))
+                {
+                    batchableList.add(drbdRscData);
+                }
+            }
+
+            for (int batchStart = 0; batchStart < batchableList.size(); batchStart += batchSize)
+            {
+                List<DrbdRscData<Resource>> batch = batchableList.subList(
+                    batchStart,
+                    Math.min(batchStart + batchSize, batchableList.size())
+                );
+                // a single remaining resource is simply adjusted by processResource
+                if (batch.size() > 1)
+                {
+                    try
+                    {
+                        drbdUtils.adjustBatch(batch);
+                        for (DrbdRscData<Resource> drbdRscData : batch)
+                        {
+                            adjustRscSet.remove(drbdRscData.getResourceName().displayValue.toLowerCase());
+                            rememberBackingDevices(drbdRscData);
+                        }
+                        errorReporter.logDebug("Adjusted %d DRBD resources with a single call", batch.size());
+                    }
+                    catch (ExtCmdFailedException extCmdExc)
+                    {
+                        errorReporter.logWarning(
+                            "Adjusting %d DRBD resources with a single call failed, adjusting them separately. %s",
+                            batch.size(),
+                            extCmdExc.getMessage()
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Only resources that are already up with all of their volumes and that do not need any of the preparation
+     * steps of {@link #adjustDrbd} (detach, resize, new metadata, restore, ...) can be adjusted in a batch.
+     * <br/>
+     * The batch is adjusted during {@link #prepare}, i.e. before the child layers processed their resources. Therefore
+     * the backing devices of all volumes have to exist already and have to be the same as during the last successful
+     * adjust of the resource, otherwise the batch might attach a device that is about to change.
+     */
+    private boolean isBatchAdjustable(DrbdRscData<Resource> drbdRscData, Set<String> adjustRscSet)
+        throws AccessDeniedException
+    {
+        Resource rsc = drbdRscData.getAbsResource();
+        Map<String, String> rscPropsMap = rsc.getProps(workerCtx).map();
+        boolean batchable = drbdRscData.getResourceNameSuffix().isEmpty() &&
+            adjustRscSet.contains(drbdRscData.getResourceName().displayValue.toLowerCase()) &&
+            drbdRscData.isResFileReady(workerCtx) &&
+            !rsc.getStateFlags().isSomeSet(
+                workerCtx,
+                Flags.DELETE,
+                Flags.DRBD_DELETE,
+                Flags.INACTIVE,
+                Flags.DISK_ADD_REQUESTED,
+                Flags.DISK_ADDING,
+                Flags.DISK_REMOVE_REQUESTED,
+                Flags.DISK_REMOVING,
+                Flags.RESTORE_FROM_SNAPSHOT
+            ) &&
+            drbdRscData.getFlags().isSet(workerCtx, DrbdRscFlags.INITIALIZED) &&
+            !drbdRscData.getFlags().isSomeSet(workerCtx, DrbdRscFlags.FORCE_NEW_METADATA, DrbdRscFlags.INVALIDATE) &&
+            !rscPropsMap.containsKey(ApiConsts.KEY_RSC_ROLLBACK_TARGET) &&
+            !Boolean.parseBoolean(rscPropsMap.get(InternalApiConsts.MIN_IO_SIZE_RESTART_DRBD)) &&
+            !drbdRscData.isSkipDiskEnabled(workerCtx, stltCfgAccessor.getReadonlyProps());
+
+        if (batchable)
+        {
+            @Nullable DrbdResource drbdRscState;
+            try
+            {
+                drbdRscState = drbdState.getDrbdResource(drbdRscData.getSuffixedResourceName());
+            }
+            catch (NoInitialStateException exc)
+            {
+                drbdRscState = null;
+            }
+            batchable = drbdRscState != null &&
+                drbdRscState.getVolumesMap().size() == drbdRscData.getVlmLayerObjects().size();
+            for (DrbdVlmData<Resource> drbdVlmData : drbdRscData.getVlmLayerObjects().values())
+            {
+                List<@Nullable String> backingDevices = getBackingDevices(drbdVlmData);
+                batchable &= drbdRscState != null && drbdRscState.getVolume(drbdVlmData.getVlmNr()) != null &&
+                    !((Volume) drbdVlmData.getVolume()).getFlags().isSomeSet(
+                        workerCtx,
+                        Volume.Flags.DELETE,
+                        Volume.Flags.DRBD_DELETE,
+                        Volume.Flags.RESIZE,
+                        Volume.Flags.DRBD_RESIZE
+                    ) &&
+                    backingDevices.equals(adjustedBackingDevices.get(drbdVlmData.getIdentifier())) &&
+                    backingDevices.stream().allMatch(devPath -> devPath == null || Files.exists(Paths.get(devPath)));
+            }
+            for (DrbdRscData<Resource> peer : drbdRscData.getRscDfnLayerObject().getDrbdRscDataList())
+            {
+                for (DrbdVlmData<Resource> peerVlm : peer.getVlmLayerObjects().values())
+                {
+                    // a peer that is currently shrinking blocks the adjust, see adjustDrbd
+                    batchable &= !isFlagSet(peerVlm, Volume.Flags.DRBD_RESIZE) ||
+                        isFlagSet(peerVlm, Volume.Flags.RESIZE);
+                }
+            }
+        }
+        return batchable;
+    }
+
+    /**
+     * Has to be called after each successful adjust of the given resource, see {@link #isBatchAdjustable}
+     */
+    void rememberBackingDevices(DrbdRscData<Resource> drbdRscData)
+    {
+        for (DrbdVlmData<Resource> drbdVlmData : drbdRscData.getVlmLayerObjects().values())
+        {
+            adjustedBackingDevices.put(drbdVlmData.getIdentifier(), getBackingDevices(drbdVlmData));
+        }
+    }
+
+    private void forgetBackingDevices(DrbdRscData<Resource> drbdRscData)
+    {
+        for (DrbdVlmData<Resource> drbdVlmData : drbdRscData.getVlmLayerObjects().values())
+        {
+            adjustedBackingDevices.remove(drbdVlmData.getIdentifier());
+        }
+    }
+
+    private static List<@Nullable String> getBackingDevices(DrbdVlmData<Resource> drbdVlmData)
+    {
+        return Arrays.asList(drbdVlmData.getDataDevice(), drbdVlmData.getMetaDiskPath());
+    }
+
     private void updateRequiresAdjust(DrbdRscData<?> drbdRscData)
     {
         drbdRscData.setAdjustRequired(
@@ -0,0 +1,428 @@
+package com.linbit.linstor.layer.drbd.drbdstate;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Parses the lines of 'drbdsetup events2' directly from the bytes received from the events2 process
+ *
+ * The parser, including the parsed properties, is reused for every line. All tokens are interned: the actions,
+ * object types, keys and values known to this class are looked up in a fixed table, all other tokens (such as
+ * resource names) in a small cache of recently seen tokens. Parsing an events2 line therefore usually does not
+ * allocate any objects.
+ *
+ * Not thread safe, the events2 stream is processed by a single thread.
+ */
+class DrbdEventParser
+{
+    private static final byte TOKEN_SEPARATOR = ' ';
+    private static final byte KEY_VALUE_SEPARATOR = ':';
+
+    /** Number of slots of the cache of unknown tokens, has to be a power of 2 */
+    private static final int TOKEN_CACHE_SIZE = 1024;
+
+    private static final int INITIAL_PROPS_CAPACITY = 16;
+
+    private static final String[] KNOWN_TOKENS =
+    {
+        // actions
+        DrbdEventsMonitor.ACTION_CREATE,
+        DrbdEventsMonitor.ACTION_CHANGE,
+        DrbdEventsMonitor.ACTION_DESTROY,
+        DrbdEventsMonitor.ACTION_EXISTS,
+        "call",
+        "response",
+        // object types
+        DrbdEventsMonitor.OBJ_RESOURCE,
+        DrbdEventsMonitor.OBJ_VOLUME,
+        DrbdEventsMonitor.OBJ_PEER_VOLUME,
+        DrbdEventsMonitor.OBJ_CONNECTION,
+        DrbdEventsMonitor.OBJ_END_OF_INIT,
+        "path",
+        "helper",
+        // keys
+        DrbdResource.PROP_KEY_RES_NAME,
+        DrbdResource.PROP_KEY_ROLE,
+        DrbdResource.PROP_KEY_SUSPENDED,
+        DrbdResource.PROP_KEY_MAY_PROMOTE,
+        DrbdResource.PROP_KEY_PROMOTION_SCORE,
+        DrbdConnection.PROP_KEY_CONNECTION,
+        DrbdConnection.PROP_KEY_CONN_NAME,
+        DrbdConnection.PROP_KEY_PEER_NODE_ID,
+        DrbdVolume.PROP_KEY_VOL_NR,
+        DrbdVolume.PROP_KEY_MINOR,
+        DrbdVolume.PROP_KEY_DISK,
+        DrbdVolume.PROP_KEY_PEER_DISK,
+        DrbdVolume.PROP_KEY_REPLICATION,
+        DrbdVolume.PROP_KEY_CLIENT,
+        DrbdVolume.PROP_KEY_PEER_CLIENT,
+        DrbdVolume.PROP_KEY_DONE,
+        "write-ordering",
+        "force-io-failures",
+        "backing_dev",
+        "quorum",
+        "open",
+        "size",
+        "peer-role",
+        "congested",
+        "ap-in-flight",
+        "rs-in-flight",
+        "resync-suspended",
+        "local",
+        "peer",
+        "established",
+        "node-id",
+        "status",
+        // roles
+        "Primary",
+        "Secondary",
+        "Unknown",
+        // disk states
+        "Diskless",
+        "Attaching",
+        "Detaching",
+        "Failed",
+        "Negotiating",
+        "Inconsistent",
+        "Outdated",
+        "DUnknown",
+        "Consistent",
+        "UpToDate",
+        // connection states
+        "StandAlone",
+        "Disconnecting",
+        "Unconnected",
+        "Timeout",
+        "BrokenPipe",
+        "NetworkFailure",
+        "ProtocolError",
+        "TearDown",
+        "Connecting",
+        "Connected",
+        // replication states
+        "Off",
+        "Established",
+        "StartingSyncS",
+        "StartingSyncT",
+        "WFBitMapS",
+        "WFBitMapT",
+        "WFSyncUUID",
+        "SyncSource",
+        "SyncTarget",
+        "VerifyS",
+        "VerifyT",
+        "PausedSyncS",
+        "PausedSyncT",
+        "Ahead",
+        "Behind",
+        // other values
+        "yes",
+        "no",
+        "true",
+        "false",
+        "none",
+        "user",
+        "drain",
+        "flush",
+    };
+
+    private static final byte[][] KNOWN_TOKEN_TABLE_BYTES;
+    private static final String[] KNOWN_TOKEN_TABLE;
+    private static final int KNOWN_TOKEN_TABLE_MASK;
+
+    private final byte[][] cachedTokenBytes = new byte[TOKEN_CACHE_SIZE][];
+    private final String[] cachedTokens = new String[TOKEN_CACHE_SIZE];
+
+    private @Nullable String action;
+    private @Nullable String objType;
+    private final EventProps props = new EventProps();
+
+    static
+    {
+        int tableSize = Integer.highestOneBit(KNOWN_TOKENS.length) << 2;
+        KNOWN_TOKEN_TABLE_MASK = tableSize - 1;
+        KNOWN_TOKEN_TABLE_BYTES = new byte[tableSize][];
+        KNOWN_TOKEN_TABLE = new String[tableSize];
+        for (String token : KNOWN_TOKENS)
+        {
+            byte[] tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+            int slot = hash(tokenBytes, 0, tokenBytes.length) & KNOWN_TOKEN_TABLE_MASK;
+            while (KNOWN_TOKEN_TABLE[slot] != null && !KNOWN_TOKEN_TABLE[slot].equals(token))
+            {
+                slot = (slot + 1) & KNOWN_TOKEN_TABLE_MASK;
+            }
+            KNOWN_TOKEN_TABLE_BYTES[slot] = tokenBytes;
+            KNOWN_TOKEN_TABLE[slot] = token;
+        }
+    }
+
+    /**
+     * Parses one events2 line (without the line delimiter)
+     *
+     * @return false if the line is empty and should be skipped, true otherwise
+     */
+    boolean parse(byte[] data) throws EventsSourceException
+    {
+        action = null;
+        objType = null;
+        props.clear();
+
+        boolean ret = data.length > 0;
+        if (ret)
+        {
+            int pos = 0;
+            while (pos < data.length)
+            {
+                if (data[pos] == TOKEN_SEPARATOR)
+                {
+                    ++pos;
+                }
+                else
+                {
+                    int end = pos + 1;
+                    while (end < data.length && data[end] != TOKEN_SEPARATOR)
+                    {
+                        ++end;
+                    }
+                    if (action == null)
+                    {
+                        action = intern(data, pos, end);
+                    }
+                    else
+                    if (objType == null)
+                    {
+                        objType = intern(data, pos, end);
+                    }
+                    else
+                    {
+                        addProp(data, pos, end);
+                    }
+                    pos = end;
+                }
+            }
+
+            if (action == null)
+            {
+                throw new EventsSourceException("Received an event line without an action parameter");
+            }
+            if (objType == null)
+            {
+                throw new EventsSourceException("Received an event line without an object type parameter");
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the action of the last parsed line
+     */
+    @Nullable String getAction()
+    {
+        return action;
+    }
+
+    /**
+     * Returns the object type of the last parsed line
+     */
+    @Nullable String getObjType()
+    {
+        return objType;
+    }
+
+    /**
+     * Returns the properties of the last parsed line. The returned map is reused for the next line, callers that
+     * need the properties for longer have to copy them.
+     */
+    Map<String, String> getProps()
+    {
+        return props;
+    }
+
+    private void addProp(byte[] data, int start, int end)
+    {
+        int splitIdx = start;
+        while (splitIdx < end && data[splitIdx] != KEY_VALUE_SEPARATOR)
+        {
+            ++splitIdx;
+        }
+        // tokens without a key-value separator are ignored
+        if (splitIdx < end)
+        {
+            props.put(intern(data, start, splitIdx), intern(data, splitIdx + 1, end));
+        }
+    }
+
+    private String intern(byte[] data, int start, int end)
+    {
+        int hash = hash(data, start, end);
+
+        String ret = null;
+        int slot = hash & KNOWN_TOKEN_TABLE_MASK;
+        while (ret == null && KNOWN_TOKEN_TABLE[slot] != null)
+        {
+            byte[] knownBytes = KNOWN_TOKEN_TABLE_BYTES[slot];
+            if (Arrays.equals(knownBytes, 0, knownBytes.length, data, start, end))
+            {
+                ret = KNOWN_TOKEN_TABLE[slot];
+            }
+            slot = (slot + 1) & KNOWN_TOKEN_TABLE_MASK;
+        }
+
+        if (ret == null)
+        {
+            int cacheSlot = hash & (TOKEN_CACHE_SIZE - 1);
+            byte[] cachedBytes = cachedTokenBytes[cacheSlot];
+            if (cachedBytes != null && Arrays.equals(cachedBytes, 0, cachedBytes.length, data, start, end))
+            {
+                ret = cachedTokens[cacheSlot];
+            }
+            else
+            {
+                ret = new String(data, start, end - start, StandardCharsets.UTF_8);
+                cachedTokenBytes[cacheSlot] = Arrays.copyOfRange(data, start, end);
+                cachedTokens[cacheSlot] = ret;
+            }
+        }
+        return ret;
+    }
+
+    private static int hash(byte[] data, int start, int end)
+    {
+        int hash = 0;
+        for (int idx = start; idx < end; ++idx)
+        {
+            hash = 31 * hash + data[idx];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Array based map for the few properties of an events2 line. Lookups with the (interned) key constants are
+     * resolved by reference comparison, clearing and refilling the map does not allocate.
+     */
+    private static class EventProps extends AbstractMap<String, String>
+    {
+        private String[] keys = new String[INITIAL_PROPS_CAPACITY];
+        private String[] values = new String[INITIAL_PROPS_CAPACITY];
+        private int size = 0;
+
+        @Override
+        public @Nullable String get(Object key)
+        {
+            int idx = indexOf(key);
+            return idx >= 0 ? values[idx] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key)
+        {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public @Nullable String put(String key, String value)
+        {
+            String ret = null;
+            int idx = indexOf(key);
+            if (idx >= 0)
+            {
+                ret = values[idx];
+                values[idx] = value;
+            }
+            else
+            {
+                if (size == keys.length)
+                {
+                    keys = Arrays.copyOf(keys, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                keys[size] = key;
+                values[size] = value;
+                ++size;
+            }
+            return ret;
+        }
+
+        @Override
+        public void clear()
+        {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet()
+        {
+            return new AbstractSet<>()
+            {
+                @Override
+                public Iterator<Entry<String, String>> iterator()
+                {
+                    return new Iterator<>()
+                    {
+                        private int idx = 0;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return idx < size;
+                        }
+
+                        @Override
+                        public Entry<String, String> next()
+                        {
+                            if (idx >= size)
+                            {
+                                throw new NoSuchElementException();
+                            }
+                            Entry<String, String> entry = new SimpleImmutableEntry<>(keys[idx], values[idx]);
+                            ++idx;
+                            return entry;
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return size;
+                }
+            };
+        }
+
+        private int indexOf(Object key)
+        {
+            int ret = -1;
+            for (int idx = 0; idx < size && ret == -1; ++idx)
+            {
+                if (keys[idx] == key)
+                {
+                    ret = idx;
+                }
+            }
+            for (int idx = 0; idx < size && ret == -1; ++idx)
+            {
+                if (keys[idx].equals(key))
+                {
+                    ret = idx;
+                }
+            }
+            return ret;
+        }
+    }
+}
@@ -106,7 +106,7 @@ public class DrbdEventService implements SystemService, Runnable, DrbdStateStore
                 event = eventDeque.take();
                 if (event instanceof StdOutEvent stdOutEvent)
                 {
-                    eventsMonitor.receiveEvent(new String(stdOutEvent.data, StandardCharsets.UTF_8));
+                    eventsMonitor.receiveEvent(stdOutEvent.data);
                 }
                 else
                 if (event instanceof StdErrEvent stdErrEvent)
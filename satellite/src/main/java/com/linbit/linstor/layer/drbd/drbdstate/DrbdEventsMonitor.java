@@ -9,11 +9,13 @@ import com.linbit.linstor.core.identifier.VolumeNumber;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.utils.TripleNonNull;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.StringTokenizer;
 import java.util.TreeMap;
 
+import org.slf4j.event.Level;
+
 /**
  * Drbdsetup events monitor
  *
@@ -42,6 +44,7 @@ public class DrbdEventsMonitor
 
     private final ErrorReporter errorReporter;
     private final ResourceDefinitionMap rscDfnMap;
+    private final DrbdEventParser eventParser = new DrbdEventParser();
 
     private boolean existsFinished = false;
     private final ArrayList<TripleNonNull<String, String, Map<String, String>>> duringExistsQueue = new ArrayList<>();
@@ -57,58 +60,34 @@ public class DrbdEventsMonitor
         rscDfnMap = rscDfnMapRef;
     }
 
-    public void receiveEvent(String eventString) throws EventsSourceException
+    public void receiveEvent(byte[] eventData) throws EventsSourceException
     {
-        if (eventString == null)
+        if (eventData == null)
         {
             throw new ImplementationError(
-                "Event string passed by caller is a null pointer",
+                "Event data passed by caller is a null pointer",
                 new NullPointerException()
             );
         }
-        errorReporter.logTrace("DRBD 'events2': %s", eventString);
+        if (errorReporter.hasAtLeastLogLevel(Level.TRACE))
+        {
+            errorReporter.logTrace("DRBD 'events2': %s", new String(eventData, StandardCharsets.UTF_8));
+        }
 
         // Skip empty lines
-        if (!eventString.isEmpty())
+        if (eventParser.parse(eventData))
         {
-            StringTokenizer tokens = new StringTokenizer(eventString, " ");
-            Map<String, String> props = new TreeMap<>();
-
-            if (tokens.hasMoreTokens())
+            String action = eventParser.getAction();
+            String objType = eventParser.getObjType();
+            Map<String, String> props = eventParser.getProps();
+            if (!existsFinished && !action.equals(ACTION_EXISTS))
             {
-                String action = tokens.nextToken();
-                if (tokens.hasMoreTokens())
-                {
-                    String objType = tokens.nextToken();
-                    while (tokens.hasMoreTokens())
-                    {
-                        String kvPair = tokens.nextToken();
-                        int splitIdx = kvPair.indexOf(':');
-                        if (splitIdx != -1)
-                        {
-                            String key = kvPair.substring(0, splitIdx);
-                            String value = kvPair.substring(splitIdx + 1);
-                            props.put(key, value);
-                        }
-                    }
-
-                    if (!existsFinished && !action.equals(ACTION_EXISTS))
-                    {
-                        duringExistsQueue.add(new TripleNonNull<>(action, objType, props));
-                    }
-                    else
-                    {
-                        executeAction(action, objType, props);
-                    }
-                }
-                else
-                {
-                    throw new EventsSourceException("Received an event line without an object type parameter");
-                }
+                // the parser reuses its props for the next line
+                duringExistsQueue.add(new TripleNonNull<>(action, objType, new TreeMap<>(props)));
             }
             else
             {
-                throw new EventsSourceException("Received an event line without an action parameter");
+                executeAction(action, objType, props);
             }
         }
     }
@@ -4,6 +4,7 @@ import com.linbit.ImplementationError;
 import com.linbit.PlatformStlt;
 import com.linbit.drbd.DrbdVersion;
 import com.linbit.linstor.annotation.DeviceManagerContext;
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.api.prop.WhitelistProps;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.StltConfigAccessor;
@@ -14,6 +15,7 @@ import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.storage.StorageException;
 import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscData;
+import com.linbit.linstor.utils.ByteUtils;
 import com.linbit.linstor.utils.layer.DrbdLayerUtils;
 import com.linbit.utils.AccessUtils;
 
@@ -28,7 +30,13 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -44,6 +52,12 @@ public class DrbdResourceFileUtils
     private final PlatformStlt platformStlt;
     private final DrbdVersion drbdVersion;
 
+    /**
+     * Fingerprints of the res files that are known to contain the currently generated content. As long as the
+     * generated content and the attributes of the file are unchanged, the file does not have to be read again.
+     */
+    private final Map<Path, ResFileFingerprint> resFileFingerprints = new ConcurrentHashMap<>();
+
     @Inject
     public DrbdResourceFileUtils(
         @DeviceManagerContext AccessContext workerCtxRef,
@@ -74,47 +88,48 @@ public class DrbdResourceFileUtils
         Path resFile = asResourceFile(drbdRscData, false, false);
         Path tmpResFile = asResourceFile(drbdRscData, true, false);
 
-        List<DrbdRscData<Resource>> drbdPeerRscDataList = drbdRscData.getRscDfnLayerObject()
-            .getDrbdRscDataList()
-            .stream()
-            .filter(
-                otherRscData -> !otherRscData.equals(drbdRscData) &&
-                    AccessUtils.execPrivileged(() -> DrbdLayerUtils.isDrbdResourceExpected(workerCtx, otherRscData)) &&
-                    AccessUtils.execPrivileged(
-                        () -> !otherRscData.getAbsResource().getStateFlags().isSet(workerCtx, Resource.Flags.INACTIVE)
-                    )
-            )
-            .collect(Collectors.toList());
+        String content = buildResFileContent(drbdRscData);
 
-        String content = new ConfFileBuilder(
-            errorReporter,
-            workerCtx,
-            drbdRscData,
-            drbdPeerRscDataList,
-            whitelistProps,
-            stltCfgAccessor.getReadonlyProps(),
-            drbdVersion
-        ).build();
+        byte[] contentDigest = ByteUtils.checksumSha256(
+            getResFileBody(content).getBytes(StandardCharsets.UTF_8)
+        );
+        ResFileFingerprint fingerprint = resFileFingerprints.get(resFile);
+        @Nullable BasicFileAttributes resFileAttrs = readResFileAttributes(resFile);
 
-        String onDiskContent = "resource \"i\"{}";
-        if (Files.exists(resFile))
+        boolean upToDate;
+        if (fingerprint != null && resFileAttrs != null && fingerprint.matches(contentDigest, resFileAttrs))
         {
-            try
-            {
-                onDiskContent = readResFile(resFile);
-            }
-            catch (NoSuchFileException nsfe)
-            {
-                errorReporter.logWarning("Expected resource file %s did not exist. Rewriting...", resFile.toString());
-            }
-            catch (IOException exc)
+            // neither our content nor the file changed since we last wrote or compared it
+            upToDate = true;
+        }
+        else
+        {
+            String onDiskContent = "resource \"i\"{}";
+            if (resFileAttrs != null)
             {
-                errorReporter.reportError(exc);
+                try
+                {
+                    onDiskContent = readResFile(resFile);
+                }
+                catch (NoSuchFileException nsfe)
+                {
+                    errorReporter.logWarning(
+                        "Expected resource file %s did not exist. Rewriting...",
+                        resFile.toString()
+                    );
+                }
+                catch (IOException exc)
+                {
+                    errorReporter.reportError(exc);
+                }
             }
+            upToDate = isResFileEqual(onDiskContent, content);
         }
 
-        if (!isResFileEqual(onDiskContent, content))
+        if (!upToDate)
         {
+            // the fingerprint is only valid again once the new file was written successfully
+            resFileFingerprints.remove(resFile);
             try (FileOutputStream resFileOut = new FileOutputStream(tmpResFile.toFile()))
             {
                 resFileOut.write(content.getBytes(StandardCharsets.UTF_8));
@@ -167,10 +182,48 @@ public class DrbdResourceFileUtils
                 );
             }
             errorReporter.logInfo("DRBD regenerated resource file: %s", resFile);
+            resFileAttrs = readResFileAttributes(resFile);
+        }
+
+        if (resFileAttrs != null)
+        {
+            resFileFingerprints.put(resFile, new ResFileFingerprint(contentDigest, resFileAttrs));
+        }
+        else
+        {
+            resFileFingerprints.remove(resFile);
         }
         return fileWritten;
     }
 
+    /**
+     * Generates the content of the res file of the given resource, including all its active peers
+     */
+    String buildResFileContent(DrbdRscData<Resource> drbdRscData) throws AccessDeniedException, StorageException
+    {
+        List<DrbdRscData<Resource>> drbdPeerRscDataList = drbdRscData.getRscDfnLayerObject()
+            .getDrbdRscDataList()
+            .stream()
+            .filter(
+                otherRscData -> !otherRscData.equals(drbdRscData) &&
+                    AccessUtils.execPrivileged(() -> DrbdLayerUtils.isDrbdResourceExpected(workerCtx, otherRscData)) &&
+                    AccessUtils.execPrivileged(
+                        () -> !otherRscData.getAbsResource().getStateFlags().isSet(workerCtx, Resource.Flags.INACTIVE)
+                    )
+            )
+            .collect(Collectors.toList());
+
+        return new ConfFileBuilder(
+            errorReporter,
+            workerCtx,
+            drbdRscData,
+            drbdPeerRscDataList,
+            whitelistProps,
+            stltCfgAccessor.getReadonlyProps(),
+            drbdVersion
+        ).build();
+    }
+
     public boolean restoreBackupResFile(DrbdRscData<Resource> drbdRscData) throws StorageException
     {
         boolean success = false;
@@ -180,6 +233,7 @@ public class DrbdResourceFileUtils
         if (Files.exists(backupFile))
         {
             Path resFile = asResourceFile(drbdRscData, false, false);
+            resFileFingerprints.remove(resFile);
             success = copyResFile(
                 backupFile,
                 resFile,
@@ -194,6 +248,7 @@ public class DrbdResourceFileUtils
     {
         Path resFile = asResourceFile(drbdRscDataRef, false, false);
         errorReporter.logDebug("Ensuring .res file is deleted: %s ", resFile);
+        resFileFingerprints.remove(resFile);
         Files.deleteIfExists(resFile);
     }
 
@@ -234,6 +289,21 @@ public class DrbdResourceFileUtils
         return Files.readString(resFilePath);
     }
 
+    private @Nullable BasicFileAttributes readResFileAttributes(Path resFilePath)
+    {
+        @Nullable BasicFileAttributes ret;
+        try
+        {
+            ret = Files.readAttributes(resFilePath, BasicFileAttributes.class);
+        }
+        catch (IOException ignored)
+        {
+            // the file does not exist (anymore), the content has to be written (again)
+            ret = null;
+        }
+        return ret;
+    }
+
     private Path asResourceFile(DrbdRscData<Resource> drbdRscData, boolean temp, boolean cygwinFormat)
     {
         String prefix;
@@ -270,19 +340,20 @@ public class DrbdResourceFileUtils
      */
     private boolean isResFileEqual(String resA, String resB)
     {
-        boolean equal;
-        int beginA = resA.indexOf("resource \"");
-        int beginB = resB.indexOf("resource \"");
+        return getResFileBody(resA).equals(getResFileBody(resB));
+    }
 
-        if (beginA >= 0 && beginB >= 0)
-        {
-            equal = resA.substring(beginA).equals(resB.substring(beginB));
-        }
-        else
+    /**
+     * Returns the content of the res file starting at the 'resource "' section, i.e. without the generated header
+     */
+    private String getResFileBody(String res)
+    {
+        int begin = res.indexOf("resource \"");
+        if (begin < 0)
         {
             throw new ImplementationError("isResFileEqual should only be used for DRBD res files.");
         }
-        return equal;
+        return res.substring(begin);
     }
 
     private boolean copyResFile(Path srcPath, Path dstPath, String errMsg, String errCause)
@@ -314,4 +385,25 @@ public class DrbdResourceFileUtils
         }
         return true;
     }
+
+    private record ResFileFingerprint(
+        byte[] contentDigest,
+        @Nullable Object fileKey,
+        FileTime lastModified,
+        long size
+    )
+    {
+        ResFileFingerprint(byte[] contentDigestRef, BasicFileAttributes attrsRef)
+        {
+            this(contentDigestRef, attrsRef.fileKey(), attrsRef.lastModifiedTime(), attrsRef.size());
+        }
+
+        boolean matches(byte[] contentDigestRef, BasicFileAttributes attrsRef)
+        {
+            return MessageDigest.isEqual(contentDigest, contentDigestRef) &&
+                Objects.equals(fileKey, attrsRef.fileKey()) &&
+                lastModified.equals(attrsRef.lastModifiedTime()) &&
+                size == attrsRef.size();
+        }
+    }
 }
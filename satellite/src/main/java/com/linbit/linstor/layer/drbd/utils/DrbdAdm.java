@@ -153,6 +153,30 @@ public class DrbdAdm
         drbdRscData.setAdjustRequired(false);
     }
 
+    /**
+     * Adjusts several resources with a single drbdadm call, so that the configuration is parsed and the kernel
+     * state is queried only once for all of them.
+     *
+     * None of the options of {@link #adjust(DrbdRscData, boolean, boolean, boolean)} are supported, the caller has
+     * to make sure that none of the given resources needs them. If the call fails, it is unknown which of the
+     * resources were adjusted.
+     */
+    public void adjustBatch(List<DrbdRscData<Resource>> drbdRscDataList) throws ExtCmdFailedException
+    {
+        List<String> command = new ArrayList<>();
+        command.addAll(Arrays.asList(DRBDADM_UTIL, "-vvv", "adjust"));
+        for (DrbdRscData<Resource> drbdRscData : drbdRscDataList)
+        {
+            command.add(drbdRscData.getSuffixedResourceName());
+        }
+        execute(command);
+
+        for (DrbdRscData<Resource> drbdRscData : drbdRscDataList)
+        {
+            drbdRscData.setAdjustRequired(false);
+        }
+    }
+
     /**
      * Resizes a resource
      */
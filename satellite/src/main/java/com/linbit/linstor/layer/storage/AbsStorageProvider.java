@@ -82,7 +82,6 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -90,6 +89,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -174,18 +175,20 @@ public abstract class AbsStorageProvider<
     protected final CloneService cloneService;
     protected final StltExtToolsChecker extToolsChecker;
     private final BackupShippingMgr backupShipMapper;
-    protected final HashMap<String, INFO> infoListCache;
+    // the caches and change sets are concurrent, since parallel device manager workers process resources
+    // of the same provider at the same time
+    protected final Map<String, INFO> infoListCache;
     protected boolean subclassMaintainsInfoListCache;
-    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications = new ArrayList<>();
-    protected final Set<String> changedStoragePoolStrings = new HashSet<>();
+    protected final List<Consumer<Map<String, Long>>> postRunVolumeNotifications = new CopyOnWriteArrayList<>();
+    protected final Set<String> changedStoragePoolStrings = ConcurrentHashMap.newKeySet();
     private final String typeDescr;
     private final FileSystemWatch fsWatch;
     protected final DeviceProviderKind kind;
     private final DrbdInvalidateUtils drbdInvalidateUtils;
 
-    private final Map<StorPool, Long> extentSizeFromSpCache = new HashMap<>();
+    private final Map<StorPool, Long> extentSizeFromSpCache = new ConcurrentHashMap<>();
 
-    private final Set<StorPool> changedStorPools = new HashSet<>();
+    private final Set<StorPool> changedStorPools = ConcurrentHashMap.newKeySet();
     private boolean prepared;
     protected boolean isDevPathExpectedToBeNull = false;
     private final RemoteMap remoteMap;
@@ -215,7 +218,7 @@ public abstract class AbsStorageProvider<
         kind = kindRef;
 
         subclassMaintainsInfoListCache = false;
-        infoListCache = new HashMap<>();
+        infoListCache = new ConcurrentHashMap<>();
     }
 
     @Override
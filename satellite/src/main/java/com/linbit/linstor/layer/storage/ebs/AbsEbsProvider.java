@@ -45,6 +45,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
@@ -138,7 +139,7 @@ public abstract class AbsEbsProvider<INFO> extends AbsStorageProvider<INFO, EbsD
         decHelper = initRef.decryptionHelper;
         stltSecObj = initRef.stltSecObjs;
 
-        amazonEc2ClientLUT = new HashMap<>();
+        amazonEc2ClientLUT = new ConcurrentHashMap<>();
     }
 
     protected AmazonEC2 getClient(StorPool storPoolRef) throws StorageException
@@ -54,8 +54,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -72,7 +72,7 @@ public class FileProvider extends AbsStorageProvider<FileInfo, FileData<Resource
     private static final String LODEV_FILE = LinStor.CONFIG_PATH + "/loop_device_mapping";
     private static final String LODEV_FILE_TMP = LODEV_FILE + ".tmp";
 
-    private static final Map<String, String> LOSETUP_DEVICES = new TreeMap<>();
+    private static final Map<String, String> LOSETUP_DEVICES = new ConcurrentSkipListMap<>();
 
     private final PlatformStlt platformStlt;
 
@@ -249,7 +249,7 @@ public class LvmProvider
                         config
                     )
                 );
-                LvmUtils.recacheNextLvs();
+                LvmUtils.recacheNextLvs(vlmDataRef.getVolumeGroup());
             }
             // deactivating a volume MUST NOT happen within the prepare step
             // as other layers might still hold the device open
@@ -330,7 +330,7 @@ public class LvmProvider
                 )
             );
         }
-        LvmUtils.recacheNext();
+        LvmUtils.recacheNext(vlmData.getVolumeGroup());
 
         updateStripesPropIfNeeded(vlmData, findStripesInAdditionalArgs(additionalOptionsArr));
     }
@@ -469,7 +469,7 @@ public class LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNext();
+        LvmUtils.recacheNext(vlmData.getVolumeGroup());
     }
 
     @Override
@@ -503,7 +503,7 @@ public class LvmProvider
                 )
             );
             vlmData.setExists(false);
-            LvmUtils.recacheNext();
+            LvmUtils.lvDeleted(volumeGroup, oldLvmId);
         }
         else
         {
@@ -532,7 +532,7 @@ public class LvmProvider
                     config
                 )
             );
-            LvmUtils.recacheNext();
+            LvmUtils.recacheNext(volumeGroup);
 
             vlmData.setExists(false);
 
@@ -551,7 +551,7 @@ public class LvmProvider
                             LvmVolumeType.VOLUME
                         )
                     );
-                    LvmUtils.recacheNext();
+                    LvmUtils.recacheNext(volumeGroup);
                 }
             );
         }
@@ -571,7 +571,7 @@ public class LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmDataRef.getVolumeGroup());
     }
 
     @Override
@@ -862,7 +862,7 @@ public class LvmProvider
                     config
                 )
             );
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
         }
         else
         {
@@ -144,7 +144,7 @@ public class LvmThinProvider extends LvmProvider
                 )
             );
         }
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(volumeGroup);
     }
 
     @Override
@@ -163,7 +163,7 @@ public class LvmThinProvider extends LvmProvider
             )
         );
         lvmVlmData.setExists(false);
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(lvmVlmData.getVolumeGroup());
     }
 
     @Override
@@ -222,7 +222,7 @@ public class LvmThinProvider extends LvmProvider
                     )
                 );
             }
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(snapVlm.getVolumeGroup());
         }
         catch (InvalidKeyException | AccessDeniedException | InvalidNameException exc)
         {
@@ -253,7 +253,7 @@ public class LvmThinProvider extends LvmProvider
                 additionalOptionsArr
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
     }
 
     @Override
@@ -272,7 +272,7 @@ public class LvmThinProvider extends LvmProvider
             )
         );
         snapVlm.setExists(false);
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(snapVlm.getVolumeGroup());
     }
 
     @Override
@@ -302,7 +302,7 @@ public class LvmThinProvider extends LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmDataRef.getVolumeGroup());
     }
 
     @Override
@@ -367,7 +367,7 @@ public class LvmThinProvider extends LvmProvider
                 config
             )
         );
-        LvmUtils.recacheNextLvs();
+        LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
     }
 
     @Override
@@ -503,7 +503,7 @@ public class LvmThinProvider extends LvmProvider
                 )
             );
 
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(vlmData.getVolumeGroup());
         }
         else
         {
@@ -544,7 +544,7 @@ public class LvmThinProvider extends LvmProvider
                 Collections.singleton(vlmGrp),
                 config -> LvmCommands.activateZero(extCmdFactory, vlmGrp, thinPool, config)
             );
-            LvmUtils.recacheNextLvs();
+            LvmUtils.recacheNextLvs(vlmGrp);
         }
 
         ret.changeStorPoolProp(
@@ -0,0 +1,123 @@
+package com.linbit.linstor.layer.storage.lvm.utils;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * Index of the last known LVM state, maintained per volume group.
+ * <br/>
+ * In contrast to a cache keyed by the queried set of volume groups, entries of this index are invalidated or updated
+ * per volume group. An operation on one volume group therefore does not force a rescan of all other volume groups.
+ * Entries older than the rescan interval are considered outdated, which catches changes made outside of LINSTOR.
+ * <br/>
+ * Not thread safe, callers need to synchronize.
+ *
+ * @param <VALUE> the state of a single volume group
+ */
+class LvmStateIndex<VALUE>
+{
+    private final Map<String, IndexEntry<VALUE>> entries = new HashMap<>();
+    private long rescanIntervalInMs;
+
+    /** Names of all volume groups as reported by the last scan without a volume group filter */
+    private @Nullable Set<String> allVgNames;
+    private long allVgNamesTimestamp;
+
+    LvmStateIndex(long rescanIntervalInMsRef)
+    {
+        rescanIntervalInMs = rescanIntervalInMsRef;
+    }
+
+    void setRescanInterval(long rescanIntervalInMsRef)
+    {
+        rescanIntervalInMs = rescanIntervalInMsRef;
+    }
+
+    /**
+     * Returns the known volume group names if the last unfiltered scan is still valid, null otherwise
+     */
+    @Nullable Set<String> getAllVgNames(long nowRef)
+    {
+        return allVgNames != null && isValid(allVgNamesTimestamp, nowRef) ? allVgNames : null;
+    }
+
+    void setAllVgNames(Collection<String> vgNamesRef, long nowRef)
+    {
+        allVgNames = new TreeSet<>(vgNamesRef);
+        allVgNamesTimestamp = nowRef;
+    }
+
+    /**
+     * Returns whether the given volume group has an entry that is not older than the rescan interval
+     */
+    boolean isValid(String vgNameRef, long nowRef)
+    {
+        @Nullable IndexEntry<VALUE> entry = entries.get(vgNameRef);
+        return entry != null && isValid(entry.timestamp, nowRef);
+    }
+
+    /**
+     * Returns the indexed value of the given volume group. Null is returned if the volume group was not found by the
+     * last scan or if it was never scanned at all.
+     */
+    @Nullable VALUE get(String vgNameRef)
+    {
+        @Nullable IndexEntry<VALUE> entry = entries.get(vgNameRef);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * Records the scanned state of a volume group. A null value records that the volume group was not found.
+     */
+    void put(String vgNameRef, @Nullable VALUE valueRef, long nowRef)
+    {
+        entries.put(vgNameRef, new IndexEntry<>(valueRef, nowRef));
+    }
+
+    /**
+     * Applies a known change to the indexed value of the given volume group without rescanning it.
+     * Does nothing if the volume group has no valid entry.
+     */
+    void update(String vgNameRef, UnaryOperator<VALUE> updateFuncRef)
+    {
+        @Nullable IndexEntry<VALUE> entry = entries.get(vgNameRef);
+        if (entry != null && entry.value != null)
+        {
+            entry.value = updateFuncRef.apply(entry.value);
+        }
+    }
+
+    void invalidate(String vgNameRef)
+    {
+        entries.remove(vgNameRef);
+    }
+
+    void clear()
+    {
+        entries.clear();
+        allVgNames = null;
+    }
+
+    private boolean isValid(long timestampRef, long nowRef)
+    {
+        return timestampRef + rescanIntervalInMs > nowRef;
+    }
+
+    private static class IndexEntry<VALUE>
+    {
+        private @Nullable VALUE value;
+        private final long timestamp;
+
+        IndexEntry(@Nullable VALUE valueRef, long timestampRef)
+        {
+            value = valueRef;
+            timestamp = timestampRef;
+        }
+    }
+}
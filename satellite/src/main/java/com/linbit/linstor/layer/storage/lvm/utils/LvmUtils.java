@@ -10,7 +10,6 @@ import com.linbit.linstor.storage.StorageException;
 import com.linbit.linstor.storage.StorageUtils;
 import com.linbit.utils.ExceptionThrowingFunction;
 import com.linbit.utils.ExceptionThrowingSupplier;
-import com.linbit.utils.TimedCache;
 
 import static com.linbit.linstor.layer.storage.lvm.utils.LvmCommands.LVS_COL_ATTRIBUTES;
 import static com.linbit.linstor.layer.storage.lvm.utils.LvmCommands.LVS_COL_CHUNK_SIZE;
@@ -36,6 +35,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Utility methods for LVM storage operations.
@@ -54,31 +54,27 @@ public class LvmUtils
         ApiConsts.KEY_STOR_POOL_LVM_SIZES_CACHE_TIME;
     private static final long DFLT_LVM_CACHE_TIME_IN_MS = 10_000L;
     /**
-     * TimedCache's key: Collection of volume groups to "filter" for
+     * LvmStateIndex's key: single volume-group name
      * <br/>
-     * TimedCache's value's outer map's key: single volume-group name
-     * <br/>
-     * LvmCache's map's key: LV identifier
+     * LvmStateIndex's value's key: LV identifier
      */
-    private static final TimedCache<Collection<String>, Map<String, Map<String, LvsInfo>>> CACHED_LVS;
+    private static final LvmStateIndex<Map<String, LvsInfo>> LVS_INDEX;
     /**
-     * TimedCache's key: Collection of volume groups to "filter" for
+     * LvmStateIndex's key: single volume-group name
      * <br/>
-     * TimedCache's value's map's key: single volume-group name
+     * LvmStateIndex's value's key: volume-group name or "volume-group/thin-pool"
      */
-    private static final TimedCache<Collection<String>, Map<String, VgsInfo>> CACHED_VGS_THIN;
+    private static final LvmStateIndex<Map<String, VgsInfo>> VGS_THIN_INDEX;
     /**
-     * TimedCache's key: Collection of volume groups to "filter" for
-     * <br/>
-     * TimedCache's value's map's key: single volume-group name
+     * LvmStateIndex's key: single volume-group name
      */
-    private static final TimedCache<Collection<String>, Map<String, VgsInfo>> CACHED_VGS_THICK;
+    private static final LvmStateIndex<VgsInfo> VGS_THICK_INDEX;
 
     static
     {
-        CACHED_LVS = new TimedCache<>(DFLT_LVM_CACHE_TIME_IN_MS);
-        CACHED_VGS_THIN = new TimedCache<>(DFLT_LVM_CACHE_TIME_IN_MS);
-        CACHED_VGS_THICK = new TimedCache<>(DFLT_LVM_CACHE_TIME_IN_MS);
+        LVS_INDEX = new LvmStateIndex<>(DFLT_LVM_CACHE_TIME_IN_MS);
+        VGS_THIN_INDEX = new LvmStateIndex<>(DFLT_LVM_CACHE_TIME_IN_MS);
+        VGS_THICK_INDEX = new LvmStateIndex<>(DFLT_LVM_CACHE_TIME_IN_MS);
     }
 
     private LvmUtils()
@@ -279,11 +275,14 @@ public class LvmUtils
             cacheTime = Long.parseLong(prop);
         }
 
-        CACHED_LVS.setMaxCacheTime(cacheTime, true);
-        CACHED_VGS_THIN.setMaxCacheTime(cacheTime, true);
-        CACHED_VGS_THICK.setMaxCacheTime(cacheTime, true);
+        LVS_INDEX.setRescanInterval(cacheTime);
+        VGS_THIN_INDEX.setRescanInterval(cacheTime);
+        VGS_THICK_INDEX.setRescanInterval(cacheTime);
     }
 
+    /**
+     * Forces a rescan of all volume groups with the next query
+     */
     public static synchronized void recacheNext()
     {
         recacheNextLvs();
@@ -292,14 +291,70 @@ public class LvmUtils
 
     public static synchronized void recacheNextLvs()
     {
-        CACHED_LVS.clear();
-        CACHED_VGS_THIN.clear();
+        LVS_INDEX.clear();
+        VGS_THIN_INDEX.clear();
     }
 
     public static synchronized void recacheNextVgs()
     {
-        CACHED_VGS_THICK.clear();
-        CACHED_VGS_THIN.clear();
+        VGS_THICK_INDEX.clear();
+        VGS_THIN_INDEX.clear();
+    }
+
+    /**
+     * Forces a rescan of the given volume group with the next query. Other volume groups are not affected.
+     * If the volume group is unknown, all volume groups are rescanned.
+     */
+    public static synchronized void recacheNext(@Nullable String volumeGroup)
+    {
+        if (volumeGroup == null)
+        {
+            recacheNext();
+        }
+        else
+        {
+            recacheNextLvs(volumeGroup);
+            VGS_THICK_INDEX.invalidate(volumeGroup);
+        }
+    }
+
+    public static synchronized void recacheNextLvs(@Nullable String volumeGroup)
+    {
+        if (volumeGroup == null)
+        {
+            recacheNextLvs();
+        }
+        else
+        {
+            LVS_INDEX.invalidate(volumeGroup);
+            VGS_THIN_INDEX.invalidate(volumeGroup);
+        }
+    }
+
+    /**
+     * Removes a deleted (thick) logical volume from the index without rescanning the logical volumes of its volume
+     * group. Only the free space of the volume group needs to be queried again.
+     */
+    public static synchronized void lvDeleted(@Nullable String volumeGroup, String lvIdentifier)
+    {
+        if (volumeGroup == null)
+        {
+            recacheNext();
+        }
+        else
+        {
+            LVS_INDEX.update(
+                volumeGroup,
+                lvs ->
+                {
+                    Map<String, LvsInfo> updatedLvs = new HashMap<>(lvs);
+                    updatedLvs.remove(lvIdentifier);
+                    return updatedLvs;
+                }
+            );
+            VGS_THIN_INDEX.invalidate(volumeGroup);
+            VGS_THICK_INDEX.invalidate(volumeGroup);
+        }
     }
 
     public static synchronized Map<String /* vg */, Map<String/* lv */, LvsInfo>> getLvsInfo(
@@ -308,14 +363,7 @@ public class LvmUtils
     )
         throws StorageException
     {
-        final long now = System.currentTimeMillis();
-        @Nullable Map<String /* vg */, Map<String/* lv */, LvsInfo>> ret = CACHED_LVS.get(volumeGroups, now);
-        if (ret == null)
-        {
-            ret = getLvsInfoImpl(ecf, volumeGroups);
-            CACHED_LVS.put(volumeGroups, ret, now);
-        }
-        return ret;
+        return queryIndex(LVS_INDEX, volumeGroups, vgs -> getLvsInfoImpl(ecf, vgs));
     }
 
     public static synchronized Map<String, VgsInfo> getVgsInfo(
@@ -325,18 +373,110 @@ public class LvmUtils
     )
         throws StorageException
     {
-        final long now = System.currentTimeMillis();
-        TimedCache<Collection<String>, Map<String, VgsInfo>> cache = thinRef ? CACHED_VGS_THIN : CACHED_VGS_THICK;
-
-        @Nullable Map<String, VgsInfo> ret = cache.get(volumeGroupSetRef, now);
-        if (ret == null)
+        Map<String, VgsInfo> ret;
+        if (thinRef)
         {
-            ret = retryIfNotAllContainingVgsExist(
-                extCmdFactoryRef,
+            ret = new HashMap<>();
+            Map<String /* vg */, Map<String, VgsInfo>> infoByVg = queryIndex(
+                VGS_THIN_INDEX,
                 volumeGroupSetRef,
-                () -> getVgsInfoImpl(extCmdFactoryRef, volumeGroupSetRef, thinRef)
+                vgs -> groupByVg(
+                    retryIfNotAllContainingVgsExist(
+                        extCmdFactoryRef,
+                        vgs,
+                        () -> getVgsInfoImpl(extCmdFactoryRef, vgs, true)
+                    )
+                )
             );
-            cache.put(volumeGroupSetRef, ret, now);
+            for (Map<String, VgsInfo> vgsInfo : infoByVg.values())
+            {
+                ret.putAll(vgsInfo);
+            }
+        }
+        else
+        {
+            ret = queryIndex(
+                VGS_THICK_INDEX,
+                volumeGroupSetRef,
+                vgs -> retryIfNotAllContainingVgsExist(
+                    extCmdFactoryRef,
+                    vgs,
+                    () -> getVgsInfoImpl(extCmdFactoryRef, vgs, false)
+                )
+            );
+        }
+        return ret;
+    }
+
+    /**
+     * Returns the indexed state of the given volume groups (or of all volume groups if the given set is empty).
+     * Only volume groups without a valid index entry are scanned, all of them with a single external command.
+     */
+    private static <T> Map<String, T> queryIndex(
+        LvmStateIndex<T> index,
+        Set<String> volumeGroups,
+        ExceptionThrowingFunction<Set<String>, Map<String, T>, StorageException> scanFunc
+    )
+        throws StorageException
+    {
+        final long now = System.currentTimeMillis();
+        final Map<String, T> ret = new HashMap<>();
+
+        @Nullable Set<String> vgsToQuery = volumeGroups.isEmpty() ? index.getAllVgNames(now) : volumeGroups;
+        if (vgsToQuery == null)
+        {
+            // unfiltered query, and we do not know all volume groups yet
+            Map<String, T> scanned = scanFunc.accept(Collections.emptySet());
+            for (Map.Entry<String, T> entry : scanned.entrySet())
+            {
+                index.put(entry.getKey(), entry.getValue(), now);
+            }
+            index.setAllVgNames(scanned.keySet(), now);
+            ret.putAll(scanned);
+        }
+        else
+        {
+            Set<String> outdatedVgs = new TreeSet<>();
+            for (String vg : vgsToQuery)
+            {
+                if (index.isValid(vg, now))
+                {
+                    @Nullable T value = index.get(vg);
+                    if (value != null)
+                    {
+                        ret.put(vg, value);
+                    }
+                }
+                else
+                {
+                    outdatedVgs.add(vg);
+                }
+            }
+            if (!outdatedVgs.isEmpty())
+            {
+                Map<String, T> scanned = scanFunc.accept(outdatedVgs);
+                for (String vg : outdatedVgs)
+                {
+                    @Nullable T value = scanned.get(vg);
+                    // also remember volume groups that were not found
+                    index.put(vg, value, now);
+                    if (value != null)
+                    {
+                        ret.put(vg, value);
+                    }
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static Map<String /* vg */, Map<String, VgsInfo>> groupByVg(Map<String, VgsInfo> vgsInfoMap)
+    {
+        Map<String, Map<String, VgsInfo>> ret = new HashMap<>();
+        for (Map.Entry<String, VgsInfo> entry : vgsInfoMap.entrySet())
+        {
+            ret.computeIfAbsent(entry.getValue().vgName, ignored -> new HashMap<>())
+                .put(entry.getKey(), entry.getValue());
         }
         return ret;
     }
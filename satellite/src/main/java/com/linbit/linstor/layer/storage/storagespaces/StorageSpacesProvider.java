@@ -37,10 +37,10 @@ import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
 public class StorageSpacesProvider extends AbsStorageProvider<StorageSpacesInfo, StorageSpacesData<Resource>, StorageSpacesData<Snapshot>>
@@ -61,7 +61,7 @@ public class StorageSpacesProvider extends AbsStorageProvider<StorageSpacesInfo,
         super(superInitRef, "STORAGE_SPACES", DeviceProviderKind.STORAGE_SPACES);
 
         rebuildCache = true;
-        dirtyVolumes = new HashSet<>();
+        dirtyVolumes = ConcurrentHashMap.newKeySet();
 
         subclassMaintainsInfoListCache = true;
     }
@@ -75,7 +75,7 @@ public class StorageSpacesProvider extends AbsStorageProvider<StorageSpacesInfo,
         super(superInitRef, typeDescrRef, kindRef);
 
         rebuildCache = true;
-        dirtyVolumes = new HashSet<>();
+        dirtyVolumes = ConcurrentHashMap.newKeySet();
 
         subclassMaintainsInfoListCache = true;
     }
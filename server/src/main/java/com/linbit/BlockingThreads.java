@@ -0,0 +1,122 @@
+package com.linbit;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates the threads that spend most of their time blocked on external processes, files or sockets.
+ *
+ * If virtual threads are enabled, such threads are created as virtual threads, otherwise as platform threads.
+ * The mode has to be set during startup, before any of those threads are created. Virtual threads are always
+ * daemon threads and do not support thread groups, the given thread group is therefore only used for platform
+ * threads.
+ */
+public final class BlockingThreads
+{
+    private static volatile boolean virtualThreadsEnabled = false;
+
+    private static final LongAdder VIRTUAL_THREADS_STARTED = new LongAdder();
+    private static final AtomicInteger VIRTUAL_THREADS_ALIVE = new AtomicInteger();
+
+    private BlockingThreads()
+    {
+    }
+
+    public static void setVirtualThreadsEnabled(boolean enabledRef)
+    {
+        virtualThreadsEnabled = enabledRef;
+    }
+
+    public static boolean isVirtualThreadsEnabled()
+    {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Creates a new, unstarted thread. Platform threads inherit the daemon status of the current thread, just like
+     * {@link Thread#Thread(ThreadGroup, Runnable, String)}.
+     */
+    public static Thread newThread(@Nullable ThreadGroup threadGroupRef, Runnable runnableRef, String nameRef)
+    {
+        Thread thread;
+        if (virtualThreadsEnabled)
+        {
+            thread = newVirtualThread(runnableRef, nameRef);
+        }
+        else
+        {
+            thread = new Thread(threadGroupRef, runnableRef, nameRef);
+        }
+        return thread;
+    }
+
+    public static Thread newThread(Runnable runnableRef, String nameRef)
+    {
+        return newThread(null, runnableRef, nameRef);
+    }
+
+    /**
+     * Creates a new, unstarted daemon thread
+     */
+    public static Thread newDaemonThread(Runnable runnableRef, String nameRef)
+    {
+        Thread thread;
+        if (virtualThreadsEnabled)
+        {
+            thread = newVirtualThread(runnableRef, nameRef);
+        }
+        else
+        {
+            thread = new Thread(runnableRef, nameRef);
+            thread.setDaemon(true);
+        }
+        return thread;
+    }
+
+    /**
+     * Returns a thread factory for daemon threads that are named by appending a sequence number to the given prefix
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefixRef)
+    {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> newDaemonThread(runnable, namePrefixRef + threadCount.incrementAndGet());
+    }
+
+    /**
+     * Returns the number of virtual threads that were started since the application was started
+     */
+    public static long getVirtualThreadsStarted()
+    {
+        return VIRTUAL_THREADS_STARTED.sum();
+    }
+
+    /**
+     * Returns the number of virtual threads that are currently running
+     */
+    public static int getVirtualThreadsAlive()
+    {
+        return VIRTUAL_THREADS_ALIVE.get();
+    }
+
+    private static Thread newVirtualThread(Runnable runnableRef, String nameRef)
+    {
+        return Thread.ofVirtual().name(nameRef).unstarted(
+            () ->
+            {
+                VIRTUAL_THREADS_STARTED.increment();
+                VIRTUAL_THREADS_ALIVE.incrementAndGet();
+                try
+                {
+                    runnableRef.run();
+                }
+                finally
+                {
+                    VIRTUAL_THREADS_ALIVE.decrementAndGet();
+                }
+            }
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.linbit.extproc;
 
+import com.linbit.BlockingThreads;
 import com.linbit.ImplementationError;
 import com.linbit.extproc.OutputProxy.Event;
 import com.linbit.linstor.annotation.Nullable;
@@ -13,6 +14,8 @@ public class DaemonHandler
 {
     public static final int PROCESS_STOPPED = Integer.MAX_VALUE;
     private static final byte DELIMITER = '\n';
+    private static final String OUT_THREAD_NAME = "DaemonHandlerStdOut";
+    private static final String ERR_THREAD_NAME = "DaemonHandlerStdErr";
 
     private final ProcessBuilder processBuilder;
     private @Nullable Process process;
@@ -49,11 +52,11 @@ public class DaemonHandler
 
         process = processBuilder.start();
         errProxy = new OutputProxyDelimited(process.getErrorStream(), deque, delimiterRef, false);
-        errThread = new Thread(errProxy);
+        errThread = BlockingThreads.newThread(errProxy, ERR_THREAD_NAME);
         if (stdOut)
         {
             outProxy = new OutputProxyDelimited(process.getInputStream(), deque, delimiterRef, true);
-            outThread = new Thread(outProxy);
+            outThread = BlockingThreads.newThread(outProxy, OUT_THREAD_NAME);
             outThread.start();
         }
         errThread.start();
@@ -76,11 +79,11 @@ public class DaemonHandler
 
         process = processBuilder.start();
         errProxy = new OutputProxy(process.getErrorStream(), deque, false, bufferSize);
-        errThread = new Thread(errProxy);
+        errThread = BlockingThreads.newThread(errProxy, ERR_THREAD_NAME);
         if (stdOut)
         {
             outProxy = new OutputProxy(process.getInputStream(), deque, true, bufferSize);
-            outThread = new Thread(outProxy);
+            outThread = BlockingThreads.newThread(outProxy, OUT_THREAD_NAME);
             outThread.start();
         }
         errThread.start();
@@ -1,5 +1,6 @@
 package com.linbit.extproc;
 
+import com.linbit.BlockingThreads;
 import com.linbit.ChildProcessTimeoutException;
 import com.linbit.ImplementationError;
 import com.linbit.linstor.LinStorRuntimeException;
@@ -20,6 +21,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.MDC;
 
@@ -30,6 +35,18 @@ import org.slf4j.MDC;
  */
 public class ExtCmd extends ChildProcessHandler
 {
+    /**
+     * Shared by all commands, so that reading the output of a command reuses an idle thread instead of starting
+     * two new threads per command. Virtual threads are cheap to start and must not be pooled, in virtual thread
+     * mode every output reader therefore gets its own new thread.
+     * <br/>
+     * Created on first use by the holder class, as the thread mode is only set during startup.
+     */
+    private static final class OutputReaderPoolHolder
+    {
+        private static final ExecutorService OUTPUT_READER_POOL = createOutputReaderPool();
+    }
+
     private final Map<ExtCmdCondition, String> conditionsWithDescriptions;
     private final Set<ExtCmdEndedListener> extCmdEndedListenerSet;
 
@@ -37,6 +54,7 @@ public class ExtCmd extends ChildProcessHandler
     private @Nullable OutputReceiver errReceiver;
     private final ErrorReporter errLog;
     private long            startTime;
+    private long            startDurationNanos;
 
     private @Nullable String[] execCommand;
     private @Nullable String execCommandStr;
@@ -130,6 +148,7 @@ public class ExtCmd extends ChildProcessHandler
         synchronized (conditionsWithDescriptions)
         {
             checkForConditions();
+            long startNanos = System.nanoTime();
             try
             {
                 child = pBuilder.start();
@@ -145,6 +164,8 @@ public class ExtCmd extends ChildProcessHandler
                 }
                 throw startExc;
             }
+            startDurationNanos = System.nanoTime() - startNanos;
+            ExtCmdStats.commandStarted(startDurationNanos);
             startTime = System.currentTimeMillis();
             setChild(child);
             outReceiver = new OutputReceiver(
@@ -152,12 +173,40 @@ public class ExtCmd extends ChildProcessHandler
             errReceiver = new OutputReceiver(
                 child.getErrorStream(), errLog, logExecution, MDC.get(ErrorReporter.LOGID));
         }
-        new Thread(outReceiver).start();
-        new Thread(errReceiver).start();
+        OutputReaderPoolHolder.OUTPUT_READER_POOL.execute(outReceiver);
+        OutputReaderPoolHolder.OUTPUT_READER_POOL.execute(errReceiver);
 
         return child.getOutputStream();
     }
 
+    private static ExecutorService createOutputReaderPool()
+    {
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final ThreadFactory daemonThreadFactory = BlockingThreads.daemonThreadFactory(
+                "ExtCmdOutputReader-"
+            );
+
+            @Override
+            public Thread newThread(Runnable runnableRef)
+            {
+                ExtCmdStats.outputReaderThreadCreated();
+                return daemonThreadFactory.newThread(runnableRef);
+            }
+        };
+
+        ExecutorService ret;
+        if (BlockingThreads.isVirtualThreadsEnabled())
+        {
+            ret = Executors.newThreadPerTaskExecutor(threadFactory);
+        }
+        else
+        {
+            ret = Executors.newCachedThreadPool(threadFactory);
+        }
+        return ret;
+    }
+
     private void checkForConditions()
     {
         for (Entry<ExtCmdCondition, String> entry : conditionsWithDescriptions.entrySet())
@@ -187,8 +236,9 @@ public class ExtCmd extends ChildProcessHandler
             if (logExecution)
             {
                 errLog.logTrace(
-                    "External command finished in %dms: %s",
+                    "External command finished in %dms (started in %dus): %s",
                     (System.currentTimeMillis() - startTime),
+                    TimeUnit.NANOSECONDS.toMicros(startDurationNanos),
                     execCommandStr
                 );
             }
@@ -0,0 +1,74 @@
+package com.linbit.extproc;
+
+import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the external commands started by {@link ExtCmd}, the time spent forking them and the threads created for
+ * reading their output. The same values are also exported to Prometheus by {@link LinstorServerMetrics}
+ */
+public final class ExtCmdStats
+{
+    private static final LongAdder STARTED_CMDS = new LongAdder();
+    private static final LongAdder START_NANOS = new LongAdder();
+    private static final LongAccumulator MAX_START_NANOS = new LongAccumulator(Math::max, 0);
+    private static final LongAdder OUTPUT_READER_THREADS = new LongAdder();
+
+    private ExtCmdStats()
+    {
+    }
+
+    static void commandStarted(long startNanosRef)
+    {
+        STARTED_CMDS.increment();
+        START_NANOS.add(startNanosRef);
+        MAX_START_NANOS.accumulate(startNanosRef);
+        LinstorServerMetrics.extCmdStartDuration.observe(startNanosRef / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    static void outputReaderThreadCreated()
+    {
+        OUTPUT_READER_THREADS.increment();
+        LinstorServerMetrics.extCmdOutputReaderThreadsCreated.inc();
+    }
+
+    static long getStartedCommands()
+    {
+        return STARTED_CMDS.sum();
+    }
+
+    static long getMaxStartNanos()
+    {
+        return MAX_START_NANOS.get();
+    }
+
+    static long getOutputReaderThreads()
+    {
+        return OUTPUT_READER_THREADS.sum();
+    }
+
+    public static void printStats(PrintStream out)
+    {
+        long startedCmds = STARTED_CMDS.sum();
+        long startMicros = TimeUnit.NANOSECONDS.toMicros(START_NANOS.sum());
+
+        out.println("External commands\n");
+        LinStor.printField(out, "STARTED COMMANDS:", Long.toString(startedCmds));
+        LinStor.printField(
+            out,
+            "AVG. START TIME:",
+            String.format("%10d us", startedCmds == 0 ? 0 : startMicros / startedCmds)
+        );
+        LinStor.printField(
+            out,
+            "MAX. START TIME:",
+            String.format("%10d us", TimeUnit.NANOSECONDS.toMicros(MAX_START_NANOS.get()))
+        );
+        LinStor.printField(out, "OUTPUT READER THREADS:", Long.toString(OUTPUT_READER_THREADS.sum()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.linbit.extproc;
 
+import com.linbit.BlockingThreads;
 import com.linbit.ImplementationError;
 import com.linbit.SystemServiceStartException;
 import com.linbit.linstor.LinStorException;
@@ -47,7 +48,7 @@ public class LineParserDaemon implements Runnable
         deque = new LinkedBlockingDeque<>(DFLT_DEQUE_CAPACITY);
         handler = new DaemonHandler(deque, command);
 
-        thread = new Thread(threadGroupRef, this, threadName);
+        thread = BlockingThreads.newThread(threadGroupRef, this, threadName);
         consumer = consumerRef;
     }
 
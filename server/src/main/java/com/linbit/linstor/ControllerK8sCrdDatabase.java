@@ -1,9 +1,12 @@
 package com.linbit.linstor;
 
+import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.dbdrivers.k8s.K8sResourceClient;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorCrd;
 import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
 
+import java.util.concurrent.ExecutorService;
+
 import io.fabric8.kubernetes.client.KubernetesClient;
 
 public interface ControllerK8sCrdDatabase extends ControllerDatabase
@@ -14,5 +17,11 @@ public interface ControllerK8sCrdDatabase extends ControllerDatabase
 
     int getMaxRollbackEntries();
 
+    /**
+     * Returns the executor used to send the CRD changes of a committing transaction to k8s in parallel, or null if
+     * the changes should be sent sequentially.
+     */
+    @Nullable ExecutorService getRequestExecutor();
+
     void clearCache();
 }
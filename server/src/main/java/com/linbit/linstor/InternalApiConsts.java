@@ -36,6 +36,8 @@ public class InternalApiConsts
     public static final String API_NOTIFY_RSC_FAILED     = "NotifyRscFailed";
 
     public static final String API_CHANGED_RSC       = "ChangedRsc";
+    public static final String API_CHANGED_RSC_DATA  = "ChangedRscData";
+    public static final String API_CHANGED_RSC_BATCH = "ChangedRscBatch";
     public static final String API_REQUEST_RSC       = "RequestRsc";
     public static final String API_APPLY_RSC         = "ApplyRsc";
     public static final String API_APPLY_RSC_DELETED = "ApplyDeletedRsc";
@@ -59,6 +61,7 @@ public class InternalApiConsts
     public static final String API_REQUEST_SHARED_SP_LOCKS = "RequestSharedStorPoolLocks";
     public static final String API_APPLY_SHARED_STOR_POOL_LOCKS = "ApplySharedStorPoolLocks";
     public static final String API_NOTIFY_DEV_MGR_RUN_COMPLETED = "NotifyDevMgrRunCompleted";
+    public static final String API_NOTIFY_VLM_ALLOCATED_CHANGED = "NotifyVlmAllocatedChanged";
 
     public static final String API_APPLY_AUTH_TOKEN = "IntApplyAuthToken";
 
@@ -1,5 +1,6 @@
 package com.linbit.linstor;
 
+import com.linbit.BlockingThreads;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.utils.MathUtils;
 
@@ -17,6 +18,9 @@ public class LinStorModule extends AbstractModule
     // Maximum number of worker threads
     private static final int MAX_THREAD_SIZE = 16;
 
+    // Seconds after which an idle worker thread of the virtual thread scheduler is removed
+    private static final int VIRTUAL_THREAD_TTL_SECONDS = 60;
+
     @Override
     protected void configure()
     {
@@ -26,7 +30,23 @@ public class LinStorModule extends AbstractModule
     @Singleton
     public Scheduler mainWorkerPoolScheduler()
     {
-        int thrCount = MathUtils.bounds(MIN_THREAD_SIZE, LinStor.CPU_COUNT, MAX_THREAD_SIZE);
-        return Schedulers.newParallel("MainWorkerPool", thrCount);
+        Scheduler scheduler;
+        if (BlockingThreads.isVirtualThreadsEnabled())
+        {
+            // the scheduled work (mostly scopes waiting for locks, the database or external commands) blocks, so
+            // use a bounded elastic scheduler that creates its workers as virtual threads
+            scheduler = Schedulers.newBoundedElastic(
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+                Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+                BlockingThreads.daemonThreadFactory("MainWorkerPool-"),
+                VIRTUAL_THREAD_TTL_SECONDS
+            );
+        }
+        else
+        {
+            int thrCount = MathUtils.bounds(MIN_THREAD_SIZE, LinStor.CPU_COUNT, MAX_THREAD_SIZE);
+            scheduler = Schedulers.newParallel("MainWorkerPool", thrCount);
+        }
+        return scheduler;
     }
 }
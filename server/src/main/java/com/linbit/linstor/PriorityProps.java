@@ -20,15 +20,25 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PriorityProps
 {
     public static final String FALLBACKMAP_NAME = "Fallback";
     public static final String DEFAULT_DESCR = "default value";
 
+    private static final char RESOLVED_KEY_SEPARATOR = '\0';
+
     private final List<PairNonNull<ReadOnlyProps, String>> propList = new ArrayList<>();
     private final HashMap<String, String> fallbackMap = new HashMap<>();
 
+    /**
+     * Results of {@link #getPropAndContainer(String, String)}, so that looking up the same key again does not have to
+     * query every props container. Every result remembers the {@link #getModificationGeneration()} it was resolved in
+     * and is only used as long as none of the props were modified since then.
+     */
+    private final Map<String, ResolvedProp> resolvedProps = new ConcurrentHashMap<>();
+
     public PriorityProps(
         AccessContext accCtx,
         NodeConnection nodeConnection,
@@ -74,6 +84,7 @@ public class PriorityProps
         if (props != null)
         {
             propList.add(new PairNonNull<>(props, descr));
+            resolvedProps.clear();
         }
         return this;
     }
@@ -83,6 +94,7 @@ public class PriorityProps
         if (props != null)
         {
             propList.add(new PairNonNull<>(props, descr));
+            resolvedProps.clear();
         }
         return this;
     }
@@ -95,6 +107,40 @@ public class PriorityProps
      */
     public Pair<String, ReadOnlyProps> getPropAndContainer(String key, @Nullable String namespace)
         throws InvalidKeyException
+    {
+        // read the generation before resolving, so that modifications while resolving outdate the result
+        final long generation = getModificationGeneration();
+        final String resolvedKey = namespace == null ? key : namespace + RESOLVED_KEY_SEPARATOR + key;
+
+        final Pair<String, ReadOnlyProps> ret;
+        final @Nullable ResolvedProp resolved = resolvedProps.get(resolvedKey);
+        if (resolved != null && resolved.generation == generation)
+        {
+            ret = new Pair<>(resolved.value, resolved.container);
+        }
+        else
+        {
+            ret = resolvePropAndContainer(key, namespace);
+            resolvedProps.put(resolvedKey, new ResolvedProp(generation, ret.objA, ret.objB));
+        }
+        return ret;
+    }
+
+    /**
+     * The generations of the props only ever increase, so their sum changes whenever any of the props is modified
+     */
+    private long getModificationGeneration()
+    {
+        long generation = 0;
+        for (PairNonNull<ReadOnlyProps, String> pair : propList)
+        {
+            generation += pair.objA.getModificationGeneration();
+        }
+        return generation;
+    }
+
+    private Pair<String, ReadOnlyProps> resolvePropAndContainer(String key, @Nullable String namespace)
+        throws InvalidKeyException
     {
         @Nullable String value = null;
         @Nullable ReadOnlyProps container = null;
@@ -156,6 +202,7 @@ public class PriorityProps
     public void setFallbackProp(String key, String value)
     {
         fallbackMap.put(prepStoreKey(key), value);
+        resolvedProps.clear();
     }
 
     public void setFallbackProp(String key, String value, String namespace)
@@ -164,6 +211,7 @@ public class PriorityProps
             namespace + key :
             namespace + ReadOnlyProps.PATH_SEPARATOR + key;
         fallbackMap.put(prepStoreKey(fullKey), value);
+        resolvedProps.clear();
     }
 
     public Map<String, String> renderRelativeMap(@Nullable String namespace)
@@ -352,6 +400,20 @@ public class PriorityProps
         return ret;
     }
 
+    private static class ResolvedProp
+    {
+        private final long generation;
+        private final @Nullable String value;
+        private final @Nullable ReadOnlyProps container;
+
+        private ResolvedProp(long generationRef, @Nullable String valueRef, @Nullable ReadOnlyProps containerRef)
+        {
+            generation = generationRef;
+            value = valueRef;
+            container = containerRef;
+        }
+    }
+
     public static class MultiResult
     {
         public final ValueWithDescription first;
@@ -14,6 +14,7 @@ import com.linbit.linstor.core.identifier.StorPoolName;
 import com.linbit.linstor.event.EventIdentifier;
 import com.linbit.linstor.event.common.ResourceState;
 import com.linbit.linstor.logging.ErrorReportResult;
+import com.linbit.linstor.netcom.PooledBufferOutputStream;
 import com.linbit.linstor.proto.requests.MsgReqDrbdReactorExecOuterClass.DrbdReactorCommand;
 import com.linbit.linstor.storage.kinds.ExtToolsInfo;
 
@@ -40,10 +41,18 @@ public interface CommonSerializer
     {
         byte[] build();
 
+        /**
+         * Returns the serialized data without copying it. Only supported by builders that were created with a
+         * buffer pool, see {@link CtrlStltSerializer#pooledApiCallBuilder(String, Long)}.
+         */
+        PooledBufferOutputStream buildPooled();
+
         CommonSerializerBuilder authError(ApiCallRcImpl apiCallRcRef);
 
         CommonSerializerBuilder authSuccess(
             long expectedFullSyncId,
+            long resumableFullSyncId,
+            long resumableUpdateId,
             int[] stltVersion,
             String nodeUname,
             @Nullable ApiConsts.Platform platform,
@@ -11,6 +11,7 @@ import com.linbit.linstor.core.objects.Resource;
 import com.linbit.linstor.core.objects.Snapshot;
 import com.linbit.linstor.core.objects.SnapshotDefinition;
 import com.linbit.linstor.core.objects.StorPool;
+import com.linbit.linstor.core.objects.Volume;
 import com.linbit.linstor.core.objects.remotes.AbsRemote;
 import com.linbit.linstor.core.pojos.LocalPropsChangePojo;
 import com.linbit.linstor.storage.LsBlkEntry;
@@ -41,6 +42,18 @@ public interface CtrlStltSerializer extends CommonSerializer
     @Override
     CtrlStltSerializerBuilder completionBuilder(Long apiCallId);
 
+    /**
+     * Same as {@link #headerlessBuilder()}, but the data is serialized into pooled direct buffers, which are
+     * meant to be sent via {@link CommonSerializerBuilder#buildPooled()}. Intended for large messages.
+     */
+    CtrlStltSerializerBuilder pooledHeaderlessBuilder();
+
+    /**
+     * Same as {@link #apiCallBuilder(String, Long)}, but the data is serialized into pooled direct buffers, which
+     * are meant to be sent via {@link CommonSerializerBuilder#buildPooled()}. Intended for large messages.
+     */
+    CtrlStltSerializerBuilder pooledApiCallBuilder(String apiCall, Long apiCallId);
+
     interface CtrlStltSerializerBuilder extends CommonSerializerBuilder
     {
         /*
@@ -56,6 +69,7 @@ public interface CtrlStltSerializer extends CommonSerializer
 
         CtrlStltSerializerBuilder changedNode(UUID nodeUuid, String nodeName);
         CtrlStltSerializerBuilder changedResource(UUID rscUuid, String rscName);
+        CtrlStltSerializerBuilder changedResources(Collection<Resource> rscs);
 
         CtrlStltSerializerBuilder changedStorPool(UUID storPoolUuid, String nodeName, String storPoolName);
         CtrlStltSerializerBuilder changedSnapshot(String rscName, UUID snapshotUuid, String snapshotName);
@@ -102,6 +116,8 @@ public interface CtrlStltSerializer extends CommonSerializer
             long updateId
         );
 
+        CtrlStltSerializerBuilder resumeFullSync(long timestamp);
+
         CommonSerializerBuilder externalFile(
             ExternalFile extFileRef,
             boolean includeContent,
@@ -180,6 +196,8 @@ public interface CtrlStltSerializer extends CommonSerializer
 
         CtrlStltSerializerBuilder notifyBackupShippingFinished(String rscName, String snapName, String remoteName);
 
+        CtrlStltSerializerBuilder notifyVlmAllocatedChanged(Map<Volume.Key, Long> changedVlmAllocations);
+
         CtrlStltSerializerBuilder requestControllerUpdate();
         CtrlStltSerializerBuilder requestNodeUpdate(UUID nodeUuid, String nodeName);
         CtrlStltSerializerBuilder requestResourceUpdate(UUID rscUuid, String nodeName, String rscName);
@@ -68,6 +68,8 @@ import com.linbit.linstor.layer.LayerIgnoreReason;
 import com.linbit.linstor.logging.ErrorReport;
 import com.linbit.linstor.logging.ErrorReportResult;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
+import com.linbit.linstor.netcom.PooledBufferOutputStream;
 import com.linbit.linstor.proto.MsgHeaderOuterClass;
 import com.linbit.linstor.proto.common.ApiCallResponseOuterClass;
 import com.linbit.linstor.proto.common.BCacheRscOuterClass.BCacheRsc;
@@ -164,6 +166,7 @@ import com.linbit.utils.TimeUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -177,12 +180,16 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 
 public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSerializerBuilder
 {
     protected final ErrorReporter errorReporter;
     protected final AccessContext serializerCtx;
-    protected final ByteArrayOutputStream baos;
+    protected final OutputStream baos;
+    private final @Nullable ByteArrayOutputStream heapOut;
+    private final @Nullable PooledBufferOutputStream pooledOut;
+    private final @Nullable DirectByteBufferPool bufferPool;
     private boolean exceptionoccurred;
 
     public ProtoCommonSerializerBuilder(
@@ -192,11 +199,39 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
         @Nullable Long apiCallId,
         boolean isAnswer
     )
+    {
+        this(errReporterRef, serializerCtxRef, null, msgContent, apiCallId, isAnswer);
+    }
+
+    /**
+     * @param bufferPoolRef if not null, the message is serialized into chunks of this pool instead of a growing
+     *     byte array. The serialized data should then be retrieved via {@link #buildPooled()}.
+     */
+    public ProtoCommonSerializerBuilder(
+        final ErrorReporter errReporterRef,
+        final AccessContext serializerCtxRef,
+        @Nullable DirectByteBufferPool bufferPoolRef,
+        @Nullable String msgContent,
+        @Nullable Long apiCallId,
+        boolean isAnswer
+    )
     {
         this.errorReporter = errReporterRef;
         this.serializerCtx = serializerCtxRef;
+        bufferPool = bufferPoolRef;
 
-        baos = new ByteArrayOutputStream();
+        if (bufferPoolRef == null)
+        {
+            heapOut = new ByteArrayOutputStream();
+            pooledOut = null;
+            baos = heapOut;
+        }
+        else
+        {
+            heapOut = null;
+            pooledOut = new PooledBufferOutputStream(bufferPoolRef);
+            baos = pooledOut;
+        }
         exceptionoccurred = false;
         if (msgContent != null || apiCallId != null)
 
@@ -222,12 +257,82 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
             ret = new byte[0]; // do not send corrupted data
         }
         else
+        if (pooledOut != null)
+        {
+            ret = pooledOut.toByteArray();
+            pooledOut.release();
+        }
+        else
         {
-            ret = baos.toByteArray();
+            ret = heapOut.toByteArray();
         }
         return ret;
     }
 
+    @Override
+    public PooledBufferOutputStream buildPooled()
+    {
+        if (pooledOut == null)
+        {
+            throw new ImplementationError("Serializer builder was not created with a buffer pool");
+        }
+        if (exceptionoccurred)
+        {
+            pooledOut.release(); // do not send corrupted data
+        }
+        return pooledOut;
+    }
+
+    /**
+     * Creates a stream for the content of a message that is written field by field instead of being built as a
+     * whole protobuf object tree first. The stream uses the same kind of buffers as this builder. Once written, the
+     * content has to be appended by {@link #appendDelimited(OutputStream)}, and the stream has to be passed to
+     * {@link #releaseMsgContentStream(OutputStream)} in any case.
+     */
+    protected OutputStream createMsgContentStream()
+    {
+        return bufferPool == null ? new ByteArrayOutputStream() : new PooledBufferOutputStream(bufferPool);
+    }
+
+    /**
+     * Appends the content of the given stream as a length delimited message, the same way
+     * {@link com.google.protobuf.MessageLite#writeDelimitedTo(OutputStream)} would
+     */
+    protected void appendDelimited(OutputStream msgContentStream) throws IOException
+    {
+        if (msgContentStream instanceof PooledBufferOutputStream pooledContent)
+        {
+            writeLengthPrefix(pooledContent.size());
+            // the chunks are taken over, not copied
+            pooledOut.append(pooledContent);
+        }
+        else
+        {
+            ByteArrayOutputStream heapContent = (ByteArrayOutputStream) msgContentStream;
+            writeLengthPrefix(heapContent.size());
+            heapContent.writeTo(baos);
+        }
+    }
+
+    protected void releaseMsgContentStream(OutputStream msgContentStream)
+    {
+        if (msgContentStream instanceof PooledBufferOutputStream pooledContent)
+        {
+            // no-op if the chunks were already taken over by appendDelimited
+            pooledContent.release();
+        }
+    }
+
+    private void writeLengthPrefix(int length) throws IOException
+    {
+        CodedOutputStream codedOut = CodedOutputStream.newInstance(
+            baos,
+            CodedOutputStream.computeUInt32SizeNoTag(length)
+        );
+        codedOut.writeUInt32NoTag(length);
+        codedOut.flush();
+    }
+
     private void header(@Nullable String msgContent, Long apiCallId, boolean isAnswer) throws IOException
     {
         MsgHeaderOuterClass.MsgHeader.Builder headerBuilder = MsgHeaderOuterClass.MsgHeader.newBuilder();
@@ -316,6 +421,8 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
     @Override
     public CommonSerializerBuilder authSuccess(
         long expectedFullSyncIdRef,
+        long resumableFullSyncIdRef,
+        long resumableUpdateIdRef,
         int[] stltVersionRef,
         String uname,
         @Nullable ApiConsts.Platform platform,
@@ -348,6 +455,8 @@ public class ProtoCommonSerializerBuilder implements CommonSerializer.CommonSeri
             MsgIntAuthResponse.newBuilder()
                 .setSuccess(true)
                 .setExpectedFullSyncId(expectedFullSyncIdRef)
+                .setResumableFullSyncId(resumableFullSyncIdRef)
+                .setResumableUpdateId(resumableUpdateIdRef)
                 .setLinstorVersionMajor(stltVersionRef[0])
                 .setLinstorVersionMinor(stltVersionRef[1])
                 .setLinstorVersionPatch(stltVersionRef[2])
@@ -6,6 +6,7 @@ import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
 import com.linbit.linstor.core.CtrlSecurityObjects;
 import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
 import com.linbit.linstor.propscon.ReadOnlyProps;
 import com.linbit.linstor.security.AccessContext;
 
@@ -19,18 +20,21 @@ public class ProtoCtrlStltSerializer extends ProtoCommonSerializer
 {
     private final CtrlSecurityObjects secObjs;
     private final ReadOnlyProps ctrlConf;
+    private final DirectByteBufferPool bufferPool;
 
     @Inject
     public ProtoCtrlStltSerializer(
         ErrorReporter errReporter,
         @ApiContext AccessContext serializerCtx,
         CtrlSecurityObjects secObjsRef,
-        @Named(LinStor.SATELLITE_PROPS) ReadOnlyProps ctrlConfRef
+        @Named(LinStor.SATELLITE_PROPS) ReadOnlyProps ctrlConfRef,
+        DirectByteBufferPool bufferPoolRef
     )
     {
         super(errReporter, serializerCtx);
         secObjs = secObjsRef;
         ctrlConf = ctrlConfRef;
+        bufferPool = bufferPoolRef;
     }
 
     @Override
@@ -66,9 +70,24 @@ public class ProtoCtrlStltSerializer extends ProtoCommonSerializer
         return builder(null, apiCallId, false);
     }
 
+    @Override
+    public CtrlStltSerializerBuilder pooledHeaderlessBuilder()
+    {
+        return new ProtoCtrlStltSerializerBuilder(
+            errorReporter, serializerCtx, secObjs, ctrlConf, bufferPool, null, null, false);
+    }
+
+    @Override
+    public CtrlStltSerializerBuilder pooledApiCallBuilder(String apiCall, Long apiCallId)
+    {
+        checkApiCallIdNotNull(apiCallId);
+        return new ProtoCtrlStltSerializerBuilder(
+            errorReporter, serializerCtx, secObjs, ctrlConf, bufferPool, apiCall, apiCallId, false);
+    }
+
     private CtrlStltSerializerBuilder builder(@Nullable String apiCall, @Nullable Long apiCallId, boolean isAnswer)
     {
         return new ProtoCtrlStltSerializerBuilder(
-            errorReporter, serializerCtx, secObjs, ctrlConf, apiCall, apiCallId, isAnswer);
+            errorReporter, serializerCtx, secObjs, ctrlConf, null, apiCall, apiCallId, isAnswer);
     }
 }
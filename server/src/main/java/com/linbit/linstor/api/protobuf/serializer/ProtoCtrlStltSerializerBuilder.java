@@ -35,6 +35,7 @@ import com.linbit.linstor.core.objects.remotes.StltRemote;
 import com.linbit.linstor.core.pojos.LocalPropsChangePojo;
 import com.linbit.linstor.interfaces.StorPoolInfo;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
 import com.linbit.linstor.propscon.ReadOnlyProps;
 import com.linbit.linstor.proto.common.CryptoEntryOuterClass;
 import com.linbit.linstor.proto.common.RscLayerDataOuterClass.RscLayerData;
@@ -95,6 +96,8 @@ import com.linbit.linstor.proto.javainternal.s2c.MsgIntDrbdSetVlmUpToDateOuterCl
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntRequestSharedStorPoolLocksOuterClass.MsgIntRequestSharedStorPoolLocks;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntUpdateFreeSpaceOuterClass.MsgIntUpdateFreeSpace;
 import com.linbit.linstor.proto.javainternal.s2c.MsgIntUpdateLocalNodeChangeOuterClass;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.MsgIntVlmAllocated;
+import com.linbit.linstor.proto.javainternal.s2c.MsgIntVlmAllocatedOuterClass.VlmAllocated;
 import com.linbit.linstor.proto.javainternal.s2c.MsgPhysicalDevicesOuterClass;
 import com.linbit.linstor.proto.javainternal.s2c.MsgPhysicalDevicesOuterClass.MsgPhysicalDevices;
 import com.linbit.linstor.proto.javainternal.s2c.MsgRscFailedOuterClass.MsgRscFailed;
@@ -110,6 +113,7 @@ import com.linbit.utils.Base64;
 import com.linbit.utils.Either;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -125,6 +129,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
 
 import static java.util.stream.Collectors.toList;
 
@@ -144,12 +149,13 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         AccessContext serializerCtx,
         CtrlSecurityObjects secObjsRef,
         ReadOnlyProps ctrlConfRef,
+        @Nullable DirectByteBufferPool bufferPoolRef,
         final @Nullable String apiCall,
         @Nullable Long apiCallId,
         boolean isAnswer
     )
     {
-        super(errReporter, serializerCtx, apiCall, apiCallId, isAnswer);
+        super(errReporter, serializerCtx, bufferPoolRef, apiCall, apiCallId, isAnswer);
         secObjs = secObjsRef;
 
         ctrlSerializerHelper = new CtrlSerializerHelper(ctrlConfRef);
@@ -288,6 +294,31 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         return this;
     }
 
+    // no fullSync- or update-id needed
+    @Override
+    public ProtoCtrlStltSerializerBuilder changedResources(Collection<Resource> rscs)
+    {
+        try
+        {
+            MsgIntChangedData.Builder builder = MsgIntChangedData.newBuilder();
+            for (Resource rsc : rscs)
+            {
+                builder.addRscs(
+                    ChangedResource.newBuilder()
+                        .setUuid(ProtoUuidUtils.serialize(rsc.getUuid()))
+                        .setName(rsc.getResourceDefinition().getName().displayValue)
+                        .build()
+                );
+            }
+            builder.build().writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
+
     // no fullSync- or update-id needed
     @Override
     public ProtoCtrlStltSerializerBuilder changedStorPool(UUID storPoolUuid, String nodeNameRef, String storPoolName)
@@ -565,57 +596,65 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         long updateId
     )
     {
+        // the full sync can be huge. Instead of building the whole MsgIntApplyFullSync object tree first, every
+        // repeated entry is serialized as soon as it is built, so only one entry at a time is kept as protobuf object
+        OutputStream msgContentStream = createMsgContentStream();
         try
         {
-            ArrayList<IntNode> serializedNodes = new ArrayList<>();
-            ArrayList<IntStorPool> serializedStorPools = new ArrayList<>();
-            ArrayList<IntRsc> serializedRscs = new ArrayList<>();
-            ArrayList<IntSnapshot> serializedSnapshots = new ArrayList<>();
-            ArrayList<IntExternalFile> serializedExtFiles = new ArrayList<>();
-            ArrayList<IntS3Remote> serializedS3Remotes = new ArrayList<>();
-            ArrayList<IntEbsRemote> serializedEbsRemotes = new ArrayList<>();
-
-            IntController serializedCtrl = ctrlSerializerHelper.buildControllerDataMsg();
+            CodedOutputStream codedOut = CodedOutputStream.newInstance(msgContentStream);
 
             ArrayDeque<Node> nodes = new ArrayDeque<>(nodeSet);
-
             while (!nodes.isEmpty())
             {
                 Node node = nodes.removeFirst();
-                serializedNodes.add(
+                codedOut.writeMessage(
+                    MsgIntApplyFullSync.NODES_FIELD_NUMBER,
                     nodeSerializerHelper.buildNodeMsg(node, nodes)
                 );
             }
             for (StorPool storPool : storPools)
             {
-                serializedStorPools.add(
-                    buildIntStorPoolMsg(storPool)
-                );
+                codedOut.writeMessage(MsgIntApplyFullSync.STOR_POOLS_FIELD_NUMBER, buildIntStorPoolMsg(storPool));
             }
             for (Resource rsc : resources)
             {
                 if (rsc.iterateVolumes().hasNext())
                 {
-                    serializedRscs.add(rscSerializerHelper.buildIntResource(rsc, false));
+                    codedOut.writeMessage(
+                        MsgIntApplyFullSync.RSCS_FIELD_NUMBER,
+                        rscSerializerHelper.buildIntResource(rsc, false)
+                    );
                 }
             }
             for (Snapshot snapshot : snapshots)
             {
-                serializedSnapshots.add(snapshotSerializerHelper.buildSnapshotMsg(snapshot, false));
+                codedOut.writeMessage(
+                    MsgIntApplyFullSync.SNAPSHOTS_FIELD_NUMBER,
+                    snapshotSerializerHelper.buildSnapshotMsg(snapshot, false)
+                );
             }
             for (ExternalFile extFile : externalFiles)
             {
-                serializedExtFiles.add(externalFileSerializerHelper.buildExtFileMsg(extFile, false));
+                codedOut.writeMessage(
+                    MsgIntApplyFullSync.EXTERNAL_FILES_FIELD_NUMBER,
+                    externalFileSerializerHelper.buildExtFileMsg(extFile, false)
+                );
             }
             for (AbsRemote remote : remotes)
             {
                 if (remote instanceof S3Remote s3Remote)
                 {
-                    serializedS3Remotes.add(remoteSerializerHelper.buildS3RemoteMsg(s3Remote));
+                    codedOut.writeMessage(
+                        MsgIntApplyFullSync.S3REMOTES_FIELD_NUMBER,
+                        remoteSerializerHelper.buildS3RemoteMsg(s3Remote)
+                    );
                 }
                 else if (remote instanceof EbsRemote ebsRemote)
                 {
-                    serializedEbsRemotes.add(remoteSerializerHelper.buildEbsRemoteMsg(ebsRemote));
+                    codedOut.writeMessage(
+                        MsgIntApplyFullSync.EBS_REMOTES_FIELD_NUMBER,
+                        remoteSerializerHelper.buildEbsRemoteMsg(ebsRemote)
+                    );
                 }
                 else if (remote instanceof StltRemote)
                 {
@@ -623,26 +662,30 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
                 }
             }
 
-            MsgIntApplyFullSync.Builder builder = MsgIntApplyFullSync.newBuilder()
-                .addAllNodes(serializedNodes)
-                .addAllStorPools(serializedStorPools)
-                .addAllRscs(serializedRscs)
-                .addAllSnapshots(serializedSnapshots)
-                .addAllExternalFiles(serializedExtFiles)
-                .addAllEbsRemotes(serializedEbsRemotes)
-                .addAllS3Remotes(serializedS3Remotes)
-                .setFullSyncTimestamp(fullSyncTimestamp)
-                .setCtrl(serializedCtrl);
+            codedOut.writeSInt64(MsgIntApplyFullSync.FULL_SYNC_TIMESTAMP_FIELD_NUMBER, fullSyncTimestamp);
+            codedOut.writeMessage(MsgIntApplyFullSync.CTRL_FIELD_NUMBER, ctrlSerializerHelper.buildControllerDataMsg());
 
             if (secObjs.areAllSet())
             {
-                builder.setMasterKey(Base64.encode(secObjs.getCryptKey()))
-                    .setCryptHash(ByteString.copyFrom(secObjs.getCryptHash()))
-                    .setCryptSalt(ByteString.copyFrom(secObjs.getCryptSalt()))
-                    .setEncCryptKey(ByteString.copyFrom(secObjs.getEncKey()));
+                codedOut.writeString(
+                    MsgIntApplyFullSync.MASTER_KEY_FIELD_NUMBER,
+                    Base64.encode(secObjs.getCryptKey())
+                );
+                codedOut.writeBytes(
+                    MsgIntApplyFullSync.CRYPT_HASH_FIELD_NUMBER,
+                    ByteString.copyFrom(secObjs.getCryptHash())
+                );
+                codedOut.writeBytes(
+                    MsgIntApplyFullSync.CRYPT_SALT_FIELD_NUMBER,
+                    ByteString.copyFrom(secObjs.getCryptSalt())
+                );
+                codedOut.writeBytes(
+                    MsgIntApplyFullSync.ENC_CRYPT_KEY_FIELD_NUMBER,
+                    ByteString.copyFrom(secObjs.getEncKey())
+                );
             }
-            builder.build()
-                .writeDelimitedTo(baos);
+            codedOut.flush();
+            appendDelimited(msgContentStream);
         }
         catch (IOException exc)
         {
@@ -652,6 +695,28 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         {
             handleAccessDeniedException(exc);
         }
+        finally
+        {
+            releaseMsgContentStream(msgContentStream);
+        }
+        return this;
+    }
+
+    @Override
+    public ProtoCtrlStltSerializerBuilder resumeFullSync(long fullSyncTimestamp)
+    {
+        try
+        {
+            MsgIntApplyFullSync.newBuilder()
+                .setFullSyncTimestamp(fullSyncTimestamp)
+                .setResume(true)
+                .build()
+                .writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
         return this;
     }
 
@@ -1100,6 +1165,32 @@ public class ProtoCtrlStltSerializerBuilder extends ProtoCommonSerializerBuilder
         return this;
     }
 
+    @Override
+    public CtrlStltSerializerBuilder notifyVlmAllocatedChanged(Map<Volume.Key, Long> changedVlmAllocations)
+    {
+        try
+        {
+            MsgIntVlmAllocated.Builder builder = MsgIntVlmAllocated.newBuilder();
+            for (Map.Entry<Volume.Key, Long> entry : changedVlmAllocations.entrySet())
+            {
+                Volume.Key vlmKey = entry.getKey();
+                builder.addAllocatedCapacities(
+                    VlmAllocated.newBuilder()
+                        .setRscName(vlmKey.getResourceName().displayValue)
+                        .setVlmNr(vlmKey.getVolumeNumber().value)
+                        .setAllocated(entry.getValue())
+                        .build()
+                );
+            }
+            builder.build().writeDelimitedTo(baos);
+        }
+        catch (IOException exc)
+        {
+            handleIOException(exc);
+        }
+        return this;
+    }
+
     @Override
     public CtrlStltSerializer.CtrlStltSerializerBuilder notifyResourceFailed(Resource resource, ApiCallRc apiCallRc)
     {
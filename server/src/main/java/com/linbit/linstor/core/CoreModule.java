@@ -26,6 +26,7 @@ import com.linbit.linstor.propscon.ReadOnlyProps;
 import com.linbit.linstor.security.ObjectProtection;
 import com.linbit.linstor.transaction.TransactionMap;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
+import com.linbit.locks.StripedReadWriteLock;
 
 import javax.inject.Inject;
 import javax.inject.Named;
@@ -60,6 +61,21 @@ public class CoreModule extends AbstractModule
     public static final String SCHEDULE_MAP_LOCK = "scheduleMapLock";
     public static final String AUTH_TOKEN_MAP_LOCK = "authTokenMapLock";
 
+    private final int rscDfnLockStripes;
+
+    public CoreModule()
+    {
+        this(0);
+    }
+
+    /**
+     * @param rscDfnLockStripesRef Number of stripes of the rscDfnMapLock. 0 disables per-resource-definition locking
+     */
+    public CoreModule(int rscDfnLockStripesRef)
+    {
+        rscDfnLockStripes = rscDfnLockStripesRef;
+    }
+
     @Override
     protected void configure()
     {
@@ -88,7 +104,7 @@ public class CoreModule extends AbstractModule
         bind(ReadWriteLock.class).annotatedWith(Names.named(NODES_MAP_LOCK))
             .toInstance(new ReentrantReadWriteLock(true));
         bind(ReadWriteLock.class).annotatedWith(Names.named(RSC_DFN_MAP_LOCK))
-            .toInstance(new ReentrantReadWriteLock(true));
+            .toInstance(new StripedReadWriteLock(rscDfnLockStripes));
         bind(ReadWriteLock.class).annotatedWith(Names.named(STOR_POOL_DFN_MAP_LOCK))
             .toInstance(new ReentrantReadWriteLock(true));
         bind(ReadWriteLock.class).annotatedWith(Names.named(FREE_SPACE_MGR_MAP_LOCK))
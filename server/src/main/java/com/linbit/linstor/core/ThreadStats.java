@@ -0,0 +1,119 @@
+package com.linbit.linstor.core;
+
+import com.linbit.BlockingThreads;
+import com.linbit.linstor.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Collects the thread counts and context switches of this process
+ */
+public final class ThreadStats
+{
+    public static final int IDX_VOLUNTARY_CTXT_SWITCHES = 0;
+    public static final int IDX_NONVOLUNTARY_CTXT_SWITCHES = 1;
+
+    private static final Path PROC_SELF_TASK = Paths.get("/proc/self/task");
+    private static final String VOLUNTARY_CTXT_SWITCHES = "voluntary_ctxt_switches:";
+    private static final String NONVOLUNTARY_CTXT_SWITCHES = "nonvoluntary_ctxt_switches:";
+
+    private ThreadStats()
+    {
+    }
+
+    /**
+     * Sums up the voluntary and nonvoluntary context switches of all currently existing (platform and carrier)
+     * threads of this process. Context switches of threads that already terminated are not included.
+     *
+     * @return the voluntary and nonvoluntary context switches (see the IDX_* constants), or null if the
+     *     information is not available on this platform
+     */
+    public static @Nullable long[] getContextSwitches()
+    {
+        @Nullable long[] ret = null;
+        if (Files.isDirectory(PROC_SELF_TASK))
+        {
+            long[] ctxtSwitches = new long[2];
+            try (DirectoryStream<Path> taskDirs = Files.newDirectoryStream(PROC_SELF_TASK))
+            {
+                for (Path taskDir : taskDirs)
+                {
+                    addContextSwitches(taskDir.resolve("status"), ctxtSwitches);
+                }
+                ret = ctxtSwitches;
+            }
+            catch (IOException ignored)
+            {
+                // not available, return null
+            }
+        }
+        return ret;
+    }
+
+    private static void addContextSwitches(Path statusFile, long[] ctxtSwitches)
+    {
+        try
+        {
+            List<String> lines = Files.readAllLines(statusFile);
+            for (String line : lines)
+            {
+                if (line.startsWith(VOLUNTARY_CTXT_SWITCHES))
+                {
+                    ctxtSwitches[IDX_VOLUNTARY_CTXT_SWITCHES] += Long.parseLong(
+                        line.substring(VOLUNTARY_CTXT_SWITCHES.length()).trim()
+                    );
+                }
+                else
+                if (line.startsWith(NONVOLUNTARY_CTXT_SWITCHES))
+                {
+                    ctxtSwitches[IDX_NONVOLUNTARY_CTXT_SWITCHES] += Long.parseLong(
+                        line.substring(NONVOLUNTARY_CTXT_SWITCHES.length()).trim()
+                    );
+                }
+            }
+        }
+        catch (IOException | NumberFormatException ignored)
+        {
+            // the thread terminated in the meantime, skip it
+        }
+    }
+
+    public static void printThreadInfo(PrintStream out)
+    {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+
+        out.println("Threads\n");
+        LinStor.printField(
+            out,
+            "VIRTUAL THREADS:",
+            BlockingThreads.isVirtualThreadsEnabled() ? "ENABLED" : "DISABLED"
+        );
+        LinStor.printField(out, "PLATFORM THREADS:", Integer.toString(threadMxBean.getThreadCount()));
+        LinStor.printField(out, "PLATFORM THREADS PEAK:", Integer.toString(threadMxBean.getPeakThreadCount()));
+        LinStor.printField(out, "VIRTUAL THREADS ALIVE:", Integer.toString(BlockingThreads.getVirtualThreadsAlive()));
+        LinStor.printField(out, "VIRTUAL THREADS STARTED:", Long.toString(BlockingThreads.getVirtualThreadsStarted()));
+
+        @Nullable long[] ctxtSwitches = getContextSwitches();
+        if (ctxtSwitches != null)
+        {
+            LinStor.printField(
+                out,
+                "VOLUNTARY CTX SWITCHES:",
+                Long.toString(ctxtSwitches[IDX_VOLUNTARY_CTXT_SWITCHES])
+            );
+            LinStor.printField(
+                out,
+                "INVOLUNTARY CTX SWITCHES:",
+                Long.toString(ctxtSwitches[IDX_NONVOLUNTARY_CTXT_SWITCHES])
+            );
+        }
+    }
+}
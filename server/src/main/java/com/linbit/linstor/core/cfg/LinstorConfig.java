@@ -31,6 +31,18 @@ public abstract class LinstorConfig
     protected @Nullable String logLevel;
     protected @Nullable String logLevelLinstor;
 
+    /*
+     * NetCom
+     */
+    // 0 = the main selector loop handles all connections
+    protected int netComWorkerThreads = 0;
+
+    /*
+     * Threading
+     */
+    // run threads that mostly block on external processes or sockets as virtual threads
+    protected boolean virtualThreads = false;
+
     /**
      * Order or priority of config sources (top has highest priority)
      * 1) command line arguments
@@ -130,6 +142,22 @@ public abstract class LinstorConfig
         }
     }
 
+    public void setNetComWorkerThreads(@Nullable Integer netComWorkerThreadsRef)
+    {
+        if (netComWorkerThreadsRef != null)
+        {
+            netComWorkerThreads = Math.max(0, netComWorkerThreadsRef);
+        }
+    }
+
+    public void setVirtualThreads(@Nullable Boolean virtualThreadsRef)
+    {
+        if (virtualThreadsRef != null)
+        {
+            virtualThreads = virtualThreadsRef;
+        }
+    }
+
     public @Nullable String getConfigDir()
     {
         return configDir;
@@ -165,4 +193,14 @@ public abstract class LinstorConfig
         return logLevelLinstor;
     }
 
+    public int getNetComWorkerThreads()
+    {
+        return netComWorkerThreads;
+    }
+
+    public boolean isVirtualThreadsEnabled()
+    {
+        return virtualThreads;
+    }
+
 }
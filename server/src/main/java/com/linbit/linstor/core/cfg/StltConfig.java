@@ -30,6 +30,13 @@ public class StltConfig extends LinstorConfig
     private @Nullable String netSecureTruststorePassword;
     private @Nullable String netSecureSslProtocol;
 
+    /*
+     * Device manager
+     */
+    private int devMgrParallelWorkers;
+    private int devMgrStorPoolParallelLimit;
+    private int devMgrDrbdAdjustBatchSize;
+
     /*
      * External files
      */
@@ -56,6 +63,10 @@ public class StltConfig extends LinstorConfig
 
         setNetSecureSslProtocol("TLSv1.2");
 
+        setDevMgrParallelWorkers(1);
+        setDevMgrStorPoolParallelLimit(0);
+        setDevMgrDrbdAdjustBatchSize(1);
+
         setExternalFilesWhitelist(Collections.emptySet()); // just to prevent NPE when checking the set with .contains
     }
 
@@ -254,6 +265,52 @@ public class StltConfig extends LinstorConfig
         }
     }
 
+    public int getDevMgrParallelWorkers()
+    {
+        return devMgrParallelWorkers;
+    }
+
+    public void setDevMgrParallelWorkers(@Nullable Integer devMgrParallelWorkersRef)
+    {
+        if (devMgrParallelWorkersRef != null)
+        {
+            devMgrParallelWorkers = devMgrParallelWorkersRef;
+        }
+    }
+
+    public int getDevMgrStorPoolParallelLimit()
+    {
+        return devMgrStorPoolParallelLimit;
+    }
+
+    public void setDevMgrStorPoolParallelLimit(@Nullable Integer devMgrStorPoolParallelLimitRef)
+    {
+        if (devMgrStorPoolParallelLimitRef != null)
+        {
+            devMgrStorPoolParallelLimit = devMgrStorPoolParallelLimitRef;
+        }
+    }
+
+    public int getDevMgrDrbdAdjustBatchSize()
+    {
+        return devMgrDrbdAdjustBatchSize;
+    }
+
+    public void setDevMgrDrbdAdjustBatchSize(@Nullable Integer devMgrDrbdAdjustBatchSizeRef)
+    {
+        if (devMgrDrbdAdjustBatchSizeRef != null)
+        {
+            if (devMgrDrbdAdjustBatchSizeRef < 1)
+            {
+                throw new IllegalArgumentException(
+                    "drbd_adjust_batch_size has to be at least 1 (no batching), but was " +
+                        devMgrDrbdAdjustBatchSizeRef
+                );
+            }
+            devMgrDrbdAdjustBatchSize = devMgrDrbdAdjustBatchSizeRef;
+        }
+    }
+
     public @Nullable Set<Path> getWhitelistedExternalFilePaths()
     {
         return whitelistedExternalFilePaths;
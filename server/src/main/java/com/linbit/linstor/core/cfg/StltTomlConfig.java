@@ -19,6 +19,8 @@ public class StltTomlConfig
         private @Nullable String trusted_certificates;
         private @Nullable String ssl_protocol;
 
+        private @Nullable Integer worker_threads;
+
         public void applyTo(StltConfig cfg)
         {
             cfg.setStltType(type);
@@ -32,6 +34,8 @@ public class StltTomlConfig
             cfg.setNetSecureTrustedCertificates(trusted_certificates);
             cfg.setNetSecureTruststorePassword(truststore_password);
             cfg.setNetSecureSslProtocol(ssl_protocol);
+
+            cfg.setNetComWorkerThreads(worker_threads);
         }
     }
 
@@ -47,6 +51,30 @@ public class StltTomlConfig
         }
     }
 
+    public static class DevMgr
+    {
+        private @Nullable Integer parallel_workers;
+        private @Nullable Integer stor_pool_parallel_limit;
+        private @Nullable Integer drbd_adjust_batch_size;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setDevMgrParallelWorkers(parallel_workers);
+            cfg.setDevMgrStorPoolParallelLimit(stor_pool_parallel_limit);
+            cfg.setDevMgrDrbdAdjustBatchSize(drbd_adjust_batch_size);
+        }
+    }
+
+    public static class Threading
+    {
+        private @Nullable Boolean virtual_threads;
+
+        public void applyTo(StltConfig cfg)
+        {
+            cfg.setVirtualThreads(virtual_threads);
+        }
+    }
+
     static class Files
     {
         private @Nullable Set<String> allowExtFiles;
@@ -59,12 +87,16 @@ public class StltTomlConfig
 
     private NETCOM netcom = new NETCOM();
     private Logging logging = new Logging();
+    private DevMgr devmgr = new DevMgr();
+    private Threading threading = new Threading();
     private Files files = new Files();
 
     public void applyTo(StltConfig cfg)
     {
         netcom.applyTo(cfg);
         logging.applyTo(cfg);
+        devmgr.applyTo(cfg);
+        threading.applyTo(cfg);
         files.applyTo(cfg);
     }
 }
@@ -1,7 +1,9 @@
 package com.linbit.linstor.debug;
 
 import javax.inject.Inject;
+import com.linbit.extproc.ExtCmdStats;
 import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.ThreadStats;
 import com.linbit.linstor.security.AccessContext;
 
 import java.io.PrintStream;
@@ -39,5 +41,9 @@ public class CmdDisplaySystemStatus extends BaseDebugCmd
         throws Exception
     {
         LinStor.printRunTimeInfo(debugOut);
+        debugOut.println();
+        ExtCmdStats.printStats(debugOut);
+        debugOut.println();
+        ThreadStats.printThreadInfo(debugOut);
     }
 }
@@ -11,6 +11,7 @@ import com.linbit.linstor.core.LinStor;
 import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 import com.linbit.linstor.security.Privilege;
@@ -320,6 +321,7 @@ public final class StdErrorReporter extends BaseErrorReporter implements ErrorRe
                 renderedReport.getBytes(StandardCharsets.UTF_8)
             );
 
+            LinstorServerMetrics.errorReportsCreated.inc();
             logReport(reportNr, errorInfo, logLevel);
 
             Sentry.captureException(errorInfo);
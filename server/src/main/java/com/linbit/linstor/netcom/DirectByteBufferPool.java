@@ -0,0 +1,210 @@
+package com.linbit.linstor.netcom;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of direct {@link ByteBuffer}s, organized in size classes.
+ *
+ * The size classes are the powers of two from {@link #MIN_BUFFER_SIZE} (the size of a message header) up to the
+ * chunk size. A request is served from the smallest size class that fits. Allocating direct buffers is expensive,
+ * therefore released buffers are kept for reuse, up to a limited amount of memory per size class.
+ *
+ * Requests larger than the chunk size are served with heap buffers which are not pooled. Buffers that are never
+ * released (or exceed the limit of their size class) are simply left to the garbage collector.
+ */
+@Singleton
+public class DirectByteBufferPool
+{
+    public static final int MIN_BUFFER_SIZE = Message.HEADER_SIZE;
+    public static final int DFLT_CHUNK_SIZE = 64 * 1024;
+    public static final long DFLT_MAX_POOLED_BYTES_PER_CLASS = 4L * 1024 * 1024;
+
+    private static final int MAX_POOLED_BUFFERS_PER_CLASS = 1024;
+    private static final int MIN_SIZE_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+
+    private final int chunkSize;
+    private final SizeClass[] sizeClasses;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final AtomicLong bytesInFlight = new AtomicLong();
+
+    @Inject
+    public DirectByteBufferPool()
+    {
+        this(DFLT_CHUNK_SIZE, DFLT_MAX_POOLED_BYTES_PER_CLASS);
+    }
+
+    public DirectByteBufferPool(int chunkSizeRef, long maxPooledBytesPerClassRef)
+    {
+        if (chunkSizeRef < MIN_BUFFER_SIZE || Integer.bitCount(chunkSizeRef) != 1)
+        {
+            throw new IllegalArgumentException(
+                "Chunk size must be a power of two and at least " + MIN_BUFFER_SIZE + ": " + chunkSizeRef
+            );
+        }
+        chunkSize = chunkSizeRef;
+        sizeClasses = new SizeClass[Integer.numberOfTrailingZeros(chunkSizeRef) - MIN_SIZE_SHIFT + 1];
+        for (int idx = 0; idx < sizeClasses.length; ++idx)
+        {
+            int size = MIN_BUFFER_SIZE << idx;
+            sizeClasses[idx] = new SizeClass(
+                size,
+                (int) Math.min(MAX_POOLED_BUFFERS_PER_CLASS, maxPooledBytesPerClassRef / size)
+            );
+        }
+    }
+
+    /**
+     * Returns the size of the largest size class. Larger buffers are not pooled.
+     */
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    /**
+     * Returns a cleared buffer of the largest size class
+     */
+    public ByteBuffer acquire()
+    {
+        return acquire(chunkSize);
+    }
+
+    /**
+     * Returns a buffer with position 0 and a limit of exactly the requested size.
+     * Sizes up to the chunk size are served from direct buffers of the smallest fitting size class, larger sizes
+     * are allocated as heap buffers.
+     */
+    public ByteBuffer acquire(int size)
+    {
+        ByteBuffer buffer;
+        if (size > chunkSize)
+        {
+            missCount.increment();
+            LinstorServerMetrics.bufferPoolMisses.inc();
+            buffer = ByteBuffer.allocate(size);
+        }
+        else
+        {
+            SizeClass sizeClass = sizeClasses[getSizeClassIdx(size)];
+            buffer = sizeClass.freeBuffers.poll();
+            if (buffer == null)
+            {
+                missCount.increment();
+                LinstorServerMetrics.bufferPoolMisses.inc();
+                buffer = ByteBuffer.allocateDirect(sizeClass.size);
+            }
+            else
+            {
+                sizeClass.freeCount.decrementAndGet();
+                hitCount.increment();
+                LinstorServerMetrics.bufferPoolHits.inc();
+                buffer.clear();
+            }
+            buffer.limit(size);
+            addInFlight(sizeClass.size);
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns the given buffer to the pool. The caller must not use the buffer (or any view of it) afterwards.
+     */
+    public void release(ByteBuffer buffer)
+    {
+        @Nullable SizeClass sizeClass = getPooledSizeClass(buffer);
+        if (sizeClass != null)
+        {
+            addInFlight(-sizeClass.size);
+            if (sizeClass.freeCount.incrementAndGet() <= sizeClass.maxFree)
+            {
+                sizeClass.freeBuffers.offer(buffer);
+            }
+            else
+            {
+                sizeClass.freeCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Stops tracking the given buffer without reusing it. Used for buffers that might still be accessed by
+     * concurrent I/O operations, e.g. while a connection is being closed.
+     */
+    public void discard(ByteBuffer buffer)
+    {
+        @Nullable SizeClass sizeClass = getPooledSizeClass(buffer);
+        if (sizeClass != null)
+        {
+            addInFlight(-sizeClass.size);
+        }
+    }
+
+    public long getHitCount()
+    {
+        return hitCount.sum();
+    }
+
+    public long getMissCount()
+    {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns the capacity of all buffers that were acquired from this pool and not yet released or discarded
+     */
+    public long getBytesInFlight()
+    {
+        return bytesInFlight.get();
+    }
+
+    private void addInFlight(int bytes)
+    {
+        bytesInFlight.addAndGet(bytes);
+        LinstorServerMetrics.bufferPoolBytesInFlight.inc(bytes);
+    }
+
+    private @Nullable SizeClass getPooledSizeClass(ByteBuffer buffer)
+    {
+        @Nullable SizeClass sizeClass = null;
+        int capacity = buffer.capacity();
+        if (buffer.isDirect() && !buffer.isReadOnly() && capacity <= chunkSize && Integer.bitCount(capacity) == 1 &&
+            capacity >= MIN_BUFFER_SIZE)
+        {
+            sizeClass = sizeClasses[getSizeClassIdx(capacity)];
+        }
+        return sizeClass;
+    }
+
+    private static int getSizeClassIdx(int size)
+    {
+        int bits = Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(size, MIN_BUFFER_SIZE) - 1);
+        return bits - MIN_SIZE_SHIFT;
+    }
+
+    private static class SizeClass
+    {
+        private final int size;
+        private final int maxFree;
+        private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger freeCount = new AtomicInteger();
+
+        SizeClass(int sizeRef, int maxFreeRef)
+        {
+            size = sizeRef;
+            maxFree = maxFreeRef;
+        }
+    }
+}
@@ -33,4 +33,36 @@ public interface Message
     ByteBuffer getHeaderBuffer();
 
     ByteBuffer getDataBuffer() throws IllegalMessageStateException;
+
+    /**
+     * Returns the size of the message data without requiring the data to be available as a single byte array
+     */
+    default int getDataSize() throws IllegalMessageStateException
+    {
+        return getData().length;
+    }
+
+    /**
+     * Returns the buffers containing the message data, for use with gathering writes.
+     * The message is completely transferred once the last buffer has no remaining bytes.
+     */
+    default ByteBuffer[] getDataBuffers() throws IllegalMessageStateException
+    {
+        return new ByteBuffer[] {getDataBuffer()};
+    }
+
+    /**
+     * Returns pooled resources held by this message. Called once the message was sent or discarded.
+     */
+    default void release()
+    {
+    }
+
+    /**
+     * Like {@link #release()}, but pooled resources are not reused, since they might still be accessed by a
+     * concurrent I/O operation. Used when the connection is closed.
+     */
+    default void discard()
+    {
+    }
 }
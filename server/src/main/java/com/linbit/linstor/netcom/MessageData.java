@@ -3,30 +3,55 @@ package com.linbit.linstor.netcom;
 import com.linbit.linstor.annotation.Nullable;
 
 import java.nio.ByteBuffer;
-import java.util.Arrays;
 
 /**
  * Abstract implementation of a message containing the plain data and header bytes
  * already wrapped in ByteBuffers for easier handling and some error checking.
+ *
+ * If the message is created with a {@link DirectByteBufferPool}, the header and data buffers are direct buffers
+ * taken from that pool, so that the network layer does not need to copy them into temporary direct buffers.
+ * Such messages must be {@link #release() released} or {@link #discard() discarded} once they are no longer needed.
  */
 public class MessageData implements Message
 {
-    // TODO: Use ByteBuffer.allocateDirect(...) instead of ByteBuffer.wrap(...)
-    protected final ByteBuffer headerBuffer;
+    private static final ByteBuffer RELEASED_BUFFER = ByteBuffer.allocate(0).asReadOnlyBuffer();
+
+    protected ByteBuffer headerBuffer;
     protected @Nullable ByteBuffer dataBuffer;
+    protected @Nullable ByteBuffer[] dataBuffers;
 
-    protected final byte[] headerBytes;
     protected @Nullable byte[] dataBytes;
 
-    private boolean forSend;
+    private final @Nullable DirectByteBufferPool bufferPool;
+    private final boolean forSend;
+    private boolean headerPooled;
+    private boolean dataPooled;
+    private int receivedType;
 
     public MessageData(boolean forSendRef)
+    {
+        this(forSendRef, null);
+    }
+
+    public MessageData(boolean forSendRef, @Nullable DirectByteBufferPool bufferPoolRef)
     {
         forSend = forSendRef;
+        bufferPool = bufferPoolRef;
 
-        headerBytes = new byte[HEADER_SIZE];
-        headerBuffer = ByteBuffer.wrap(headerBytes);
-        reset();
+        if (bufferPoolRef == null)
+        {
+            headerBuffer = ByteBuffer.wrap(new byte[HEADER_SIZE]);
+        }
+        else
+        {
+            // pooled buffers are not zeroed
+            headerBuffer = bufferPoolRef.acquire(HEADER_SIZE);
+            for (int offset = 0; offset < HEADER_SIZE; offset += Integer.BYTES)
+            {
+                headerBuffer.putInt(offset, 0);
+            }
+            headerPooled = true;
+        }
     }
 
     @Override
@@ -44,25 +69,73 @@ public class MessageData implements Message
     @Override
     public void setData(byte[] data) throws IllegalMessageStateException
     {
+        releaseData();
         dataBytes = data;
-        dataBuffer = ByteBuffer.wrap(data);
+        if (forSend && bufferPool != null && data.length <= bufferPool.getChunkSize())
+        {
+            ByteBuffer buffer = bufferPool.acquire(data.length);
+            buffer.put(data);
+            buffer.flip();
+            dataBuffer = buffer;
+            dataPooled = true;
+        }
+        else
+        {
+            dataBuffer = ByteBuffer.wrap(data);
+        }
+        dataBuffers = new ByteBuffer[] {dataBuffer};
         if (forSend)
         {
             headerBuffer.putInt(LENGTH_FIELD_OFFSET, data.length);
         }
     }
 
-    @Override
-    public int getType() throws IllegalMessageStateException
+    /**
+     * Prepares an inbound message for receiving the given amount of data into its data buffer
+     */
+    public void allocateData(int dataSize)
+    {
+        releaseData();
+        if (bufferPool != null && dataSize <= bufferPool.getChunkSize())
+        {
+            dataBuffer = bufferPool.acquire(dataSize);
+            dataPooled = true;
+        }
+        else
+        {
+            dataBytes = new byte[dataSize];
+            dataBuffer = ByteBuffer.wrap(dataBytes);
+        }
+        dataBuffers = new ByteBuffer[] {dataBuffer};
+    }
+
+    /**
+     * Must be called once an inbound message was received completely.
+     * Copies the data out of pooled buffers and returns those to the pool, so that they are not held while the
+     * message waits for being processed.
+     */
+    public void dataReceived()
     {
-        return headerBuffer.getInt(TYPE_FIELD_OFFSET);
+        if (headerPooled)
+        {
+            receivedType = headerBuffer.getInt(TYPE_FIELD_OFFSET);
+        }
+        if (dataPooled && dataBuffer != null)
+        {
+            byte[] data = new byte[dataBuffer.limit()];
+            dataBuffer.get(0, data);
+            releaseData();
+            dataBytes = data;
+            dataBuffer = ByteBuffer.wrap(data);
+            dataBuffers = new ByteBuffer[] {dataBuffer};
+        }
+        releaseHeader();
     }
 
-    protected final void reset()
+    @Override
+    public int getType() throws IllegalMessageStateException
     {
-        Arrays.fill(headerBytes, (byte) 0);
-        dataBytes = null;
-        dataBuffer = null;
+        return headerBuffer == RELEASED_BUFFER ? receivedType : headerBuffer.getInt(TYPE_FIELD_OFFSET);
     }
 
     @Override
@@ -76,4 +149,75 @@ public class MessageData implements Message
     {
         return dataBuffer;
     }
+
+    @Override
+    public ByteBuffer[] getDataBuffers() throws IllegalMessageStateException
+    {
+        if (dataBuffers == null)
+        {
+            throw new IllegalMessageStateException(
+                "Attempt to fetch content data from a message that is not ready for processing"
+            );
+        }
+        return dataBuffers;
+    }
+
+    @Override
+    public int getDataSize() throws IllegalMessageStateException
+    {
+        if (dataBuffer == null)
+        {
+            throw new IllegalMessageStateException(
+                "Attempt to fetch content data from a message that is not ready for processing"
+            );
+        }
+        return dataBuffer.limit();
+    }
+
+    @Override
+    public void release()
+    {
+        releaseHeader();
+        releaseData();
+    }
+
+    /**
+     * Stops the pool from tracking the buffers of this message, but keeps them usable
+     */
+    @Override
+    public void discard()
+    {
+        if (headerPooled)
+        {
+            bufferPool.discard(headerBuffer);
+            headerPooled = false;
+        }
+        if (dataPooled)
+        {
+            bufferPool.discard(dataBuffer);
+            dataPooled = false;
+        }
+    }
+
+    private void releaseHeader()
+    {
+        if (headerPooled)
+        {
+            bufferPool.release(headerBuffer);
+            headerPooled = false;
+            headerBuffer = RELEASED_BUFFER;
+        }
+    }
+
+    private void releaseData()
+    {
+        if (dataPooled)
+        {
+            bufferPool.release(dataBuffer);
+            dataPooled = false;
+            dataBuffer = null;
+            dataBuffers = null;
+            dataBytes = null;
+        }
+    }
 }
@@ -123,6 +123,26 @@ public interface Peer
         return sendMessage(data);
     }
 
+    /**
+     * Queues the data collected in the given pooled stream for sending to the peer. The peer takes ownership of
+     * the stream and releases it once the data was sent or discarded.
+     *
+     * The default implementation copies the data and calls {@link #sendMessage(byte[])}.
+     */
+    default boolean sendMessage(PooledBufferOutputStream data)
+    {
+        boolean isConnected;
+        try
+        {
+            isConnected = sendMessage(data.toByteArray());
+        }
+        finally
+        {
+            data.release();
+        }
+        return isConnected;
+    }
+
     /**
      * Get a zero-based sequence number for this peer.
      */
@@ -368,6 +388,24 @@ public interface Peer
      */
     long getNextSerializerId();
 
+    /**
+     * Returns the serializer Id that the next call of {@link #getNextSerializerId()} would return, which is
+     * also the number of updates that were serialized for this peer since the connection was established.
+     */
+    default long peekNextSerializerId()
+    {
+        return 0;
+    }
+
+    /**
+     * Returns true if the connection was closed while there were still api calls waiting for an answer of the
+     * peer.
+     */
+    default boolean hasLostOpenRpcs()
+    {
+        return false;
+    }
+
     /**
      * Signals that the satellite failed to apply the full sync, using a default connection status.
      *
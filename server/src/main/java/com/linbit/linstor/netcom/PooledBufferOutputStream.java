@@ -0,0 +1,163 @@
+package com.linbit.linstor.netcom;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.Nullable;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * OutputStream collecting the written data in chunks taken from a {@link DirectByteBufferPool}.
+ *
+ * In contrast to a {@link java.io.ByteArrayOutputStream}, the data is never copied into a larger array while
+ * growing, and it can be handed to the network layer via {@link #getBuffers()} without creating a copy.
+ *
+ * The chunks are returned to the pool by {@link #release()}. Once the stream was passed to
+ * {@link Peer#sendMessage(PooledBufferOutputStream)}, the peer takes care of releasing it.
+ *
+ * This class is not thread-safe.
+ */
+public class PooledBufferOutputStream extends OutputStream
+{
+    private static final ByteBuffer[] NO_BUFFERS = new ByteBuffer[0];
+
+    private final DirectByteBufferPool pool;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private @Nullable ByteBuffer currentChunk;
+    private int size;
+
+    public PooledBufferOutputStream(DirectByteBufferPool poolRef)
+    {
+        pool = poolRef;
+    }
+
+    @Override
+    public void write(int data)
+    {
+        nextWritableChunk().put((byte) data);
+        ++size;
+    }
+
+    @Override
+    public void write(byte[] data, int offset, int length)
+    {
+        if (offset < 0 || length < 0 || offset + length > data.length)
+        {
+            throw new IndexOutOfBoundsException(
+                "Offset " + offset + ", length " + length + ", array length " + data.length
+            );
+        }
+        int remaining = length;
+        int srcOffset = offset;
+        while (remaining > 0)
+        {
+            ByteBuffer chunk = nextWritableChunk();
+            int count = Math.min(remaining, chunk.remaining());
+            chunk.put(data, srcOffset, count);
+            srcOffset += count;
+            remaining -= count;
+        }
+        size += length;
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Appends the data of the given stream by taking over its chunks, without copying them. Both streams must use
+     * the same pool. The given stream is empty afterwards.
+     */
+    public void append(PooledBufferOutputStream other)
+    {
+        if (other.pool != pool)
+        {
+            throw new ImplementationError("Cannot append data of a stream using a different buffer pool");
+        }
+        if (!other.chunks.isEmpty())
+        {
+            chunks.addAll(other.chunks);
+            currentChunk = other.currentChunk;
+            size += other.size;
+            other.reset();
+        }
+    }
+
+    /**
+     * Returns read-only views of the written data, one for each chunk. The views share the content of the chunks,
+     * but have their own positions, so the caller may consume them.
+     */
+    public ByteBuffer[] getBuffers()
+    {
+        ByteBuffer[] buffers = chunks.isEmpty() ? NO_BUFFERS : new ByteBuffer[chunks.size()];
+        for (int idx = 0; idx < buffers.length; ++idx)
+        {
+            ByteBuffer view = chunks.get(idx).asReadOnlyBuffer();
+            view.flip();
+            buffers[idx] = view;
+        }
+        return buffers;
+    }
+
+    /**
+     * Copies the written data into a new byte array
+     */
+    public byte[] toByteArray()
+    {
+        byte[] data = new byte[size];
+        int offset = 0;
+        for (ByteBuffer buffer : getBuffers())
+        {
+            int count = buffer.remaining();
+            buffer.get(data, offset, count);
+            offset += count;
+        }
+        return data;
+    }
+
+    /**
+     * Returns all chunks to the pool and resets this stream to an empty state
+     */
+    public void release()
+    {
+        for (ByteBuffer chunk : chunks)
+        {
+            pool.release(chunk);
+        }
+        reset();
+    }
+
+    /**
+     * Like {@link #release()}, but the chunks are not reused since they might still be accessed
+     */
+    public void discard()
+    {
+        for (ByteBuffer chunk : chunks)
+        {
+            pool.discard(chunk);
+        }
+        reset();
+    }
+
+    private void reset()
+    {
+        chunks.clear();
+        currentChunk = null;
+        size = 0;
+    }
+
+    private ByteBuffer nextWritableChunk()
+    {
+        ByteBuffer chunk = currentChunk;
+        if (chunk == null || !chunk.hasRemaining())
+        {
+            chunk = pool.acquire();
+            chunks.add(chunk);
+            currentChunk = chunk;
+        }
+        return chunk;
+    }
+}
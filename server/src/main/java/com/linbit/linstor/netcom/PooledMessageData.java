@@ -0,0 +1,131 @@
+package com.linbit.linstor.netcom;
+
+import com.linbit.ImplementationError;
+import com.linbit.linstor.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Outbound message whose data is kept in the pooled chunks of a {@link PooledBufferOutputStream}, optionally
+ * preceded by a small prefix (e.g. the header of an API call).
+ *
+ * The data is sent using gathering writes, it is never copied into a single array. The chunks are returned to
+ * their pool when the message is {@link #release() released}.
+ */
+public class PooledMessageData implements Message
+{
+    private static final ByteBuffer EMPTY_DATA_BUFFER = ByteBuffer.allocate(0);
+
+    private final ByteBuffer headerBuffer;
+    private final ByteBuffer[] dataBuffers;
+    private final int dataSize;
+
+    private @Nullable PooledBufferOutputStream pooledData;
+
+    public PooledMessageData(@Nullable byte[] prefix, PooledBufferOutputStream pooledDataRef)
+    {
+        pooledData = pooledDataRef;
+
+        ByteBuffer[] chunkBuffers = pooledDataRef.getBuffers();
+        int prefixCount = prefix == null ? 0 : 1;
+        int bufferCount = prefixCount + chunkBuffers.length;
+        if (bufferCount == 0)
+        {
+            dataBuffers = new ByteBuffer[] {EMPTY_DATA_BUFFER};
+        }
+        else
+        {
+            dataBuffers = new ByteBuffer[bufferCount];
+            if (prefix != null)
+            {
+                dataBuffers[0] = ByteBuffer.wrap(prefix);
+            }
+            System.arraycopy(chunkBuffers, 0, dataBuffers, prefixCount, chunkBuffers.length);
+        }
+        dataSize = (prefix == null ? 0 : prefix.length) + pooledDataRef.size();
+
+        headerBuffer = ByteBuffer.wrap(new byte[HEADER_SIZE]);
+        headerBuffer.putInt(LENGTH_FIELD_OFFSET, dataSize);
+    }
+
+    @Override
+    public byte[] getData()
+    {
+        // only used for diagnostics, outbound messages are sent from the data buffers
+        byte[] data = new byte[dataSize];
+        int offset = 0;
+        for (ByteBuffer buffer : dataBuffers)
+        {
+            ByteBuffer view = buffer.duplicate();
+            view.rewind();
+            int count = view.remaining();
+            view.get(data, offset, count);
+            offset += count;
+        }
+        return data;
+    }
+
+    @Override
+    public void setData(byte[] data)
+    {
+        throw new ImplementationError("Cannot set data of " + PooledMessageData.class.getSimpleName());
+    }
+
+    @Override
+    public int getType()
+    {
+        return headerBuffer.getInt(TYPE_FIELD_OFFSET);
+    }
+
+    @Override
+    public ByteBuffer getHeaderBuffer()
+    {
+        return headerBuffer;
+    }
+
+    @Override
+    public ByteBuffer getDataBuffer() throws IllegalMessageStateException
+    {
+        if (dataBuffers.length != 1)
+        {
+            throw new IllegalMessageStateException(
+                "Message data consists of " + dataBuffers.length + " buffers, use getDataBuffers()"
+            );
+        }
+        return dataBuffers[0];
+    }
+
+    @Override
+    public ByteBuffer[] getDataBuffers()
+    {
+        return dataBuffers;
+    }
+
+    @Override
+    public int getDataSize()
+    {
+        return dataSize;
+    }
+
+    @Override
+    public void release()
+    {
+        PooledBufferOutputStream data = pooledData;
+        if (data != null)
+        {
+            pooledData = null;
+            data.release();
+        }
+    }
+
+    @Override
+    public void discard()
+    {
+        PooledBufferOutputStream data = pooledData;
+        if (data != null)
+        {
+            pooledData = null;
+            data.discard();
+        }
+    }
+}
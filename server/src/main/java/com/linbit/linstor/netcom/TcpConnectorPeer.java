@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -95,6 +96,8 @@ public class TcpConnectorPeer implements Peer
 
     private final CommonSerializer commonSerializer;
 
+    private final DirectByteBufferPool bufferPool;
+
     private final String peerId;
     private final InetSocketAddress peerHost;
 
@@ -105,7 +108,7 @@ public class TcpConnectorPeer implements Peer
     private final TcpConnector connector;
 
     // Current inbound message
-    protected Message msgIn;
+    protected MessageData msgIn;
 
     // Current outbound message; cached for quicker access
     protected @Nullable Message msgOut;
@@ -162,6 +165,7 @@ public class TcpConnectorPeer implements Peer
 
     private final AtomicLong nextApiCallId = new AtomicLong(1);
     private final Map<Long, FluxSink<ByteArrayInputStream>> openRpcs = Collections.synchronizedMap(new TreeMap<>());
+    private volatile boolean lostOpenRpcs = false;
 
     private final ExtToolsManager externalToolsManager = new ExtToolsManager();
     private StltConfig stltConfig = new StltConfig();
@@ -173,6 +177,7 @@ public class TcpConnectorPeer implements Peer
     protected TcpConnectorPeer(
         ErrorReporter errorReporterRef,
         CommonSerializer commonSerializerRef,
+        DirectByteBufferPool bufferPoolRef,
         InetSocketAddress peerHostRef,
         String peerIdRef,
         TcpConnector connectorRef,
@@ -184,6 +189,7 @@ public class TcpConnectorPeer implements Peer
     {
         errorReporter = errorReporterRef;
         commonSerializer = commonSerializerRef;
+        bufferPool = bufferPoolRef;
         peerId = peerIdRef;
         peerHost = peerHostRef;
         connector = connectorRef;
@@ -196,7 +202,7 @@ public class TcpConnectorPeer implements Peer
         // so a NullPointerException would be thrown in createMessage().
         // After initialization of the sslEngine, msgIn will be overwritten with
         // a reference to a valid instance.
-        msgIn = new MessageData(false);
+        msgIn = new MessageData(false, bufferPool);
 
         selKey = key;
         peerAccCtx = accCtx;
@@ -308,7 +314,7 @@ public class TcpConnectorPeer implements Peer
         return createMessage(true);
     }
 
-    protected Message createMessage(boolean forSend)
+    protected MessageData createMessage(boolean forSend)
     {
         if (forSend)
         {
@@ -318,7 +324,7 @@ public class TcpConnectorPeer implements Peer
         {
             currentReadPhase = Phase.HEADER;
         }
-        return new MessageData(forSend);
+        return new MessageData(forSend, bufferPool);
     }
 
     @Override
@@ -330,7 +336,7 @@ public class TcpConnectorPeer implements Peer
         {
             synchronized (this)
             {
-                long msgSize = msg.getData().length;
+                long msgSize = msg.getDataSize();
                 if (msgSize > msgSentSizePeak)
                 {
                     msgSentSizePeak = msgSize;
@@ -349,7 +355,8 @@ public class TcpConnectorPeer implements Peer
                 try
                 {
                     enableInterestOps(OP_WRITE);
-                    connector.wakeup();
+                    // only the selector loop handling this connection needs to notice the changed interest set
+                    selKey.selector().wakeup();
                 }
                 catch (IllegalStateException illState)
                 {
@@ -358,6 +365,10 @@ public class TcpConnectorPeer implements Peer
                 }
             }
         }
+        else
+        {
+            msg.release();
+        }
         return connFlag;
     }
 
@@ -421,6 +432,24 @@ public class TcpConnectorPeer implements Peer
         return isConnected;
     }
 
+    @Override
+    public boolean sendMessage(PooledBufferOutputStream data)
+    {
+        boolean isConnected = false;
+        try
+        {
+            isConnected = sendMessage(new PooledMessageData(null, data));
+        }
+        catch (IllegalMessageStateException exc)
+        {
+            throw new ImplementationError(
+                "Creating an outgoing message caused an IllegalMessageStateException",
+                exc
+            );
+        }
+        return isConnected;
+    }
+
     @Override
     public boolean sendMessage(byte[] data, String apiCall)
     {
@@ -467,13 +496,89 @@ public class TcpConnectorPeer implements Peer
         boolean authenticationRequired,
         boolean fullSyncAppliedRequired
     )
+    {
+        return apiCall(
+            apiCallName,
+            apiCallId ->
+            {
+                Message msg = createMessage();
+                msg.setData(commonSerializer.apiCallBuilder(apiCallName, apiCallId).bytes(data).build());
+                return msg;
+            },
+            authenticationRequired,
+            fullSyncAppliedRequired
+        );
+    }
+
+    /**
+     * Same as {@link #apiCall(String, byte[], boolean, boolean)}, but sends the data directly from the given pooled
+     * stream. Only the header of the API call is serialized separately, the data itself is not copied.
+     *
+     * The data can only be sent once. The first subscription hands it over to the sent message, which releases it
+     * after it was sent. If the first subscription is cancelled or fails before the message was created, the data
+     * is released right away. Further subscriptions fail with an {@link ImplementationError}.
+     */
+    public Flux<ByteArrayInputStream> apiCall(
+        String apiCallName,
+        PooledBufferOutputStream data,
+        boolean authenticationRequired,
+        boolean fullSyncAppliedRequired
+    )
+    {
+        AtomicBoolean dataHandedOver = new AtomicBoolean();
+        return apiCall(
+            apiCallName,
+            apiCallId ->
+            {
+                if (!dataHandedOver.compareAndSet(false, true))
+                {
+                    throw new ImplementationError(
+                        "The pooled data of API call '" + apiCallName + "' was already sent or released"
+                    );
+                }
+                return new PooledMessageData(
+                    commonSerializer.apiCallBuilder(apiCallName, apiCallId).build(),
+                    data
+                );
+            },
+            authenticationRequired,
+            fullSyncAppliedRequired
+        )
+            .doFinally(
+                ignored ->
+                {
+                    if (dataHandedOver.compareAndSet(false, true))
+                    {
+                        data.release();
+                    }
+                }
+            );
+    }
+
+    private Flux<ByteArrayInputStream> apiCall(
+        String apiCallName,
+        ApiCallMessageFactory msgFactory,
+        boolean authenticationRequired,
+        boolean fullSyncAppliedRequired
+    )
     {
         Flux<ByteArrayInputStream> call = Flux
             .<ByteArrayInputStream>create(fluxSink ->
                 {
                     MDC.setContextMap(MDC.getCopyOfContextMap());
                     long apiCallId = nextApiCallId.getAndIncrement();
-                    byte[] messageBytes = commonSerializer.apiCallBuilder(apiCallName, apiCallId).bytes(data).build();
+                    Message msg;
+                    try
+                    {
+                        msg = msgFactory.create(apiCallId);
+                    }
+                    catch (IllegalMessageStateException exc)
+                    {
+                        throw new ImplementationError(
+                            "Creating an outgoing message caused an IllegalMessageStateException",
+                            exc
+                        );
+                    }
 
                     fluxSink.onDispose(() -> openRpcs.remove(apiCallId));
 
@@ -481,12 +586,24 @@ public class TcpConnectorPeer implements Peer
 
                     if ((authenticationRequired && !authenticated) || (fullSyncAppliedRequired && !fullSyncApplied))
                     {
+                        msg.release();
                         fluxSink.error(new PeerNotConnectedException());
                     }
                     else
                     {
                         errorReporter.logTrace("Peer %s, API call %d '%s' send", this, apiCallId, apiCallName);
-                        boolean isConnected = sendMessage(messageBytes);
+                        boolean isConnected;
+                        try
+                        {
+                            isConnected = sendMessage(msg);
+                        }
+                        catch (IllegalMessageStateException exc)
+                        {
+                            throw new ImplementationError(
+                                "Creating an outgoing message caused an IllegalMessageStateException",
+                                exc
+                            );
+                        }
                         if (!isConnected)
                         {
                             fluxSink.error(new PeerNotConnectedException());
@@ -622,10 +739,28 @@ public class TcpConnectorPeer implements Peer
         // deactivate all interest in READ or WRITE operations
         setInterestOps(0);
 
+        synchronized (this)
+        {
+            // messages that are currently transferred might still be accessed by the connector,
+            // their buffers must not be reused
+            msgIn.discard();
+            if (msgOut != null)
+            {
+                msgOut.discard();
+            }
+            Message queuedMsg = msgOutQueue.pollFirst();
+            while (queuedMsg != null)
+            {
+                queuedMsg.release();
+                queuedMsg = msgOutQueue.pollFirst();
+            }
+        }
+
         synchronized (openRpcs)
         {
             // preventing ConcurrentModificationException with "#apiCall's fluxSink.onDispose(...openRpcs.remove(...))
             Set<FluxSink<ByteArrayInputStream>> copyOpenRpcsSet = new HashSet<>(openRpcs.values());
+            lostOpenRpcs |= !copyOpenRpcsSet.isEmpty();
             for (FluxSink<ByteArrayInputStream> rpcSink : copyOpenRpcsSet)
             {
                 rpcSink.error(new PeerClosingConnectionException());
@@ -752,6 +887,10 @@ public class TcpConnectorPeer implements Peer
     {
         synchronized (this)
         {
+            if (msgOut != null)
+            {
+                msgOut.release();
+            }
             msgOut = msgOutQueue.pollFirst();
             if (msgOut == null)
             {
@@ -964,6 +1103,19 @@ public class TcpConnectorPeer implements Peer
     {
         return serializerId.getAndIncrement();
     }
+
+    @Override
+    public long peekNextSerializerId()
+    {
+        return serializerId.get();
+    }
+
+    @Override
+    public boolean hasLostOpenRpcs()
+    {
+        return lostOpenRpcs;
+    }
+
     @Override
     public ReadWriteLock getSerializerLock()
     {
@@ -1091,7 +1243,7 @@ public class TcpConnectorPeer implements Peer
         {
             dataSize = Message.DEFAULT_MAX_DATA_SIZE;
         }
-        msgIn.setData(new byte[dataSize]);
+        msgIn.allocateData(dataSize);
         currentReadPhase = currentReadPhase.getNextPhase();
     }
 
@@ -1152,9 +1304,9 @@ public class TcpConnectorPeer implements Peer
         throws IOException, IllegalMessageStateException
     {
         WriteState state = stateRef;
-        ByteBuffer dataBuffer = msgOut.getDataBuffer();
-        outChannel.write(dataBuffer);
-        if (!dataBuffer.hasRemaining())
+        ByteBuffer[] dataBuffers = msgOut.getDataBuffers();
+        outChannel.write(dataBuffers);
+        if (!dataBuffers[dataBuffers.length - 1].hasRemaining())
         {
             // Finished sending the message
             state = WriteState.FINISHED;
@@ -1164,8 +1316,9 @@ public class TcpConnectorPeer implements Peer
     }
 
 
-    protected void addToQueue(Message msg)
+    protected void addToQueue(MessageData msg)
     {
+        msg.dataReceived();
         try
         {
             // This method is single-threaded, no need to synchronize
@@ -1200,6 +1353,12 @@ public class TcpConnectorPeer implements Peer
         }
     }
 
+    @FunctionalInterface
+    private interface ApiCallMessageFactory
+    {
+        Message create(long apiCallId) throws IllegalMessageStateException;
+    }
+
     @Override
     public ExtToolsManager getExtToolsManager()
     {
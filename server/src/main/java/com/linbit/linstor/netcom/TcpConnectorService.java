@@ -20,6 +20,7 @@ import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.core.types.TcpPortNumber;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.netcom.TcpConnectorPeer.ReadState;
+import com.linbit.linstor.prometheus.LinstorServerMetrics;
 import com.linbit.linstor.security.AccessContext;
 import com.linbit.linstor.security.AccessDeniedException;
 
@@ -52,6 +53,8 @@ import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.slf4j.MDC;
@@ -72,8 +75,6 @@ public class TcpConnectorService implements Runnable, TcpConnector
     private static final ServiceName SERVICE_NAME;
     private static final String SERVICE_INFO = "TCP/IP network communications service";
 
-    private final Object syncObj = new Object();
-
     protected ServiceName serviceInstanceName;
 
     private static final long REINIT_THROTTLE_TIME = 3000L;
@@ -92,8 +93,14 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Maximum number of connections to accept in one selector iteration
     public static final int MAX_ACCEPT_LOOP = 100;
 
+    private static final String MAIN_LOOP_NAME = "main";
+    private static final String WORKER_LOOP_NAME_PREFIX = "worker-";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
     protected final ErrorReporter errorReporter;
     protected final CommonSerializer commonSerializer;
+    protected final DirectByteBufferPool bufferPool;
     private MessageProcessor msgProcessor;
 
     // Set by shutdown() to shut down the selector loop
@@ -102,6 +109,16 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Selector loop thread
     private @Nullable Thread selectorLoopThread;
 
+    // Accepts new connections. Also handles all connections if there are no worker loops.
+    private final SelectorLoop mainLoop;
+
+    // Handle the established connections, which are distributed across the worker loops by their peer id
+    private final SelectorLoop[] workerLoops;
+
+    // Each selector loop iteration holds the read lock. (Re-)initializing the selectors requires the write lock, so it
+    // waits until all loops have finished their current iteration, and the loops wait until it has completed.
+    private final ReadWriteLock reinitLock = new ReentrantReadWriteLock(true);
+
     private ConnectionObserver connObserver;
 
     static
@@ -171,20 +188,19 @@ public class TcpConnectorService implements Runnable, TcpConnector
     // Privileged access context for e.g. setting peer to node
     private final AccessContext privilegedAccCtx;
 
-    // Selector for all connections
-    @Nullable Selector serverSelector;
-
     private final AtomicInteger connCount = new AtomicInteger(0);
 
 
     public TcpConnectorService(
         ErrorReporter errorReporterRef,
         CommonSerializer commonSerializerRef,
+        DirectByteBufferPool bufferPoolRef,
         MessageProcessor msgProcessorRef,
         @Nullable SocketAddress bindAddressRef,
         AccessContext defaultPeerAccCtxRef,
         AccessContext privilegedAccCtxRef,
-        ConnectionObserver connObserverRef
+        ConnectionObserver connObserverRef,
+        int workerLoopCountRef
     )
     {
         ErrorCheck.ctorNotNull(TcpConnectorService.class, ErrorReporter.class, errorReporterRef);
@@ -193,10 +209,14 @@ public class TcpConnectorService implements Runnable, TcpConnector
         ErrorCheck.ctorNotNull(TcpConnectorService.class, AccessContext.class, privilegedAccCtxRef);
         serviceInstanceName = SERVICE_NAME;
 
+        if (workerLoopCountRef < 0)
+        {
+            throw new ImplementationError("Invalid number of selector worker loops: " + workerLoopCountRef);
+        }
         serverSocket    = null;
-        serverSelector  = null;
         errorReporter   = errorReporterRef;
         commonSerializer = commonSerializerRef;
+        bufferPool      = bufferPoolRef;
         msgProcessor    = msgProcessorRef;
         // Prevent entering the run() method's selector loop
         // until initialize() has completed
@@ -206,15 +226,21 @@ public class TcpConnectorService implements Runnable, TcpConnector
         defaultPeerAccCtx = defaultPeerAccCtxRef;
         privilegedAccCtx = privilegedAccCtxRef;
         bindAddress = bindAddressRef;
+
+        mainLoop = new SelectorLoop(MAIN_LOOP_NAME);
+        workerLoops = new SelectorLoop[workerLoopCountRef];
+        for (int idx = 0; idx < workerLoopCountRef; ++idx)
+        {
+            workerLoops[idx] = new SelectorLoop(WORKER_LOOP_NAME_PREFIX + idx);
+        }
     }
 
     @Override
     public Peer connect(InetSocketAddress address, Node node) throws IOException
     {
         errorReporter.logInfo("Establishing connection to node '%s' via %s ...", node.getName(), address);
-        Selector srvSel = serverSelector;
         Peer peer;
-        if (srvSel != null)
+        if (mainLoop.selector != null)
         {
             SocketChannel socketChannel = null;
             try
@@ -224,9 +250,17 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 socketChannel.socket().setTcpNoDelay(true);
                 String peerId = address.getAddress().getHostAddress() + ":" + address.getPort() + "/"
                     + connCount.incrementAndGet();
+                SelectorLoop connLoop = getConnectionLoop(peerId);
                 SelectionKey connKey;
-                synchronized (syncObj)
+                synchronized (connLoop.syncObj)
                 {
+                    Selector srvSel = connLoop.selector;
+                    if (srvSel == null)
+                    {
+                        throw new IOException(
+                            "Connect request failed - Connector service '" + serviceInstanceName + "' is stopped"
+                        );
+                    }
                     srvSel.wakeup();
                     try
                     {
@@ -395,6 +429,13 @@ public class TcpConnectorService implements Runnable, TcpConnector
                     false
                 );
             }
+            for (SelectorLoop workerLoop : workerLoops)
+            {
+                Thread workerThread = new Thread(() -> runWorkerLoop(workerLoop));
+                workerThread.setName(workerLoop.getThreadName());
+                workerLoop.thread = workerThread;
+                workerThread.start();
+            }
             selectorLoopThread = new Thread(this);
             selectorLoopThread.setName(serviceInstanceName.getDisplayName());
             selectorLoopThread.start();
@@ -405,376 +446,457 @@ public class TcpConnectorService implements Runnable, TcpConnector
     public synchronized void shutdown(boolean ignoredJvmShutdownRef)
     {
         shutdownFlag.set(true);
-        Selector srvSel = serverSelector;
-        if (srvSel != null)
-        {
-            srvSel.wakeup();
-        }
+        wakeup();
     }
 
     @Override
     public void awaitShutdown(long timeout)
         throws InterruptedException
     {
-        Thread joinThr = null;
+        ArrayList<Thread> joinThreads = new ArrayList<>();
         synchronized (this)
         {
-            joinThr = selectorLoopThread;
+            if (selectorLoopThread != null)
+            {
+                joinThreads.add(selectorLoopThread);
+            }
+            for (SelectorLoop workerLoop : workerLoops)
+            {
+                if (workerLoop.thread != null)
+                {
+                    joinThreads.add(workerLoop.thread);
+                }
+            }
         }
-        if (joinThr != null)
+        final long deadline = System.currentTimeMillis() + timeout;
+        for (Thread joinThr : joinThreads)
         {
-            joinThr.join(timeout);
+            // join(0) would wait forever
+            joinThr.join(timeout == 0 ? 0 : Math.max(1, deadline - System.currentTimeMillis()));
         }
     }
 
     @Override
     public void run()
+    {
+        runSelectorLoop(mainLoop);
+        lockForReinit();
+        try
+        {
+            uninitialize();
+        }
+        finally
+        {
+            reinitLock.writeLock().unlock();
+        }
+
+        synchronized (this)
+        {
+            selectorLoopThread = null;
+        }
+    }
+
+    private void runWorkerLoop(SelectorLoop workerLoop)
+    {
+        runSelectorLoop(workerLoop);
+
+        synchronized (this)
+        {
+            workerLoop.thread = null;
+        }
+    }
+
+    private void runSelectorLoop(SelectorLoop loop)
     {
         // Selector loop
         ArrayList<Peer> peersWithFinishedMessages = new ArrayList<>();
         while (!shutdownFlag.get())
         {
-            try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
+            // set if the selector of this iteration has to be replaced, which is only done after releasing the
+            // read lock of the reinitLock
+            @Nullable Selector failedSelector = null;
+            reinitLock.readLock().lock();
+            try
             {
-                try
+                Selector selector = loop.selector;
+                if (selector == null)
                 {
-                    if (peersWithFinishedMessages.isEmpty())
+                    // Reinitialization failed or the connector was shut down
+                    break;
+                }
+                try (var ignore = MDC.putCloseable(ErrorReporter.LOGID, ErrorReporter.getNewLogId()))
+                {
+                    try
                     {
-                        // Block until I/O operations are ready to be performed
-                        // on at least one of the channels, or until the selection
-                        // operation is interrupted (e.g., using wakeup())
-                        int selectCount = serverSelector.select();
-
-                        synchronized (syncObj)
+                        if (peersWithFinishedMessages.isEmpty())
                         {
-                            // wait for the syncObj to get released
+                            // Block until I/O operations are ready to be performed
+                            // on at least one of the channels, or until the selection
+                            // operation is interrupted (e.g., using wakeup())
+                            int selectCount = selector.select();
 
-                            // Ensure making some progress in the case that
-                            // the blocking select() call is repeatedly interrupted
-                            // (e.g., using wakeup()) before having selected any
-                            // channels
-                            if (selectCount <= 0)
+                            synchronized (loop.syncObj)
                             {
-                                /*
-                                 * this selectNow has to be inside the synchronized block as otherwise
-                                 * it would be possible that the TcpConnector thread is already past
-                                 * the previous .select(), THEN another thread (i.e. reconnector)
-                                 * calls .wakeup() which is immediately consumed by the .selectNow()
-                                 * BEFORE the thread calling .wakeup() could register some new
-                                 * listeners. We suspect that we ended up in a deadlock occasionally
-                                 * because of this.
-                                 */
-                                serverSelector.selectNow();
-                            }
-                        }
+                                // wait for the syncObj to get released
 
-                    }
-                    else
-                    {
+                                // Ensure making some progress in the case that
+                                // the blocking select() call is repeatedly interrupted
+                                // (e.g., using wakeup()) before having selected any
+                                // channels
+                                if (selectCount <= 0)
+                                {
+                                    /*
+                                     * this selectNow has to be inside the synchronized block as otherwise
+                                     * it would be possible that the TcpConnector thread is already past
+                                     * the previous .select(), THEN another thread (i.e. reconnector)
+                                     * calls .wakeup() which is immediately consumed by the .selectNow()
+                                     * BEFORE the thread calling .wakeup() could register some new
+                                     * listeners. We suspect that we ended up in a deadlock occasionally
+                                     * because of this.
+                                     */
+                                    selector.selectNow();
+                                }
+                            }
 
-                        ListIterator<Peer> listIterator = peersWithFinishedMessages.listIterator();
-                        while (listIterator.hasNext())
+                        }
+                        else
                         {
-                            try
+
+                            ListIterator<Peer> listIterator = peersWithFinishedMessages.listIterator();
+                            while (listIterator.hasNext())
                             {
-                                boolean finished = true;
-                                Peer peer = listIterator.next();
-                                if (peer.hasNextMsgIn())
+                                try
                                 {
-                                    msgProcessor.processMessage(peer.nextCurrentMsgIn(), this, peer);
-                                    finished = false;
-                                }
+                                    boolean finished = true;
+                                    Peer peer = listIterator.next();
+                                    if (peer.hasNextMsgIn())
+                                    {
+                                        msgProcessor.processMessage(peer.nextCurrentMsgIn(), this, peer);
+                                        finished = false;
+                                    }
 
-                                if (finished)
+                                    if (finished)
+                                    {
+                                        listIterator.remove();
+                                    }
+                                }
+                                catch (CancelledKeyException ignored)
                                 {
-                                    listIterator.remove();
+                                    // Selection key no longer valid
+                                    // Cleaned up by the next select() or selectNow() operation
+
                                 }
                             }
-                            catch (CancelledKeyException ignored)
-                            {
-                                // Selection key no longer valid
-                                // Cleaned up by the next select() or selectNow() operation
 
-                            }
+                            // we tried to process one message from each waiting peer.
+                            // now we see if we have new operations (read, write, accept, connect)
+                            // if peers still have more messages, they have to wait until the next
+                            // loop-cycle (fair scheduling).
+                            selector.selectNow();
                         }
-
-                        // we tried to process one message from each waiting peer.
-                        // now we see if we have new operations (read, write, accept, connect)
-                        // if peers still have more messages, they have to wait until the next
-                        // loop-cycle (fair scheduling).
-                        serverSelector.selectNow();
                     }
-                }
-                catch (CancelledKeyException ignored)
-                {
-                    // Selection key no longer valid
-                    // Cleaned up by the next select() or selectNow() operation
-                }
+                    catch (CancelledKeyException ignored)
+                    {
+                        // Selection key no longer valid
+                        // Cleaned up by the next select() or selectNow() operation
+                    }
 
-                onSelectorWakeup();
+                    final long iterationStart = System.nanoTime();
+                    onSelectorWakeup(selector);
 
-                Iterator<SelectionKey> keysIter = serverSelector.selectedKeys().iterator();
-                while (keysIter.hasNext())
-                {
-                    SelectionKey currentKey = null;
-                    try
+                    final int readyKeyCount = selector.selectedKeys().size();
+                    Iterator<SelectionKey> keysIter = selector.selectedKeys().iterator();
+                    while (keysIter.hasNext())
                     {
-                        currentKey = keysIter.next();
-                        keysIter.remove();
+                        SelectionKey currentKey = null;
+                        try
+                        {
+                            currentKey = keysIter.next();
+                            keysIter.remove();
 
-                        // Skip all operations if determining ready operations fails
-                        int ops = currentKey.readyOps();
+                            // Skip all operations if determining ready operations fails
+                            int ops = currentKey.readyOps();
 
-                        if ((ops & OP_READ) != 0)
-                        {
-                            TcpConnectorPeer connPeer = null;
-                            try
+                            if ((ops & OP_READ) != 0)
                             {
-                                connPeer = (TcpConnectorPeer) currentKey.attachment();
-                                ReadState state = connPeer.read((SocketChannel) currentKey.channel());
-                                switch (state)
+                                TcpConnectorPeer connPeer = null;
+                                try
                                 {
-                                    case UNFINISHED ->
+                                    connPeer = (TcpConnectorPeer) currentKey.attachment();
+                                    ReadState state = connPeer.read((SocketChannel) currentKey.channel());
+                                    switch (state)
                                     {
-                                        // no-op
-                                    }
-                                    case FINISHED ->
-                                    {
-                                        msgProcessor.processMessage(connPeer.nextCurrentMsgIn(), this, connPeer);
-                                        if (connPeer.hasNextMsgIn())
+                                        case UNFINISHED ->
                                         {
-                                            peersWithFinishedMessages.add(connPeer);
+                                            // no-op
                                         }
-                                    }
-                                    case END_OF_STREAM ->
-                                    {
-                                        final Node connNode = connPeer.getNode();
-                                        if (connNode != null)
+                                        case FINISHED ->
+                                        {
+                                            msgProcessor.processMessage(connPeer.nextCurrentMsgIn(), this, connPeer);
+                                            if (connPeer.hasNextMsgIn())
+                                            {
+                                                peersWithFinishedMessages.add(connPeer);
+                                            }
+                                        }
+                                        case END_OF_STREAM ->
                                         {
-                                            final NodeName name = connNode.getName();
-                                            errorReporter.logInfo(
-                                                "Remote satellite %s (peer %s) has closed the connection.",
-                                                name.displayValue, connPeer.getId()
-                                            );
+                                            final Node connNode = connPeer.getNode();
+                                            if (connNode != null)
+                                            {
+                                                final NodeName name = connNode.getName();
+                                                errorReporter.logInfo(
+                                                    "Remote satellite %s (peer %s) has closed the connection.",
+                                                    name.displayValue, connPeer.getId()
+                                                );
+                                            }
+                                            closeConnection(currentKey, connPeer.isClientMode());
                                         }
-                                        closeConnection(currentKey, connPeer.isClientMode());
+                                        default -> throw new ImplementationError(
+                                            String.format(
+                                                "Missing case label for enum member '%s'",
+                                                state.name()
+                                            ),
+                                            null
+                                        );
                                     }
-                                    default -> throw new ImplementationError(
-                                        String.format(
-                                            "Missing case label for enum member '%s'",
-                                            state.name()
-                                        ),
-                                        null
+                                }
+                                catch (NotYetConnectedException connExc)
+                                {
+                                    // This might possibly happen if an outbound connection is
+                                    // marked as READ interested before establishing the connection
+                                    // is finished; if the Selector would even report it as ready
+                                    // in this case.
+                                    // Anyway, the reason would be an implementation flaw of some
+                                    // kind, therefore, log this error and then treat the connection's
+                                    // state as a protocol error and close the connection.
+                                    errorReporter.reportError(new ImplementationError(connExc));
+                                    closeConnection(currentKey, true);
+                                }
+                                catch (IllegalMessageStateException msgStateExc)
+                                {
+                                    errorReporter.reportError(
+                                        new ImplementationError(
+                                            "A message object with an illegal state was registered " +
+                                            "as the target of an I/O read operation",
+                                            msgStateExc
+                                        )
                                     );
+                                    closeConnection(currentKey, true);
+                                }
+                                catch (IOException ioExc)
+                                {
+                                    // Protocol error - I/O error while reading a message
+                                    // Close the connection
+                                    errorReporter.reportError(
+                                        Level.TRACE, ioExc, connPeer.getAccessContext(), connPeer,
+                                        "I/O exception while attempting to receive data from the peer"
+                                    );
+                                    closeConnection(currentKey, true);
                                 }
                             }
-                            catch (NotYetConnectedException connExc)
+                            else
+                            if ((ops & OP_ACCEPT) != 0)
                             {
-                                // This might possibly happen if an outbound connection is
-                                // marked as READ interested before establishing the connection
-                                // is finished; if the Selector would even report it as ready
-                                // in this case.
-                                // Anyway, the reason would be an implementation flaw of some
-                                // kind, therefore, log this error and then treat the connection's
-                                // state as a protocol error and close the connection.
-                                errorReporter.reportError(new ImplementationError(connExc));
-                                closeConnection(currentKey, true);
+                                try
+                                {
+                                    acceptConnection();
+                                }
+                                catch (ClosedChannelException closeExc)
+                                {
+                                    // May be thrown by accept() if the server socket is closed
+                                    // Attempt to reinitialize to recover once this iteration has ended
+                                    failedSelector = selector;
+                                    // Break out of iterating over keys, because those are all
+                                    // invalid after reinitialization, and the set of keys may have
+                                    // been modified too
+                                    break;
+                                }
+                                catch (NotYetBoundException unboundExc)
+                                {
+                                    // Generated if accept() is invoked on an unbound server socket
+                                    // This should not happen, unless there is an
+                                    // implementation error somewhere.
+                                    // Attempt to reinitialize to recover once this iteration has ended
+                                    failedSelector = selector;
+                                    // Break out of iterating over keys, because those are all
+                                    // invalid after reinitialization, and the set of keys may have
+                                    // been modified too
+                                    break;
+                                }
+                                catch (ClosedSelectorException closeExc)
+                                {
+                                    // Throw by accept() if the selector is closed
+                                    // Attempt to reinitialize to recover once this iteration has ended
+                                    failedSelector = selector;
+                                    // Break out of iterating over keys, because those are all
+                                    // invalid after reinitialization, and the set of keys may have
+                                    // been modified too
+                                    break;
+                                }
+                                catch (IOException ioExc)
+                                {
+                                    errorReporter.reportError(
+                                        Level.TRACE, ioExc, null, null,
+                                        "I/O exception while attempting to accept a peer connection"
+                                    );
+                                }
                             }
-                            catch (IllegalMessageStateException msgStateExc)
+                            else
+                            if ((ops & OP_WRITE) != 0)
                             {
-                                errorReporter.reportError(
-                                    new ImplementationError(
-                                        "A message object with an illegal state was registered " +
-                                        "as the target of an I/O read operation",
-                                        msgStateExc
-                                    )
-                                );
-                                closeConnection(currentKey, true);
+                                TcpConnectorPeer connPeer = null;
+                                try
+                                {
+                                    connPeer = (TcpConnectorPeer) currentKey.attachment();
+                                    connPeer.write((SocketChannel) currentKey.channel());
+                                }
+                                catch (NotYetConnectedException connExc)
+                                {
+                                    // This might possibly happen if an outbound connection is
+                                    // marked as WRITE interested before establishing the connection
+                                    // is finished; if the Selector would even report it as ready
+                                    // in this case.
+                                    // Anyway, the reason would be an implementation flaw of some
+                                    // kind, therefore, log this error and then treat the connection's
+                                    // state as a protocol error and close the connection.
+                                    errorReporter.reportError(new ImplementationError(connExc));
+                                    closeConnection(currentKey, true);
+                                }
+                                catch (IllegalMessageStateException msgStateExc)
+                                {
+                                    errorReporter.reportError(
+                                        new ImplementationError(
+                                            "A message object with an illegal state was registered " +
+                                            "as the target of an I/O write operation",
+                                            msgStateExc
+                                        )
+                                    );
+                                    closeConnection(currentKey, true);
+                                }
+                                catch (IOException ioExc)
+                                {
+                                    // Protocol error - I/O error while writing a message
+                                    // Close channel / disconnect peer, invalidate SelectionKey
+                                    // Close the connection
+                                    errorReporter.reportError(
+                                        Level.TRACE, ioExc, connPeer.getAccessContext(), connPeer,
+                                        "I/O exception while attempting to send data to the peer"
+                                    );
+                                    closeConnection(currentKey, true);
+                                }
                             }
-                            catch (IOException ioExc)
+                            else
+                            if ((ops & OP_CONNECT) != 0)
                             {
-                                // Protocol error - I/O error while reading a message
-                                // Close the connection
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, connPeer.getAccessContext(), connPeer,
-                                    "I/O exception while attempting to receive data from the peer"
-                                );
-                                closeConnection(currentKey, true);
+                                TcpConnectorPeer connPeer = null;
+                                try
+                                {
+                                    connPeer = (TcpConnectorPeer) currentKey.attachment();
+                                    establishConnection(currentKey);
+                                }
+                                catch (IOException ioExc)
+                                {
+                                    AccessContext peerAccCtx = null;
+                                    if (connPeer != null)
+                                    {
+                                        peerAccCtx = connPeer.getAccessContext();
+                                    }
+                                    errorReporter.reportError(
+                                        Level.TRACE, ioExc, peerAccCtx, connPeer,
+                                        "I/O exception while attempting to connect to the peer"
+                                    );
+                                }
                             }
                         }
-                        else
-                        if ((ops & OP_ACCEPT) != 0)
+                        catch (CancelledKeyException keyExc)
                         {
-                            try
-                            {
-                                acceptConnection();
-                            }
-                            catch (ClosedChannelException closeExc)
-                            {
-                                // May be thrown by accept() if the server socket is closed
-                                // Attempt to reinitialize to recover
-                                reinitialize();
-                                // Break out of iterating over keys, because those are all
-                                // invalid after reinitialization, and the set of keys may have
-                                // been modified too
-                                break;
-                            }
-                            catch (NotYetBoundException unboundExc)
-                            {
-                                // Generated if accept() is invoked on an unbound server socket
-                                // This should not happen, unless there is an
-                                // implementation error somewhere.
-                                // Attempt to reinitialize to recover
-                                reinitialize();
-                                // Break out of iterating over keys, because those are all
-                                // invalid after reinitialization, and the set of keys may have
-                                // been modified too
-                                break;
-                            }
-                            catch (ClosedSelectorException closeExc)
-                            {
-                                // Throw by accept() if the selector is closed
-                                // Attempt to reinitialize to recover
-                                reinitialize();
-                                // Break out of iterating over keys, because those are all
-                                // invalid after reinitialization, and the set of keys may have
-                                // been modified too
-                                break;
-                            }
-                            catch (IOException ioExc)
+                            if (currentKey != null)
                             {
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, null, null,
-                                    "I/O exception while attempting to accept a peer connection"
-                                );
+                                closeConnection(currentKey, true);
                             }
                         }
-                        else
-                        if ((ops & OP_WRITE) != 0)
+                        catch (IllegalStateException illState)
                         {
-                            TcpConnectorPeer connPeer = null;
-                            try
-                            {
-                                connPeer = (TcpConnectorPeer) currentKey.attachment();
-                                connPeer.write((SocketChannel) currentKey.channel());
-                            }
-                            catch (NotYetConnectedException connExc)
-                            {
-                                // This might possibly happen if an outbound connection is
-                                // marked as WRITE interested before establishing the connection
-                                // is finished; if the Selector would even report it as ready
-                                // in this case.
-                                // Anyway, the reason would be an implementation flaw of some
-                                // kind, therefore, log this error and then treat the connection's
-                                // state as a protocol error and close the connection.
-                                errorReporter.reportError(new ImplementationError(connExc));
-                                closeConnection(currentKey, true);
-                            }
-                            catch (IllegalMessageStateException msgStateExc)
+                            if (currentKey != null)
                             {
                                 errorReporter.reportError(
                                     new ImplementationError(
-                                        "A message object with an illegal state was registered " +
-                                        "as the target of an I/O write operation",
-                                        msgStateExc
-                                    )
-                                );
-                                closeConnection(currentKey, true);
-                            }
-                            catch (IOException ioExc)
-                            {
-                                // Protocol error - I/O error while writing a message
-                                // Close channel / disconnect peer, invalidate SelectionKey
-                                // Close the connection
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, connPeer.getAccessContext(), connPeer,
-                                    "I/O exception while attempting to send data to the peer"
+                                        "Unhandled IllegalStateException",
+                                        illState
+                                    ),
+                                    null,
+                                    (Peer) currentKey.attachment(),
+                                    null
                                 );
                                 closeConnection(currentKey, true);
                             }
                         }
-                        else
-                        if ((ops & OP_CONNECT) != 0)
-                        {
-                            TcpConnectorPeer connPeer = null;
-                            try
-                            {
-                                connPeer = (TcpConnectorPeer) currentKey.attachment();
-                                establishConnection(currentKey);
-                            }
-                            catch (IOException ioExc)
-                            {
-                                AccessContext peerAccCtx = null;
-                                if (connPeer != null)
-                                {
-                                    peerAccCtx = connPeer.getAccessContext();
-                                }
-                                errorReporter.reportError(
-                                    Level.TRACE, ioExc, peerAccCtx, connPeer,
-                                    "I/O exception while attempting to connect to the peer"
-                                );
-                            }
-                        }
                     }
-                    catch (CancelledKeyException keyExc)
+                    loop.iterationCompleted(readyKeyCount, System.nanoTime() - iterationStart);
+                }
+                catch (ClosedSelectorException selectExc)
+                {
+                    // Selector became inoperative. Log error and attempt to reinitialize,
+                    // unless another selector loop already did that or the connector is shutting down
+                    if (isCurrentSelector(loop, selector))
                     {
-                        if (currentKey != null)
-                        {
-                            closeConnection(currentKey, true);
-                        }
+                        errorReporter.reportError(selectExc);
+                        failedSelector = selector;
                     }
-                    catch (IllegalStateException illState)
+                }
+                catch (IOException ioExc)
+                {
+                    // I/O error while selecting (likely), or an uncaught I/O error
+                    // while performing I/O on a channel (should not happen)
+                    // Log error and attempt to reinitialize.
+                    if (isCurrentSelector(loop, selector))
                     {
-                        if (currentKey != null)
-                        {
-                            errorReporter.reportError(
-                                new ImplementationError(
-                                    "Unhandled IllegalStateException",
-                                    illState
-                                ),
-                                null,
-                                (Peer) currentKey.attachment(),
-                                null
-                            );
-                            closeConnection(currentKey, true);
-                        }
+                        errorReporter.logDebug("IOException: %s", ioExc.getLocalizedMessage());
+                        errorReporter.reportError(Level.TRACE, ioExc);
+                        failedSelector = selector;
                     }
                 }
+                catch (Exception exc)
+                {
+                    // Uncaught exception. Log error and shut down.
+                    errorReporter.reportError(exc);
+                    break;
+                }
+                catch (ImplementationError implErr)
+                {
+                    // Uncaught exception. Log error and shut down.
+                    errorReporter.reportError(implErr);
+                    break;
+                }
             }
-            catch (ClosedSelectorException selectExc)
-            {
-                // Selector became inoperative. Log error and attempt to reinitialize.
-                errorReporter.reportError(selectExc);
-                reinitialize();
-            }
-            catch (IOException ioExc)
-            {
-                // I/O error while selecting (likely), or an uncaught I/O error
-                // while performing I/O on a channel (should not happen)
-                // Log error and attempt to reinitialize.
-                errorReporter.logDebug("IOException: %s", ioExc.getLocalizedMessage());
-                errorReporter.reportError(Level.TRACE, ioExc);
-                reinitialize();
-            }
-            catch (Exception exc)
+            finally
             {
-                // Uncaught exception. Log error and shut down.
-                errorReporter.reportError(exc);
-                break;
+                reinitLock.readLock().unlock();
             }
-            catch (ImplementationError implErr)
+
+            if (failedSelector != null)
             {
-                // Uncaught exception. Log error and shut down.
-                errorReporter.reportError(implErr);
-                break;
+                reinitialize(loop, failedSelector);
             }
         }
-        uninitialize();
+    }
 
-        synchronized (this)
+    private boolean isCurrentSelector(SelectorLoop loop, Selector selector)
+    {
+        return !shutdownFlag.get() && loop.selector == selector;
+    }
+
+    /**
+     * Selects the loop that handles the connection with the given peer id
+     */
+    private SelectorLoop getConnectionLoop(String peerId)
+    {
+        SelectorLoop connLoop = mainLoop;
+        if (workerLoops.length > 0)
         {
-            selectorLoopThread = null;
+            connLoop = workerLoops[Math.floorMod(peerId.hashCode(), workerLoops.length)];
         }
+        return connLoop;
     }
 
     private void acceptConnection()
@@ -814,43 +936,64 @@ public class TcpConnectorService implements Runnable, TcpConnector
                             String peerId = inetAddr.getHostAddress() + ":" + inetSockAddr.getPort() + "/" +
                                 connCount.incrementAndGet();
 
-                            // Register the accepted connection with the selector loop
-                            SelectionKey connKey = null;
-                            try
-                            {
-                                connKey = newSocket.register(serverSelector, SelectionKey.OP_READ);
-                            }
-                            catch (IllegalSelectorException illSelExc)
+                            // Register the accepted connection with the selector loop that is going to handle it
+                            SelectorLoop connLoop = getConnectionLoop(peerId);
+                            synchronized (connLoop.syncObj)
                             {
-                                // Thrown by register() if the selector is from another I/O provider
-                                // than the channel that is being registered
-                                errorReporter.reportError(
-                                    new ImplementationError(
-                                        "Registration of the channel with the selector failed, " +
-                                        "because the channel was created by another type of " +
-                                        "I/O provider",
-                                        illSelExc
-                                    )
-                                );
-                                // Connection was not accepted and will be closed in the finally block
-                            }
-                            catch (IllegalArgumentException illArg)
-                            {
-                                // Generated if a bit in the I/O operations specified
-                                // in register() does not correspond with a supported I/O operation
-                                // Should not happen; log the error.
-                                // Connection was not accepted and will be closed in the finally block
-                                errorReporter.reportError(illArg);
-                            }
+                                Selector connSel = connLoop.selector;
+                                if (connSel == null)
+                                {
+                                    throw new IOException(
+                                        "Connector service '" + serviceInstanceName + "' is stopped"
+                                    );
+                                }
+                                if (connLoop != mainLoop)
+                                {
+                                    // the worker loop only picks up the new registration after returning from select()
+                                    connSel.wakeup();
+                                }
+                                SelectionKey connKey = null;
+                                try
+                                {
+                                    connKey = newSocket.register(connSel, SelectionKey.OP_READ);
+                                }
+                                catch (IllegalSelectorException illSelExc)
+                                {
+                                    // Thrown by register() if the selector is from another I/O provider
+                                    // than the channel that is being registered
+                                    errorReporter.reportError(
+                                        new ImplementationError(
+                                            "Registration of the channel with the selector failed, " +
+                                            "because the channel was created by another type of " +
+                                            "I/O provider",
+                                            illSelExc
+                                        )
+                                    );
+                                    // Connection was not accepted and will be closed in the finally block
+                                }
+                                catch (IllegalArgumentException illArg)
+                                {
+                                    // Generated if a bit in the I/O operations specified
+                                    // in register() does not correspond with a supported I/O operation
+                                    // Should not happen; log the error.
+                                    // Connection was not accepted and will be closed in the finally block
+                                    errorReporter.reportError(illArg);
+                                }
 
-                            if (connKey != null)
-                            {
-                                // Prepare the peer object and message
-                                TcpConnectorPeer connPeer = createTcpConnectorPeer(inetSockAddr, peerId, connKey, null);
-                                connKey.attach(connPeer);
-                                connPeer.connectionEstablished();
-                                connObserver.inboundConnectionEstablished(connPeer);
-                                accepted = true;
+                                if (connKey != null)
+                                {
+                                    // Prepare the peer object and message
+                                    TcpConnectorPeer connPeer = createTcpConnectorPeer(
+                                        inetSockAddr,
+                                        peerId,
+                                        connKey,
+                                        null
+                                    );
+                                    connKey.attach(connPeer);
+                                    connPeer.connectionEstablished();
+                                    connObserver.inboundConnectionEstablished(connPeer);
+                                    accepted = true;
+                                }
                             }
                         }
                         else
@@ -947,14 +1090,30 @@ public class TcpConnectorService implements Runnable, TcpConnector
     )
     {
         return new TcpConnectorPeer(
-            errorReporter, commonSerializer, peerHostAddr, peerId, this, connKey, defaultPeerAccCtx, node, outgoing
+            errorReporter,
+            commonSerializer,
+            bufferPool,
+            peerHostAddr,
+            peerId,
+            this,
+            connKey,
+            defaultPeerAccCtx,
+            node,
+            outgoing
         );
     }
 
+    /**
+     * Wakes up the selectors of all selector loops
+     */
     @Override
     public void wakeup()
     {
-        serverSelector.wakeup();
+        mainLoop.wakeup();
+        for (SelectorLoop workerLoop : workerLoops)
+        {
+            workerLoop.wakeup();
+        }
     }
 
     protected void establishConnection(SelectionKey currentKey)
@@ -1090,16 +1249,26 @@ public class TcpConnectorService implements Runnable, TcpConnector
     }
 
     private void closeAllConnections()
+    {
+        closeAllConnections(mainLoop);
+        for (SelectorLoop workerLoop : workerLoops)
+        {
+            closeAllConnections(workerLoop);
+        }
+    }
+
+    private void closeAllConnections(SelectorLoop loop)
     {
         try
         {
-            if (serverSelector != null)
+            Selector selector = loop.selector;
+            if (selector != null)
             {
-                for (SelectionKey currentKey : serverSelector.keys())
+                for (SelectionKey currentKey : selector.keys())
                 {
                     closeConnection(currentKey, false, true);
                 }
-                serverSelector.close();
+                selector.close();
             }
         }
         catch (ClosedSelectorException selectExc)
@@ -1134,7 +1303,11 @@ public class TcpConnectorService implements Runnable, TcpConnector
 
     public void initialize() throws IOException
     {
-        serverSelector = Selector.open();
+        mainLoop.selector = Selector.open();
+        for (SelectorLoop workerLoop : workerLoops)
+        {
+            workerLoop.selector = Selector.open();
+        }
 
         if (bindAddress != null)
         {
@@ -1274,7 +1447,7 @@ public class TcpConnectorService implements Runnable, TcpConnector
                 serverSocket.configureBlocking(false);
                 try
                 {
-                    serverSocket.register(serverSelector, OP_ACCEPT);
+                    serverSocket.register(mainLoop.selector, OP_ACCEPT);
                 }
                 catch (IllegalBlockingModeException illModeExc)
                 {
@@ -1354,39 +1527,72 @@ public class TcpConnectorService implements Runnable, TcpConnector
         closeServerSocket();
 
         serverSocket    = null;
-        serverSelector  = null;
+        mainLoop.selector = null;
+        for (SelectorLoop workerLoop : workerLoops)
+        {
+            workerLoop.selector = null;
+        }
     }
 
     /**
-     * This method is synchronized because <code>this</code> should not be changed while we are re-initializing
-     * Callers of this method will have to wait for a bit until reinitialization is finished
+     * Replaces the failed selector of the given loop by reinitializing the connector, unless another loop already did
+     * that or the connector is shutting down.
+     *
+     * Must not be called while holding the read lock of the {@link #reinitLock}. Waits until all selector loops have
+     * finished their current iteration, and the loops wait until the reinitialization has finished.
+     * The method additionally synchronizes on <code>this</code>, so that the connector cannot be started or shut down
+     * while it is being reinitialized.
      */
     @SuppressFBWarnings("SWL_SLEEP_WITH_LOCK_HELD")
-    private synchronized void reinitialize()
+    private void reinitialize(SelectorLoop failedLoop, Selector failedSelector)
     {
-        uninitialize();
-
-        // Throttle reinitialization to avoid busy-looping in case of a
-        // persistent error during initialization (e.g., all network drivers down, ...)
+        lockForReinit();
         try
         {
-            Thread.sleep(REINIT_THROTTLE_TIME);
-        }
-        catch (InterruptedException intrExc)
-        {
-            // No-op; thread may be interrupted to shorten the sleep()
-        }
+            synchronized (this)
+            {
+                if (isCurrentSelector(failedLoop, failedSelector))
+                {
+                    uninitialize();
 
-        try
-        {
-            initialize();
+                    // Throttle reinitialization to avoid busy-looping in case of a
+                    // persistent error during initialization (e.g., all network drivers down, ...)
+                    try
+                    {
+                        Thread.sleep(REINIT_THROTTLE_TIME);
+                    }
+                    catch (InterruptedException intrExc)
+                    {
+                        // No-op; thread may be interrupted to shorten the sleep()
+                    }
+
+                    try
+                    {
+                        initialize();
+                    }
+                    catch (IOException ioExc)
+                    {
+                        errorReporter.reportError(ioExc);
+                    }
+                }
+            }
         }
-        catch (IOException ioExc)
+        finally
         {
-            errorReporter.reportError(ioExc);
+            reinitLock.writeLock().unlock();
         }
     }
 
+    /**
+     * Acquires the write lock of the {@link #reinitLock}. All selector loops are woken up first, as they hold the
+     * read lock while they are blocked in select().
+     */
+    private void lockForReinit()
+    {
+        wakeup();
+        reinitLock.writeLock().lock();
+    }
+
     @Override
     public ServiceName getServiceName()
     {
@@ -1426,9 +1632,21 @@ public class TcpConnectorService implements Runnable, TcpConnector
         {
             selectorLoopThread.setName(serviceInstanceName.getDisplayName());
         }
+        for (SelectorLoop workerLoop : workerLoops)
+        {
+            if (workerLoop.thread != null)
+            {
+                workerLoop.thread.setName(workerLoop.getThreadName());
+            }
+        }
     }
 
-    protected void onSelectorWakeup()
+    /**
+     * Called by each selector loop when its selector returns from selecting operations
+     *
+     * @param selector The selector of the loop that was woken up
+     */
+    protected void onSelectorWakeup(Selector selector)
         throws IllegalMessageStateException, IOException
     {
     }
@@ -1437,6 +1655,50 @@ public class TcpConnectorService implements Runnable, TcpConnector
     {
     }
 
+    /**
+     * State of one selector loop. The main loop accepts new connections, the worker loops (if any) perform the I/O
+     * operations of the connections registered with their selector.
+     */
+    private class SelectorLoop
+    {
+        private final String loopName;
+
+        // Synchronizes the registration of new channels with the loop's select() calls
+        private final Object syncObj = new Object();
+
+        private volatile @Nullable Selector selector;
+
+        // Only used for worker loops, the main loop runs in selectorLoopThread
+        private @Nullable Thread thread;
+
+        private SelectorLoop(String loopNameRef)
+        {
+            loopName = loopNameRef;
+        }
+
+        private String getThreadName()
+        {
+            return serviceInstanceName.getDisplayName() + "-" + loopName;
+        }
+
+        private void wakeup()
+        {
+            Selector sel = selector;
+            if (sel != null)
+            {
+                sel.wakeup();
+            }
+        }
+
+        private void iterationCompleted(int readyKeyCount, long durationNanos)
+        {
+            String connectorName = serviceInstanceName.displayValue;
+            LinstorServerMetrics.netComSelectorReadyKeys.labels(connectorName, loopName).observe(readyKeyCount);
+            LinstorServerMetrics.netComSelectorLoopDuration.labels(connectorName, loopName)
+                .observe(durationNanos / NANOS_PER_SECOND);
+        }
+    }
+
     private static class SafeConnectionObserver implements ConnectionObserver
     {
         private final ErrorReporter errorReporter;
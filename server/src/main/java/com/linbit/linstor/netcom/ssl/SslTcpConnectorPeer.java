@@ -7,6 +7,7 @@ import com.linbit.linstor.core.identifier.NodeName;
 import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.debug.HexViewer;
 import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
 import com.linbit.linstor.netcom.IllegalMessageStateException;
 import com.linbit.linstor.netcom.TcpConnectorPeer;
 import com.linbit.linstor.security.AccessContext;
@@ -22,6 +23,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.CancelledKeyException;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -140,6 +142,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
      *
      * @param errorReporter ErrorReporter to be used for logging
      * @param commonSerializer Serializer for various protobuf messages
+     * @param bufferPool Pool for the buffers of LINSTOR messages
      * @param peerId LINSTOR netcom ID for this connection (usually identified by the peer's address)
      * @param sslConnectorService LINSTOR netcom connector for this connection
      * @param connKey SelectionKey associated with this connection, for the nonblocking I/O Selector
@@ -151,6 +154,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
     public SslTcpConnectorPeer(
         final ErrorReporter            errorReporter,
         final CommonSerializer         commonSerializer,
+        final DirectByteBufferPool     bufferPool,
         final InetSocketAddress        peerHostAddr,
         final String                   peerId,
         final SslTcpConnectorService   sslConnectorService,
@@ -161,8 +165,8 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         @Nullable final Node                     node
     )
     {
-        super(errorReporter, commonSerializer, peerHostAddr, peerId, sslConnectorService, connKey, peerAccCtx, node,
-            peerAddress != null);
+        super(errorReporter, commonSerializer, bufferPool, peerHostAddr, peerId, sslConnectorService, connKey,
+            peerAccCtx, node, peerAddress != null);
         address     = peerAddress;
         sslReady    = false;
         ioRequest   = false;
@@ -224,10 +228,11 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         final int pktBfrSize = session.getPacketBufferSize();
         final int appBfrSize = session.getApplicationBufferSize();
 
-        encryptedReadBuffer = ByteBuffer.allocate(pktBfrSize);
+        // direct buffers, since they are passed to the socket channel
+        encryptedReadBuffer = ByteBuffer.allocateDirect(pktBfrSize);
         encryptedReadBuffer.limit(0);
 
-        encryptedWriteBuffer = ByteBuffer.allocate(pktBfrSize);
+        encryptedWriteBuffer = ByteBuffer.allocateDirect(pktBfrSize);
         encryptedWriteBuffer.limit(0);
 
         plainReadBuffer = ByteBuffer.allocate(appBfrSize);
@@ -599,20 +604,23 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                     }
                     case DATA ->
                     {
-                        final ByteBuffer dataBuffer = msgOut.getDataBuffer();
+                        final ByteBuffer[] dataBuffers = msgOut.getDataBuffers();
                         if (DEBUG_PLAIN_DATA)
                         {
-                            debugLogBufferContent(
-                                "sslOutbound: wrap: buffer data:",
-                                dataBuffer
-                            );
+                            for (ByteBuffer dataBuffer : dataBuffers)
+                            {
+                                debugLogBufferContent(
+                                    "sslOutbound: wrap: buffer data:",
+                                    dataBuffer
+                                );
+                            }
                         }
-                        sslStatus = sslEngine.wrap(dataBuffer, encryptedWriteBuffer);
+                        sslStatus = sslEngine.wrap(dataBuffers, encryptedWriteBuffer);
                         if (DEBUG_SSL_STATE)
                         {
                             debugLog("sslOutbound: SSL status after wrap: " + sslStatus.getStatus().name());
                         }
-                        if (!dataBuffer.hasRemaining())
+                        if (!dataBuffers[dataBuffers.length - 1].hasRemaining())
                         {
                             if (DEBUG_MSG_DATA)
                             {
@@ -621,10 +629,13 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                                     "sslOutbound: Message processed, message header:",
                                     headerBuffer
                                 );
-                                debugLogBufferContent(
-                                    "sslOutbound: Message processed, message data:",
-                                    dataBuffer
-                                );
+                                for (ByteBuffer dataBuffer : dataBuffers)
+                                {
+                                    debugLogBufferContent(
+                                        "sslOutbound: Message processed, message data:",
+                                        dataBuffer
+                                    );
+                                }
                             }
                             currentWritePhase = Phase.HEADER;
                             // If there are no more outbound messages pending, this will disable OP_WRITE.
@@ -974,7 +985,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                     ", new capacity: " + reqSize
                 );
             }
-            encryptedWriteBuffer = ByteBuffer.allocate(reqSize);
+            encryptedWriteBuffer = ByteBuffer.allocateDirect(reqSize);
         }
     }
 
@@ -1002,7 +1013,7 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
                     ", new capacity: " + reqSize
                 );
             }
-            final ByteBuffer resizedBuffer = ByteBuffer.allocate(reqSize);
+            final ByteBuffer resizedBuffer = ByteBuffer.allocateDirect(reqSize);
             resizedBuffer.put(encryptedReadBuffer);
             encryptedReadBuffer = resizedBuffer;
             encryptedReadBuffer.flip();
@@ -1154,6 +1165,22 @@ public class SslTcpConnectorPeer extends TcpConnectorPeer
         }
     }
 
+    /**
+     * Returns the selector that this peer's connection is registered with
+     */
+    Selector getSelector()
+    {
+        return selKey.selector();
+    }
+
+    /**
+     * Wakes up the selector that this peer's connection is registered with
+     */
+    void wakeupSelector()
+    {
+        selKey.selector().wakeup();
+    }
+
     /**
      * Cancels the concurrently running SSL engine tasks.
      * This prevents the peer from continuing SSL processing when the delegated tasks finish. This method
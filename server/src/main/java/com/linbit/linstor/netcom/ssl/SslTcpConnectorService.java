@@ -9,6 +9,7 @@ import com.linbit.linstor.core.objects.Node;
 import com.linbit.linstor.logging.ErrorReporter;
 import com.linbit.linstor.modularcrypto.ModularCryptoProvider;
 import com.linbit.linstor.netcom.ConnectionObserver;
+import com.linbit.linstor.netcom.DirectByteBufferPool;
 import com.linbit.linstor.netcom.IllegalMessageStateException;
 import com.linbit.linstor.netcom.MessageProcessor;
 import com.linbit.linstor.netcom.Peer;
@@ -22,6 +23,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
 import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
 import java.security.KeyManagementException;
 import java.security.KeyStoreException;
@@ -29,7 +31,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
 import java.util.Arrays;
-import java.util.Map.Entry;
+import java.util.Iterator;
 import java.util.TreeMap;
 
 
@@ -66,11 +68,13 @@ public class SslTcpConnectorService extends TcpConnectorService
      *
      * @param errorReporter ErrorReporter to be used for logging
      * @param commonSerializer Serializer for various protobuf messages
+     * @param bufferPoolRef Pool for the buffers of LINSTOR messages
      * @param msgProcessorRef Message processor that should be invoked for processing inbound messages
      * @param bindAddress Local bind address for the connector
      * @param peerAccCtxRef Default access context for unauthenticated peers
      * @param privAccCtxRef Access context for executing privileged operations
      * @param connObserverRef Connection observer to notify when peers connect or disconnect
+     * @param workerLoopCountRef Number of selector loops handling the connections in addition to the main loop
      * @param cryptoProviderRef Provider for the implementation of cryptographic algorithms
      * @param sslProtocol The SSL protocol to use
      * @param keyStoreFile Path of the file containing the cryptographic keys
@@ -92,11 +96,13 @@ public class SslTcpConnectorService extends TcpConnectorService
     public SslTcpConnectorService(
         final ErrorReporter errorReporter,
         final CommonSerializer commonSerializer,
+        final DirectByteBufferPool bufferPoolRef,
         final MessageProcessor msgProcessorRef,
         final SocketAddress bindAddress,
         final AccessContext peerAccCtxRef,
         final AccessContext privAccCtxRef,
         final ConnectionObserver connObserverRef,
+        final int workerLoopCountRef,
         final ModularCryptoProvider cryptoProviderRef,
         final String sslProtocol,
         final String keyStoreFile,
@@ -111,11 +117,13 @@ public class SslTcpConnectorService extends TcpConnectorService
         super(
             errorReporter,
             commonSerializer,
+            bufferPoolRef,
             msgProcessorRef,
             bindAddress,
             peerAccCtxRef,
             privAccCtxRef,
-            connObserverRef
+            connObserverRef,
+            workerLoopCountRef
         );
         if (DEBUG_INIT)
         {
@@ -253,6 +261,7 @@ public class SslTcpConnectorService extends TcpConnectorService
         return new SslTcpConnectorPeer(
             errorReporter,
             commonSerializer,
+            bufferPool,
             peerHostAddr,
             peerId,
             this,
@@ -286,29 +295,32 @@ public class SslTcpConnectorService extends TcpConnectorService
             }
             taskCompletionMap.put(id, connPeer);
         }
-        wakeup();
+        connPeer.wakeupSelector();
     }
 
     /**
      * Called when the nonblocking I/O Selector returns from selecting operations.
      * As of Nov 21, 2023, handles continuation of the SSL handshake after I/O operations had been suspended to
-     * wait for the completion of SSLEngine tasks that are executed concurrently in separate threads
+     * wait for the completion of SSLEngine tasks that are executed concurrently in separate threads.
+     * Only peers whose connection is registered with the given selector are handled, since the other ones are
+     * handled by the threads of their own selector loops.
      *
+     * @param selector The selector that returned from selecting operations
      * @throws IllegalMessageStateException If the LINSTOR message is in an illegal state for the data transfer
      *         operation performed by SSL processing methods; not supposed to happen, indicates an implementation error
      * @throws IOException If network I/O operations fail while continuing the SSL handshake
      */
     @Override
-    protected void onSelectorWakeup()
+    protected void onSelectorWakeup(final Selector selector)
         throws IllegalMessageStateException, IOException
     {
         if (DEBUG_SSL_TASKS)
         {
             debugLog("onSelectorWakeup called");
         }
-        for (@Nullable SslTcpConnectorPeer connPeer = nextTaskCompletionEntry();
+        for (@Nullable SslTcpConnectorPeer connPeer = nextTaskCompletionEntry(selector);
              connPeer != null;
-             connPeer = nextTaskCompletionEntry())
+             connPeer = nextTaskCompletionEntry(selector))
         {
             if (DEBUG_SSL_TASKS)
             {
@@ -351,15 +363,24 @@ public class SslTcpConnectorService extends TcpConnectorService
      * Used to iterate through the peers that were scheduled for continuing the SSL handshake after completion of
      * concurrently running SSLEngine tasks.
      *
+     * @param selector Selector the connection of the returned peer must be registered with
      * @return SslTcpConnectorPeer object scheduled for continuing the SSL handshake
      */
-    private @Nullable SslTcpConnectorPeer nextTaskCompletionEntry()
+    private @Nullable SslTcpConnectorPeer nextTaskCompletionEntry(final Selector selector)
     {
-        @Nullable SslTcpConnectorPeer connPeer;
+        @Nullable SslTcpConnectorPeer connPeer = null;
         synchronized (taskCompletionMap)
         {
-            final Entry<String, SslTcpConnectorPeer> entry = taskCompletionMap.pollFirstEntry();
-            connPeer = entry == null ? null : entry.getValue();
+            final Iterator<SslTcpConnectorPeer> peerIter = taskCompletionMap.values().iterator();
+            while (connPeer == null && peerIter.hasNext())
+            {
+                final SslTcpConnectorPeer entryPeer = peerIter.next();
+                if (entryPeer.getSelector() == selector)
+                {
+                    peerIter.remove();
+                    connPeer = entryPeer;
+                }
+            }
         }
         return connPeer;
     }
@@ -1,5 +1,7 @@
 package com.linbit.linstor.prometheus;
 
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public class LinstorServerMetrics
@@ -27,4 +29,88 @@ public class LinstorServerMetrics
         .buckets(DEFAULT_BUCKETS)
         .labelNames("apicall", "peer")
         .register();
+
+    /**
+     * Histogram buckets in seconds for the processing time of a single selector loop iteration, which is usually
+     * well below a millisecond.
+     */
+    public static double[] SELECTOR_LOOP_BUCKETS = new double[]{
+        0.00001, 0.000025, 0.00005, 0.000075,
+        0.0001, 0.00025, 0.0005, 0.00075,
+        0.001, 0.0025, 0.005, 0.0075,
+        0.01, 0.025, 0.05, 0.1,
+        Double.POSITIVE_INFINITY
+    };
+
+    /**
+     * Histogram for the time a netcom selector loop needs for processing the ready keys of one iteration.
+     */
+    public static final Histogram netComSelectorLoopDuration = Histogram.build()
+        .name("linstor_netcom_selector_loop_duration_seconds")
+        .help("Processing time of one netcom selector loop iteration in seconds")
+        .unit("seconds")
+        .buckets(SELECTOR_LOOP_BUCKETS)
+        .labelNames("connector", "loop")
+        .register();
+
+    /**
+     * Histogram for the number of ready keys a netcom selector loop processes per iteration.
+     */
+    public static final Histogram netComSelectorReadyKeys = Histogram.build()
+        .name("linstor_netcom_selector_ready_keys")
+        .help("Number of ready keys per netcom selector loop iteration")
+        .buckets(0, 1, 2, 4, 8, 16, 32, 64, 128, 256)
+        .labelNames("connector", "loop")
+        .register();
+
+    /**
+     * Requests to the netcom buffer pool that could be served with a pooled buffer.
+     */
+    public static final Counter bufferPoolHits = Counter.build()
+        .name("linstor_netcom_buffer_pool_hits_total")
+        .help("Number of netcom buffer requests served from the pool")
+        .register();
+
+    /**
+     * Requests to the netcom buffer pool that required a new allocation.
+     */
+    public static final Counter bufferPoolMisses = Counter.build()
+        .name("linstor_netcom_buffer_pool_misses_total")
+        .help("Number of netcom buffer requests that required a new allocation")
+        .register();
+
+    /**
+     * Capacity of the pooled netcom buffers that are currently in use.
+     */
+    public static final Gauge bufferPoolBytesInFlight = Gauge.build()
+        .name("linstor_netcom_buffer_pool_in_flight_bytes")
+        .help("Capacity of the pooled netcom buffers currently in use in bytes")
+        .unit("bytes")
+        .register();
+
+    /**
+     * Histogram for the time needed to start (fork and exec) an external command.
+     */
+    public static final Histogram extCmdStartDuration = Histogram.build()
+        .name("linstor_ext_cmd_start_duration_seconds")
+        .help("Time needed to start an external command in seconds")
+        .unit("seconds")
+        .buckets(SELECTOR_LOOP_BUCKETS)
+        .register();
+
+    /**
+     * Threads created for reading the output of external commands. Idle threads are reused by later commands.
+     */
+    public static final Counter extCmdOutputReaderThreadsCreated = Counter.build()
+        .name("linstor_ext_cmd_output_reader_threads_created_total")
+        .help("Number of threads created for reading the output of external commands")
+        .register();
+
+    /**
+     * Error reports created by this LINSTOR instance since it was started.
+     */
+    public static final Counter errorReportsCreated = Counter.build()
+        .name("linstor_error_reports_created_total")
+        .help("Number of error reports created by this instance since it was started")
+        .register();
 }
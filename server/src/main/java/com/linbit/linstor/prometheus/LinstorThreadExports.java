@@ -0,0 +1,71 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.BlockingThreads;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.ThreadStats;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.CounterMetricFamily;
+import io.prometheus.client.GaugeMetricFamily;
+
+/**
+ * Exports the virtual threads and the context switches of this process. The platform thread counts are already
+ * exported by the default JVM exports.
+ */
+public class LinstorThreadExports extends Collector
+{
+    private static boolean initialized = false;
+
+    public static synchronized void initialize()
+    {
+        if (!initialized)
+        {
+            new LinstorThreadExports().register();
+            initialized = true;
+        }
+    }
+
+    @Override
+    public List<MetricFamilySamples> collect()
+    {
+        List<MetricFamilySamples> ret = new ArrayList<>();
+        ret.add(
+            new GaugeMetricFamily(
+                "linstor_virtual_threads_alive",
+                "Number of virtual threads currently running",
+                BlockingThreads.getVirtualThreadsAlive()
+            )
+        );
+        ret.add(
+            new CounterMetricFamily(
+                "linstor_virtual_threads_started",
+                "Number of virtual threads started since the application was started",
+                BlockingThreads.getVirtualThreadsStarted()
+            )
+        );
+
+        @Nullable long[] ctxtSwitches = ThreadStats.getContextSwitches();
+        if (ctxtSwitches != null)
+        {
+            GaugeMetricFamily ctxtSwitchesFamily = new GaugeMetricFamily(
+                "linstor_process_context_switches",
+                "Context switches of the currently existing threads of this process",
+                Collections.singletonList("type")
+            );
+            ctxtSwitchesFamily.addMetric(
+                Collections.singletonList("voluntary"),
+                ctxtSwitches[ThreadStats.IDX_VOLUNTARY_CTXT_SWITCHES]
+            );
+            ctxtSwitchesFamily.addMetric(
+                Collections.singletonList("nonvoluntary"),
+                ctxtSwitches[ThreadStats.IDX_NONVOLUNTARY_CTXT_SWITCHES]
+            );
+            ret.add(ctxtSwitchesFamily);
+        }
+        return ret;
+    }
+}
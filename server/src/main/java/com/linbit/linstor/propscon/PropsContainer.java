@@ -42,8 +42,12 @@ import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Hierarchical properties container
  *
@@ -60,6 +64,10 @@ public class PropsContainer extends AbsTransactionObject implements Props
     public static final int PATH_MAX_LENGTH = 256;
 
     private PropsContainer rootContainer;
+    /*
+     * Shared by the root container and all of its namespaces, see getModificationGeneration()
+     */
+    private final AtomicLong modificationGeneration;
     private @Nullable PropsContainer parentContainer;
     private @Nullable String containerKey;
     private int itemCount;
@@ -69,6 +77,21 @@ public class PropsContainer extends AbsTransactionObject implements Props
     private static final int PATH_NAMESPACE = 0;
     private static final int PATH_KEY = 1;
 
+    /*
+     * Most containers are either leaf namespaces without sub-containers or intermediate namespaces without props.
+     * Both maps are therefore only allocated once the first entry is added.
+     */
+    private static final Map<String, String> NO_PROPS = Collections.emptyMap();
+    private static final Map<String, PropsContainer> NO_CONTAINERS = Collections.emptyMap();
+
+    /*
+     * The props of different objects mostly share the same keys and many short values (e.g. "yes" or "no" of the
+     * DRBD options). Interning them avoids keeping a separate copy of those strings for each object.
+     */
+    private static final Interner<String> STRING_INTERNER = Interners.newWeakInterner();
+    private static final int VALUE_INTERN_MAX_LENGTH = 32;
+
+
     private @Nullable Map<String, String> mapAccessor;
     private @Nullable Set<String> keySetAccessor;
     private @Nullable Set<Map.Entry<String, String>> entrySetAccessor;
@@ -77,6 +100,11 @@ public class PropsContainer extends AbsTransactionObject implements Props
     protected final @Nullable PropsDatabaseDriver dbDriver;
     protected @Nullable Provider<TransactionMgr> transMgrProvider;
     private @Nullable Map<String, String> cachedPropMap;
+    /*
+     * Only the root container writes to the database. Maps the keys that were modified since the last flush to the
+     * value that is still stored in the database (null if the database has no entry for the key)
+     */
+    private @Nullable Map<String, String> dbPendingMap;
 
     /*
      * Only sub-containers do not have an instance name, since they use their parent's
@@ -109,7 +137,9 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
             rootContainer = this;
             parentContainer = null;
+            modificationGeneration = new AtomicLong();
             cachedPropMap = new HashMap<>();
+            dbPendingMap = new HashMap<>();
         }
         else
         {
@@ -122,13 +152,15 @@ public class PropsContainer extends AbsTransactionObject implements Props
 
             rootContainer = parent.getRoot();
             parentContainer = parent;
+            modificationGeneration = rootContainer.modificationGeneration;
             cachedPropMap = null;
+            dbPendingMap = null;
         }
         instanceName = instanceNameRef;
         description = descriptionRef;
         type = typeRef;
-        propMap = new TreeMap<>();
-        containerMap = new TreeMap<>();
+        propMap = NO_PROPS;
+        containerMap = NO_CONTAINERS;
 
         keySetAccessor = null;
         entrySetAccessor = null;
@@ -211,6 +243,21 @@ public class PropsContainer extends AbsTransactionObject implements Props
         return itemCount == 0;
     }
 
+    @Override
+    public long getModificationGeneration()
+    {
+        return modificationGeneration.get();
+    }
+
+    /**
+     * Must only be called after the maps were updated, so that a reader that already saw the new generation also
+     * sees the new entries
+     */
+    private void markModified()
+    {
+        modificationGeneration.incrementAndGet();
+    }
+
     @Override
     public String getDescription()
     {
@@ -272,16 +319,17 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
 
         String[] pathElements = splitPath(namespace, key);
-        String actualKey = pathElements[PATH_KEY];
+        String actualKey = internKey(pathElements[PATH_KEY]);
         checkKey(actualKey);
         PropsContainer con = ensureNamespaceExists(pathElements[PATH_NAMESPACE]);
-        String oldValue = con.propMap.put(actualKey, value);
+        String oldValue = con.writablePropMap().put(actualKey, internValue(value));
         if (oldValue == null)
         {
             con.modifySize(1);
         }
         if (!value.equals(oldValue))
         {
+            markModified();
             dbPersist(con.getPath() + actualKey, value, oldValue);
         }
         return oldValue;
@@ -337,6 +385,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 {
                     con.modifySize(-1);
                     con.removeCleanup();
+                    markModified();
                     dbRemove(con.getPath() + actualKey, value);
                 }
             }
@@ -440,13 +489,14 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 {
                     targetContainer = ensureNamespaceExists(key.substring(0, idx));
                 }
-                String actualKey = key.substring(idx + 1);
-                String oldValue = targetContainer.getRawPropMap().put(actualKey, value);
+                String actualKey = internKey(key.substring(idx + 1));
+                String oldValue = targetContainer.getRawPropMap().put(actualKey, internValue(value));
                 if (oldValue == null)
                 {
                     targetContainer.modifySize(1);
                 }
             }
+            markModified();
         }
         catch (InvalidKeyException invalidKeyExc)
         {
@@ -478,18 +528,14 @@ public class PropsContainer extends AbsTransactionObject implements Props
             String key = entry.getKey();
             String value = entry.getValue();
             cache(key, value);
-
-            if (dbDriver != null)
-            {
-                // TODO: since the rework that PropsContainers also use the AbsDatabaseDrivers, there is no longer a
-                // removeAll(instanceName) method, since the DbEngines are not smart enough (yet?) to delete all
-                // entries for partial primary keys
-                dbDriver.delete(new PropsDbEntry(rootContainer.instanceName, key, value));
-            }
+            // TODO: since the rework that PropsContainers also use the AbsDatabaseDrivers, there is no longer a
+            // removeAll(instanceName) method, since the DbEngines are not smart enough (yet?) to delete all
+            // entries for partial primary keys
+            deferDbWrite(key, value);
         }
 
-        containerMap.clear();
-        propMap.clear();
+        containerMap = NO_CONTAINERS;
+        propMap = NO_PROPS;
 
         if (parentContainer != null)
         {
@@ -497,6 +543,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
         removeCleanup();
         itemCount = 0;
+        markModified();
     }
 
     /**
@@ -736,9 +783,27 @@ public class PropsContainer extends AbsTransactionObject implements Props
      */
     protected Map<String, String> getRawPropMap()
     {
+        return writablePropMap();
+    }
+
+    private Map<String, String> writablePropMap()
+    {
+        if (propMap == NO_PROPS)
+        {
+            propMap = new TreeMap<>();
+        }
         return propMap;
     }
 
+    private Map<String, PropsContainer> writableContainerMap()
+    {
+        if (containerMap == NO_CONTAINERS)
+        {
+            containerMap = new TreeMap<>();
+        }
+        return containerMap;
+    }
+
     /**
      * Creates the path to the specified namespace if it does not exist already
      *
@@ -764,8 +829,9 @@ public class PropsContainer extends AbsTransactionObject implements Props
                     PropsContainer subCon = con.containerMap.get(key);
                     if (subCon == null)
                     {
+                        key = internKey(key);
                         subCon = createSubContainer(key, con);
-                        con.containerMap.put(key, subCon);
+                        con.writableContainerMap().put(key, subCon);
                     }
                     con = subCon;
                 }
@@ -825,6 +891,16 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
     }
 
+    private static String internKey(String key)
+    {
+        return STRING_INTERNER.intern(key);
+    }
+
+    private static String internValue(String value)
+    {
+        return value.length() <= VALUE_INTERN_MAX_LENGTH ? STRING_INTERNER.intern(value) : value;
+    }
+
     private static void checkKey(@Nullable String key) throws InvalidKeyException
     {
         if (key != null && key.contains(PATH_SEPARATOR))
@@ -920,10 +996,59 @@ public class PropsContainer extends AbsTransactionObject implements Props
         }
     }
 
+    /**
+     * Writes the net changes since the last flush to the database, i.e. a property that was modified several times
+     * within the same transaction is only written once, a property that was added and removed again is not written at
+     * all.
+     */
+    @Override
+    public void flush() throws DatabaseException
+    {
+        PropsContainer root = rootContainer;
+        if (dbDriver != null && !root.dbPendingMap.isEmpty())
+        {
+            // copy and clear first, in case writing to the database triggers another flush
+            Map<String, String> pendingMap = new TreeMap<>(root.dbPendingMap);
+            root.dbPendingMap.clear();
+            for (Entry<String, String> entry : pendingMap.entrySet())
+            {
+                String key = entry.getKey();
+                @Nullable String dbValue = entry.getValue();
+                @Nullable String value;
+                try
+                {
+                    value = root.getProp(key);
+                }
+                catch (InvalidKeyException exc)
+                {
+                    // cannot happen, the key was already used to modify the property
+                    throw new ImplementationError("Flushing propsContainer threw an exception.", exc);
+                }
+
+                if (value == null)
+                {
+                    if (dbValue != null)
+                    {
+                        dbDriver.delete(new PropsDbEntry(root.instanceName, key, dbValue));
+                    }
+                }
+                else if (dbValue == null)
+                {
+                    dbDriver.create(new PropsDbEntry(root.instanceName, key, value));
+                }
+                else if (!value.equals(dbValue))
+                {
+                    dbDriver.getValueDriver().update(new PropsDbEntry(root.instanceName, key, value), dbValue);
+                }
+            }
+        }
+    }
+
     @Override
     public void commitImpl()
     {
         rootContainer.cachedPropMap.clear();
+        rootContainer.dbPendingMap.clear();
     }
 
     @Override
@@ -946,7 +1071,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 {
                     targetContainer = root.ensureNamespaceExists(key.substring(0, idx));
                 }
-                String relativeKey = key.substring(idx + 1);
+                String relativeKey = internKey(key.substring(idx + 1));
                 String oldValue;
                 if (value == null)
                 {
@@ -954,7 +1079,7 @@ public class PropsContainer extends AbsTransactionObject implements Props
                 }
                 else
                 {
-                    oldValue = targetContainer.propMap.put(relativeKey, value);
+                    oldValue = targetContainer.writablePropMap().put(relativeKey, internValue(value));
                 }
                 if (oldValue == null)
                 {
@@ -971,36 +1096,34 @@ public class PropsContainer extends AbsTransactionObject implements Props
             }
         }
         root.cachedPropMap.clear();
+        // the database transaction is rolled back as well
+        root.dbPendingMap.clear();
+        markModified();
     }
 
-    private void dbPersist(String key, String value, String oldValue) throws DatabaseException
+    private void dbPersist(String key, String value, @Nullable String oldValue) throws DatabaseException
     {
         rootContainer.activateTransMgr();
         cache(key, oldValue);
-        if (dbDriver != null)
-        {
-            if (oldValue == null)
-            {
-                dbDriver.create(new PropsDbEntry(rootContainer.instanceName, key, value));
-            }
-            else
-            {
-                dbDriver.getValueDriver()
-                    .update(
-                        new PropsDbEntry(rootContainer.instanceName, key, value),
-                        oldValue
-                    );
-            }
-        }
+        deferDbWrite(key, oldValue);
     }
 
     private void dbRemove(String key, String oldValue) throws DatabaseException
     {
         rootContainer.activateTransMgr();
         cache(key, oldValue);
-        if (dbDriver != null)
+        deferDbWrite(key, oldValue);
+    }
+
+    /**
+     * The database is only updated when the transaction is flushed (see {@link #flush()}), until then only the value
+     * that is still stored in the database is remembered.
+     */
+    private void deferDbWrite(String key, @Nullable String dbValue)
+    {
+        if (dbDriver != null && !rootContainer.dbPendingMap.containsKey(key))
         {
-            dbDriver.delete(new PropsDbEntry(rootContainer.instanceName, key, oldValue));
+            rootContainer.dbPendingMap.put(key, dbValue);
         }
     }
 
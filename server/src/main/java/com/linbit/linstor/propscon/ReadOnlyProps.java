@@ -34,6 +34,13 @@ public interface ReadOnlyProps extends Iterable<Map.Entry<String, String>>
 
     boolean isEmpty();
 
+    /**
+     * Returns a counter that changes whenever an entry of this props container (including all other namespaces of
+     * the same root container) is set, removed or rolled back, or when entries are loaded. Values derived from these
+     * props can be cached as long as this counter did not change.
+     */
+    long getModificationGeneration();
+
     String getPath();
 
     Map<String, String> map();
@@ -160,6 +160,12 @@ public class ReadOnlyPropsImpl implements Props
         return propsMap.isEmpty();
     }
 
+    @Override
+    public long getModificationGeneration()
+    {
+        return propsMap.getModificationGeneration();
+    }
+
     @Override
     public String getPath()
     {
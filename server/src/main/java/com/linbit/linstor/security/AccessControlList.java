@@ -18,6 +18,10 @@ import java.util.TreeMap;
 
 /**
  * Object access control list
+ * <br/>
+ * Access checks are far more frequent than changes of the access control list. Therefore access checks read an
+ * immutable snapshot of the entries without any locking. The snapshot is dropped whenever the entries are changed or
+ * rolled back, and the next access check creates a new snapshot.
  *
  * @author Robert Altnoeder &lt;robert.altnoeder@linbit.com&gt;
  */
@@ -27,6 +31,11 @@ public final class AccessControlList extends BaseTransactionObject
     private final Map<RoleName, AccessControlEntry> acl;
     private final String objPath;
 
+    /** Immutable copy of acl, null if it has to be created again */
+    private volatile @Nullable Map<RoleName, AccessControlEntry> aclSnapshot;
+    /** Whether the entries were changed within the current transaction */
+    private volatile boolean changedInTx;
+
     AccessControlList(
         String objPathRef,
         SecObjProtAclDatabaseDriver dbDriverRef,
@@ -66,59 +75,56 @@ public final class AccessControlList extends BaseTransactionObject
     public void requireAccess(AccessContext context, AccessType requested)
         throws AccessDeniedException
     {
-        synchronized (acl)
+        SecurityLevel globalSecLevel = SecurityLevel.get();
+        switch (globalSecLevel)
         {
-            SecurityLevel globalSecLevel = SecurityLevel.get();
-            switch (globalSecLevel)
+            case NO_SECURITY ->
             {
-                case NO_SECURITY ->
-                {
-                    // no-op
-                }
-                case RBAC, MAC ->
-                {
-                    boolean allowFlag = false;
+                // no-op
+            }
+            case RBAC, MAC ->
+            {
+                boolean allowFlag = false;
 
-                    // Look for an entry for the subject's role in this access control list
-                    AccessControlEntry entry = acl.get(context.subjectRole.name);
+                // Look for an entry for the subject's role in this access control list
+                @Nullable AccessControlEntry entry = getSnapshot().get(context.subjectRole.name);
 
-                    // If an entry was found, check whether the requested level of access
-                    // is within the bounds of the level of access allowed by the
-                    // access control entry.
-                    // If no entry was found, access is denied.
-                    if (entry != null)
-                    {
-                        allowFlag = entry.access.hasAccess(requested);
-                    }
+                // If an entry was found, check whether the requested level of access
+                // is within the bounds of the level of access allowed by the
+                // access control entry.
+                // If no entry was found, access is denied.
+                if (entry != null)
+                {
+                    allowFlag = entry.access.hasAccess(requested);
+                }
 
-                    if (!allowFlag)
-                    {
-                        allowFlag |= hasAccessPrivilege(context, requested);
-                    }
+                if (!allowFlag)
+                {
+                    allowFlag |= hasAccessPrivilege(context, requested);
+                }
 
-                    if (!allowFlag)
-                    {
-                        throw new AccessDeniedException(
-                            "Access of type '" + requested + "' not allowed by the " +
-                                "access control list",
-                            // Description
-                            "Access to the protected object was denied",
-                            // Cause
-                            "The access control list for the protected object does not allow " +
-                                "access of type " + requested.name() + " by role " +
-                                context.subjectRole.name,
-                            // Correction
-                            "An entry that allows access must be added by an authorized role",
-                            // No error details
-                            null
-                        );
-                    }
+                if (!allowFlag)
+                {
+                    throw new AccessDeniedException(
+                        "Access of type '" + requested + "' not allowed by the " +
+                            "access control list",
+                        // Description
+                        "Access to the protected object was denied",
+                        // Cause
+                        "The access control list for the protected object does not allow " +
+                            "access of type " + requested.name() + " by role " +
+                            context.subjectRole.name,
+                        // Correction
+                        "An entry that allows access must be added by an authorized role",
+                        // No error details
+                        null
+                    );
                 }
-                default -> throw new ImplementationError(
-                    "Missing case label for enum constant " + globalSecLevel.name(),
-                    null
-                );
             }
+            default -> throw new ImplementationError(
+                "Missing case label for enum constant " + globalSecLevel.name(),
+                null
+            );
         }
     }
 
@@ -143,7 +149,7 @@ public final class AccessControlList extends BaseTransactionObject
                 // Look for an entry for the subject's role in this access control list
                 AccessType aclAccess = null;
                 {
-                    AccessControlEntry entry = acl.get(context.subjectRole.name);
+                    @Nullable AccessControlEntry entry = getSnapshot().get(context.subjectRole.name);
                     if (entry != null)
                     {
                         aclAccess = entry.access;
@@ -180,13 +186,10 @@ public final class AccessControlList extends BaseTransactionObject
     {
 
         AccessType access = null;
-        synchronized (acl)
+        @Nullable AccessControlEntry entry = getSnapshot().get(subjRole.name);
+        if (entry != null)
         {
-            AccessControlEntry entry = acl.get(subjRole.name);
-            if (entry != null)
-            {
-                access = entry.access;
-            }
+            access = entry.access;
         }
         return access;
     }
@@ -196,6 +199,7 @@ public final class AccessControlList extends BaseTransactionObject
     {
         synchronized (acl)
         {
+            markChanged();
             AccessControlEntry entry = new AccessControlEntry(objPath, entryRole, grantedAccess);
             AccessControlEntry oldEntry = acl.put(entryRole.name, entry);
             if (oldEntry == null)
@@ -214,6 +218,7 @@ public final class AccessControlList extends BaseTransactionObject
     {
         synchronized (acl)
         {
+            markChanged();
             for (AccessControlEntry acEntry : acl.values())
             {
                 dbDriver.delete(acEntry);
@@ -226,6 +231,7 @@ public final class AccessControlList extends BaseTransactionObject
     {
         synchronized (acl)
         {
+            markChanged();
             AccessControlEntry acEntry = acl.remove(entryRole.name);
             dbDriver.delete(acEntry);
             return acEntry;
@@ -234,12 +240,66 @@ public final class AccessControlList extends BaseTransactionObject
 
     public Map<RoleName, AccessControlEntry> getEntries()
     {
-        Map<RoleName, AccessControlEntry> aclCopy = new TreeMap<>();
+        return new TreeMap<>(getSnapshot());
+    }
+
+    @Override
+    public boolean isDirty()
+    {
+        return changedInTx || super.isDirty();
+    }
+
+    @Override
+    public void commitImpl()
+    {
         synchronized (acl)
         {
-            aclCopy.putAll(acl);
+            // the committed entries are the ones the snapshot was created from, no need to drop it
+            super.commitImpl();
+            changedInTx = false;
+        }
+    }
+
+    @Override
+    public void rollbackImpl()
+    {
+        synchronized (acl)
+        {
+            // rolls back the entries if that did not already happen
+            super.rollbackImpl();
+            changedInTx = false;
+            aclSnapshot = null;
+        }
+    }
+
+    /**
+     * Registers this instance in the current transaction (so that the snapshot is also dropped if the transaction is
+     * rolled back) and drops the snapshot. Must be called while holding the lock of acl, before the entries are
+     * changed.
+     */
+    private void markChanged()
+    {
+        activateTransMgr();
+        changedInTx = true;
+        aclSnapshot = null;
+    }
+
+    private Map<RoleName, AccessControlEntry> getSnapshot()
+    {
+        @Nullable Map<RoleName, AccessControlEntry> snapshot = aclSnapshot;
+        if (snapshot == null)
+        {
+            synchronized (acl)
+            {
+                snapshot = aclSnapshot;
+                if (snapshot == null)
+                {
+                    snapshot = Collections.unmodifiableMap(new TreeMap<>(acl));
+                    aclSnapshot = snapshot;
+                }
+            }
         }
-        return aclCopy;
+        return snapshot;
     }
 
     private boolean hasAccessPrivilege(AccessContext context, AccessType requested)
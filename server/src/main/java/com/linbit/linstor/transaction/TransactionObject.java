@@ -2,6 +2,7 @@ package com.linbit.linstor.transaction;
 
 import com.linbit.ImplementationError;
 import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.transaction.manager.TransactionMgr;
 
 public interface TransactionObject
@@ -44,4 +45,14 @@ public interface TransactionObject
      */
     void commit();
 
+    /**
+     * Writes the changes that this object deferred to the database. Called by the {@link TransactionMgr} before
+     * the database transaction is committed, but also whenever the database has to reflect the current state
+     * of the transaction, i.e. before reading from the database.
+     */
+    default void flush() throws DatabaseException
+    {
+        // by default all changes are written immediately
+    }
+
 }
@@ -1,7 +1,9 @@
 package com.linbit.linstor.transaction;
 
 import com.linbit.ImplementationError;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -30,6 +32,21 @@ public class TransactionObjectCollection
         ENABLE_CHECK_DELETED.set(true);
     }
 
+    /**
+     * Writes the deferred changes of all modified objects to the database
+     */
+    public void flushAll() throws DatabaseException
+    {
+        // iterate over a copy, as writing the changes might register further objects
+        for (TransactionObject transObj : new ArrayList<>(transObjects))
+        {
+            if (transObj.isDirty())
+            {
+                transObj.flush();
+            }
+        }
+    }
+
     public void commitAll()
     {
         for (TransactionObject transObj : transObjects)
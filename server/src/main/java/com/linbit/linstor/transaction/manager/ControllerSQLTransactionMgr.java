@@ -1,6 +1,8 @@
 package com.linbit.linstor.transaction.manager;
 
 import com.linbit.linstor.ControllerSQLDatabase;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.dbdrivers.DatabaseException;
 import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
@@ -12,12 +14,28 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
 {
     private final ControllerSQLDatabase controllerDatabase;
     private final Connection dbCon;
+    private final SQLStatementBatch statementBatch;
     private final TransactionObjectCollection transactionObjectCollection;
+    private final @Nullable TransactionCommitTracker commitTracker;
+
+    /** First error of writing deferred changes in {@link #getConnection()}, thrown by the next {@link #commit()} */
+    private @Nullable DatabaseException deferredFailure;
 
     public ControllerSQLTransactionMgr(ControllerSQLDatabase controllerDatabaseRef) throws SQLException
+    {
+        this(controllerDatabaseRef, null);
+    }
+
+    public ControllerSQLTransactionMgr(
+        ControllerSQLDatabase controllerDatabaseRef,
+        @Nullable TransactionCommitTracker commitTrackerRef
+    )
+        throws SQLException
     {
         controllerDatabase = controllerDatabaseRef;
+        commitTracker = commitTrackerRef;
         dbCon = controllerDatabaseRef.getConnection();
+        statementBatch = new SQLStatementBatch(dbCon);
         transactionObjectCollection = new TransactionObjectCollection();
     }
 
@@ -30,18 +48,46 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     @Override
     public void commit() throws TransactionException
     {
+        boolean dirty = commitTracker != null && transactionObjectCollection.areAnyDirty();
+        @Nullable DatabaseException failure = deferredFailure;
+        deferredFailure = null;
+        if (failure == null)
+        {
+            try
+            {
+                transactionObjectCollection.flushAll();
+                statementBatch.flush();
+            }
+            catch (DatabaseException exc)
+            {
+                failure = exc;
+            }
+            catch (SQLException sqlExc)
+            {
+                failure = new DatabaseException("Writing deferred database changes failed.", sqlExc);
+            }
+        }
+        if (failure != null)
+        {
+            throw new TransactionException("Database commit failed.", failure);
+        }
         try
         {
             dbCon.commit();
         }
         catch (SQLException sqlExc)
         {
-            throw new TransactionException("Database commit failed.", sqlExc);
+            throw new TransactionException("Database commit failed.", new DatabaseException(sqlExc));
         }
 
         transactionObjectCollection.commitAll();
 
         clearTransactionObjects();
+
+        if (dirty)
+        {
+            commitTracker.changesCommitted();
+        }
     }
 
 
@@ -49,6 +95,8 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     public void rollback() throws TransactionException
     {
         transactionObjectCollection.rollbackAll();
+        statementBatch.discard();
+        deferredFailure = null;
 
         try
         {
@@ -83,12 +131,33 @@ public class ControllerSQLTransactionMgr implements TransactionMgrSQL
     @Override
     public Connection getConnection()
     {
+        try
+        {
+            transactionObjectCollection.flushAll();
+        }
+        catch (DatabaseException exc)
+        {
+            // the caller only wants to read, the failed write belongs to the commit of this transaction
+            if (deferredFailure == null)
+            {
+                deferredFailure = exc;
+            }
+        }
+        statementBatch.executePending();
         return dbCon;
     }
 
+    @Override
+    public SQLStatementBatch getStatementBatch()
+    {
+        return statementBatch;
+    }
+
     @Override
     public void returnConnection()
     {
+        statementBatch.discard();
+        deferredFailure = null;
         controllerDatabase.returnConnection(dbCon);
 
         clearTransactionObjects();
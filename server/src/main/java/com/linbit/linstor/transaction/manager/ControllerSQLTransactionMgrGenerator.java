@@ -12,11 +12,16 @@ import java.sql.SQLException;
 public class ControllerSQLTransactionMgrGenerator implements TransactionMgrGenerator
 {
     private final ControllerSQLDatabase controllerDatabase;
+    private final TransactionCommitTracker commitTracker;
 
     @Inject
-    public ControllerSQLTransactionMgrGenerator(ControllerDatabase controllerDatabaseRef)
+    public ControllerSQLTransactionMgrGenerator(
+        ControllerDatabase controllerDatabaseRef,
+        TransactionCommitTracker commitTrackerRef
+    )
     {
         controllerDatabase = (ControllerSQLDatabase) controllerDatabaseRef;
+        commitTracker = commitTrackerRef;
     }
 
     @Override
@@ -25,7 +30,7 @@ public class ControllerSQLTransactionMgrGenerator implements TransactionMgrGener
         ControllerSQLTransactionMgr controllerSQLTransactionMgr;
         try
         {
-            controllerSQLTransactionMgr = new ControllerSQLTransactionMgr(controllerDatabase);
+            controllerSQLTransactionMgr = new ControllerSQLTransactionMgr(controllerDatabase, commitTracker);
         }
         catch (SQLException sqlExc)
         {
@@ -0,0 +1,164 @@
+package com.linbit.linstor.transaction.manager;
+
+import com.linbit.linstor.annotation.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Collects the write statements of a transaction and sends them to the database as JDBC batches.
+ * <br/>
+ * Consecutive executions of the same SQL statement are collected into one batch. As soon as a different statement is
+ * requested, the pending batch is executed first, which keeps the order of all statements (and therefore all foreign
+ * key dependencies) unchanged.
+ * <br/>
+ * Pending statements have to be executed by calling {@link #executePending()} before the connection is used for
+ * anything else, i.e. before reading from the database, and by calling {@link #flush()} before committing the
+ * transaction. Errors of batched statements do not surface at whichever unrelated write or read happens to execute the
+ * batch. Instead, the first error is recorded and thrown by {@link #flush()}, so that it reaches the commit.
+ * <br/>
+ * Not thread safe, just like the transaction manager that owns this batch.
+ */
+public class SQLStatementBatch
+{
+    /** Upper limit of pending statements, to limit the memory kept by the JDBC driver */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final Connection dbCon;
+
+    private @Nullable String pendingSql;
+    private @Nullable PreparedStatement pendingStmt;
+    private int pendingCount;
+    private @Nullable SQLException failure;
+
+    public SQLStatementBatch(Connection dbConRef)
+    {
+        dbCon = dbConRef;
+    }
+
+    /**
+     * Returns the statement for the given SQL. The caller has to set all parameters of the statement and call
+     * {@link #add()} afterwards.
+     * <br/>
+     * If the pending batch belongs to a different SQL statement, it is executed first.
+     */
+    public PreparedStatement getStatement(String sql) throws SQLException
+    {
+        PreparedStatement stmt = pendingStmt;
+        if (stmt == null || !sql.equals(pendingSql))
+        {
+            executePending();
+            stmt = dbCon.prepareStatement(sql);
+            pendingStmt = stmt;
+            pendingSql = sql;
+        }
+        return stmt;
+    }
+
+    /**
+     * Adds the current parameters of the statement last returned by {@link #getStatement(String)} to the batch
+     */
+    public void add() throws SQLException
+    {
+        if (pendingStmt == null)
+        {
+            throw new SQLException("No statement prepared for the batch");
+        }
+        pendingStmt.addBatch();
+        ++pendingCount;
+        if (pendingCount >= MAX_BATCH_SIZE)
+        {
+            pendingCount = 0;
+            executeBatch(pendingStmt);
+        }
+    }
+
+    /**
+     * Executes all pending statements. An error is not thrown but recorded for the next {@link #flush()}.
+     */
+    public void executePending()
+    {
+        PreparedStatement stmt = pendingStmt;
+        if (stmt != null)
+        {
+            pendingStmt = null;
+            pendingSql = null;
+            if (pendingCount > 0)
+            {
+                pendingCount = 0;
+                executeBatch(stmt);
+            }
+            try
+            {
+                stmt.close();
+            }
+            catch (SQLException sqlExc)
+            {
+                recordFailure(sqlExc);
+            }
+        }
+    }
+
+    /**
+     * Executes all pending statements and throws the first error of any statement executed by this batch since the
+     * last {@link #flush()} or {@link #discard()}
+     */
+    public void flush() throws SQLException
+    {
+        executePending();
+        SQLException exc = failure;
+        if (exc != null)
+        {
+            failure = null;
+            throw exc;
+        }
+    }
+
+    private void executeBatch(PreparedStatement stmt)
+    {
+        try
+        {
+            stmt.executeBatch();
+        }
+        catch (SQLException sqlExc)
+        {
+            recordFailure(sqlExc);
+        }
+    }
+
+    private void recordFailure(SQLException sqlExc)
+    {
+        if (failure == null)
+        {
+            failure = sqlExc;
+        }
+        else
+        {
+            failure.addSuppressed(sqlExc);
+        }
+    }
+
+    /**
+     * Drops all pending statements without executing them, as well as the recorded error
+     */
+    public void discard()
+    {
+        PreparedStatement stmt = pendingStmt;
+        pendingStmt = null;
+        pendingSql = null;
+        pendingCount = 0;
+        failure = null;
+        if (stmt != null)
+        {
+            try
+            {
+                stmt.close();
+            }
+            catch (SQLException ignored)
+            {
+                // the transaction is rolled back or the connection is returned anyways
+            }
+        }
+    }
+}
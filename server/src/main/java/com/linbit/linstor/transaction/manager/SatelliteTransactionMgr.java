@@ -1,8 +1,17 @@
 package com.linbit.linstor.transaction.manager;
 
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.transaction.TransactionException;
 import com.linbit.linstor.transaction.TransactionObject;
 import com.linbit.linstor.transaction.TransactionObjectCollection;
 
+/**
+ * Transaction manager of the satellite. As the satellite has no database, committing only accepts the changes of
+ * the registered objects.
+ *
+ * All methods are synchronized, as the device manager lets multiple workers process resources within the same
+ * transaction. Committing or rolling back while other workers still modify their objects is not supported.
+ */
 public class SatelliteTransactionMgr implements TransactionMgr
 {
     private final TransactionObjectCollection transactionObjectCollection;
@@ -13,46 +22,54 @@ public class SatelliteTransactionMgr implements TransactionMgr
     }
 
     @Override
-    public void register(TransactionObject transObj)
+    public synchronized void register(TransactionObject transObj)
     {
         transactionObjectCollection.register(transObj);
     }
 
     @Override
-    public void commit()
+    public synchronized void commit()
     {
+        try
+        {
+            transactionObjectCollection.flushAll();
+        }
+        catch (DatabaseException exc)
+        {
+            throw new TransactionException("Writing deferred changes failed.", exc);
+        }
         transactionObjectCollection.commitAll();
         clearTransactionObjects();
     }
 
 
     @Override
-    public void rollback()
+    public synchronized void rollback()
     {
         transactionObjectCollection.rollbackAll();
         clearTransactionObjects();
     }
 
     @Override
-    public void clearTransactionObjects()
+    public synchronized void clearTransactionObjects()
     {
         transactionObjectCollection.clearAll();
     }
 
     @Override
-    public boolean isDirty()
+    public synchronized boolean isDirty()
     {
         return transactionObjectCollection.areAnyDirty();
     }
 
     @Override
-    public int sizeObjects()
+    public synchronized int sizeObjects()
     {
         return transactionObjectCollection.sizeObjects();
     }
 
     @Override
-    public void returnConnection()
+    public synchronized void returnConnection()
     {
         clearTransactionObjects();
     }
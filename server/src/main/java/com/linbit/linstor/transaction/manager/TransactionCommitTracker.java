@@ -0,0 +1,47 @@
+package com.linbit.linstor.transaction.manager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of committed transactions that actually modified any data.
+ *
+ * The controller uses the generation to decide whether a satellite that lost its connection could have missed
+ * an update in the meantime.
+ */
+@Singleton
+public class TransactionCommitTracker
+{
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastChangeNanos = System.nanoTime();
+
+    @Inject
+    public TransactionCommitTracker()
+    {
+    }
+
+    public void changesCommitted()
+    {
+        lastChangeNanos = System.nanoTime();
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns a counter that is increased with every commit that contained at least one modified object
+     */
+    public long getGeneration()
+    {
+        return generation.get();
+    }
+
+    /**
+     * Returns the nanoseconds elapsed since the last commit that contained at least one modified object, or
+     * {@link Long#MAX_VALUE} if no such commit happened yet
+     */
+    public long getNanosSinceLastChange()
+    {
+        return generation.get() == 0 ? Long.MAX_VALUE : System.nanoTime() - lastChangeNanos;
+    }
+}
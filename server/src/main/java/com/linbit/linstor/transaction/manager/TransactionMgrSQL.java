@@ -4,5 +4,16 @@ import java.sql.Connection;
 
 public interface TransactionMgrSQL extends TransactionMgr
 {
+    /**
+     * Returns the connection of this transaction. All statements pending in the {@link #getStatementBatch()} are
+     * executed first, so that the connection sees every change of the current transaction. Errors of those
+     * statements are not thrown here but by the next {@link #commit()}.
+     */
     Connection getConnection();
+
+    /**
+     * Returns the batch collecting the write statements of this transaction. Pending statements are executed on
+     * {@link #commit()} at the latest.
+     */
+    SQLStatementBatch getStatementBatch();
 }
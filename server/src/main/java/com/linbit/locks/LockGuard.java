@@ -1,5 +1,7 @@
 package com.linbit.locks;
 
+import com.linbit.linstor.annotation.Nullable;
+
 import java.util.concurrent.locks.Lock;
 
 public class LockGuard implements AutoCloseable
@@ -9,6 +11,7 @@ public class LockGuard implements AutoCloseable
     private boolean acquired = false;
 
     private final Lock[] lockBundle;
+    private final @Nullable Runnable lockCheck;
 
     /**
      * Constructs a new LockGuard instance
@@ -27,8 +30,19 @@ public class LockGuard implements AutoCloseable
      * @param locksRef array of locks to be managed by the new LockGuard instance
      */
     LockGuard(final boolean deferred, final Lock... locksRef)
+    {
+        this(deferred, null, locksRef);
+    }
+
+    /**
+     * Same as {@link #LockGuard(boolean, Lock...)}, but additionally runs the given check every time before any of the
+     * locks is acquired. The check is expected to throw if acquiring the locks in the current state of the current
+     * thread could deadlock.
+     */
+    LockGuard(final boolean deferred, final @Nullable Runnable lockCheckRef, final Lock... locksRef)
     {
         lockBundle = locksRef;
+        lockCheck = lockCheckRef;
         if (!deferred)
         {
             lock();
@@ -43,6 +57,10 @@ public class LockGuard implements AutoCloseable
      */
     public final void lock()
     {
+        if (lockCheck != null)
+        {
+            lockCheck.run();
+        }
         // Attempt to acquire all locks
         int idx = 0;
         try
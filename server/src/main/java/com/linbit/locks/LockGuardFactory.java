@@ -1,15 +1,20 @@
 package com.linbit.locks;
 
+import com.linbit.ImplementationError;
 import com.linbit.linstor.annotation.Nullable;
 import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.identifier.ResourceName;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.TreeMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import com.google.inject.Singleton;
 
@@ -26,6 +31,17 @@ public class LockGuardFactory
 
         LockGuardBuilder lock(LockObj lockId, LockType lockType);
 
+        /**
+         * Locks only the given resource definitions instead of the entire {@link LockObj#RSC_DFN_MAP}.
+         * <br />
+         * If the rscDfnMapLock is striped, this takes the rscDfnMapLock in read mode and only the stripes of the
+         * given resource definitions in the given mode. Otherwise this is the same as locking
+         * {@link LockObj#RSC_DFN_MAP} in the given mode.
+         * <br />
+         * Resource definitions must not be created or deleted while only holding these locks.
+         */
+        LockGuardBuilder rscDfn(LockType lockType, ResourceName... rscNames);
+
         /**
          * Locks that should be taken <b>before</b> LINSTOR locks (which can be addressed via {@link LockObj}) are
          * taken.
@@ -92,6 +108,8 @@ public class LockGuardFactory
     private final ReadWriteLock scheduleMapLock;
     private final ReadWriteLock authTokenMapLock;
 
+    private final @Nullable StripedReadWriteLock rscDfnStripedLock;
+
     @Inject
     public LockGuardFactory(
         @Named(CoreModule.RECONFIGURATION_LOCK) ReadWriteLock reconfigurationLockRef,
@@ -118,6 +136,24 @@ public class LockGuardFactory
         remoteMapLock = remoteMapLockRef;
         scheduleMapLock = scheduleMapLockRef;
         authTokenMapLock = authTokenMapLockRef;
+
+        if (rscDfnMapLockRef instanceof StripedReadWriteLock stripedLock && stripedLock.isStriped())
+        {
+            rscDfnStripedLock = stripedLock;
+        }
+        else
+        {
+            rscDfnStripedLock = null;
+        }
+    }
+
+    /**
+     * Returns the index of the stripe guarding the given resource definition, or 0 for all resource definitions if
+     * the rscDfnMapLock is not striped. Resource definitions with the same index share the same lock.
+     */
+    public int getRscDfnStripeIdx(ResourceName rscName)
+    {
+        return rscDfnStripedLock == null ? 0 : rscDfnStripedLock.getStripeIdx(rscName);
     }
 
     public LockGuardBuilder create()
@@ -177,9 +213,35 @@ public class LockGuardFactory
         };
     }
 
+    /**
+     * A {@link ReentrantReadWriteLock} can not be upgraded from read to write lock, trying to do so blocks forever
+     */
+    private static void checkNoUpgrade(LockObj lockObj, ReadWriteLock rwLock)
+    {
+        if (rwLock instanceof StripedReadWriteLock stripedLock)
+        {
+            stripedLock.checkWriteLock();
+        }
+        else
+        if (rwLock instanceof ReentrantReadWriteLock reentrantLock &&
+            StripedReadWriteLock.isReadLockedOnlyByCurrentThread(reentrantLock))
+        {
+            throw new ImplementationError("Upgrading the lock " + lockObj + " from read to write lock would deadlock");
+        }
+    }
+
+    private static LockType stronger(LockType lockType1st, LockType lockType2nd)
+    {
+        return lockType1st == LockType.WRITE ? lockType1st : lockType2nd;
+    }
+
     private class LockGuardBuilderImpl implements LockGuardBuilder
     {
         private final TreeMap<LockObj, LockType> locks;
+        /**
+         * Stripe index -> lock type. If the rscDfnMapLock is not striped, all entries are merged into index 0
+         */
+        private final TreeMap<Integer, LockType> rscDfnStripeLocks;
 
         private boolean defer = false;
 
@@ -189,6 +251,7 @@ public class LockGuardFactory
         private LockGuardBuilderImpl()
         {
             locks = new TreeMap<>((lock1st, lock2nd) -> Integer.compare(lock1st.lockIdx, lock2nd.lockIdx));
+            rscDfnStripeLocks = new TreeMap<>();
         }
 
         private LockGuardBuilderImpl(boolean deferRef)
@@ -231,6 +294,16 @@ public class LockGuardFactory
             return this;
         }
 
+        @Override
+        public LockGuardBuilder rscDfn(LockType type, ResourceName... rscNames)
+        {
+            for (ResourceName rscName : rscNames)
+            {
+                rscDfnStripeLocks.merge(getRscDfnStripeIdx(rscName), type, LockGuardFactory::stronger);
+            }
+            return this;
+        }
+
         @Override
         public LockGuardBuilder preLinstorLocks(Lock... locksRef)
         {
@@ -261,60 +334,125 @@ public class LockGuardFactory
         @Override
         public LockGuard build()
         {
+            boolean useRscDfnStripes = false;
+            if (!rscDfnStripeLocks.isEmpty())
+            {
+                useRscDfnStripes = mergeRscDfnLocks();
+            }
             if (!locks.isEmpty() && !locks.containsKey(LockObj.RECONFIGURATION))
             {
                 locks.put(LockObj.RECONFIGURATION, LockType.READ);
             }
 
-            Lock[] lockArr = createLockArray();
-            int lockIdx = appendLocks(preLocks, lockArr, 0);
+            List<Lock> lockList = new ArrayList<>();
+            List<Runnable> lockChecks = new ArrayList<>();
+            appendLocks(preLocks, lockList);
 
             for (Entry<LockObj, LockType> entry : locks.entrySet())
             {
-                Lock lock;
-                if (entry.getValue() == LockType.READ)
+                LockObj lockObj = entry.getKey();
+                if (useRscDfnStripes && lockObj == LockObj.RSC_DFN_MAP && rscDfnStripedLock != null)
                 {
-                    lock = lockObjToLock(entry.getKey()).readLock();
+                    appendRscDfnStripeLocks(rscDfnStripedLock, lockList, lockChecks);
                 }
                 else
                 {
-                    lock = lockObjToLock(entry.getKey()).writeLock();
+                    ReadWriteLock rwLock = lockObjToLock(lockObj);
+                    if (entry.getValue() == LockType.READ)
+                    {
+                        if (rwLock instanceof StripedReadWriteLock stripedLock && stripedLock.isStriped())
+                        {
+                            lockChecks.add(stripedLock::checkReadLock);
+                        }
+                        lockList.add(rwLock.readLock());
+                    }
+                    else
+                    {
+                        lockChecks.add(() -> checkNoUpgrade(lockObj, rwLock));
+                        lockList.add(rwLock.writeLock());
+                    }
                 }
-                lockArr[lockIdx] = lock;
-                ++lockIdx;
             }
 
-            /* lockIdx = */ appendLocks(postLocks, lockArr, lockIdx);
-            return new LockGuard(defer, lockArr);
+            appendLocks(postLocks, lockList);
+            return new LockGuard(
+                defer,
+                lockChecks.isEmpty() ? null : () -> lockChecks.forEach(Runnable::run),
+                lockList.toArray(new Lock[0])
+            );
         }
 
-
-        private Lock[] createLockArray()
+        /**
+         * Merges the requested resource definition locks into the requested {@link LockObj#RSC_DFN_MAP} lock.
+         *
+         * @return true if the rscDfnMapLock needs to be taken in read mode together with the stripes in
+         *     {@link #rscDfnStripeLocks}, false if the rscDfnMapLock can be handled like any other lock
+         */
+        private boolean mergeRscDfnLocks()
         {
-            Lock[] lockArr;
-            int size = locks.size();
-            if (preLocks != null)
+            boolean useRscDfnStripes = false;
+            @Nullable LockType rscDfnMapLockType = locks.get(LockObj.RSC_DFN_MAP);
+            @Nullable StripedReadWriteLock stripedLock = rscDfnStripedLock;
+            if (stripedLock == null)
             {
-                size += preLocks.length;
+                // not striped, fall back to the entire rscDfnMap
+                LockType lockType = rscDfnStripeLocks.values().stream()
+                    .reduce(LockGuardFactory::stronger)
+                    .orElse(LockType.READ);
+                if (rscDfnMapLockType != null)
+                {
+                    lockType = stronger(rscDfnMapLockType, lockType);
+                }
+                locks.put(LockObj.RSC_DFN_MAP, lockType);
             }
-            if (postLocks != null)
+            else
+            if (rscDfnMapLockType != LockType.WRITE)
             {
-                size += postLocks.length;
+                if (rscDfnMapLockType == LockType.READ)
+                {
+                    // reading the whole map requires all stripes to be (at least) read-locked
+                    int stripeCount = stripedLock.getStripeCount();
+                    for (int stripeIdx = 0; stripeIdx < stripeCount; ++stripeIdx)
+                    {
+                        rscDfnStripeLocks.putIfAbsent(stripeIdx, LockType.READ);
+                    }
+                }
+                else
+                {
+                    locks.put(LockObj.RSC_DFN_MAP, LockType.READ);
+                }
+                useRscDfnStripes = true;
             }
-            lockArr = new Lock[size];
-            return lockArr;
+            // else: the entire rscDfnMap is write-locked, no need for stripes
+            return useRscDfnStripes;
         }
 
-        private int appendLocks(@Nullable Lock[] srcLocksArrRef, Lock[] dstLocksArrRef, int lockIdxRef)
+        private void appendRscDfnStripeLocks(
+            StripedReadWriteLock stripedLock,
+            List<Lock> lockList,
+            List<Runnable> lockChecks
+        )
+        {
+            lockList.add(stripedLock.mapReadLock());
+            // TreeMap ensures that the stripes are locked in ascending order
+            for (Entry<Integer, LockType> entry : rscDfnStripeLocks.entrySet())
+            {
+                int stripeIdx = entry.getKey();
+                LockType lockType = entry.getValue();
+                lockChecks.add(() -> stripedLock.checkStripeLock(stripeIdx, lockType));
+                lockList.add(stripedLock.stripeLock(stripeIdx, lockType));
+            }
+        }
+
+        private void appendLocks(@Nullable Lock[] srcLocksArrRef, List<Lock> dstLockListRef)
         {
-            int idx = lockIdxRef;
             if (srcLocksArrRef != null)
             {
-                int srcLen = srcLocksArrRef.length;
-                System.arraycopy(srcLocksArrRef, 0, dstLocksArrRef, idx, srcLen);
-                idx += srcLen;
+                for (Lock lock : srcLocksArrRef)
+                {
+                    dstLockListRef.add(lock);
+                }
             }
-            return idx;
         }
     }
 }
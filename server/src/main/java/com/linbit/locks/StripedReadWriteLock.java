@@ -0,0 +1,313 @@
+package com.linbit.locks;
+
+import com.linbit.ImplementationError;
+import com.linbit.locks.LockGuardFactory.LockType;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ReadWriteLock for a map of objects that additionally allows locking single entries of the map.
+ *
+ * The entries are not locked individually, instead each entry is mapped to one of a fixed number of
+ * stripes (based on the entry's key), so that entries in different stripes can be modified in parallel.
+ *
+ * <ul>
+ *     <li>{@link #writeLock()} locks the entire map exclusively. This is required for inserting into or
+ *         removing from the map.</li>
+ *     <li>{@link #readLock()} locks the map as well as all stripes in shared mode. This allows iterating over
+ *         the map and reading all of its entries.</li>
+ *     <li>{@link #mapReadLock()} together with {@link #stripeLock(int, LockType)} locks the map in shared mode and
+ *         only the stripe(s) of the entries of interest in the requested mode.</li>
+ * </ul>
+ *
+ * Stripes must always be locked in ascending order of their indices.
+ * A thread holding a stripe lock must not take the {@link #readLock()} afterwards, since that would lock stripes
+ * with a lower index. Just like with {@link ReentrantReadWriteLock}, a read lock can not be upgraded to a write
+ * lock. {@link LockGuardFactory} verifies both rules before taking the locks, see {@link #checkStripeLock},
+ * {@link #checkReadLock()} and {@link #checkWriteLock()}.
+ *
+ * If this lock is created with a stripe count of 0, it behaves exactly like a fair {@link ReentrantReadWriteLock}.
+ */
+public class StripedReadWriteLock implements ReadWriteLock
+{
+    private final ReentrantReadWriteLock mapLock;
+    private final ReentrantReadWriteLock[] stripes;
+    private final Lock readLock;
+
+    public StripedReadWriteLock(int stripeCountRef)
+    {
+        if (stripeCountRef < 0)
+        {
+            throw new IllegalArgumentException("Stripe count must not be negative: " + stripeCountRef);
+        }
+        mapLock = new ReentrantReadWriteLock(true);
+        stripes = new ReentrantReadWriteLock[stripeCountRef];
+        for (int idx = 0; idx < stripeCountRef; ++idx)
+        {
+            stripes[idx] = new ReentrantReadWriteLock(true);
+        }
+        readLock = stripeCountRef == 0 ? mapLock.readLock() : new AllStripesReadLock();
+    }
+
+    public boolean isStriped()
+    {
+        return stripes.length > 0;
+    }
+
+    public int getStripeCount()
+    {
+        return stripes.length;
+    }
+
+    public int getStripeIdx(Object key)
+    {
+        if (stripes.length == 0)
+        {
+            throw new IllegalStateException("Lock is not striped");
+        }
+        return Math.floorMod(key.hashCode(), stripes.length);
+    }
+
+    /**
+     * Returns the read lock of the map only, without locking any stripes.
+     * This lock must only be used in combination with one or more {@link #stripeLock(int, LockType)}.
+     */
+    public Lock mapReadLock()
+    {
+        return mapLock.readLock();
+    }
+
+    public Lock stripeLock(int stripeIdx, LockType lockType)
+    {
+        ReentrantReadWriteLock stripe = stripes[stripeIdx];
+        return lockType == LockType.WRITE ? stripe.writeLock() : stripe.readLock();
+    }
+
+    @Override
+    public Lock readLock()
+    {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock()
+    {
+        return mapLock.writeLock();
+    }
+
+    /**
+     * Throws an {@link ImplementationError} if the current thread can not take the given stripe without risking a
+     * deadlock, that is if it would upgrade its read lock of the stripe or if it already holds a stripe with a
+     * higher index
+     */
+    void checkStripeLock(int stripeIdx, LockType lockType)
+    {
+        ReentrantReadWriteLock stripe = stripes[stripeIdx];
+        if (lockType == LockType.WRITE && isReadLockedOnlyByCurrentThread(stripe))
+        {
+            throw new ImplementationError(
+                "Upgrading the read lock of rscDfn stripe " + stripeIdx + " to a write lock would deadlock"
+            );
+        }
+        if (!isHeldByCurrentThread(stripe))
+        {
+            int highestHeldIdx = getHighestHeldStripeIdx();
+            if (highestHeldIdx > stripeIdx)
+            {
+                throw new ImplementationError(
+                    "rscDfn stripe " + stripeIdx + " must not be locked while holding stripe " + highestHeldIdx
+                );
+            }
+        }
+    }
+
+    /**
+     * Throws an {@link ImplementationError} if the current thread can not take the {@link #readLock()} without risking
+     * a deadlock, that is if it holds a stripe but not all stripes with a lower index
+     */
+    void checkReadLock()
+    {
+        int highestHeldIdx = getHighestHeldStripeIdx();
+        for (int idx = 0; idx < highestHeldIdx; ++idx)
+        {
+            if (!isHeldByCurrentThread(stripes[idx]))
+            {
+                throw new ImplementationError(
+                    "The rscDfnMapLock must not be read-locked while holding rscDfn stripe " + highestHeldIdx
+                );
+            }
+        }
+    }
+
+    /**
+     * Throws an {@link ImplementationError} if the current thread would upgrade its read lock of the map (which is
+     * also held together with any stripe) to a write lock
+     */
+    void checkWriteLock()
+    {
+        if (isReadLockedOnlyByCurrentThread(mapLock))
+        {
+            throw new ImplementationError("Upgrading the rscDfnMapLock from read to write lock would deadlock");
+        }
+    }
+
+    private int getHighestHeldStripeIdx()
+    {
+        int ret = -1;
+        for (int idx = stripes.length - 1; idx >= 0 && ret == -1; --idx)
+        {
+            if (isHeldByCurrentThread(stripes[idx]))
+            {
+                ret = idx;
+            }
+        }
+        return ret;
+    }
+
+    private static boolean isHeldByCurrentThread(ReentrantReadWriteLock lock)
+    {
+        return lock.isWriteLockedByCurrentThread() || lock.getReadHoldCount() > 0;
+    }
+
+    static boolean isReadLockedOnlyByCurrentThread(ReentrantReadWriteLock lock)
+    {
+        return lock.getReadHoldCount() > 0 && !lock.isWriteLockedByCurrentThread();
+    }
+
+    /**
+     * Shared lock on the map and on every stripe.
+     */
+    private class AllStripesReadLock implements Lock
+    {
+        @Override
+        public void lock()
+        {
+            mapLock.readLock().lock();
+            int idx = 0;
+            try
+            {
+                while (idx < stripes.length)
+                {
+                    stripes[idx].readLock().lock();
+                    ++idx;
+                }
+            }
+            catch (RuntimeException exc)
+            {
+                unlockStripes(idx);
+                mapLock.readLock().unlock();
+                throw exc;
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException
+        {
+            mapLock.readLock().lockInterruptibly();
+            int idx = 0;
+            try
+            {
+                while (idx < stripes.length)
+                {
+                    stripes[idx].readLock().lockInterruptibly();
+                    ++idx;
+                }
+            }
+            catch (InterruptedException | RuntimeException exc)
+            {
+                unlockStripes(idx);
+                mapLock.readLock().unlock();
+                throw exc;
+            }
+        }
+
+        @Override
+        public boolean tryLock()
+        {
+            boolean locked = mapLock.readLock().tryLock();
+            if (locked)
+            {
+                int idx = 0;
+                while (locked && idx < stripes.length)
+                {
+                    locked = stripes[idx].readLock().tryLock();
+                    if (locked)
+                    {
+                        ++idx;
+                    }
+                }
+                if (!locked)
+                {
+                    unlockStripes(idx);
+                    mapLock.readLock().unlock();
+                }
+            }
+            return locked;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException
+        {
+            final long deadline = System.nanoTime() + unit.toNanos(time);
+            boolean locked = mapLock.readLock().tryLock(time, unit);
+            if (locked)
+            {
+                int idx = 0;
+                try
+                {
+                    while (locked && idx < stripes.length)
+                    {
+                        locked = stripes[idx].readLock().tryLock(
+                            deadline - System.nanoTime(),
+                            TimeUnit.NANOSECONDS
+                        );
+                        if (locked)
+                        {
+                            ++idx;
+                        }
+                    }
+                }
+                catch (InterruptedException | RuntimeException exc)
+                {
+                    unlockStripes(idx);
+                    mapLock.readLock().unlock();
+                    throw exc;
+                }
+                if (!locked)
+                {
+                    unlockStripes(idx);
+                    mapLock.readLock().unlock();
+                }
+            }
+            return locked;
+        }
+
+        @Override
+        public void unlock()
+        {
+            unlockStripes(stripes.length);
+            mapLock.readLock().unlock();
+        }
+
+        @Override
+        public Condition newCondition()
+        {
+            throw new UnsupportedOperationException("Conditions are not supported by striped read locks");
+        }
+
+        /**
+         * Unlocks the stripes [0, count) in reverse order
+         */
+        private void unlockStripes(int count)
+        {
+            for (int idx = count - 1; idx >= 0; --idx)
+            {
+                stripes[idx].readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.linbit;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BlockingThreadsTest
+{
+    @After
+    public void tearDown()
+    {
+        BlockingThreads.setVirtualThreadsEnabled(false);
+    }
+
+    @Test
+    public void testPlatformThreads() throws Exception
+    {
+        BlockingThreads.setVirtualThreadsEnabled(false);
+
+        Thread thread = BlockingThreads.newDaemonThread(() -> {}, "TestPlatformThread");
+        Assert.assertFalse(thread.isVirtual());
+        Assert.assertTrue(thread.isDaemon());
+        Assert.assertEquals("TestPlatformThread", thread.getName());
+
+        Thread factoryThread = BlockingThreads.daemonThreadFactory("TestFactory-").newThread(() -> {});
+        Assert.assertFalse(factoryThread.isVirtual());
+        Assert.assertEquals("TestFactory-1", factoryThread.getName());
+    }
+
+    @Test
+    public void testVirtualThreads() throws Exception
+    {
+        BlockingThreads.setVirtualThreadsEnabled(true);
+
+        long startedBefore = BlockingThreads.getVirtualThreadsStarted();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread thread = BlockingThreads.newThread(
+            () ->
+            {
+                started.countDown();
+                try
+                {
+                    release.await();
+                }
+                catch (InterruptedException ignored)
+                {
+                }
+            },
+            "TestVirtualThread"
+        );
+        Assert.assertTrue(thread.isVirtual());
+        Assert.assertEquals("TestVirtualThread", thread.getName());
+
+        thread.start();
+        Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+        Assert.assertTrue(BlockingThreads.getVirtualThreadsAlive() >= 1);
+        // other tests might start virtual threads at the same time
+        Assert.assertTrue(BlockingThreads.getVirtualThreadsStarted() > startedBefore);
+
+        release.countDown();
+        Assert.assertTrue(thread.join(Duration.ofSeconds(10)));
+        Assert.assertFalse(thread.isAlive());
+    }
+}
@@ -0,0 +1,103 @@
+package com.linbit.extproc;
+
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.logging.StderrErrorReporter;
+import com.linbit.timer.Action;
+import com.linbit.timer.GenericTimer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the statistics of started external commands and the reuse of the threads reading their output
+ */
+public class ExtCmdStatsTest
+{
+    private static final int CMD_COUNT = 10;
+    private static final int OUTPUT_LENGTH = 4321;
+    private static final int EXIT_CODE = 7;
+
+    GenericTimer<String, Action<String>> intrTimer;
+    ErrorReporter errLog;
+
+    @Before
+    public void setUp()
+    {
+        intrTimer = new GenericTimer<>();
+        intrTimer.start();
+        errLog = new StderrErrorReporter("LINSTOR-UNITTESTS");
+    }
+
+    @After
+    public void tearDown()
+    {
+        intrTimer.shutdown(false);
+    }
+
+    @Test
+    public void testStartedCommandsAreCounted() throws Exception
+    {
+        long startedBefore = ExtCmdStats.getStartedCommands();
+
+        exec("stdout");
+        exec("stderr");
+
+        Assert.assertEquals(startedBefore + 2, ExtCmdStats.getStartedCommands());
+        Assert.assertTrue(ExtCmdStats.getMaxStartNanos() > 0);
+    }
+
+    @Test
+    public void testOutputReadersAreReused() throws Exception
+    {
+        long readersBefore = ExtCmdStats.getOutputReaderThreads();
+
+        for (int idx = 0; idx < CMD_COUNT; ++idx)
+        {
+            exec(idx % 2 == 0 ? "stdout" : "stderr");
+        }
+
+        // without the shared pool, every command would have started a new thread for each of stdout and stderr
+        long readersCreated = ExtCmdStats.getOutputReaderThreads() - readersBefore;
+        Assert.assertTrue(
+            "Created " + readersCreated + " output reader threads for " + CMD_COUNT + " commands",
+            readersCreated < CMD_COUNT * 2
+        );
+    }
+
+    @Test
+    public void testPrintStats() throws Exception
+    {
+        exec("stdout");
+
+        ByteArrayOutputStream outBuffer = new ByteArrayOutputStream();
+        ExtCmdStats.printStats(new PrintStream(outBuffer, true, StandardCharsets.UTF_8));
+        String printed = outBuffer.toString(StandardCharsets.UTF_8);
+
+        Assert.assertTrue(printed.contains("STARTED COMMANDS:"));
+        Assert.assertTrue(printed.contains("MAX. START TIME:"));
+        Assert.assertTrue(printed.contains("OUTPUT READER THREADS:"));
+    }
+
+    private void exec(String outputStream) throws Exception
+    {
+        ExtCmd ec = new ExtCmd(intrTimer, errLog);
+        ExtCmd.OutputData output = ec.exec(
+            "test-support/TestOutput",
+            Integer.toString(EXIT_CODE),
+            Integer.toString(OUTPUT_LENGTH),
+            outputStream,
+            "exit"
+        );
+        Assert.assertEquals(EXIT_CODE, output.exitCode);
+        Assert.assertEquals(
+            OUTPUT_LENGTH,
+            "stdout".equals(outputStream) ? output.stdoutData.length : output.stderrData.length
+        );
+    }
+}
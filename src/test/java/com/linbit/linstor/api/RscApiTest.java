@@ -2,10 +2,15 @@ package com.linbit.linstor.api;
 
 import com.linbit.linstor.InternalApiConsts;
 import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.api.rest.v1.RequestHelper;
 import com.linbit.linstor.api.utils.AbsApiCallTester;
 import com.linbit.linstor.core.ApiTestBase;
+import com.linbit.linstor.core.apicallhandler.controller.CtrlApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.CtrlRscCrtApiCallHandler;
 import com.linbit.linstor.core.apicallhandler.controller.FreeCapacityFetcher;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceList;
+import com.linbit.linstor.core.apicallhandler.controller.helpers.ResourceListPaging;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
 import com.linbit.linstor.core.apis.ResourceApi;
 import com.linbit.linstor.core.apis.ResourceWithPayloadApi;
 import com.linbit.linstor.core.apis.VolumeApi;
@@ -31,7 +36,11 @@ import com.linbit.linstor.storage.kinds.DeviceProviderKind;
 import com.linbit.linstor.utils.externaltools.ExtToolsManager;
 
 import javax.inject.Inject;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,9 +48,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.testing.fieldbinder.Bind;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
@@ -55,6 +68,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 public class RscApiTest extends ApiTestBase
 {
     @Inject private CtrlRscCrtApiCallHandler rscCrtApiCallHandler;
+    @Inject private CtrlApiCallHandler ctrlApiCallHandler;
 
     private NodeName testControllerName;
     private Node.Type testControllerType;
@@ -178,6 +192,134 @@ public class RscApiTest extends ApiTestBase
         );
     }
 
+    @Test
+    public void listRscsPagedTest() throws Exception
+    {
+        createPagingRscs("PagingNodeC", "PagingNodeA", "PagingNodeB");
+
+        // resources are ordered by node name, only the first page is assembled
+        ResourceList firstPage = listPagingRscs(ResourceListPaging.create(null, 0, 2));
+        Assert.assertEquals(List.of("PagingNodeA", "PagingNodeB"), getNodeNames(firstPage));
+
+        // the offset is applied before the limit
+        ResourceList offsetPage = listPagingRscs(ResourceListPaging.create(null, 1, 2));
+        Assert.assertEquals(List.of("PagingNodeB", "PagingNodeC"), getNodeNames(offsetPage));
+
+        // no limit lists all resources, ignoring the offset
+        ResourceList unpaged = listPagingRscs(ResourceListPaging.create(null, 1, 0));
+        Assert.assertEquals(List.of("PagingNodeA", "PagingNodeB", "PagingNodeC"), getNodeNames(unpaged));
+    }
+
+    @Test
+    public void listRscsCursorTest() throws Exception
+    {
+        createPagingRscs("PagingNodeA", "PagingNodeB", "PagingNodeC");
+
+        ResourceList firstPage = listPagingRscs(ResourceListPaging.create(null, 0, 2));
+        String cursor = ResourceListPaging.getCursor(firstPage.getResources().get(1));
+        Assert.assertEquals(testRscName.displayValue + ":PagingNodeB", cursor);
+
+        ResourceList secondPage = listPagingRscs(ResourceListPaging.create(cursor, 0, 2));
+        Assert.assertEquals(List.of("PagingNodeC"), getNodeNames(secondPage));
+
+        // the cursor stays stable if a resource before the cursor is deleted
+        rscDfnMap.get(testRscName).getResource(BOB_ACC_CTX, new NodeName("PagingNodeA")).delete(BOB_ACC_CTX);
+        secondPage = listPagingRscs(ResourceListPaging.create(cursor, 0, 2));
+        Assert.assertEquals(List.of("PagingNodeC"), getNodeNames(secondPage));
+    }
+
+    @Test
+    public void invalidCursorTest()
+    {
+        for (String cursor : List.of("NoSeparator", "Invalid Rsc:PagingNodeA", "TestRsc:Invalid Node"))
+        {
+            try
+            {
+                ResourceListPaging.create(cursor, 0, 1);
+                Assert.fail("Cursor '" + cursor + "' was accepted");
+            }
+            catch (ApiRcException exc)
+            {
+                Assert.assertEquals(
+                    ResourceListPaging.FAIL_INVLD_CURSOR,
+                    exc.getApiCallRc().get(0).getReturnCode()
+                );
+            }
+        }
+    }
+
+    @Test
+    public void streamRscListTest() throws Exception
+    {
+        createPagingRscs("PagingNodeA", "PagingNodeB", "PagingNodeC");
+
+        ResourceListPaging fullPaging = ResourceListPaging.create(null, 0, 2);
+        Response fullPage = RequestHelper.resourceListResponse(
+            new ObjectMapper(),
+            listPagingRscs(fullPaging),
+            fullPaging,
+            ResourceApi::getNodeName
+        );
+        Assert.assertEquals("[\"PagingNodeA\",\"PagingNodeB\"]", writeEntity(fullPage));
+        Assert.assertEquals(
+            testRscName.displayValue + ":PagingNodeB",
+            fullPage.getHeaderString(RequestHelper.HEADER_NEXT_CURSOR)
+        );
+
+        // the last page is not full, so there is no next cursor
+        ResourceListPaging lastPaging = ResourceListPaging.create(null, 2, 2);
+        Response lastPage = RequestHelper.resourceListResponse(
+            new ObjectMapper(),
+            listPagingRscs(lastPaging),
+            lastPaging,
+            ResourceApi::getNodeName
+        );
+        Assert.assertEquals("[\"PagingNodeC\"]", writeEntity(lastPage));
+        Assert.assertNull(lastPage.getHeaderString(RequestHelper.HEADER_NEXT_CURSOR));
+    }
+
+    private void createPagingRscs(String... nodeNames) throws Exception
+    {
+        for (String nodeNameStr : nodeNames)
+        {
+            NodeName nodeName = new NodeName(nodeNameStr);
+            Node node = nodeFactory.create(BOB_ACC_CTX, nodeName, Node.Type.SATELLITE, null);
+            nodesMap.put(nodeName, node);
+            resourceFactory.create(
+                BOB_ACC_CTX,
+                testRscDfn,
+                node,
+                null,
+                null,
+                Collections.singletonList(DeviceLayerKind.STORAGE)
+            );
+        }
+        Mockito.when(mockSatellite.getSatelliteStateLock()).thenReturn(new ReentrantReadWriteLock());
+    }
+
+    private ResourceList listPagingRscs(ResourceListPaging paging)
+    {
+        // only the resources on the paging nodes
+        ResourceList rscList = ctrlApiCallHandler.listResource(testRscName.displayValue, new ArrayList<>(), paging);
+        for (ResourceApi rscApi : rscList.getResources())
+        {
+            Assert.assertTrue(rscApi.getNodeName().startsWith("PagingNode"));
+        }
+        return rscList;
+    }
+
+    private static List<String> getNodeNames(ResourceList rscList)
+    {
+        return rscList.getResources().stream().map(ResourceApi::getNodeName).collect(Collectors.toList());
+    }
+
+    private static String writeEntity(Response response) throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((StreamingOutput) response.getEntity()).write(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
     private class CrtRscCall extends AbsApiCallTester
     {
         private String nodeName;
@@ -0,0 +1,195 @@
+package com.linbit.linstor.core.apicallhandler.controller;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.core.repository.ResourceDefinitionRepository;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.locks.LockGuardFactory;
+import com.linbit.locks.StripedReadWriteLock;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CtrlVlmAllocatedUpdaterTest
+{
+    private static final long SIZE = 1024;
+
+    private AccessContext sysCtx;
+    private ReentrantReadWriteLock rscDfnMapLock;
+    private ResourceDefinitionRepository rscDfnRepo;
+    private CtrlTransactionHelper ctrlTransactionHelper;
+    private CtrlVlmAllocatedUpdater updater;
+
+    private NodeName nodeName;
+    private VolumeNumber vlmNr;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        sysCtx = mock(AccessContext.class);
+        rscDfnMapLock = new ReentrantReadWriteLock();
+        rscDfnRepo = mock(ResourceDefinitionRepository.class);
+        ctrlTransactionHelper = mock(CtrlTransactionHelper.class);
+        updater = createUpdater(rscDfnMapLock);
+
+        nodeName = new NodeName("node1");
+        vlmNr = new VolumeNumber(0);
+    }
+
+    @Test
+    public void testUpdatesChangedSizes() throws Exception
+    {
+        Volume vlm1 = mockVolume("rsc1", SIZE);
+        Volume vlm2 = mockVolume("rsc2", null);
+
+        updater.updateAllocatedSizes(
+            Map.of(
+                vlmKey("rsc1"), SIZE + 1,
+                vlmKey("rsc2"), SIZE
+            )
+        );
+
+        verify(vlm1).setAllocatedSize(sysCtx, SIZE + 1);
+        verify(vlm2).setAllocatedSize(sysCtx, SIZE);
+        // without stripes, all resource definitions are committed at once
+        verify(ctrlTransactionHelper, times(1)).commit();
+        Assert.assertFalse(rscDfnMapLock.isWriteLocked());
+    }
+
+    @Test
+    public void testSkipsUnchangedSizes() throws Exception
+    {
+        Volume vlm = mockVolume("rsc1", SIZE);
+
+        updater.updateAllocatedSizes(Map.of(vlmKey("rsc1"), SIZE));
+
+        verify(vlm, never()).setAllocatedSize(sysCtx, SIZE);
+        verify(ctrlTransactionHelper, never()).commit();
+    }
+
+    @Test
+    public void testSkipsUnknownObjects() throws Exception
+    {
+        ResourceDefinition rscDfn = mock(ResourceDefinition.class);
+        when(rscDfnRepo.get(sysCtx, new ResourceName("rsc2"))).thenReturn(rscDfn);
+        // rsc1 has no resource definition, rsc2 has no resource on the node
+
+        Map<Volume.Key, Long> allocations = new HashMap<>();
+        allocations.put(vlmKey("rsc1"), SIZE);
+        allocations.put(vlmKey("rsc2"), SIZE);
+        updater.updateAllocatedSizes(allocations);
+
+        verify(ctrlTransactionHelper, never()).commit();
+    }
+
+    @Test
+    public void testLocksResourceDefinitionWhileUpdating() throws Exception
+    {
+        Volume vlm = mockVolume("rsc1", SIZE);
+        boolean[] lockedDuringUpdate = new boolean[1];
+        doAnswer(
+            ignored ->
+            {
+                lockedDuringUpdate[0] = rscDfnMapLock.isWriteLockedByCurrentThread();
+                return null;
+            }
+        ).when(vlm).setAllocatedSize(sysCtx, SIZE + 1);
+
+        updater.updateAllocatedSizes(Map.of(vlmKey("rsc1"), SIZE + 1));
+
+        Assert.assertTrue(lockedDuringUpdate[0]);
+        verify(vlm, times(1)).setAllocatedSize(eq(sysCtx), anyLong());
+    }
+
+    @Test
+    public void testCommitsOncePerStripe() throws Exception
+    {
+        StripedReadWriteLock stripedLock = new StripedReadWriteLock(2);
+        updater = createUpdater(stripedLock);
+
+        // find a resource name that is guarded by the other stripe than rsc1
+        int rsc1StripeIdx = stripedLock.getStripeIdx(new ResourceName("rsc1"));
+        int idx = 2;
+        while (stripedLock.getStripeIdx(new ResourceName("rsc" + idx)) == rsc1StripeIdx)
+        {
+            ++idx;
+        }
+        ResourceName otherStripeRscName = new ResourceName("rsc" + idx);
+        Volume vlm1 = mockVolume("rsc1", SIZE);
+        Volume vlm2 = mockVolume(otherStripeRscName.displayValue, SIZE);
+
+        updater.updateAllocatedSizes(
+            Map.of(
+                vlmKey("rsc1"), SIZE + 1,
+                vlmKey(otherStripeRscName.displayValue), SIZE + 1
+            )
+        );
+
+        verify(vlm1).setAllocatedSize(sysCtx, SIZE + 1);
+        verify(vlm2).setAllocatedSize(sysCtx, SIZE + 1);
+        verify(ctrlTransactionHelper, times(2)).commit();
+        // all stripes and the map lock are released again
+        Assert.assertTrue(stripedLock.writeLock().tryLock());
+        stripedLock.writeLock().unlock();
+    }
+
+    private CtrlVlmAllocatedUpdater createUpdater(ReadWriteLock rscDfnMapLockRef)
+    {
+        LockGuardFactory lockGuardFactory = new LockGuardFactory(
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            rscDfnMapLockRef,
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock(),
+            new ReentrantReadWriteLock()
+        );
+        return new CtrlVlmAllocatedUpdater(sysCtx, lockGuardFactory, rscDfnRepo, ctrlTransactionHelper);
+    }
+
+    private Volume.Key vlmKey(String rscNameStr) throws Exception
+    {
+        return new Volume.Key(nodeName, new ResourceName(rscNameStr), vlmNr);
+    }
+
+    private Volume mockVolume(String rscNameStr, @Nullable Long allocatedSize) throws Exception
+    {
+        ResourceName rscName = new ResourceName(rscNameStr);
+        ResourceDefinition rscDfn = mock(ResourceDefinition.class);
+        Resource rsc = mock(Resource.class);
+        Volume vlm = mock(Volume.class);
+        when(rscDfnRepo.get(sysCtx, rscName)).thenReturn(rscDfn);
+        when(rscDfn.getResource(sysCtx, nodeName)).thenReturn(rsc);
+        when(rsc.getVolume(vlmNr)).thenReturn(vlm);
+        when(vlm.isAllocatedSizeSet(sysCtx)).thenReturn(allocatedSize != null);
+        if (allocatedSize != null)
+        {
+            when(vlm.getAllocatedSize(sysCtx)).thenReturn(allocatedSize);
+        }
+        return vlm;
+    }
+}
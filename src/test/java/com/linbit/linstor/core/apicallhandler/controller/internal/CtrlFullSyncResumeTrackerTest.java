@@ -0,0 +1,98 @@
+package com.linbit.linstor.core.apicallhandler.controller.internal;
+
+import com.linbit.linstor.core.CtrlSecurityObjects;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.objects.Node;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.netcom.Peer;
+import com.linbit.linstor.transaction.manager.TransactionCommitTracker;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class CtrlFullSyncResumeTrackerTest
+{
+    private static final long FULL_SYNC_ID = 7;
+    private static final long UPDATE_COUNT = 3;
+
+    private TransactionCommitTracker commitTracker;
+    private Node node;
+    private Peer peer;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        commitTracker = new TransactionCommitTracker();
+
+        node = Mockito.mock(Node.class);
+        Mockito.when(node.getName()).thenReturn(new NodeName("TestNode"));
+
+        peer = Mockito.mock(Peer.class);
+        Mockito.when(peer.getNode()).thenReturn(node);
+        Mockito.when(peer.isFullSyncApplied()).thenReturn(true);
+        Mockito.when(peer.getFullSyncId()).thenReturn(FULL_SYNC_ID);
+        Mockito.when(peer.peekNextSerializerId()).thenReturn(UPDATE_COUNT);
+    }
+
+    @Test
+    public void resumeIfNothingChangedTest()
+    {
+        CtrlFullSyncResumeTracker tracker = createTracker(true);
+        tracker.connectionClosed(peer, false);
+        Assert.assertTrue(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT));
+        // the record is consumed by the first check
+        Assert.assertFalse(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT));
+    }
+
+    @Test
+    public void noResumeIfDisabledTest()
+    {
+        CtrlFullSyncResumeTracker tracker = createTracker(false);
+        tracker.connectionClosed(peer, false);
+        Assert.assertFalse(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT));
+    }
+
+    @Test
+    public void noResumeAfterCommitTest()
+    {
+        CtrlFullSyncResumeTracker tracker = createTracker(true);
+        tracker.connectionClosed(peer, false);
+        commitTracker.changesCommitted();
+        Assert.assertFalse(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT));
+    }
+
+    @Test
+    public void noResumeIfUpdatesMissingTest()
+    {
+        CtrlFullSyncResumeTracker tracker = createTracker(true);
+        tracker.connectionClosed(peer, false);
+        Assert.assertFalse(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT - 1));
+    }
+
+    @Test
+    public void noResumeWithActiveLocksOrLostRpcsTest()
+    {
+        CtrlFullSyncResumeTracker tracker = createTracker(true);
+        tracker.connectionClosed(peer, true);
+        Assert.assertFalse(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT));
+
+        Mockito.when(peer.hasLostOpenRpcs()).thenReturn(true);
+        tracker.connectionClosed(peer, false);
+        Assert.assertFalse(tracker.canResume(node, FULL_SYNC_ID, UPDATE_COUNT));
+    }
+
+    private CtrlFullSyncResumeTracker createTracker(boolean enabled)
+    {
+        CtrlConfig ctrlCfg = new CtrlConfig(null);
+        ctrlCfg.setSyncResumeOnReconnect(enabled);
+        return new CtrlFullSyncResumeTracker(
+            Mockito.mock(ErrorReporter.class),
+            commitTracker,
+            new CtrlSecurityObjects(),
+            ctrlCfg
+        );
+    }
+}
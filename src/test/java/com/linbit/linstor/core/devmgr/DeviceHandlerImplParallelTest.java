@@ -0,0 +1,232 @@
+package com.linbit.linstor.core.devmgr;
+
+import com.linbit.GuiceConfigModule;
+import com.linbit.WorkerPool;
+import com.linbit.linstor.InternalApiConsts;
+import com.linbit.linstor.api.LinStorScope;
+import com.linbit.linstor.core.CoreModule;
+import com.linbit.linstor.core.identifier.ResourceGroupName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.objects.ResourceDefinition;
+import com.linbit.linstor.core.objects.ResourceDefinitionSatelliteFactory;
+import com.linbit.linstor.core.objects.ResourceGroup;
+import com.linbit.linstor.core.objects.ResourceGroupSatelliteFactory;
+import com.linbit.linstor.dbdrivers.SatelliteDbModule;
+import com.linbit.linstor.layer.DeviceLayer.NotificationListener;
+import com.linbit.linstor.logging.LoggingModule;
+import com.linbit.linstor.logging.StdErrorReporter;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.DummySecurityInitializer;
+import com.linbit.linstor.security.TestApiModule;
+import com.linbit.linstor.security.TestSecurityModule;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgr;
+import com.linbit.linstor.transaction.manager.SatelliteTransactionMgrModule;
+import com.linbit.linstor.transaction.manager.TransactionMgr;
+
+import javax.inject.Inject;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.OutOfScopeException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Runs the tasks of a device manager run on more than one worker thread, just like
+ * {@link DeviceHandlerImpl#processResourcesParallel}, and checks that the workers can modify their objects within
+ * the shared transaction of the device manager run.
+ */
+public class DeviceHandlerImplParallelTest
+{
+    private static final AccessContext SYS_CTX = DummySecurityInitializer.getSystemAccessContext();
+    private static final int WORKER_COUNT = 4;
+    private static final int RSC_DFN_COUNT = 32;
+    private static final int PROPS_PER_TASK = 16;
+
+    @Inject
+    private ResourceDefinitionSatelliteFactory resourceDefinitionFactory;
+    @Inject
+    private ResourceGroupSatelliteFactory resourceGroupFactory;
+    @Inject
+    private LinStorScope devMgrScope;
+
+    private StdErrorReporter errorReporter;
+    private SatelliteTransactionMgr transMgr;
+    private WorkerPool workerPool;
+    private List<ResourceDefinition> rscDfnList;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        errorReporter = new StdErrorReporter("TESTS", Paths.get("build/test-logs"), true, "", null, null, () -> null);
+        Injector injector = Guice.createInjector(
+            new GuiceConfigModule(),
+            new LoggingModule(errorReporter),
+            new TestSecurityModule(SYS_CTX),
+            new CoreModule(),
+            new SatelliteDbModule(),
+            new SatelliteTransactionMgrModule(),
+            new TestApiModule()
+        );
+        injector.injectMembers(this);
+        transMgr = new SatelliteTransactionMgr();
+
+        rscDfnList = new ArrayList<>();
+        try (LinStorScope.ScopeAutoCloseable ignored = devMgrScope.enter())
+        {
+            devMgrScope.seed(TransactionMgr.class, transMgr);
+            ResourceGroup rscGrp = resourceGroupFactory.getInstanceSatellite(
+                UUID.randomUUID(),
+                new ResourceGroupName(InternalApiConsts.DEFAULT_RSC_GRP_NAME),
+                "",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+            );
+            for (int idx = 0; idx < RSC_DFN_COUNT; ++idx)
+            {
+                rscDfnList.add(
+                    resourceDefinitionFactory.getInstanceSatellite(
+                        SYS_CTX,
+                        UUID.randomUUID(),
+                        rscGrp,
+                        new ResourceName("TestRsc" + idx),
+                        null
+                    )
+                );
+            }
+            transMgr.commit();
+        }
+
+        workerPool = WorkerPool.initialize(
+            WORKER_COUNT,
+            WORKER_COUNT * RSC_DFN_COUNT,
+            true,
+            "TestDevMgrRscWorker",
+            errorReporter,
+            null
+        );
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        workerPool.shutdown();
+        errorReporter.shutdown();
+    }
+
+    @Test
+    public void testWorkersShareTransaction() throws Exception
+    {
+        NotificationListener notificationListener = Mockito.mock(NotificationListener.class);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        Queue<String> workerNames = new ConcurrentLinkedQueue<>();
+        CountDownLatch allStarted = new CountDownLatch(WORKER_COUNT);
+        CountDownLatch done = new CountDownLatch(RSC_DFN_COUNT);
+
+        for (ResourceDefinition rscDfn : rscDfnList)
+        {
+            workerPool.submit(
+                DeviceHandlerImpl.inDeviceMgrScope(
+                    devMgrScope,
+                    transMgr,
+                    notificationListener,
+                    () ->
+                    {
+                        try
+                        {
+                            // make sure that the workers actually run at the same time
+                            allStarted.countDown();
+                            allStarted.await(10, TimeUnit.SECONDS);
+
+                            workerNames.add(Thread.currentThread().getName());
+                            Assert.assertTrue(devMgrScope.isSeeded(Key.get(TransactionMgr.class)));
+                            for (int propIdx = 0; propIdx < PROPS_PER_TASK; ++propIdx)
+                            {
+                                rscDfn.getProps(SYS_CTX).setProp("test/key" + propIdx, "value" + propIdx);
+                            }
+                        }
+                        catch (Throwable exc)
+                        {
+                            failures.add(exc);
+                        }
+                        finally
+                        {
+                            done.countDown();
+                        }
+                    }
+                )
+            );
+        }
+        Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+        workerPool.finish();
+
+        Assert.assertTrue("unexpected failures: " + failures, failures.isEmpty());
+        Assert.assertTrue(workerNames.stream().distinct().count() > 1);
+        Assert.assertTrue(transMgr.isDirty());
+        Assert.assertTrue(transMgr.sizeObjects() >= RSC_DFN_COUNT);
+
+        transMgr.commit();
+        Assert.assertFalse(transMgr.isDirty());
+        Assert.assertEquals(0, transMgr.sizeObjects());
+        for (ResourceDefinition rscDfn : rscDfnList)
+        {
+            Assert.assertEquals(
+                "value" + (PROPS_PER_TASK - 1),
+                rscDfn.getProps(SYS_CTX).getProp("test/key" + (PROPS_PER_TASK - 1))
+            );
+        }
+    }
+
+    @Test
+    public void testWorkerWithoutScope() throws Exception
+    {
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(1);
+        ResourceDefinition rscDfn = rscDfnList.get(0);
+        workerPool.submit(
+            () ->
+            {
+                try
+                {
+                    rscDfn.getProps(SYS_CTX).setProp("test/key", "value");
+                }
+                catch (Throwable exc)
+                {
+                    failures.add(exc);
+                }
+                finally
+                {
+                    done.countDown();
+                }
+            }
+        );
+        Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+        Assert.assertEquals(1, failures.size());
+        Assert.assertTrue(failures.peek() instanceof OutOfScopeException);
+    }
+}
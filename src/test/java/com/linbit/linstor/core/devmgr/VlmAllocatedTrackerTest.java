@@ -0,0 +1,138 @@
+package com.linbit.linstor.core.devmgr;
+
+import com.linbit.linstor.api.ApiCallRcImpl;
+import com.linbit.linstor.api.ApiConsts;
+import com.linbit.linstor.core.apicallhandler.response.ApiRcException;
+import com.linbit.linstor.core.identifier.NodeName;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.utils.Either;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VlmAllocatedTrackerTest
+{
+    private static final long SIZE_1 = 1024;
+    private static final long SIZE_2 = 2048;
+
+    private VlmAllocatedTracker tracker;
+    private ResourceName rscName1;
+    private ResourceName rscName2;
+    private Volume.Key vlmKey1;
+    private Volume.Key vlmKey2;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        tracker = new VlmAllocatedTracker();
+        NodeName nodeName = new NodeName("node1");
+        rscName1 = new ResourceName("rsc1");
+        rscName2 = new ResourceName("rsc2");
+        vlmKey1 = new Volume.Key(nodeName, rscName1, new VolumeNumber(0));
+        vlmKey2 = new Volume.Key(nodeName, rscName2, new VolumeNumber(0));
+    }
+
+    @Test
+    public void testUnreportedAllocationsAreChanged()
+    {
+        Map<Volume.Key, Long> changed = tracker.getChangedAllocations(
+            Set.of(rscName1, rscName2),
+            allocations(vlmKey1, SIZE_1, vlmKey2, SIZE_2)
+        );
+        Assert.assertEquals(Map.of(vlmKey1, SIZE_1, vlmKey2, SIZE_2), changed);
+    }
+
+    @Test
+    public void testReportedAllocationsAreSkipped()
+    {
+        tracker.reported(Map.of(vlmKey1, SIZE_1, vlmKey2, SIZE_2));
+
+        Map<Volume.Key, Long> changed = tracker.getChangedAllocations(
+            Set.of(rscName1, rscName2),
+            allocations(vlmKey1, SIZE_1, vlmKey2, SIZE_2 + 1)
+        );
+        Assert.assertEquals(Map.of(vlmKey2, SIZE_2 + 1), changed);
+    }
+
+    @Test
+    public void testUnsentAllocationsAreReportedAgain()
+    {
+        Map<Volume.Key, Long> changed = tracker.getChangedAllocations(
+            Set.of(rscName1),
+            allocations(vlmKey1, SIZE_1)
+        );
+        // not calling reported, for example because the controller was offline
+
+        Assert.assertEquals(changed, tracker.getChangedAllocations(Set.of(rscName1), allocations(vlmKey1, SIZE_1)));
+    }
+
+    @Test
+    public void testFailedAllocationsAreSkipped()
+    {
+        tracker.reported(Map.of(vlmKey1, SIZE_1));
+
+        Map<Volume.Key, Either<Long, ApiRcException>> current = new HashMap<>();
+        current.put(
+            vlmKey1,
+            Either.right(
+                new ApiRcException(ApiCallRcImpl.simpleEntry(ApiConsts.FAIL_UNKNOWN_ERROR, "query failed"))
+            )
+        );
+        Assert.assertTrue(tracker.getChangedAllocations(Set.of(rscName1), current).isEmpty());
+
+        // the failed query must not make the tracker forget the reported size
+        Assert.assertTrue(tracker.getChangedAllocations(Set.of(rscName1), allocations(vlmKey1, SIZE_1)).isEmpty());
+    }
+
+    @Test
+    public void testVanishedVolumesAreForgotten()
+    {
+        tracker.reported(Map.of(vlmKey1, SIZE_1, vlmKey2, SIZE_2));
+
+        // rsc1 was processed but its volume no longer exists, rsc2 was not processed at all
+        Assert.assertTrue(tracker.getChangedAllocations(Set.of(rscName1), Collections.emptyMap()).isEmpty());
+
+        Map<Volume.Key, Long> changed = tracker.getChangedAllocations(
+            Set.of(rscName1, rscName2),
+            allocations(vlmKey1, SIZE_1, vlmKey2, SIZE_2)
+        );
+        Assert.assertEquals(Map.of(vlmKey1, SIZE_1), changed);
+    }
+
+    @Test
+    public void testClear()
+    {
+        tracker.reported(Map.of(vlmKey1, SIZE_1));
+        tracker.clear();
+
+        Map<Volume.Key, Long> changed = tracker.getChangedAllocations(Set.of(rscName1), allocations(vlmKey1, SIZE_1));
+        Assert.assertEquals(Map.of(vlmKey1, SIZE_1), changed);
+    }
+
+    private static Map<Volume.Key, Either<Long, ApiRcException>> allocations(Volume.Key vlmKey, long size)
+    {
+        Map<Volume.Key, Either<Long, ApiRcException>> ret = new HashMap<>();
+        ret.put(vlmKey, Either.left(size));
+        return ret;
+    }
+
+    private static Map<Volume.Key, Either<Long, ApiRcException>> allocations(
+        Volume.Key vlmKey1Ref,
+        long size1,
+        Volume.Key vlmKey2Ref,
+        long size2
+    )
+    {
+        Map<Volume.Key, Either<Long, ApiRcException>> ret = allocations(vlmKey1Ref, size1);
+        ret.put(vlmKey2Ref, Either.left(size2));
+        return ret;
+    }
+}
@@ -0,0 +1,352 @@
+package com.linbit.linstor.dbdrivers.sql;
+
+import com.linbit.linstor.core.apicallhandler.controller.db.DbExportPojoData;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.dbcp.DbConnectionPool;
+import com.linbit.linstor.dbdrivers.DatabaseException;
+import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
+import com.linbit.linstor.dbdrivers.DbEngine.DataToString;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.PropsContainers;
+import com.linbit.linstor.dbdrivers.interfaces.updater.SingleColumnDatabaseDriver;
+import com.linbit.linstor.dbdrivers.k8s.crd.GenCrdCurrent;
+import com.linbit.linstor.dbdrivers.k8s.crd.LinstorSpec;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.security.AccessDeniedException;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.transaction.TransactionException;
+import com.linbit.linstor.transaction.manager.ControllerSQLTransactionMgr;
+import com.linbit.utils.ExceptionThrowingFunction;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SQLEngineBatchTest
+{
+    /** Larger than the batch size of {@link com.linbit.linstor.transaction.manager.SQLStatementBatch} */
+    private static final int MANY_ROWS = 2500;
+
+    private static final Map<Column, ExceptionThrowingFunction<Prop, Object, AccessDeniedException>> SETTERS = Map.of(
+        PropsContainers.PROPS_INSTANCE, Prop::instance,
+        PropsContainers.PROP_KEY, Prop::key,
+        PropsContainers.PROP_VALUE, Prop::value
+    );
+    private static final DataToString<Prop> PROP_TO_STRING = Prop::toString;
+
+    private ErrorReporter errorReporter;
+    private String dbUrl;
+    private Connection adminCon;
+    private DbConnectionPool dbConnPool;
+    private ControllerSQLTransactionMgr transMgr;
+    private SQLEngine engine;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        errorReporter = new EmptyErrorReporter();
+        dbUrl = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        adminCon = DriverManager.getConnection(dbUrl);
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute("CREATE SCHEMA LINSTOR");
+            stmt.execute(
+                "CREATE TABLE LINSTOR.PROPS_CONTAINERS (PROPS_INSTANCE VARCHAR(512) NOT NULL, " +
+                    "PROP_KEY VARCHAR(512) NOT NULL, PROP_VALUE VARCHAR(4096) NOT NULL, " +
+                    "PRIMARY KEY (PROPS_INSTANCE, PROP_KEY))"
+            );
+            stmt.execute("INSERT INTO LINSTOR.PROPS_CONTAINERS VALUES ('/CTRLCONF', 'TestKey', 'TestValue')");
+        }
+
+        CtrlConfig ctrlCfg = new CtrlConfig(null);
+        dbConnPool = new DbConnectionPool(ctrlCfg, errorReporter);
+        dbConnPool.initializeDataSource(dbUrl);
+
+        transMgr = new ControllerSQLTransactionMgr(dbConnPool);
+        engine = new SQLEngine(errorReporter, () -> transMgr, ctrlCfg, dbConnPool);
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        transMgr.rollback();
+        transMgr.returnConnection();
+        dbConnPool.shutdown(false);
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute("SHUTDOWN");
+        }
+        adminCon.close();
+    }
+
+    @Test
+    public void testInsertUpdateDeleteKeepOrder() throws Exception
+    {
+        Prop propA = new Prop("/TEST", "A", "a");
+        Prop propB = new Prop("/TEST", "B", "b");
+        Prop propC = new Prop("/TEST", "C", "c");
+        engine.create(SETTERS, propA, GeneratedDatabaseTables.PROPS_CONTAINERS, PROP_TO_STRING);
+        engine.create(SETTERS, propB, GeneratedDatabaseTables.PROPS_CONTAINERS, PROP_TO_STRING);
+        engine.create(SETTERS, propC, GeneratedDatabaseTables.PROPS_CONTAINERS, PROP_TO_STRING);
+
+        valueDriver().update(new Prop("/TEST", "B", "newB"), "b");
+        engine.delete(SETTERS, propC, GeneratedDatabaseTables.PROPS_CONTAINERS, PROP_TO_STRING);
+        // only succeeds if the delete was executed before
+        engine.create(
+            SETTERS,
+            new Prop("/TEST", "C", "newC"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        engine.delete(SETTERS, propA, GeneratedDatabaseTables.PROPS_CONTAINERS, PROP_TO_STRING);
+
+        Map<String, String> expected = new TreeMap<>();
+        expected.put("/CTRLCONF:TestKey", "TestValue");
+        expected.put("/TEST:B", "newB");
+        expected.put("/TEST:C", "newC");
+
+        // reading through the engine executes all pending statements within the transaction
+        Assert.assertEquals(expected, exportedProps());
+        Assert.assertEquals(1, countRows(adminCon));
+
+        transMgr.commit();
+        Assert.assertEquals(expected, dbProps(adminCon));
+    }
+
+    @Test
+    public void testManyInserts() throws Exception
+    {
+        for (int idx = 0; idx < MANY_ROWS; ++idx)
+        {
+            engine.create(
+                SETTERS,
+                new Prop("/TEST", "Key" + idx, "Value" + idx),
+                GeneratedDatabaseTables.PROPS_CONTAINERS,
+                PROP_TO_STRING
+            );
+        }
+        transMgr.commit();
+
+        Map<String, String> props = dbProps(adminCon);
+        Assert.assertEquals(MANY_ROWS + 1, props.size());
+        Assert.assertEquals("Value" + (MANY_ROWS - 1), props.get("/TEST:Key" + (MANY_ROWS - 1)));
+    }
+
+    @Test
+    public void testNativeUpsert() throws Exception
+    {
+        engine.upsert(
+            SETTERS,
+            new Prop("/CTRLCONF", "TestKey", "UpdatedValue"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        engine.upsert(
+            SETTERS,
+            new Prop("/CTRLCONF", "NewKey", "NewValue"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        // the second upsert of the same entry within the same batch has to win
+        engine.upsert(
+            SETTERS,
+            new Prop("/CTRLCONF", "NewKey", "NewerValue"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        transMgr.commit();
+
+        Map<String, String> expected = new TreeMap<>();
+        expected.put("/CTRLCONF:TestKey", "UpdatedValue");
+        expected.put("/CTRLCONF:NewKey", "NewerValue");
+        Assert.assertEquals(expected, dbProps(adminCon));
+    }
+
+    @Test
+    public void testFailureSurfacesAtCommit() throws Exception
+    {
+        // duplicate primary key
+        engine.create(
+            SETTERS,
+            new Prop("/CTRLCONF", "TestKey", "OtherValue"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        // neither the next write (that executes the failed batch) nor reads must fail
+        engine.delete(
+            SETTERS,
+            new Prop("/OTHER", "Key", "Value"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        exportedProps();
+        transMgr.getConnection();
+
+        try
+        {
+            transMgr.commit();
+            Assert.fail("Commit with a failed batched statement succeeded");
+        }
+        catch (TransactionException expected)
+        {
+            Assert.assertTrue(expected.getCause() instanceof DatabaseException);
+        }
+        transMgr.rollback();
+
+        // the failure does not leak into the next transaction
+        engine.create(
+            SETTERS,
+            new Prop("/TEST", "Key", "Value"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        transMgr.commit();
+        Assert.assertEquals(2, countRows(adminCon));
+        Assert.assertEquals("TestValue", dbProps(adminCon).get("/CTRLCONF:TestKey"));
+    }
+
+    @Test
+    public void testFailureInFullBatchSurfacesAtCommit() throws Exception
+    {
+        engine.create(
+            SETTERS,
+            new Prop("/CTRLCONF", "TestKey", "OtherValue"),
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            PROP_TO_STRING
+        );
+        // the failed statement is executed when the batch is full, long before the commit
+        for (int idx = 0; idx < MANY_ROWS; ++idx)
+        {
+            engine.create(
+                SETTERS,
+                new Prop("/TEST", "Key" + idx, "Value" + idx),
+                GeneratedDatabaseTables.PROPS_CONTAINERS,
+                PROP_TO_STRING
+            );
+        }
+
+        try
+        {
+            transMgr.commit();
+            Assert.fail("Commit with a failed batched statement succeeded");
+        }
+        catch (TransactionException expected)
+        {
+            Assert.assertTrue(expected.getCause() instanceof DatabaseException);
+        }
+        transMgr.rollback();
+        Assert.assertEquals(1, countRows(adminCon));
+    }
+
+    @Test
+    public void testImportData() throws Exception
+    {
+        List<LinstorSpec<?, ?>> specs = new ArrayList<>();
+        for (int idx = 0; idx < MANY_ROWS; ++idx)
+        {
+            specs.add(new GenCrdCurrent.PropsContainersSpec("/IMPORT", "Key" + idx, "Value" + idx));
+        }
+        engine.importData(importTable(specs));
+        transMgr.commit();
+
+        Map<String, String> props = dbProps(adminCon);
+        Assert.assertEquals(MANY_ROWS + 1, props.size());
+        Assert.assertEquals("Value" + (MANY_ROWS - 1), props.get("/IMPORT:Key" + (MANY_ROWS - 1)));
+    }
+
+    @Test
+    public void testImportDataFailureNamesTable() throws Exception
+    {
+        List<LinstorSpec<?, ?>> specs = new ArrayList<>();
+        for (int idx = 0; idx < MANY_ROWS; ++idx)
+        {
+            specs.add(new GenCrdCurrent.PropsContainersSpec("/IMPORT", "Key" + idx, "Value" + idx));
+        }
+        // duplicate within the second chunk
+        specs.add(new GenCrdCurrent.PropsContainersSpec("/IMPORT", "Key1500", "Duplicate"));
+
+        try
+        {
+            engine.importData(importTable(specs));
+            Assert.fail("Import of a duplicate entry succeeded");
+        }
+        catch (DatabaseException expected)
+        {
+            Assert.assertTrue(expected.getMessage().contains(GeneratedDatabaseTables.PROPS_CONTAINERS.getName()));
+        }
+    }
+
+    private SingleColumnDatabaseDriver<Prop, String> valueDriver()
+    {
+        return engine.generateSingleColumnDriver(
+            SETTERS,
+            PropsContainers.PROP_VALUE,
+            Function.identity(),
+            PROP_TO_STRING,
+            Prop::value,
+            str -> str
+        );
+    }
+
+    private DbExportPojoData.Table importTable(List<LinstorSpec<?, ?>> specs)
+    {
+        List<DbExportPojoData.Column> columns = new ArrayList<>();
+        for (Column col : GeneratedDatabaseTables.PROPS_CONTAINERS.values())
+        {
+            columns.add(new DbExportPojoData.Column(col.getName(), col.getSqlType(), col.isPk(), col.isNullable()));
+        }
+        return new DbExportPojoData.Table(GeneratedDatabaseTables.PROPS_CONTAINERS.getName(), columns, specs, null);
+    }
+
+    private Map<String, String> exportedProps() throws Exception
+    {
+        Map<String, String> ret = new TreeMap<>();
+        engine.export(GeneratedDatabaseTables.PROPS_CONTAINERS).forEach(
+            rawParams -> ret.put(
+                rawParams.get(PropsContainers.PROPS_INSTANCE) + ":" + rawParams.get(PropsContainers.PROP_KEY),
+                rawParams.get(PropsContainers.PROP_VALUE)
+            )
+        );
+        return ret;
+    }
+
+    private static Map<String, String> dbProps(Connection dbCon) throws Exception
+    {
+        Map<String, String> ret = new TreeMap<>();
+        try (
+            Statement stmt = dbCon.createStatement();
+            ResultSet resultSet = stmt.executeQuery(
+                "SELECT PROPS_INSTANCE, PROP_KEY, PROP_VALUE FROM LINSTOR.PROPS_CONTAINERS"
+            )
+        )
+        {
+            while (resultSet.next())
+            {
+                ret.put(resultSet.getString(1) + ":" + resultSet.getString(2), resultSet.getString(3));
+            }
+        }
+        return ret;
+    }
+
+    private static int countRows(Connection dbCon) throws Exception
+    {
+        return dbProps(dbCon).size();
+    }
+
+    private record Prop(String instance, String key, String value)
+    {
+    }
+}
@@ -0,0 +1,535 @@
+package com.linbit.linstor.dbdrivers.sql;
+
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.core.cfg.CtrlConfig;
+import com.linbit.linstor.dbcp.DbConnectionPool;
+import com.linbit.linstor.dbdrivers.DatabaseTable;
+import com.linbit.linstor.dbdrivers.DatabaseTable.Column;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables.PropsContainers;
+import com.linbit.linstor.dbdrivers.RawParameters;
+import com.linbit.linstor.logging.ErrorReporter;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+import com.linbit.linstor.transaction.manager.SQLStatementBatch;
+import com.linbit.linstor.transaction.manager.TransactionMgrSQL;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SQLStartupSnapshotTest
+{
+    private static final List<DatabaseTable> TABLES = List.of(
+        GeneratedDatabaseTables.PROPS_CONTAINERS,
+        GeneratedDatabaseTables.KEY_VALUE_STORE
+    );
+    private static final String MARKER_PROPS_INSTANCE = "/STARTUPSNAPSHOT";
+    // magic, format version, payload length, checksum
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES * 2;
+    private static final int OFFSET_FORMAT_VERSION = Integer.BYTES;
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private ErrorReporter errorReporter;
+    private String dbUrl;
+    private Connection adminCon;
+    private DbConnectionPool dbConnPool;
+    private Path snapshotFile;
+    private List<Connection> transConnections;
+
+    @Before
+    public void setUp() throws Exception
+    {
+        errorReporter = new EmptyErrorReporter();
+        dbUrl = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        adminCon = DriverManager.getConnection(dbUrl);
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute("CREATE SCHEMA LINSTOR");
+            stmt.execute(
+                "CREATE TABLE LINSTOR.PROPS_CONTAINERS (PROPS_INSTANCE VARCHAR(512) NOT NULL, " +
+                    "PROP_KEY VARCHAR(512) NOT NULL, PROP_VALUE VARCHAR(4096) NOT NULL, " +
+                    "PRIMARY KEY (PROPS_INSTANCE, PROP_KEY))"
+            );
+            stmt.execute(
+                "CREATE TABLE LINSTOR.KEY_VALUE_STORE (UUID CHAR(36) NOT NULL, KVS_NAME VARCHAR(256) PRIMARY KEY, " +
+                    "KVS_DSP_NAME VARCHAR(256) NOT NULL)"
+            );
+            stmt.execute("INSERT INTO LINSTOR.PROPS_CONTAINERS VALUES ('/CTRLCONF', 'TestKey', 'TestValue')");
+        }
+
+        dbConnPool = new DbConnectionPool(new CtrlConfig(null), errorReporter);
+        dbConnPool.initializeDataSource(dbUrl);
+
+        snapshotFile = tmpFolder.getRoot().toPath().resolve("startup.snapshot");
+        transConnections = new ArrayList<>();
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        for (Connection transCon : transConnections)
+        {
+            dbConnPool.returnConnection(transCon);
+        }
+        dbConnPool.shutdown(false);
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute("SHUTDOWN");
+        }
+        adminCon.close();
+    }
+
+    @Test
+    public void testRoundTripAllValueTypes() throws Exception
+    {
+        Map<DatabaseTable, List<RawParameters>> rows = new LinkedHashMap<>();
+        rows.put(
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            List.of(
+                propsRow("string", new byte[] {0, 1, -1, 127}, (short) -42),
+                propsRow(Integer.MIN_VALUE, Long.MAX_VALUE, true),
+                propsRow(Instant.ofEpochMilli(1_700_000_000_123L), null, false),
+                // unicode and empty values
+                propsRow("äöü ☃", "", new byte[0])
+            )
+        );
+        rows.put(GeneratedDatabaseTables.KEY_VALUE_STORE, new ArrayList<>());
+        // the row counts have to match the database
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute("INSERT INTO LINSTOR.PROPS_CONTAINERS VALUES ('/CTRLCONF', 'TestKey2', 'TestValue')");
+            stmt.execute("INSERT INTO LINSTOR.PROPS_CONTAINERS VALUES ('/CTRLCONF', 'TestKey3', 'TestValue')");
+            stmt.execute("INSERT INTO LINSTOR.PROPS_CONTAINERS VALUES ('/CTRLCONF', 'TestKey4', 'TestValue')");
+        }
+
+        newSnapshot().store(rows);
+
+        @Nullable Map<DatabaseTable, List<RawParameters>> loaded = load(newSnapshot());
+        Assert.assertNotNull(loaded);
+        Assert.assertEquals(rows.keySet(), loaded.keySet());
+        for (DatabaseTable table : TABLES)
+        {
+            assertRowsEqual(table, rows.get(table), loaded.get(table));
+        }
+    }
+
+    @Test
+    public void testNoFileFallsBackToDatabase() throws Exception
+    {
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testMarkerMismatchFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute(
+                "UPDATE LINSTOR.PROPS_CONTAINERS SET PROP_VALUE = 'otherMarker' " +
+                    "WHERE PROPS_INSTANCE = '" + MARKER_PROPS_INSTANCE + "'"
+            );
+        }
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testMissingMarkerFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        deleteMarker();
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testRowCountMismatchFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        Assert.assertNotNull(load(newSnapshot()));
+
+        // modified without deleting the marker
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute("INSERT INTO LINSTOR.KEY_VALUE_STORE VALUES ('" + UUID.randomUUID() + "', 'KVS', 'KVS')");
+        }
+        Assert.assertNotNull(readMarker());
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testDeleteMarkerFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        Assert.assertNotNull(load(newSnapshot()));
+
+        Connection dbCon = dbConnPool.getConnection();
+        try
+        {
+            SQLStartupSnapshot.deleteMarker(dbCon);
+            dbCon.commit();
+        }
+        finally
+        {
+            dbConnPool.returnConnection(dbCon);
+        }
+        Assert.assertNull(readMarker());
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testMarkerIsNotSelected() throws Exception
+    {
+        Map<DatabaseTable, List<RawParameters>> expectedRows = dbRows();
+        newSnapshot().store(expectedRows);
+        Assert.assertNotNull(readMarker());
+
+        List<RawParameters> exported = newEngine().export(GeneratedDatabaseTables.PROPS_CONTAINERS);
+        assertRowsEqual(
+            GeneratedDatabaseTables.PROPS_CONTAINERS,
+            expectedRows.get(GeneratedDatabaseTables.PROPS_CONTAINERS),
+            exported
+        );
+    }
+
+    @Test
+    public void testVersionMismatchFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        Assert.assertNotNull(load(newSnapshot()));
+
+        // replace the version stamp following the marker in the payload and fix the checksum
+        ByteBuffer payload = ByteBuffer.wrap(readPayload());
+        byte[] marker = new byte[payload.getInt()];
+        payload.get(marker);
+        byte[] versionStamp = new byte[payload.getInt()];
+        payload.get(versionStamp);
+        byte[] rest = new byte[payload.remaining()];
+        payload.get(rest);
+
+        byte[] otherVersionStamp = "0.0.0/0000000000".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer newPayload = ByteBuffer.allocate(
+            Integer.BYTES * 2 + marker.length + otherVersionStamp.length + rest.length
+        );
+        newPayload.putInt(marker.length).put(marker);
+        newPayload.putInt(otherVersionStamp.length).put(otherVersionStamp);
+        newPayload.put(rest);
+        writePayload(newPayload.array());
+
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testFormatVersionMismatchFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        byte[] content = Files.readAllBytes(snapshotFile);
+        ByteBuffer.wrap(content).putInt(OFFSET_FORMAT_VERSION, Integer.MAX_VALUE);
+        Files.write(snapshotFile, content);
+
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testChecksumMismatchFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        byte[] content = Files.readAllBytes(snapshotFile);
+        content[content.length - 1] ^= 0xFF;
+        Files.write(snapshotFile, content);
+
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testTruncatedFileFallsBackToDatabase() throws Exception
+    {
+        newSnapshot().store(dbRows());
+        byte[] content = Files.readAllBytes(snapshotFile);
+
+        Files.write(snapshotFile, Arrays.copyOf(content, content.length - 1));
+        Assert.assertNull(load(newSnapshot()));
+
+        Files.write(snapshotFile, Arrays.copyOf(content, HEADER_SIZE - 1));
+        Assert.assertNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testInvalidateDeletesMarkerOnFirstWrite() throws Exception
+    {
+        SQLStartupSnapshot snapshot = newSnapshot();
+        Assert.assertNull(load(snapshot));
+        snapshot.store(dbRows());
+        Assert.assertNotNull(readMarker());
+
+        snapshot.invalidate(GeneratedDatabaseTables.KEY_VALUE_STORE);
+        Assert.assertNull(readMarker());
+        Assert.assertNull(load(newSnapshot()));
+
+        // only the first write deletes the marker, later writes do not access the database again
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute(
+                "INSERT INTO LINSTOR.PROPS_CONTAINERS VALUES ('" + MARKER_PROPS_INSTANCE + "', 'Marker', 'dummy')"
+            );
+        }
+        snapshot.invalidate(GeneratedDatabaseTables.PROPS_CONTAINERS);
+        Assert.assertEquals("dummy", readMarker());
+    }
+
+    @Test
+    public void testInvalidateIgnoresSecurityTables() throws Exception
+    {
+        SQLStartupSnapshot snapshot = newSnapshot();
+        Assert.assertNull(load(snapshot));
+        snapshot.store(dbRows());
+        @Nullable String marker = readMarker();
+        Assert.assertNotNull(marker);
+
+        snapshot.invalidate(GeneratedDatabaseTables.SEC_CONFIGURATION);
+        snapshot.invalidate(GeneratedDatabaseTables.SEC_OBJECT_PROTECTION);
+        snapshot.invalidate(GeneratedDatabaseTables.SEC_ACL_MAP);
+
+        Assert.assertEquals(marker, readMarker());
+        Assert.assertNotNull(load(newSnapshot()));
+    }
+
+    @Test
+    public void testLoadingFinishedWritesSnapshot() throws Exception
+    {
+        Map<DatabaseTable, List<RawParameters>> expectedRows = dbRows();
+        SQLEngine engine = newEngine();
+        engine.prefetch(TABLES);
+        engine.loadingFinished();
+        engine.clearPrefetched();
+
+        Assert.assertTrue(Files.exists(snapshotFile));
+        @Nullable Map<DatabaseTable, List<RawParameters>> loaded = load(newSnapshot());
+        Assert.assertNotNull(loaded);
+        for (DatabaseTable table : TABLES)
+        {
+            assertRowsEqual(table, expectedRows.get(table), loaded.get(table));
+        }
+    }
+
+    @Test
+    public void testLoadingFinishedSkipsSnapshotAfterWrite() throws Exception
+    {
+        SQLEngine engine = newEngine();
+        engine.prefetch(TABLES);
+        // a write during the load, the prefetched rows might not contain this change
+        engine.getStatementBatch(GeneratedDatabaseTables.KEY_VALUE_STORE);
+        engine.loadingFinished();
+        engine.clearPrefetched();
+
+        Assert.assertFalse(Files.exists(snapshotFile));
+        Assert.assertNull(readMarker());
+    }
+
+    @Test
+    public void testCorruptSnapshotIsReplacedFromDatabase() throws Exception
+    {
+        SQLEngine engine = newEngine();
+        engine.prefetch(TABLES);
+        engine.loadingFinished();
+        engine.clearPrefetched();
+        @Nullable String marker = readMarker();
+        Assert.assertNotNull(marker);
+
+        byte[] content = Files.readAllBytes(snapshotFile);
+        content[content.length - 1] ^= 0xFF;
+        Files.write(snapshotFile, content);
+
+        // the corrupt snapshot is ignored, the rows are selected from the database and written into a new snapshot
+        SQLEngine otherEngine = newEngine();
+        otherEngine.prefetch(TABLES);
+        otherEngine.loadingFinished();
+        otherEngine.clearPrefetched();
+
+        @Nullable String newMarker = readMarker();
+        Assert.assertNotNull(newMarker);
+        Assert.assertNotEquals(marker, newMarker);
+        Assert.assertNotNull(load(newSnapshot()));
+    }
+
+    private SQLStartupSnapshot newSnapshot()
+    {
+        return new SQLStartupSnapshot(snapshotFile, dbConnPool, errorReporter);
+    }
+
+    private SQLEngine newEngine() throws SQLException
+    {
+        CtrlConfig ctrlCfg = new CtrlConfig(null);
+        ctrlCfg.setDbStartupSnapshot(snapshotFile.toString());
+
+        Connection transCon = dbConnPool.getConnection();
+        transConnections.add(transCon);
+        TransactionMgrSQL transMgr = mock(TransactionMgrSQL.class);
+        when(transMgr.getConnection()).thenReturn(transCon);
+        when(transMgr.getStatementBatch()).thenReturn(mock(SQLStatementBatch.class));
+
+        return new SQLEngine(errorReporter, () -> transMgr, ctrlCfg, dbConnPool);
+    }
+
+    private @Nullable Map<DatabaseTable, List<RawParameters>> load(SQLStartupSnapshot snapshot) throws SQLException
+    {
+        Connection dbCon = dbConnPool.getConnection();
+        try
+        {
+            return snapshot.load(dbCon, TABLES);
+        }
+        finally
+        {
+            dbConnPool.returnConnection(dbCon);
+        }
+    }
+
+    /**
+     * Returns the rows as they are currently stored in the test database
+     */
+    private Map<DatabaseTable, List<RawParameters>> dbRows() throws SQLException
+    {
+        Map<DatabaseTable, List<RawParameters>> ret = new LinkedHashMap<>();
+        for (DatabaseTable table : TABLES)
+        {
+            List<RawParameters> rows = new ArrayList<>();
+            try (
+                Statement stmt = adminCon.createStatement();
+                ResultSet resultSet = stmt.executeQuery("SELECT * FROM LINSTOR." + table.getName())
+            )
+            {
+                while (resultSet.next())
+                {
+                    Map<String, Object> rawData = new TreeMap<>();
+                    for (Column col : table.values())
+                    {
+                        rawData.put(col.getName(), resultSet.getString(col.getName()));
+                    }
+                    rows.add(new RawParameters(table, rawData));
+                }
+            }
+            ret.put(table, rows);
+        }
+        return ret;
+    }
+
+    private @Nullable String readMarker() throws SQLException
+    {
+        @Nullable String marker = null;
+        try (
+            PreparedStatement stmt = adminCon.prepareStatement(
+                "SELECT PROP_VALUE FROM LINSTOR.PROPS_CONTAINERS WHERE PROPS_INSTANCE = ?"
+            )
+        )
+        {
+            stmt.setString(1, MARKER_PROPS_INSTANCE);
+            try (ResultSet resultSet = stmt.executeQuery())
+            {
+                if (resultSet.next())
+                {
+                    marker = resultSet.getString(1);
+                }
+            }
+        }
+        return marker;
+    }
+
+    private void deleteMarker() throws SQLException
+    {
+        try (Statement stmt = adminCon.createStatement())
+        {
+            stmt.execute(
+                "DELETE FROM LINSTOR.PROPS_CONTAINERS WHERE PROPS_INSTANCE = '" + MARKER_PROPS_INSTANCE + "'"
+            );
+        }
+    }
+
+    private byte[] readPayload() throws Exception
+    {
+        byte[] content = Files.readAllBytes(snapshotFile);
+        return Arrays.copyOfRange(content, HEADER_SIZE, content.length);
+    }
+
+    /**
+     * Replaces the payload of the snapshot file, keeping the header valid
+     */
+    private void writePayload(byte[] payload) throws Exception
+    {
+        byte[] content = Files.readAllBytes(snapshotFile);
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + payload.length);
+        buffer.put(content, 0, Integer.BYTES * 2);
+        buffer.putLong(payload.length);
+        buffer.putLong(crc.getValue());
+        buffer.put(payload);
+        Files.write(snapshotFile, buffer.array());
+    }
+
+    private static RawParameters propsRow(
+        @Nullable Object propsInstance,
+        @Nullable Object propKey,
+        @Nullable Object propValue
+    )
+    {
+        Map<String, Object> rawData = new TreeMap<>();
+        rawData.put(PropsContainers.PROPS_INSTANCE.getName(), propsInstance);
+        rawData.put(PropsContainers.PROP_KEY.getName(), propKey);
+        rawData.put(PropsContainers.PROP_VALUE.getName(), propValue);
+        return new RawParameters(GeneratedDatabaseTables.PROPS_CONTAINERS, rawData);
+    }
+
+    private static void assertRowsEqual(
+        DatabaseTable table,
+        List<RawParameters> expectedRows,
+        List<RawParameters> actualRows
+    )
+    {
+        Assert.assertEquals(expectedRows.size(), actualRows.size());
+        for (int rowIdx = 0; rowIdx < expectedRows.size(); rowIdx++)
+        {
+            for (Column col : table.values())
+            {
+                @Nullable Object expected = expectedRows.get(rowIdx).get(col);
+                @Nullable Object actual = actualRows.get(rowIdx).get(col);
+                if (expected instanceof byte[])
+                {
+                    Assert.assertArrayEquals((byte[]) expected, (byte[]) actual);
+                }
+                else
+                {
+                    Assert.assertEquals(expected, actual);
+                }
+            }
+        }
+    }
+}
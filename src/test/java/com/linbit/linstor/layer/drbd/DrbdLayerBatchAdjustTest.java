@@ -0,0 +1,305 @@
+package com.linbit.linstor.layer.drbd;
+
+import com.linbit.drbd.DrbdVersion;
+import com.linbit.extproc.ExtCmdFactory;
+import com.linbit.extproc.ExtCmdFailedException;
+import com.linbit.linstor.api.interfaces.serializer.CtrlStltSerializer;
+import com.linbit.linstor.core.ControllerPeerConnector;
+import com.linbit.linstor.core.StltConfigAccessor;
+import com.linbit.linstor.core.cfg.StltConfig;
+import com.linbit.linstor.core.devmgr.DeviceHandler;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.linstor.core.identifier.VolumeNumber;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.core.objects.Volume;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdEventPublisher;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdResource;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdStateStore;
+import com.linbit.linstor.layer.drbd.drbdstate.DrbdVolume;
+import com.linbit.linstor.layer.drbd.resfiles.DrbdResourceFileUtils;
+import com.linbit.linstor.layer.drbd.utils.DrbdAdm;
+import com.linbit.linstor.layer.drbd.utils.WindowsFirewall;
+import com.linbit.linstor.propscon.Props;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.stateflags.StateFlags;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscDfnData;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdVlmData;
+import com.linbit.linstor.storage.interfaces.layers.drbd.DrbdRscObject.DrbdRscFlags;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import javax.inject.Provider;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DrbdLayerBatchAdjustTest
+{
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private StltConfig stltCfg;
+    private DrbdAdm drbdUtils;
+    private DrbdStateStore drbdState;
+    private DrbdLayer drbdLayer;
+
+    private File backingDevice;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception
+    {
+        stltCfg = new StltConfig();
+        stltCfg.setDevMgrDrbdAdjustBatchSize(10);
+        drbdUtils = mock(DrbdAdm.class);
+        drbdState = mock(DrbdStateStore.class);
+
+        drbdLayer = new DrbdLayer(
+            mock(AccessContext.class),
+            drbdUtils,
+            mock(DrbdResourceFileUtils.class),
+            drbdState,
+            mock(DrbdEventPublisher.class),
+            new EmptyErrorReporter(),
+            mock(CtrlStltSerializer.class),
+            mock(ControllerPeerConnector.class),
+            (Provider<DeviceHandler>) mock(Provider.class),
+            mock(ExtCmdFactory.class),
+            mock(StltConfigAccessor.class),
+            mock(DrbdVersion.class),
+            mock(WindowsFirewall.class),
+            stltCfg
+        );
+
+        backingDevice = tmpFolder.newFile("backing");
+    }
+
+    @Test
+    public void testUnchangedResourcesAreBatched() throws Exception
+    {
+        List<DrbdRscData<Resource>> rscs = List.of(adjustedRsc("rsc1"), adjustedRsc("rsc2"), adjustedRsc("rsc3"));
+        Set<String> adjustRscSet = adjustSet("rsc1", "rsc2", "rsc3");
+
+        drbdLayer.adjustInBatches(new LinkedHashSet<>(rscs), adjustRscSet);
+
+        verify(drbdUtils).adjustBatch(rscs);
+        Assert.assertTrue(adjustRscSet.isEmpty());
+    }
+
+    @Test
+    public void testResourcesNeedingPreparationAreNotBatched() throws Exception
+    {
+        DrbdRscData<Resource> batchable1 = adjustedRsc("batchable1");
+        DrbdRscData<Resource> batchable2 = adjustedRsc("batchable2");
+        // never adjusted by this satellite, the backing devices DRBD uses are unknown
+        DrbdRscData<Resource> notAdjusted = rsc("notadjusted");
+        // the child layer changed the backing device since the last adjust
+        DrbdRscData<Resource> changedDevice = adjustedRsc("changeddevice");
+        setDataDevice(changedDevice, tmpFolder.newFile("otherBacking").getAbsolutePath());
+        // the child layer did not create the backing device yet
+        DrbdRscData<Resource> missingDevice = rsc("missingdevice");
+        setDataDevice(missingDevice, backingDevice.getAbsolutePath() + "_missing");
+        drbdLayer.rememberBackingDevices(missingDevice);
+        DrbdRscData<Resource> resizing = adjustedRsc("resizing");
+        StateFlags<Volume.Flags> resizingVlmFlags = getVolume(resizing).getFlags();
+        when(resizingVlmFlags.isSomeSet(any(), any(), any(), any(), any())).thenReturn(true);
+        DrbdRscData<Resource> notUp = adjustedRsc("notup");
+        when(drbdState.getDrbdResource("notup")).thenReturn(null);
+        // does not need to be adjusted at all
+        DrbdRscData<Resource> notInAdjustSet = adjustedRsc("notinadjustset");
+
+        Set<String> adjustRscSet = adjustSet(
+            "batchable1",
+            "batchable2",
+            "notadjusted",
+            "changeddevice",
+            "missingdevice",
+            "resizing",
+            "notup"
+        );
+        drbdLayer.adjustInBatches(
+            new LinkedHashSet<>(
+                List.of(
+                    batchable1,
+                    notAdjusted,
+                    changedDevice,
+                    missingDevice,
+                    resizing,
+                    notUp,
+                    notInAdjustSet,
+                    batchable2
+                )
+            ),
+            adjustRscSet
+        );
+
+        verify(drbdUtils).adjustBatch(List.of(batchable1, batchable2));
+        Assert.assertEquals(
+            adjustSet("notadjusted", "changeddevice", "missingdevice", "resizing", "notup"),
+            adjustRscSet
+        );
+    }
+
+    @Test
+    public void testBatchSizeLimit() throws Exception
+    {
+        stltCfg.setDevMgrDrbdAdjustBatchSize(2);
+        List<DrbdRscData<Resource>> rscs = new ArrayList<>();
+        Set<String> adjustRscSet = adjustSet();
+        for (int idx = 0; idx < 5; ++idx)
+        {
+            rscs.add(adjustedRsc("rsc" + idx));
+            adjustRscSet.add("rsc" + idx);
+        }
+
+        drbdLayer.adjustInBatches(new LinkedHashSet<>(rscs), adjustRscSet);
+
+        verify(drbdUtils).adjustBatch(rscs.subList(0, 2));
+        verify(drbdUtils).adjustBatch(rscs.subList(2, 4));
+        // a single remaining resource is adjusted by processResource
+        Assert.assertEquals(adjustSet("rsc4"), adjustRscSet);
+    }
+
+    @Test
+    public void testBatchingDisabled() throws Exception
+    {
+        stltCfg.setDevMgrDrbdAdjustBatchSize(1);
+        Set<String> adjustRscSet = adjustSet("rsc1", "rsc2");
+
+        drbdLayer.adjustInBatches(
+            new LinkedHashSet<>(List.of(adjustedRsc("rsc1"), adjustedRsc("rsc2"))),
+            adjustRscSet
+        );
+
+        verify(drbdUtils, never()).adjustBatch(anyList());
+        Assert.assertEquals(adjustSet("rsc1", "rsc2"), adjustRscSet);
+    }
+
+    @Test
+    public void testFailedBatchFallsBackToSingleAdjust() throws Exception
+    {
+        DrbdRscData<Resource> rsc1 = adjustedRsc("rsc1");
+        DrbdRscData<Resource> rsc2 = adjustedRsc("rsc2");
+        doThrow(new ExtCmdFailedException(new String[] {"drbdadm"}, new IOException("test")))
+            .when(drbdUtils)
+            .adjustBatch(anyList());
+        Set<String> adjustRscSet = adjustSet("rsc1", "rsc2");
+
+        drbdLayer.adjustInBatches(new LinkedHashSet<>(List.of(rsc1, rsc2)), adjustRscSet);
+
+        // both are still adjusted by processResource, which also reports the error of the failing resource
+        Assert.assertEquals(adjustSet("rsc1", "rsc2"), adjustRscSet);
+        verify(rsc1, never()).setAdjustRequired(false);
+        verify(rsc2, never()).setAdjustRequired(false);
+    }
+
+    @Test
+    public void testInvalidBatchSize()
+    {
+        for (int invalidSize : new int[] {0, -1})
+        {
+            try
+            {
+                stltCfg.setDevMgrDrbdAdjustBatchSize(invalidSize);
+                Assert.fail("Batch size " + invalidSize + " accepted");
+            }
+            catch (IllegalArgumentException expected)
+            {
+                // expected
+            }
+        }
+        Assert.assertEquals(10, stltCfg.getDevMgrDrbdAdjustBatchSize());
+    }
+
+    private static Set<String> adjustSet(String... rscNames)
+    {
+        Set<String> ret = new LinkedHashSet<>();
+        Collections.addAll(ret, rscNames);
+        return ret;
+    }
+
+    /**
+     * Returns a resource that was already adjusted once, i.e. which is batchable if it is in the adjust set
+     */
+    private DrbdRscData<Resource> adjustedRsc(String rscName) throws Exception
+    {
+        DrbdRscData<Resource> drbdRscData = rsc(rscName);
+        drbdLayer.rememberBackingDevices(drbdRscData);
+        return drbdRscData;
+    }
+
+    /**
+     * Returns an up and running resource with a single volume that does not need any preparation
+     */
+    @SuppressWarnings("unchecked")
+    private DrbdRscData<Resource> rsc(String rscName) throws Exception
+    {
+        Resource rsc = mock(Resource.class);
+        when(rsc.getProps(any())).thenReturn(mock(Props.class));
+        when(rsc.getStateFlags()).thenReturn(mock(StateFlags.class));
+
+        StateFlags<DrbdRscFlags> drbdRscFlags = mock(StateFlags.class);
+        when(drbdRscFlags.isSet(any(), eq(DrbdRscFlags.INITIALIZED))).thenReturn(true);
+
+        DrbdRscData<Resource> drbdRscData = mock(DrbdRscData.class);
+        when(drbdRscData.getAbsResource()).thenReturn(rsc);
+        when(drbdRscData.getResourceName()).thenReturn(new ResourceName(rscName));
+        when(drbdRscData.getSuffixedResourceName()).thenReturn(rscName);
+        when(drbdRscData.getResourceNameSuffix()).thenReturn("");
+        when(drbdRscData.isResFileReady(any())).thenReturn(true);
+        when(drbdRscData.getFlags()).thenReturn(drbdRscFlags);
+
+        Volume vlm = mock(Volume.class);
+        when(vlm.getFlags()).thenReturn(mock(StateFlags.class));
+        VolumeNumber vlmNr = new VolumeNumber(0);
+        DrbdVlmData<Resource> drbdVlmData = mock(DrbdVlmData.class);
+        when(drbdVlmData.getVlmNr()).thenReturn(vlmNr);
+        when(drbdVlmData.getVolume()).thenReturn(vlm);
+        when(drbdVlmData.getIdentifier()).thenReturn(rscName + "/0");
+        when(drbdVlmData.getDataDevice()).thenReturn(backingDevice.getAbsolutePath());
+        when(drbdRscData.getVlmLayerObjects()).thenReturn(Map.of(vlmNr, drbdVlmData));
+
+        DrbdRscDfnData<Resource> drbdRscDfnData = mock(DrbdRscDfnData.class);
+        when(drbdRscDfnData.getDrbdRscDataList()).thenReturn(List.of(drbdRscData));
+        when(drbdRscData.getRscDfnLayerObject()).thenReturn(drbdRscDfnData);
+
+        DrbdResource drbdRscState = mock(DrbdResource.class);
+        when(drbdRscState.getVolumesMap()).thenReturn(Map.of(vlmNr, mock(DrbdVolume.class)));
+        when(drbdRscState.getVolume(vlmNr)).thenReturn(mock(DrbdVolume.class));
+        when(drbdState.getDrbdResource(rscName)).thenReturn(drbdRscState);
+
+        return drbdRscData;
+    }
+
+    private static void setDataDevice(DrbdRscData<Resource> drbdRscData, String devPath)
+    {
+        DrbdVlmData<Resource> drbdVlmData = drbdRscData.getVlmLayerObjects().values().iterator().next();
+        when(drbdVlmData.getDataDevice()).thenReturn(devPath);
+    }
+
+    private static Volume getVolume(DrbdRscData<Resource> drbdRscData)
+    {
+        return (Volume) drbdRscData.getVlmLayerObjects().values().iterator().next().getVolume();
+    }
+}
@@ -0,0 +1,104 @@
+package com.linbit.linstor.layer.drbd.drbdstate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DrbdEventParserTest
+{
+    private DrbdEventParser parser;
+
+    @Before
+    public void setUp()
+    {
+        parser = new DrbdEventParser();
+    }
+
+    @Test
+    public void testParseChangeLine() throws Exception
+    {
+        assertTrue(
+            parse(
+                "change peer-device name:rsc1 peer-node-id:1 conn-name:node2 volume:0 " +
+                    "replication:SyncSource peer-disk:Inconsistent done:12.34"
+            )
+        );
+
+        assertEquals(DrbdEventsMonitor.ACTION_CHANGE, parser.getAction());
+        assertEquals(DrbdEventsMonitor.OBJ_PEER_VOLUME, parser.getObjType());
+
+        Map<String, String> expected = new TreeMap<>();
+        expected.put(DrbdResource.PROP_KEY_RES_NAME, "rsc1");
+        expected.put(DrbdConnection.PROP_KEY_PEER_NODE_ID, "1");
+        expected.put(DrbdConnection.PROP_KEY_CONN_NAME, "node2");
+        expected.put(DrbdVolume.PROP_KEY_VOL_NR, "0");
+        expected.put(DrbdVolume.PROP_KEY_REPLICATION, "SyncSource");
+        expected.put(DrbdVolume.PROP_KEY_PEER_DISK, "Inconsistent");
+        expected.put(DrbdVolume.PROP_KEY_DONE, "12.34");
+        assertEquals(expected, new TreeMap<>(parser.getProps()));
+        assertEquals("12.34", parser.getProps().get(DrbdVolume.PROP_KEY_DONE));
+    }
+
+    @Test
+    public void testParseLikeTokenizer() throws Exception
+    {
+        // multiple separators, values containing ':' and tokens without ':' have to be handled like before
+        assertTrue(parse("exists  path  name:rsc1 local:ipv4:10.0.0.1:7000 established:no invalid"));
+
+        assertEquals(DrbdEventsMonitor.ACTION_EXISTS, parser.getAction());
+        assertEquals("path", parser.getObjType());
+        assertEquals(3, parser.getProps().size());
+        assertEquals("ipv4:10.0.0.1:7000", parser.getProps().get("local"));
+        assertEquals("no", parser.getProps().get("established"));
+        assertFalse(parser.getProps().containsKey("invalid"));
+    }
+
+    @Test
+    public void testReuseAndInterning() throws Exception
+    {
+        parse("change resource name:rsc1 role:Primary");
+        String rscName = parser.getProps().get(DrbdResource.PROP_KEY_RES_NAME);
+        assertSame(DrbdEventsMonitor.ACTION_CHANGE, parser.getAction());
+        assertSame("Primary", parser.getProps().get(DrbdResource.PROP_KEY_ROLE));
+
+        parse("change resource name:rsc1 role:Secondary");
+        assertEquals(2, parser.getProps().size());
+        assertSame(rscName, parser.getProps().get(DrbdResource.PROP_KEY_RES_NAME));
+        assertEquals("Secondary", parser.getProps().get(DrbdResource.PROP_KEY_ROLE));
+
+        parse("exists -");
+        assertEquals(DrbdEventsMonitor.OBJ_END_OF_INIT, parser.getObjType());
+        assertTrue(parser.getProps().isEmpty());
+    }
+
+    @Test
+    public void testEmptyLine() throws Exception
+    {
+        assertFalse(parse(""));
+    }
+
+    @Test(expected = EventsSourceException.class)
+    public void testMissingAction() throws Exception
+    {
+        parse("   ");
+    }
+
+    @Test(expected = EventsSourceException.class)
+    public void testMissingObjType() throws Exception
+    {
+        parse("change");
+    }
+
+    private boolean parse(String line) throws EventsSourceException
+    {
+        return parser.parse(line.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,160 @@
+package com.linbit.linstor.layer.drbd.resfiles;
+
+import com.linbit.PlatformStlt;
+import com.linbit.drbd.DrbdVersion;
+import com.linbit.linstor.api.prop.WhitelistProps;
+import com.linbit.linstor.core.LinStor;
+import com.linbit.linstor.core.StltConfigAccessor;
+import com.linbit.linstor.core.objects.Resource;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.storage.data.adapter.drbd.DrbdRscData;
+import com.linbit.linstor.testutils.EmptyErrorReporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DrbdResourceFileUtilsTest
+{
+    private static final String RSC_NAME = "rsc";
+
+    @Rule
+    public TemporaryFolder tmpFolder = new TemporaryFolder();
+
+    private DrbdResourceFileUtils resFileUtils;
+    private DrbdRscData<Resource> drbdRscData;
+    private Path resFile;
+    private int headerCount;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception
+    {
+        String sysRoot = tmpFolder.getRoot().getAbsolutePath();
+        Files.createDirectories(Paths.get(sysRoot + LinStor.BACKUP_PATH));
+        resFile = Paths.get(sysRoot + LinStor.CONFIG_PATH, RSC_NAME + ".res");
+
+        PlatformStlt platformStlt = mock(PlatformStlt.class);
+        when(platformStlt.sysRoot()).thenReturn(sysRoot);
+
+        drbdRscData = mock(DrbdRscData.class);
+        when(drbdRscData.getSuffixedResourceName()).thenReturn(RSC_NAME);
+
+        resFileUtils = Mockito.spy(
+            new DrbdResourceFileUtils(
+                mock(AccessContext.class),
+                new EmptyErrorReporter(),
+                mock(WhitelistProps.class),
+                mock(StltConfigAccessor.class),
+                mock(DrbdVersion.class),
+                platformStlt
+            )
+        );
+    }
+
+    @Test
+    public void testRewriteOnlyOnChange() throws Exception
+    {
+        generate("net { protocol C; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        // only the header (containing i.e. the date) changed
+        generate("net { protocol C; }");
+        Assert.assertFalse(resFileUtils.regenerateResFile(drbdRscData));
+
+        generate("net { protocol A; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol A"));
+        Assert.assertFalse(resFileUtils.regenerateResFile(drbdRscData));
+    }
+
+    @Test
+    public void testExternalEditIsDetected() throws Exception
+    {
+        generate("net { protocol C; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+
+        Files.writeString(resFile, "resource \"" + RSC_NAME + "\" { edited }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol C"));
+
+        // same size, only the modification time tells that the file was edited
+        FileTime lastModified = Files.getLastModifiedTime(resFile);
+        Files.writeString(resFile, Files.readString(resFile).replace("protocol C", "protocol A"));
+        Files.setLastModifiedTime(resFile, FileTime.fromMillis(lastModified.toMillis() + 1000));
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol C"));
+    }
+
+    @Test
+    public void testUnchangedFileIsNotRead() throws Exception
+    {
+        generate("net { protocol C; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+
+        // an edit that keeps the file key, size and modification time is only found by comparing the content
+        FileTime lastModified = Files.getLastModifiedTime(resFile);
+        Files.writeString(resFile, Files.readString(resFile).replace("protocol C", "protocol A"));
+        Files.setLastModifiedTime(resFile, lastModified);
+        Assert.assertFalse(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol A"));
+    }
+
+    @Test
+    public void testDeleteInvalidates() throws Exception
+    {
+        generate("net { protocol C; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+
+        resFileUtils.deleteResFile(drbdRscData);
+        Assert.assertFalse(Files.exists(resFile));
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.exists(resFile));
+
+        // deleted without the knowledge of LINSTOR
+        Files.delete(resFile);
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol C"));
+    }
+
+    @Test
+    public void testBackupRestoreInvalidates() throws Exception
+    {
+        generate("net { protocol C; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        resFileUtils.copyResFileToBackup(drbdRscData);
+
+        generate("net { protocol A; }");
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+
+        Assert.assertTrue(resFileUtils.restoreBackupResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol C"));
+
+        Assert.assertTrue(resFileUtils.regenerateResFile(drbdRscData));
+        Assert.assertTrue(Files.readString(resFile).contains("protocol A"));
+        Assert.assertFalse(resFileUtils.regenerateResFile(drbdRscData));
+    }
+
+    /**
+     * Lets the next {@link DrbdResourceFileUtils#regenerateResFile} generate a res file with the given body and a new
+     * header
+     */
+    private void generate(String body) throws Exception
+    {
+        headerCount++;
+        doReturn("# generated " + headerCount + "\nresource \"" + RSC_NAME + "\" {\n" + body + "\n}\n")
+            .when(resFileUtils)
+            .buildResFileContent(drbdRscData);
+    }
+}
@@ -0,0 +1,61 @@
+package com.linbit.linstor.layer.storage.lvm.utils;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LvmStateIndexTest
+{
+    private static final long RESCAN_INTERVAL = 100;
+
+    @Test
+    public void invalidatePerVolumeGroupTest()
+    {
+        LvmStateIndex<String> index = new LvmStateIndex<>(RESCAN_INTERVAL);
+        index.put("vg1", "state1", 0);
+        index.put("vg2", "state2", 0);
+
+        Assert.assertTrue(index.isValid("vg1", 50));
+        Assert.assertTrue(index.isValid("vg2", 50));
+
+        index.invalidate("vg1");
+        Assert.assertFalse(index.isValid("vg1", 50));
+        Assert.assertNull(index.get("vg1"));
+        Assert.assertTrue(index.isValid("vg2", 50));
+        Assert.assertEquals("state2", index.get("vg2"));
+
+        // safety interval
+        Assert.assertFalse(index.isValid("vg2", RESCAN_INTERVAL));
+    }
+
+    @Test
+    public void updateAndNotFoundTest()
+    {
+        LvmStateIndex<String> index = new LvmStateIndex<>(RESCAN_INTERVAL);
+        index.put("vg1", "state1", 0);
+        index.put("missing", null, 0);
+
+        index.update("vg1", state -> state + "-updated");
+        index.update("missing", state -> "unexpected");
+
+        Assert.assertEquals("state1-updated", index.get("vg1"));
+        Assert.assertTrue(index.isValid("missing", 0));
+        Assert.assertNull(index.get("missing"));
+    }
+
+    @Test
+    public void allVgNamesTest()
+    {
+        LvmStateIndex<String> index = new LvmStateIndex<>(RESCAN_INTERVAL);
+        Assert.assertNull(index.getAllVgNames(0));
+
+        index.setAllVgNames(Arrays.asList("vg2", "vg1"), 0);
+        Assert.assertEquals(2, index.getAllVgNames(50).size());
+        Assert.assertNull(index.getAllVgNames(RESCAN_INTERVAL));
+
+        index.setAllVgNames(Arrays.asList("vg1"), 0);
+        index.clear();
+        Assert.assertNull(index.getAllVgNames(0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirectByteBufferPoolTest
+{
+    private static final int CHUNK_SIZE = 1024;
+
+    private DirectByteBufferPool pool;
+
+    @Before
+    public void setUp()
+    {
+        pool = new DirectByteBufferPool(CHUNK_SIZE, CHUNK_SIZE * 4);
+    }
+
+    @Test
+    public void sizeClassReuseTest()
+    {
+        ByteBuffer buffer = pool.acquire(100);
+        Assert.assertTrue(buffer.isDirect());
+        Assert.assertEquals(128, buffer.capacity());
+        Assert.assertEquals(100, buffer.limit());
+        Assert.assertEquals(128, pool.getBytesInFlight());
+        Assert.assertEquals(1, pool.getMissCount());
+
+        pool.release(buffer);
+        Assert.assertEquals(0, pool.getBytesInFlight());
+
+        ByteBuffer reused = pool.acquire(65);
+        Assert.assertSame(buffer, reused);
+        Assert.assertEquals(0, reused.position());
+        Assert.assertEquals(65, reused.limit());
+        Assert.assertEquals(1, pool.getHitCount());
+        pool.release(reused);
+    }
+
+    @Test
+    public void oversizedAndDiscardedBuffersTest()
+    {
+        ByteBuffer large = pool.acquire(CHUNK_SIZE + 1);
+        Assert.assertFalse(large.isDirect());
+        Assert.assertEquals(0, pool.getBytesInFlight());
+        pool.release(large);
+
+        ByteBuffer discarded = pool.acquire(CHUNK_SIZE);
+        Assert.assertEquals(CHUNK_SIZE, pool.getBytesInFlight());
+        pool.discard(discarded);
+        Assert.assertEquals(0, pool.getBytesInFlight());
+        Assert.assertNotSame(discarded, pool.acquire(CHUNK_SIZE));
+    }
+
+    @Test
+    public void messageRoundTripTest() throws Exception
+    {
+        byte[] payload = "pooled message payload".getBytes(StandardCharsets.UTF_8);
+
+        MessageData sendMsg = new MessageData(true, pool);
+        sendMsg.setData(payload);
+        Assert.assertTrue(sendMsg.getDataBuffer().isDirect());
+        ByteBuffer header = sendMsg.getHeaderBuffer();
+
+        MessageData recvMsg = new MessageData(false, pool);
+        recvMsg.getHeaderBuffer().put(header);
+        recvMsg.allocateData(recvMsg.getHeaderBuffer().getInt(Message.LENGTH_FIELD_OFFSET));
+        recvMsg.getDataBuffer().put(sendMsg.getDataBuffer());
+        sendMsg.release();
+
+        recvMsg.dataReceived();
+        Assert.assertArrayEquals(payload, recvMsg.getData());
+        Assert.assertEquals(0, pool.getBytesInFlight());
+    }
+}
@@ -0,0 +1,95 @@
+package com.linbit.linstor.netcom;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PooledBufferOutputStreamTest
+{
+    private static final int CHUNK_SIZE = 16;
+
+    private DirectByteBufferPool pool;
+    private byte[] data;
+
+    @Before
+    public void setUp()
+    {
+        pool = new DirectByteBufferPool(CHUNK_SIZE, CHUNK_SIZE * 4);
+        data = new byte[CHUNK_SIZE * 3 + 5];
+        new Random(42).nextBytes(data);
+    }
+
+    @Test
+    public void writeAcrossChunksTest()
+    {
+        PooledBufferOutputStream out = new PooledBufferOutputStream(pool);
+        out.write(data, 0, CHUNK_SIZE - 1);
+        out.write(data[CHUNK_SIZE - 1]);
+        out.write(data, CHUNK_SIZE, data.length - CHUNK_SIZE);
+
+        Assert.assertEquals(data.length, out.size());
+        Assert.assertArrayEquals(data, out.toByteArray());
+        Assert.assertEquals(4, out.getBuffers().length);
+    }
+
+    @Test
+    public void appendTakesOverChunksTest()
+    {
+        PooledBufferOutputStream out = new PooledBufferOutputStream(pool);
+        out.write(data, 0, 3);
+        PooledBufferOutputStream body = new PooledBufferOutputStream(pool);
+        body.write(data, 3, data.length - 3);
+
+        out.append(body);
+        Assert.assertEquals(0, body.size());
+        Assert.assertEquals(0, body.getBuffers().length);
+
+        out.write(data, 0, 2);
+        byte[] expected = new byte[data.length + 2];
+        System.arraycopy(data, 0, expected, 0, data.length);
+        System.arraycopy(data, 0, expected, data.length, 2);
+        Assert.assertEquals(expected.length, out.size());
+        Assert.assertArrayEquals(expected, out.toByteArray());
+    }
+
+    @Test
+    public void messageWithPrefixTest() throws Exception
+    {
+        byte[] prefix = {1, 2, 3};
+        PooledBufferOutputStream out = new PooledBufferOutputStream(pool);
+        out.write(data);
+
+        PooledMessageData msg = new PooledMessageData(prefix, out);
+        Assert.assertEquals(prefix.length + data.length, msg.getDataSize());
+        Assert.assertEquals(msg.getDataSize(), msg.getHeaderBuffer().getInt(Message.LENGTH_FIELD_OFFSET));
+
+        ByteBuffer sent = ByteBuffer.allocate(msg.getDataSize());
+        for (ByteBuffer buffer : msg.getDataBuffers())
+        {
+            sent.put(buffer);
+        }
+        byte[] expected = new byte[prefix.length + data.length];
+        System.arraycopy(prefix, 0, expected, 0, prefix.length);
+        System.arraycopy(data, 0, expected, prefix.length, data.length);
+        Assert.assertArrayEquals(expected, sent.array());
+
+        msg.release();
+        Assert.assertEquals(0, out.size());
+    }
+
+    @Test
+    public void releasedChunksAreReusedTest()
+    {
+        ByteBuffer chunk = pool.acquire();
+        chunk.put((byte) 1);
+        pool.release(chunk);
+
+        ByteBuffer reused = pool.acquire();
+        Assert.assertSame(chunk, reused);
+        Assert.assertEquals(0, reused.position());
+        Assert.assertEquals(CHUNK_SIZE, reused.remaining());
+    }
+}
@@ -0,0 +1,3 @@
+package com.linbit.linstor.netcom;
+
+// empty to override corresponding src/main/java/.../package-info.java (@NonNullByDefault not needed for tests)
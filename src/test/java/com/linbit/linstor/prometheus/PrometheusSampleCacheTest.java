@@ -0,0 +1,96 @@
+package com.linbit.linstor.prometheus;
+
+import com.linbit.linstor.logging.ErrorReportResult;
+import com.linbit.linstor.security.AccessContext;
+import com.linbit.linstor.security.TestAccessContextProvider;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrometheusSampleCacheTest
+{
+    private static final AccessContext ALICE = TestAccessContextProvider.ALICE_ACC_CTX;
+    private static final AccessContext BOB = TestAccessContextProvider.BOB_ACC_CTX;
+
+    @Test
+    public void testSamplesCachedUntilChanged()
+    {
+        PrometheusSampleCache cache = new PrometheusSampleCache();
+        AtomicInteger renderCount = new AtomicInteger();
+
+        Assert.assertEquals("1", cache.getSamples(ALICE, "key", () -> "" + renderCount.incrementAndGet()));
+        Assert.assertEquals("1", cache.getSamples(ALICE, "key", () -> "" + renderCount.incrementAndGet()));
+        Assert.assertEquals(1, renderCount.get());
+
+        cache.markChanged();
+        Assert.assertEquals("2", cache.getSamples(ALICE, "key", () -> "" + renderCount.incrementAndGet()));
+        Assert.assertEquals("2", cache.getSamples(ALICE, "key", () -> "" + renderCount.incrementAndGet()));
+        Assert.assertEquals(2, renderCount.get());
+    }
+
+    @Test
+    public void testSamplesCachedPerKey()
+    {
+        PrometheusSampleCache cache = new PrometheusSampleCache();
+
+        Assert.assertEquals("a", cache.getSamples(ALICE, "keyA", () -> "a"));
+        Assert.assertEquals("b", cache.getSamples(ALICE, "keyB", () -> "b"));
+        Assert.assertEquals("a", cache.getSamples(ALICE, "keyA", () -> "other"));
+    }
+
+    @Test
+    public void testSamplesCachedPerAccessContext()
+    {
+        PrometheusSampleCache cache = new PrometheusSampleCache();
+
+        Assert.assertEquals("alice", cache.getSamples(ALICE, "key", () -> "alice"));
+        // the samples of another access context must never be returned
+        Assert.assertEquals("bob", cache.getSamples(BOB, "key", () -> "bob"));
+        Assert.assertEquals("alice", cache.getSamples(ALICE, "key", () -> "other"));
+        Assert.assertEquals("bob", cache.getSamples(BOB, "key", () -> "other"));
+    }
+
+    @Test
+    public void testSingleErrorReportRefresh()
+    {
+        PrometheusSampleCache cache = new PrometheusSampleCache();
+
+        Assert.assertNull(cache.getErrorReportCounts());
+        Assert.assertTrue(cache.startErrorReportRefresh());
+        // refresh is still running
+        Assert.assertFalse(cache.startErrorReportRefresh());
+
+        cache.errorReportRefreshFinished(null);
+        // refreshed recently
+        Assert.assertFalse(cache.startErrorReportRefresh());
+        Assert.assertNull(cache.getErrorReportCounts());
+    }
+
+    @Test
+    public void testFirstErrorReportRefreshAwaited() throws Exception
+    {
+        PrometheusSampleCache cache = new PrometheusSampleCache();
+        ErrorReportResult counts = new ErrorReportResult(0, Collections.emptyList());
+
+        Assert.assertTrue(cache.startErrorReportRefresh());
+        Thread refreshThread = new Thread(() -> cache.errorReportRefreshFinished(counts));
+        refreshThread.start();
+
+        // the first scrape waits for the running refresh
+        Assert.assertSame(counts, cache.awaitErrorReportCounts(10_000));
+        refreshThread.join();
+    }
+
+    @Test
+    public void testAwaitErrorReportCountsTimeout()
+    {
+        PrometheusSampleCache cache = new PrometheusSampleCache();
+
+        Assert.assertTrue(cache.startErrorReportRefresh());
+        // the refresh never finishes
+        Assert.assertNull(cache.awaitErrorReportCounts(10));
+    }
+}
@@ -61,6 +61,56 @@ public class PriorityPropsTests extends GenericDbBase
         assertEquals("9", prioProps.getProp("/c/1"));
     }
 
+    @Test
+    public void modifiedPropsTest() throws Exception
+    {
+        assertEquals("1", prioProps.getProp("/a/1"));
+        assertEquals("7", prioProps.getProp("3", "b"));
+
+        prop1.setProp("/b/3", "10");
+        assertEquals("10", prioProps.getProp("3", "b"));
+
+        prop1.removeProp("/a/1");
+        assertEquals("4", prioProps.getProp("/a/1"));
+        assertEquals(prop2, prioProps.getPropAndContainer("1", "a").objB);
+
+        assertNull(prioProps.getProp("/d/1"));
+        prioProps.setFallbackProp("/d/1", "11");
+        assertEquals("11", prioProps.getProp("/d/1"));
+    }
+
+    @Test
+    public void modifiedNamespaceAndRollbackTest() throws Exception
+    {
+        transMgrProvider.get().commit();
+        assertEquals("2", prioProps.getProp("/b/1"));
+
+        // modifications through a namespace view outdate the resolved props of the whole container
+        prop1.getNamespace("b").setProp("1", "12");
+        assertEquals("12", prioProps.getProp("/b/1"));
+
+        transMgrProvider.get().rollback();
+        assertEquals("2", prioProps.getProp("/b/1"));
+    }
+
+    @Test
+    public void generationPerContainerTest() throws Exception
+    {
+        long gen1 = prop1.getModificationGeneration();
+        long gen2 = prop2.getModificationGeneration();
+
+        prop2.setProp("/a/1", "13");
+        assertEquals(gen1, prop1.getModificationGeneration());
+        assertTrue(prop2.getModificationGeneration() > gen2);
+        // namespaces share the generation of their root container
+        assertEquals(prop2.getModificationGeneration(), prop2.getNamespace("a").getModificationGeneration());
+
+        // setting the same value again is not a modification
+        gen2 = prop2.getModificationGeneration();
+        prop2.setProp("/a/1", "13");
+        assertEquals(gen2, prop2.getModificationGeneration());
+    }
+
     @Test
     @SuppressWarnings("checkstyle:magicnumber")
     public void relativeMapTest() throws Exception
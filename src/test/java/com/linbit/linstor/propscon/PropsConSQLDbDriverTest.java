@@ -117,6 +117,43 @@ public class PropsConSQLDbDriverTest extends PropsConSQLDbDriverBase
         checkIfPresent(map2, expectedInstanceName2);
     }
 
+    @Test
+    public void testPersistCoalesced() throws Throwable
+    {
+        PropsContainer container = getPropsContainer(DEFAULT_INSTANCE_NAME);
+        container.setProp("a", "1");
+        container.setProp("b", "1");
+        commit();
+
+        container.setProp("a", "2");
+        container.setProp("a", "3");
+        container.removeProp("b");
+        container.setProp("b", "2");
+        container.setProp("c", "1");
+        container.removeProp("c");
+        commit();
+
+        Map<String, String> map = new HashMap<>();
+        map.put("a", "3");
+        map.put("b", "2");
+        checkIfPresent(map, DEFAULT_INSTANCE_NAME);
+
+        container.setProp("a", "4");
+        container.removeProp("b");
+        // the database has to contain the uncommitted changes as well
+        map.put("a", "4");
+        map.remove("b");
+        checkIfPresent(map, DEFAULT_INSTANCE_NAME);
+
+        container.setProp("a", "5");
+        transMgrProvider.get().rollback();
+
+        map.put("a", "3");
+        map.put("b", "2");
+        checkIfPresent(map, DEFAULT_INSTANCE_NAME);
+        assertEquals("3", container.getProp("a"));
+    }
+
     @Test
     public void testLoadSimple() throws Throwable
     {
@@ -156,6 +156,52 @@ public class PropsContainerTest extends GenericDbBase
         assertTrue(root.isEmpty());
     }
 
+    @Test
+    public void testSharedKeysAndValues() throws Throwable
+    {
+        PropsContainer other = propsContainerFactory.getInstance("otherInstanceName", "", LinStorObject.CTRL);
+
+        root.setProp(new String("DrbdOptions/Net/protocol"), new String("C"));
+        other.setProp(new String("DrbdOptions/Net/protocol"), new String("C"));
+
+        String rootKey = ((PropsContainer) root.getNamespace("DrbdOptions/Net")).iterateProps().next().getKey();
+        String otherKey = ((PropsContainer) other.getNamespace("DrbdOptions/Net")).iterateProps().next().getKey();
+        assertEquals("protocol", rootKey);
+        assertTrue(rootKey == otherKey);
+        assertTrue(root.getProp("DrbdOptions/Net/protocol") == other.getProp("DrbdOptions/Net/protocol"));
+    }
+
+    @Test
+    public void testSharedValuesAfterRollback() throws Throwable
+    {
+        PropsContainer other = propsContainerFactory.getInstance("otherInstanceName", "", LinStorObject.CTRL);
+        other.setProp("DrbdOptions/Net/protocol", new String("C"));
+
+        root.setProp("DrbdOptions/Net/protocol", new String("C"));
+        transMgrProvider.get().commit();
+        root.setProp("DrbdOptions/Net/protocol", "A");
+        transMgrProvider.get().rollback();
+
+        assertEquals("C", root.getProp("DrbdOptions/Net/protocol"));
+        assertTrue(root.getProp("DrbdOptions/Net/protocol") == other.getProp("DrbdOptions/Net/protocol"));
+    }
+
+    @Test
+    public void testNamespaceReuseAfterRemove() throws Throwable
+    {
+        root.clear();
+
+        root.setProp("a/b/c", "value");
+        root.removeProp("a/b/c");
+        assertNull(root.getNamespace("a"));
+        assertTrue(root.isEmpty());
+
+        root.setProp("a/b/c", "value");
+        root.setProp("a/d", "other value");
+        assertEquals("value", root.getProp("c", "a/b"));
+        assertEquals(2, root.getNamespace("a").size());
+    }
+
     @Test
     public void testGetProp() throws Throwable
     {
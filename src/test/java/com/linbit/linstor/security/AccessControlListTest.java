@@ -172,6 +172,30 @@ public class AccessControlListTest
         }
     }
 
+    @Test
+    public void testEntriesAfterRollback() throws Exception
+    {
+        TransactionMgr txMgr = new DummyTxMgr();
+        Provider<TransactionMgr> txMgrProvider = () -> txMgr;
+        AccessControlList acl = new AccessControlList(
+            DUMMY_OBJ_PATH,
+            DUMMY_ACL_DRIVER,
+            new TransactionObjectFactory(txMgrProvider),
+            txMgrProvider
+        );
+
+        acl.addEntry(userRole, VIEW);
+        txMgr.commit();
+        assertEquals(VIEW, acl.getEntry(userRole));
+
+        acl.addEntry(userRole, CHANGE);
+        assertEquals(CHANGE, acl.getEntry(userRole));
+
+        txMgr.rollback();
+        assertEquals(VIEW, acl.getEntry(userRole));
+        assertEquals(1, acl.getEntries().size());
+    }
+
     private class AclIteration
     {
         public AccessContext accCtx;
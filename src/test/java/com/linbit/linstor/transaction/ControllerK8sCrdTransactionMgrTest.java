@@ -0,0 +1,397 @@
+package com.linbit.linstor.transaction;
+
+import com.linbit.linstor.ControllerK8sCrdDatabase;
+import com.linbit.linstor.annotation.Nullable;
+import com.linbit.linstor.dbdrivers.GeneratedDatabaseTables;
+import com.linbit.linstor.dbdrivers.k8s.K8sResourceClient;
+import com.linbit.linstor.dbdrivers.k8s.crd.GenCrdCurrent;
+import com.linbit.linstor.dbdrivers.k8s.crd.LinstorCrd;
+import com.linbit.linstor.dbdrivers.k8s.crd.RollbackCrd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.StatusDetails;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks how {@link ControllerK8sCrdTransactionMgr#commit()} sends the CRD changes of a transaction to k8s. The k8s
+ * API server is replaced by {@link FakeCrdClient}, which keeps the CRDs in memory and can be told to fail requests
+ * for given CRDs.
+ */
+public class ControllerK8sCrdTransactionMgrTest
+{
+    private static final int REQUEST_THREADS = 4;
+    private static final int MAX_ROLLBACK_ENTRIES = 100;
+
+    private FakeCrdClient fakeClient;
+    private MixedOperation<RollbackCrd, KubernetesResourceList<RollbackCrd>, Resource<RollbackCrd>> rollbackClient;
+    private Resource<RollbackCrd> rollbackRsc;
+    private ControllerK8sCrdDatabase k8sDb;
+    private ExecutorService requestExecutor;
+
+    private GenCrdCurrent.KeyValueStore kvsA;
+    private GenCrdCurrent.KeyValueStore kvsB;
+
+    @SuppressWarnings("unchecked")
+    @Before
+    public void setUp()
+    {
+        fakeClient = new FakeCrdClient();
+        rollbackClient = mock(MixedOperation.class);
+        rollbackRsc = mock(Resource.class);
+        when(rollbackClient.resource(any(RollbackCrd.class))).thenReturn(rollbackRsc);
+
+        KubernetesClient k8sClient = mock(KubernetesClient.class);
+        when(k8sClient.resources(RollbackCrd.class)).thenReturn(rollbackClient);
+
+        requestExecutor = Executors.newFixedThreadPool(REQUEST_THREADS);
+        k8sDb = mock(ControllerK8sCrdDatabase.class);
+        when(k8sDb.getClient()).thenReturn(k8sClient);
+        when(k8sDb.getMaxRollbackEntries()).thenReturn(MAX_ROLLBACK_ENTRIES);
+        when(k8sDb.getRequestExecutor()).thenReturn(requestExecutor);
+        doReturn(fakeClient).when(k8sDb).getCachingClient(any());
+
+        kvsA = kvs("kvsA", "A");
+        kvsB = kvs("kvsB", "B");
+        fakeClient.store.put(kvsA.getK8sKey(), kvsA);
+        fakeClient.store.put(kvsB.getK8sKey(), kvsB);
+    }
+
+    @After
+    public void tearDown() throws Exception
+    {
+        requestExecutor.shutdown();
+        Assert.assertTrue(requestExecutor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testParallelCreateReplaceDelete() throws Exception
+    {
+        ControllerK8sCrdTransactionMgr txMgr = createTxMgr();
+        GenCrdCurrent.KeyValueStore kvsC = kvs("kvsC", "C");
+        K8sCrdTransaction tx = txMgr.getTransaction();
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsC);
+        tx.replace(GeneratedDatabaseTables.KEY_VALUE_STORE, kvs("kvsA", "A2"));
+        tx.delete(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsB);
+
+        // every request waits until all three requests were sent, which only works if they are sent in parallel
+        fakeClient.startGate = new CountDownLatch(3);
+        txMgr.commit();
+
+        Assert.assertEquals(3, fakeClient.finishedRequests.get());
+        Assert.assertEquals(Set.of(kvsA.getK8sKey(), kvsC.getK8sKey()), fakeClient.store.keySet());
+        Assert.assertEquals("A2", getDspName(kvsA.getK8sKey()));
+        Assert.assertFalse(fakeClient.requestThreads.contains(Thread.currentThread()));
+
+        // more than one change in the transaction requires a rollback entry, which is removed after the commit
+        verify(rollbackRsc).createOrReplace();
+        verify(rollbackClient).delete();
+    }
+
+    @Test
+    public void testSequentialWithoutExecutor() throws Exception
+    {
+        when(k8sDb.getRequestExecutor()).thenReturn(null);
+        ControllerK8sCrdTransactionMgr txMgr = createTxMgr();
+        GenCrdCurrent.KeyValueStore kvsC = kvs("kvsC", "C");
+        K8sCrdTransaction tx = txMgr.getTransaction();
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsC);
+        tx.replace(GeneratedDatabaseTables.KEY_VALUE_STORE, kvs("kvsA", "A2"));
+        tx.delete(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsB);
+
+        txMgr.commit();
+
+        Assert.assertEquals(3, fakeClient.finishedRequests.get());
+        Assert.assertEquals(Set.of(kvsA.getK8sKey(), kvsC.getK8sKey()), fakeClient.store.keySet());
+        Assert.assertEquals(Set.of(Thread.currentThread()), Set.copyOf(fakeClient.requestThreads));
+    }
+
+    @Test
+    public void testWaitsForAllRequestsOnFailure() throws Exception
+    {
+        ControllerK8sCrdTransactionMgr txMgr = createTxMgr();
+        GenCrdCurrent.KeyValueStore kvsFail = kvs("kvsFail", "F");
+        K8sCrdTransaction tx = txMgr.getTransaction();
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvs("kvsC", "C"));
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsFail);
+        tx.replace(GeneratedDatabaseTables.KEY_VALUE_STORE, kvs("kvsA", "A2"));
+        tx.delete(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsB);
+        fakeClient.failingKeys.add(kvsFail.getK8sKey());
+
+        fakeClient.startGate = new CountDownLatch(4);
+        try
+        {
+            txMgr.commit();
+            Assert.fail("commit should have failed");
+        }
+        catch (KubernetesClientException exc)
+        {
+            Assert.assertTrue(exc.getMessage().contains(kvsFail.getK8sKey()));
+            Assert.assertEquals(0, exc.getSuppressed().length);
+        }
+        // the successful requests only finish after the failed one, they still have to be waited for
+        Assert.assertEquals(3, fakeClient.finishedRequests.get());
+    }
+
+    @Test
+    public void testFirstFailureRethrownOthersSuppressed() throws Exception
+    {
+        ControllerK8sCrdTransactionMgr txMgr = createTxMgr();
+        GenCrdCurrent.KeyValueStore kvsFail1 = kvs("kvsFail1", "F1");
+        GenCrdCurrent.KeyValueStore kvsFail2 = kvs("kvsFail2", "F2");
+        K8sCrdTransaction tx = txMgr.getTransaction();
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsFail1);
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsFail2);
+        tx.replace(GeneratedDatabaseTables.KEY_VALUE_STORE, kvs("kvsA", "A2"));
+        fakeClient.failingKeys.add(kvsFail1.getK8sKey());
+        fakeClient.failingKeys.add(kvsFail2.getK8sKey());
+
+        fakeClient.startGate = new CountDownLatch(3);
+        try
+        {
+            txMgr.commit();
+            Assert.fail("commit should have failed");
+        }
+        catch (KubernetesClientException exc)
+        {
+            Throwable[] suppressed = exc.getSuppressed();
+            Assert.assertEquals(1, suppressed.length);
+            Assert.assertTrue(suppressed[0] instanceof KubernetesClientException);
+
+            List<String> failedKeys = new ArrayList<>();
+            failedKeys.add(failedKey(exc));
+            failedKeys.add(failedKey(suppressed[0]));
+            Collections.sort(failedKeys);
+            List<String> expectedKeys = new ArrayList<>(List.of(kvsFail1.getK8sKey(), kvsFail2.getK8sKey()));
+            Collections.sort(expectedKeys);
+            Assert.assertEquals(expectedKeys, failedKeys);
+        }
+        Assert.assertEquals(1, fakeClient.finishedRequests.get());
+    }
+
+    @Test
+    public void testRollbackAfterPartialFailure() throws Exception
+    {
+        ControllerK8sCrdTransactionMgr txMgr = createTxMgr();
+        GenCrdCurrent.KeyValueStore kvsC = kvs("kvsC", "C");
+        GenCrdCurrent.KeyValueStore kvsFail = kvs("kvsFail", "F");
+        K8sCrdTransaction tx = txMgr.getTransaction();
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsC);
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsFail);
+        tx.replace(GeneratedDatabaseTables.KEY_VALUE_STORE, kvs("kvsA", "A2"));
+        tx.delete(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsB);
+        fakeClient.failingKeys.add(kvsFail.getK8sKey());
+
+        fakeClient.startGate = new CountDownLatch(4);
+        try
+        {
+            txMgr.commit();
+            Assert.fail("commit should have failed");
+        }
+        catch (KubernetesClientException ignored)
+        {
+        }
+        // all but the failed request reached k8s
+        Assert.assertEquals(Set.of(kvsA.getK8sKey(), kvsC.getK8sKey()), fakeClient.store.keySet());
+        Assert.assertEquals("A2", getDspName(kvsA.getK8sKey()));
+
+        fakeClient.startGate = null;
+        txMgr.rollback();
+
+        Assert.assertEquals(Set.of(kvsA.getK8sKey(), kvsB.getK8sKey()), fakeClient.store.keySet());
+        Assert.assertEquals("A", getDspName(kvsA.getK8sKey()));
+        Assert.assertEquals("B", getDspName(kvsB.getK8sKey()));
+        verify(rollbackClient, atLeastOnce()).delete();
+
+        // the transaction manager can be used again after the rollback
+        tx = txMgr.getTransaction();
+        tx.create(GeneratedDatabaseTables.KEY_VALUE_STORE, kvsC);
+        txMgr.commit();
+        Assert.assertEquals(
+            Set.of(kvsA.getK8sKey(), kvsB.getK8sKey(), kvsC.getK8sKey()),
+            fakeClient.store.keySet()
+        );
+    }
+
+    private ControllerK8sCrdTransactionMgr createTxMgr()
+    {
+        return new ControllerK8sCrdTransactionMgr(k8sDb, GenCrdCurrent.createTxMgrContext());
+    }
+
+    private static GenCrdCurrent.KeyValueStore kvs(String kvsName, String kvsDspName)
+    {
+        return GenCrdCurrent.createKeyValueStore(UUID.randomUUID().toString(), kvsName, kvsDspName);
+    }
+
+    private static String failedKey(Throwable exc)
+    {
+        String msg = exc.getMessage();
+        return msg.substring(msg.lastIndexOf(' ') + 1);
+    }
+
+    /**
+     * Restored CRDs are stored as {@link GenericKubernetesResource}, everything else as the CRD itself.
+     */
+    private String getDspName(String k8sKey)
+    {
+        HasMetadata item = fakeClient.store.get(k8sKey);
+        GenCrdCurrent.KeyValueStoreSpec spec;
+        if (item instanceof GenericKubernetesResource)
+        {
+            spec = (GenCrdCurrent.KeyValueStoreSpec) ((GenericKubernetesResource) item).getAdditionalProperties()
+                .get("spec");
+        }
+        else
+        {
+            spec = ((GenCrdCurrent.KeyValueStore) item).getSpec();
+        }
+        return spec.kvsDspName;
+    }
+
+    /**
+     * Stands in for the k8s API server. The create, replace and delete requests of a commit can be held back until
+     * a given number of requests are in flight at the same time, and can be failed for given CRDs.
+     */
+    private static class FakeCrdClient implements K8sResourceClient<HasMetadata>
+    {
+        private static final long SLOW_REQUEST_MILLIS = 100;
+
+        private final Map<String, HasMetadata> store = new ConcurrentHashMap<>();
+        private final Set<String> failingKeys = ConcurrentHashMap.newKeySet();
+        private final Queue<Thread> requestThreads = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger finishedRequests = new AtomicInteger();
+
+        private volatile @Nullable CountDownLatch startGate;
+
+        @Override
+        public List<HasMetadata> list()
+        {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public HasMetadata create(HasMetadata item)
+        {
+            String key = item.getMetadata().getName();
+            sendRequest("create", key);
+            if (store.putIfAbsent(key, item) != null)
+            {
+                throw new KubernetesClientException("conflict on create of " + key);
+            }
+            finishedRequests.incrementAndGet();
+            return item;
+        }
+
+        @Override
+        public HasMetadata replace(HasMetadata item)
+        {
+            String key = item.getMetadata().getName();
+            sendRequest("replace", key);
+            if (store.replace(key, item) == null)
+            {
+                throw new KubernetesClientException("not found on replace of " + key);
+            }
+            finishedRequests.incrementAndGet();
+            return item;
+        }
+
+        @Override
+        public List<StatusDetails> delete()
+        {
+            store.clear();
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<StatusDetails> delete(HasMetadata item)
+        {
+            String key = item.getMetadata().getName();
+            sendRequest("delete", key);
+            List<StatusDetails> ret = delete(key);
+            finishedRequests.incrementAndGet();
+            return ret;
+        }
+
+        @Override
+        public List<StatusDetails> delete(String name)
+        {
+            return store.remove(name) == null ?
+                Collections.emptyList() :
+                Collections.singletonList(new StatusDetails());
+        }
+
+        @Override
+        public HasMetadata createOrReplace(HasMetadata item)
+        {
+            store.put(item.getMetadata().getName(), item);
+            return item;
+        }
+
+        @Override
+        public @Nullable HasMetadata get(String name)
+        {
+            return store.get(name);
+        }
+
+        private void sendRequest(String operation, String key)
+        {
+            requestThreads.add(Thread.currentThread());
+            CountDownLatch gate = startGate;
+            if (gate != null)
+            {
+                try
+                {
+                    gate.countDown();
+                    if (!gate.await(10, TimeUnit.SECONDS))
+                    {
+                        throw new KubernetesClientException("requests were not sent in parallel, " + key);
+                    }
+                    if (!failingKeys.contains(key))
+                    {
+                        // let the failing requests finish first
+                        Thread.sleep(SLOW_REQUEST_MILLIS);
+                    }
+                }
+                catch (InterruptedException exc)
+                {
+                    Thread.currentThread().interrupt();
+                    throw new KubernetesClientException("interrupted during " + operation + " of " + key);
+                }
+            }
+            if (failingKeys.contains(key))
+            {
+                throw new KubernetesClientException("failed " + operation + " of " + key);
+            }
+        }
+    }
+}
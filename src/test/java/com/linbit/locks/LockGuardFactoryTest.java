@@ -0,0 +1,264 @@
+package com.linbit.locks;
+
+import com.linbit.ImplementationError;
+import com.linbit.InvalidNameException;
+import com.linbit.linstor.core.identifier.ResourceName;
+import com.linbit.locks.LockGuardFactory.LockObj;
+import com.linbit.locks.LockGuardFactory.LockType;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LockGuardFactoryTest
+{
+    private static final int STRIPE_COUNT = 16;
+    private static final long BLOCKED_TIMEOUT_MS = 200;
+    private static final long ACQUIRE_TIMEOUT_MS = 5_000;
+
+    private ExecutorService executor;
+
+    private ResourceName rscName1;
+    private ResourceName rscName2;
+
+    @Before
+    public void setUp() throws InvalidNameException
+    {
+        executor = Executors.newSingleThreadExecutor();
+
+        StripedReadWriteLock probe = new StripedReadWriteLock(STRIPE_COUNT);
+        rscName1 = new ResourceName("rsc1");
+        int idx = 2;
+        ResourceName candidate = new ResourceName("rsc" + idx);
+        while (probe.getStripeIdx(candidate) == probe.getStripeIdx(rscName1))
+        {
+            ++idx;
+            candidate = new ResourceName("rsc" + idx);
+        }
+        rscName2 = candidate;
+    }
+
+    @After
+    public void tearDown()
+    {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void differentRscDfnsDoNotBlockTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, rscName1).build())
+        {
+            Future<?> other = lockInOtherThread(lgf.create().rscDfn(LockType.WRITE, rscName2).buildDeferred());
+            other.get(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Test
+    public void sameRscDfnBlocksTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        Future<?> other;
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, rscName1).build())
+        {
+            other = lockInOtherThread(lgf.create().rscDfn(LockType.WRITE, rscName1).buildDeferred());
+            assertBlocked(other);
+        }
+        other.get(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void mapReadBlocksRscDfnWriteTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        Future<?> other;
+        try (LockGuard lg = lgf.create().read(LockObj.RSC_DFN_MAP).build())
+        {
+            other = lockInOtherThread(lgf.create().rscDfn(LockType.WRITE, rscName2).buildDeferred());
+            assertBlocked(other);
+        }
+        other.get(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void mapWriteBlocksRscDfnReadTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        Future<?> other;
+        try (LockGuard lg = lgf.create().write(LockObj.RSC_DFN_MAP).build())
+        {
+            other = lockInOtherThread(lgf.create().rscDfn(LockType.READ, rscName1).buildDeferred());
+            assertBlocked(other);
+        }
+        other.get(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void notStripedFallsBackToMapLockTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(0);
+        Future<?> other;
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, rscName1).build())
+        {
+            other = lockInOtherThread(lgf.create().rscDfn(LockType.WRITE, rscName2).buildDeferred());
+            assertBlocked(other);
+        }
+        other.get(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void rscDfnReadToWriteUpgradeRejectedTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        try (LockGuard lg = lgf.create().rscDfn(LockType.READ, rscName1).build())
+        {
+            assertRejected(lgf.create().rscDfn(LockType.WRITE, rscName1).buildDeferred());
+            assertRejected(lgf.create().write(LockObj.RSC_DFN_MAP).buildDeferred());
+        }
+        // the rejected attempts must not have left anything locked
+        lockInOtherThread(lgf.create().write(LockObj.RSC_DFN_MAP).buildDeferred())
+            .get(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void mapReadToWriteUpgradeRejectedTest() throws Exception
+    {
+        for (int stripeCount : new int[] {0, STRIPE_COUNT})
+        {
+            LockGuardFactory lgf = createFactory(stripeCount);
+            try (LockGuard lg = lgf.create().read(LockObj.NODES_MAP, LockObj.RSC_DFN_MAP).build())
+            {
+                assertRejected(lgf.create().write(LockObj.NODES_MAP).buildDeferred());
+                assertRejected(lgf.create().write(LockObj.RSC_DFN_MAP).buildDeferred());
+                assertRejected(lgf.create().rscDfn(LockType.WRITE, rscName1).buildDeferred());
+            }
+        }
+    }
+
+    @Test
+    public void reentrantLockingAllowedTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, rscName1).build())
+        {
+            try (LockGuard nested = lgf.create().rscDfn(LockType.WRITE, rscName1).build())
+            {
+                // write after write of the same stripe is fine
+            }
+            try (LockGuard nested = lgf.create().rscDfn(LockType.READ, rscName1).build())
+            {
+                // read after write of the same stripe is fine
+            }
+        }
+        try (LockGuard lg = lgf.create().write(LockObj.RSC_DFN_MAP).build())
+        {
+            try (LockGuard nested = lgf.create().read(LockObj.RSC_DFN_MAP).rscDfn(LockType.WRITE, rscName2).build())
+            {
+                // everything is allowed while holding the map lock in write mode
+            }
+        }
+        try (LockGuard lg = lgf.create().read(LockObj.RSC_DFN_MAP).build())
+        {
+            try (LockGuard nested = lgf.create().rscDfn(LockType.READ, rscName2).build())
+            {
+                // all stripes are already read-locked
+            }
+        }
+    }
+
+    @Test
+    public void stripeOrderEnforcedTest() throws Exception
+    {
+        LockGuardFactory lgf = createFactory(STRIPE_COUNT);
+        StripedReadWriteLock probe = new StripedReadWriteLock(STRIPE_COUNT);
+        ResourceName lowRscName = rscName1;
+        ResourceName highRscName = rscName2;
+        if (probe.getStripeIdx(lowRscName) > probe.getStripeIdx(highRscName))
+        {
+            lowRscName = rscName2;
+            highRscName = rscName1;
+        }
+
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, lowRscName).build())
+        {
+            try (LockGuard nested = lgf.create().rscDfn(LockType.WRITE, highRscName).build())
+            {
+                // ascending order is fine
+            }
+        }
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, highRscName).build())
+        {
+            assertRejected(lgf.create().rscDfn(LockType.WRITE, lowRscName).buildDeferred());
+            assertRejected(lgf.create().read(LockObj.RSC_DFN_MAP).buildDeferred());
+        }
+        // locking both in one guard sorts the stripes
+        try (LockGuard lg = lgf.create().rscDfn(LockType.WRITE, highRscName, lowRscName).build())
+        {
+            // nothing to do
+        }
+    }
+
+    private Future<?> lockInOtherThread(LockGuard deferredLockGuard)
+    {
+        return executor.submit(
+            () ->
+            {
+                deferredLockGuard.lock();
+                deferredLockGuard.close();
+            }
+        );
+    }
+
+    private void assertBlocked(Future<?> future) throws Exception
+    {
+        try
+        {
+            future.get(BLOCKED_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            Assert.fail("Lock was acquired although it should be blocked");
+        }
+        catch (TimeoutException expected)
+        {
+            // expected
+        }
+    }
+
+    private void assertRejected(LockGuard deferredLockGuard)
+    {
+        try
+        {
+            deferredLockGuard.lock();
+            deferredLockGuard.close();
+            Assert.fail("Lock was acquired although it could deadlock");
+        }
+        catch (ImplementationError expected)
+        {
+            // expected
+        }
+    }
+
+    private LockGuardFactory createFactory(int stripeCount)
+    {
+        return new LockGuardFactory(
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new StripedReadWriteLock(stripeCount),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true),
+            new ReentrantReadWriteLock(true)
+        );
+    }
+}